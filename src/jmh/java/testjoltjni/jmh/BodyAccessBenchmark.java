@@ -0,0 +1,281 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.jmh;
+
+import com.github.stephengold.joltjni.Body;
+import com.github.stephengold.joltjni.BodyIdArray;
+import com.github.stephengold.joltjni.BodyInterface;
+import com.github.stephengold.joltjni.Jolt;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.Vec3;
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import java.nio.DoubleBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import testjoltjni.TestUtils;
+
+/**
+ * Microbenchmarks for reading and writing body state through {@code Body} and
+ * {@code BodyInterface}, comparing the allocating accessors with the in-place
+ * and buffer-based overloads.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+public class BodyAccessBenchmark {
+    // *************************************************************************
+    // constants
+
+    /**
+     * number of boxes along each edge of the grid
+     */
+    final private static int gridSize = 32;
+    /**
+     * number of boxes in the grid
+     */
+    final private static int numBoxes = gridSize * gridSize;
+    // *************************************************************************
+    // fields
+
+    /**
+     * the boxes, in creation order
+     */
+    final private List<Body> boxes = new ArrayList<>(numBoxes);
+    /**
+     * the interface used to access the boxes
+     */
+    private BodyInterface bodyInterface;
+    /**
+     * IDs of all the boxes, for bulk access
+     */
+    private BodyIdArray boxIds;
+    /**
+     * direct buffer for single-body results
+     */
+    private DoubleBuffer doubleBuffer;
+    /**
+     * direct buffer for bulk results
+     */
+    private DoubleBuffer stateBuffer;
+    /**
+     * index of the next box to access
+     */
+    private int nextIndex;
+    /**
+     * IDs of the boxes, for single-body access
+     */
+    private int[] ids;
+    /**
+     * the system containing the boxes
+     */
+    private PhysicsSystem physicsSystem;
+    /**
+     * reusable storage for locations
+     */
+    final private RVec3 tmpLocation = new RVec3();
+    /**
+     * reusable storage for velocities
+     */
+    final private Vec3 tmpVelocity = new Vec3();
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Read the box's origin into a new vector.
+     *
+     * @return the location (for the blackhole)
+     */
+    @Benchmark
+    public RVec3 bodyGetPosition() {
+        Body box = boxes.get(nextIndex());
+        RVec3 result = box.getPosition();
+
+        return result;
+    }
+
+    /**
+     * Read the box's center of mass into a direct buffer.
+     *
+     * @return the buffer (for the blackhole)
+     */
+    @Benchmark
+    public DoubleBuffer bodyGetCenterOfMassPositionBuffer() {
+        Body box = boxes.get(nextIndex());
+        box.getCenterOfMassPosition(doubleBuffer);
+
+        return doubleBuffer;
+    }
+
+    /**
+     * Read the box's center of mass into a reused vector.
+     *
+     * @return the location (for the blackhole)
+     */
+    @Benchmark
+    public RVec3 bodyGetCenterOfMassPositionInPlace() {
+        Body box = boxes.get(nextIndex());
+        box.getCenterOfMassPosition(tmpLocation);
+
+        return tmpLocation;
+    }
+
+    /**
+     * Read the positions of all boxes with a single native call.
+     *
+     * @return the buffer (for the blackhole)
+     */
+    @Benchmark
+    @OperationsPerInvocation(numBoxes)
+    public DoubleBuffer bodyInterfaceGetBodyStates() {
+        stateBuffer.clear();
+        bodyInterface.getBodyStates(boxIds, numBoxes,
+                BodyInterface.cStatePosition, stateBuffer);
+
+        return stateBuffer;
+    }
+
+    /**
+     * Read a box's linear velocity into a reused vector.
+     *
+     * @return the velocity (for the blackhole)
+     */
+    @Benchmark
+    public Vec3 bodyInterfaceGetLinearVelocity() {
+        int id = ids[nextIndex()];
+        bodyInterface.getLinearVelocity(id, tmpVelocity);
+
+        return tmpVelocity;
+    }
+
+    /**
+     * Read a box's origin into a new vector.
+     *
+     * @return the location (for the blackhole)
+     */
+    @Benchmark
+    public RVec3 bodyInterfaceGetPosition() {
+        int id = ids[nextIndex()];
+        RVec3 result = bodyInterface.getPosition(id);
+
+        return result;
+    }
+
+    /**
+     * Read a box's origin into a reused vector.
+     *
+     * @return the location (for the blackhole)
+     */
+    @Benchmark
+    public RVec3 bodyInterfaceGetPositionInPlace() {
+        int id = ids[nextIndex()];
+        bodyInterface.getPosition(id, tmpLocation);
+
+        return tmpLocation;
+    }
+
+    /**
+     * Write a box's linear velocity (to zero, so the scene stays at rest).
+     */
+    @Benchmark
+    public void bodyInterfaceSetLinearVelocity() {
+        int id = ids[nextIndex()];
+        bodyInterface.setLinearVelocity(id, 0f, 0f, 0f);
+    }
+
+    /**
+     * Write a box's origin (to its current value, so the scene is unchanged).
+     */
+    @Benchmark
+    public void bodyInterfaceSetPosition() {
+        int index = nextIndex();
+        tmpLocation.set(index / gridSize, 0.5, index % gridSize);
+        bodyInterface.setPosition(
+                ids[index], tmpLocation, EActivation.DontActivate);
+    }
+
+    /**
+     * Create the scene.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        JmhUtils.initialize();
+        this.physicsSystem = JmhUtils.newGridScene(gridSize, boxes);
+        this.bodyInterface = physicsSystem.getBodyInterface();
+
+        this.ids = new int[numBoxes];
+        this.boxIds = new BodyIdArray(numBoxes);
+        for (int i = 0; i < numBoxes; ++i) {
+            int id = boxes.get(i).getId();
+            ids[i] = id;
+            boxIds.set(i, id);
+        }
+
+        this.doubleBuffer = Jolt.newDirectDoubleBuffer(3);
+        int stride = BodyInterface.stateStride(BodyInterface.cStatePosition);
+        this.stateBuffer = Jolt.newDirectDoubleBuffer(stride * numBoxes);
+    }
+
+    /**
+     * Destroy the scene.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        boxes.clear();
+        TestUtils.testClose(boxIds);
+        TestUtils.cleanupPhysicsSystem(physicsSystem);
+        JmhUtils.shutdown();
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Select the next box to access, cycling through all of them.
+     *
+     * @return the index of the box (&ge;0, &lt;numBoxes)
+     */
+    private int nextIndex() {
+        int result = nextIndex;
+        nextIndex = (result + 1) % numBoxes;
+
+        return result;
+    }
+}
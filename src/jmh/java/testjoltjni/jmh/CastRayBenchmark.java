@@ -0,0 +1,253 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.jmh;
+
+import com.github.stephengold.joltjni.AllHitCastRayCollector;
+import com.github.stephengold.joltjni.Jolt;
+import com.github.stephengold.joltjni.JobSystem;
+import com.github.stephengold.joltjni.JobSystemThreadPool;
+import com.github.stephengold.joltjni.NarrowPhaseQuery;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.RRayCast;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.RayCastResult;
+import com.github.stephengold.joltjni.RayCastSettings;
+import com.github.stephengold.joltjni.Vec3;
+import com.github.stephengold.joltjni.readonly.ConstNarrowPhaseQuery;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import testjoltjni.TestUtils;
+
+/**
+ * Microbenchmarks for {@code NarrowPhaseQuery.castRay()} and for iterating
+ * over the hits gathered by an {@code AllHitCastRayCollector}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+public class CastRayBenchmark {
+    // *************************************************************************
+    // constants
+
+    /**
+     * number of boxes along each edge of the grid
+     */
+    final private static int gridSize = 32;
+    /**
+     * number of rays in each batch
+     */
+    final private static int numBatchRays = 4096;
+    // *************************************************************************
+    // fields
+
+    /**
+     * number of worker threads for batched casts (0 for none)
+     */
+    @Param({"0", "4"})
+    public int numThreads;
+
+    /**
+     * output buffer for batched casts
+     */
+    private ByteBuffer batchHits;
+    /**
+     * input buffer for batched casts: vertical rays spread over the grid
+     */
+    private FloatBuffer batchRays;
+    /**
+     * job system for batched casts, or {@code null} for none
+     */
+    private JobSystem jobSystem;
+    /**
+     * collector reused for all-hit queries
+     */
+    private AllHitCastRayCollector collector;
+    /**
+     * query interface of the system
+     */
+    private ConstNarrowPhaseQuery query;
+    /**
+     * the system containing the boxes
+     */
+    private PhysicsSystem physicsSystem;
+    /**
+     * vertical ray that hits one box and the floor
+     */
+    private RRayCast downRay;
+    /**
+     * horizontal ray that passes through an entire row of boxes
+     */
+    private RRayCast rowRay;
+    /**
+     * storage reused for nearest-hit queries
+     */
+    private RayCastResult hitResult;
+    /**
+     * settings reused for all-hit queries
+     */
+    private RayCastSettings settings;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Cast a ray through a row of boxes and gather every hit.
+     *
+     * @return the number of hits (for the blackhole)
+     */
+    @Benchmark
+    public int castRayAllHits() {
+        collector.reset();
+        query.castRay(rowRay, settings, collector);
+        int result = collector.countHits();
+
+        return result;
+    }
+
+    /**
+     * Cast a ray through a row of boxes, then visit each hit through
+     * {@code getHits()}, which wraps each one in a new JVM object.
+     *
+     * @return the sum of the hit fractions (for the blackhole)
+     */
+    @Benchmark
+    public float castRayAllHitsAndIterate() {
+        collector.reset();
+        query.castRay(rowRay, settings, collector);
+
+        float result = 0f;
+        List<RayCastResult> hits = collector.getHits();
+        for (RayCastResult hit : hits) {
+            result += hit.getFraction();
+        }
+
+        return result;
+    }
+
+    /**
+     * Cast a batch of vertical rays, dividing them among worker threads.
+     *
+     * @return the number of hits (for the blackhole)
+     */
+    @Benchmark
+    @OperationsPerInvocation(numBatchRays)
+    public int castRaysBatch() {
+        int result = query.castRays(
+                numBatchRays, batchRays, null, batchHits, jobSystem);
+        return result;
+    }
+
+    /**
+     * Cast a short vertical ray and obtain the nearest hit.
+     *
+     * @return {@code true} if a hit was found (for the blackhole)
+     */
+    @Benchmark
+    public boolean castRayNearest() {
+        boolean result = query.castRay(downRay, hitResult);
+        return result;
+    }
+
+    /**
+     * Cast the same vertical ray specified by primitives, using the
+     * allocation-free path with default filters.
+     *
+     * @return {@code true} if a hit was found (for the blackhole)
+     */
+    @Benchmark
+    public boolean castRayNearestPrimitive() {
+        double middle = gridSize / 2;
+        boolean result = query.castRay(
+                middle, 5., middle, 0f, -10f, 0f, hitResult);
+
+        return result;
+    }
+
+    /**
+     * Create the scene.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        JmhUtils.initialize();
+        this.physicsSystem = JmhUtils.newGridScene(gridSize, null);
+        this.query = physicsSystem.getNarrowPhaseQuery();
+
+        int middle = gridSize / 2;
+        this.downRay = new RRayCast(
+                new RVec3(middle, 5., middle), new Vec3(0f, -10f, 0f));
+        float length = gridSize + 2f;
+        this.rowRay = new RRayCast(
+                new RVec3(-1., 0.5, middle), new Vec3(length, 0f, 0f));
+
+        this.collector = new AllHitCastRayCollector();
+        this.hitResult = new RayCastResult();
+        this.settings = new RayCastSettings();
+
+        this.batchRays = Jolt.newDirectFloatBuffer(
+                numBatchRays * NarrowPhaseQuery.cRayStride);
+        for (int i = 0; i < numBatchRays; ++i) {
+            float x = (i % 64) * gridSize / 64f;
+            float z = (i / 64) * gridSize / 64f;
+            batchRays.put(x).put(5f).put(z).put(0f).put(-10f).put(0f);
+        }
+        this.batchHits = Jolt.newDirectByteBuffer(
+                numBatchRays * NarrowPhaseQuery.cRayHitStride);
+        if (numThreads > 0) {
+            this.jobSystem = new JobSystemThreadPool(Jolt.cMaxPhysicsJobs,
+                    Jolt.cMaxPhysicsBarriers, numThreads);
+        }
+    }
+
+    /**
+     * Destroy the scene.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (jobSystem != null) {
+            TestUtils.testClose(jobSystem);
+        }
+        TestUtils.testClose(
+                settings, hitResult, collector, rowRay, downRay);
+        TestUtils.cleanupPhysicsSystem(physicsSystem);
+        JmhUtils.shutdown();
+    }
+}
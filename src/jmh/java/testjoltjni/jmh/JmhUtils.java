@@ -0,0 +1,120 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.jmh;
+
+import com.github.stephengold.joltjni.Body;
+import com.github.stephengold.joltjni.BodyCreationSettings;
+import com.github.stephengold.joltjni.BodyInterface;
+import com.github.stephengold.joltjni.BoxShape;
+import com.github.stephengold.joltjni.Jolt;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.Quat;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import com.github.stephengold.joltjni.enumerate.EMotionType;
+import java.util.List;
+import testjoltjni.TestUtils;
+
+/**
+ * Utility methods shared by the JMH microbenchmarks.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class JmhUtils {
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private JmhUtils() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Load and initialize the native library, preferably a Release build.
+     * Unlike {@code TestUtils.initializeNativeLibrary()}, this doesn't start a
+     * cleaner, so each benchmark can decide for itself.
+     */
+    static void initialize() {
+        TestUtils.loadNativeLibraryRelease();
+
+        Jolt.registerDefaultAllocator();
+        Jolt.installDefaultAssertCallback();
+        Jolt.installDefaultTraceCallback();
+
+        boolean success = Jolt.newFactory();
+        assert success;
+        Jolt.registerTypes();
+    }
+
+    /**
+     * Create a physics system containing a static floor and a square grid of
+     * dynamic boxes resting on it. The boxes are 1 unit apart with their
+     * centers at y=0.5, and are added without being activated.
+     *
+     * @param gridSize the number of boxes along each edge of the grid (&ge;1)
+     * @param storeBoxes storage for the boxes, or {@code null} if not needed
+     * (added to)
+     * @return a new system
+     */
+    static PhysicsSystem newGridScene(int gridSize, List<Body> storeBoxes) {
+        int numBoxes = gridSize * gridSize;
+        PhysicsSystem result = TestUtils.newPhysicsSystem(numBoxes + 1);
+        BodyInterface bi = result.getBodyInterface();
+
+        float halfSize = gridSize + 1f;
+        BoxShape floorShape = new BoxShape(halfSize, 1f, halfSize);
+        BodyCreationSettings bcs = new BodyCreationSettings(floorShape,
+                new RVec3(0., -1., 0.), new Quat(), EMotionType.Static,
+                TestUtils.objLayerNonMoving);
+        bi.createAndAddBody(bcs, EActivation.DontActivate);
+
+        BoxShape boxShape = new BoxShape(0.4f);
+        bcs.setShape(boxShape);
+        bcs.setMotionType(EMotionType.Dynamic);
+        bcs.setObjectLayer(TestUtils.objLayerMoving);
+        for (int x = 0; x < gridSize; ++x) {
+            for (int z = 0; z < gridSize; ++z) {
+                bcs.setPosition(x, 0.5, z);
+                Body box = bi.createBody(bcs);
+                bi.addBody(box, EActivation.DontActivate);
+                if (storeBoxes != null) {
+                    storeBoxes.add(box);
+                }
+            }
+        }
+        result.optimizeBroadPhase();
+
+        return result;
+    }
+
+    /**
+     * Destroy the factory and unregister the types, undoing
+     * {@link #initialize()}.
+     */
+    static void shutdown() {
+        Jolt.unregisterTypes();
+        Jolt.destroyFactory();
+    }
+}
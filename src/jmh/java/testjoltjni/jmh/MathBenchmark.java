@@ -0,0 +1,176 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.jmh;
+
+import com.github.stephengold.joltjni.Mat44;
+import com.github.stephengold.joltjni.Quat;
+import com.github.stephengold.joltjni.Vec3;
+import com.github.stephengold.joltjni.operator.Op;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import testjoltjni.TestUtils;
+
+/**
+ * Microbenchmarks comparing vector and quaternion math implemented in Java
+ * ({@code Vec3}, {@code Quat}, and {@code Op}) with the equivalent operations
+ * performed in native code by {@code Mat44}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+public class MathBenchmark {
+    // *************************************************************************
+    // fields
+
+    /**
+     * rotation matrix equivalent to {@code rotation}
+     */
+    private Mat44 rotationMatrix;
+    /**
+     * rotation to apply
+     */
+    private Quat rotation;
+    /**
+     * 2nd rotation, for composition
+     */
+    private Quat rotation2;
+    /**
+     * vector to be rotated
+     */
+    private Vec3 vector;
+    /**
+     * reusable storage for results
+     */
+    final private Vec3 tmpVector = new Vec3();
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Compose 2 rotations in Java.
+     *
+     * @return the product (for the blackhole)
+     */
+    @Benchmark
+    public Quat javaQuatMultiply() {
+        Quat result = Op.star(rotation, rotation2);
+        return result;
+    }
+
+    /**
+     * Rotate a vector in Java, allocating the result.
+     *
+     * @return the rotated vector (for the blackhole)
+     */
+    @Benchmark
+    public Vec3 javaRotate() {
+        Vec3 result = Op.star(rotation, vector);
+        return result;
+    }
+
+    /**
+     * Rotate a vector in Java, reusing the storage.
+     *
+     * @return the rotated vector (for the blackhole)
+     */
+    @Benchmark
+    public Vec3 javaRotateInPlace() {
+        tmpVector.set(vector);
+        tmpVector.rotateInPlace(rotation);
+
+        return tmpVector;
+    }
+
+    /**
+     * Normalize a vector in Java.
+     *
+     * @return the normalized vector (for the blackhole)
+     */
+    @Benchmark
+    public Vec3 javaVectorNormalize() {
+        Vec3 result = vector.normalized();
+        return result;
+    }
+
+    /**
+     * Rotate a vector using a pre-existing native matrix.
+     *
+     * @return the rotated vector (for the blackhole)
+     */
+    @Benchmark
+    public Vec3 nativeRotate() {
+        Vec3 result = rotationMatrix.multiply3x3(vector);
+        return result;
+    }
+
+    /**
+     * Build a native rotation matrix from a quaternion, rotate a vector with
+     * it, and free the matrix.
+     *
+     * @return the rotated vector (for the blackhole)
+     */
+    @Benchmark
+    public Vec3 nativeRotateWithNewMatrix() {
+        Mat44 matrix = Mat44.sRotation(rotation);
+        Vec3 result = matrix.multiply3x3(vector);
+        matrix.close();
+
+        return result;
+    }
+
+    /**
+     * Initialize the operands.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        JmhUtils.initialize();
+
+        this.rotation = Quat.sRotation(new Vec3(1f, 2f, 3f).normalized(), 0.7f);
+        this.rotation2 = Quat.sRotation(Vec3.sAxisY(), -1.1f);
+        this.rotationMatrix = Mat44.sRotation(rotation);
+        this.vector = new Vec3(4f, -5f, 6f);
+    }
+
+    /**
+     * Free the native operands.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        TestUtils.testClose(rotationMatrix);
+        JmhUtils.shutdown();
+    }
+}
@@ -0,0 +1,152 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.jmh;
+
+import com.github.stephengold.joltjni.JoltPhysicsObject;
+import com.github.stephengold.joltjni.Mat44;
+import com.github.stephengold.joltjni.RayCastResult;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Microbenchmarks for constructing a {@code JoltPhysicsObject} that owns its
+ * native object and then freeing it with {@code close()}, with and without a
+ * cleaner registered.
+ * <p>
+ * The batch benchmark keeps 100,000 matrices alive at once, which exposes
+ * per-object bookkeeping (heap footprint and reference processing) to the
+ * garbage collector. Run it with {@code -prof gc} to see allocation rates.
+ * <p>
+ * Because the cleaner can't be stopped once started, JMH runs each value of
+ * {@code useCleaner} in a separate fork.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+public class ObjectLifecycleBenchmark {
+    // *************************************************************************
+    // constants
+
+    /**
+     * number of objects in each batch
+     */
+    final private static int batchSize = 100_000;
+    // *************************************************************************
+    // fields
+
+    /**
+     * storage for a batch of matrices
+     */
+    final private Mat44[] batch = new Mat44[batchSize];
+    /**
+     * {@code true} to start a cleaner before measuring
+     */
+    @Param({"false", "true"})
+    public boolean useCleaner;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Construct a batch of matrices and then close all of them.
+     *
+     * @return the last matrix closed (for the blackhole)
+     */
+    @Benchmark
+    @OperationsPerInvocation(batchSize)
+    public Mat44 closeMat44Batch() {
+        for (int i = 0; i < batchSize; ++i) {
+            batch[i] = new Mat44();
+        }
+        for (int i = 0; i < batchSize; ++i) {
+            batch[i].close();
+        }
+        Mat44 result = batch[batchSize - 1];
+        Arrays.fill(batch, null);
+
+        return result;
+    }
+
+    /**
+     * Construct and close a matrix.
+     *
+     * @return the closed matrix (for the blackhole)
+     */
+    @Benchmark
+    public Mat44 constructAndCloseMat44() {
+        Mat44 result = new Mat44();
+        result.close();
+
+        return result;
+    }
+
+    /**
+     * Construct and close a raycast result.
+     *
+     * @return the closed result (for the blackhole)
+     */
+    @Benchmark
+    public RayCastResult constructAndCloseRayCastResult() {
+        RayCastResult result = new RayCastResult();
+        result.close();
+
+        return result;
+    }
+
+    /**
+     * Initialize the native library and (optionally) start the cleaner.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        JmhUtils.initialize();
+        if (useCleaner && !JoltPhysicsObject.isCleanerStarted()) {
+            JoltPhysicsObject.startCleaner();
+        }
+        assert JoltPhysicsObject.isCleanerStarted() == useCleaner;
+    }
+
+    /**
+     * Shut down the native library.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        JmhUtils.shutdown();
+    }
+}
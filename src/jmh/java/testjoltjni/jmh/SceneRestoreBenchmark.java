@@ -0,0 +1,228 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.jmh;
+
+import com.github.stephengold.joltjni.BodyCreationSettings;
+import com.github.stephengold.joltjni.ByteBufferStreamIn;
+import com.github.stephengold.joltjni.Jolt;
+import com.github.stephengold.joltjni.MeshShapeSettings;
+import com.github.stephengold.joltjni.PhysicsScene;
+import com.github.stephengold.joltjni.PhysicsSceneRef;
+import com.github.stephengold.joltjni.PhysicsSceneResult;
+import com.github.stephengold.joltjni.Quat;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.ShapeRefC;
+import com.github.stephengold.joltjni.StreamIn;
+import com.github.stephengold.joltjni.StreamInWrapper;
+import com.github.stephengold.joltjni.StreamOutWrapper;
+import com.github.stephengold.joltjni.enumerate.EMotionType;
+import com.github.stephengold.joltjni.std.OfStream;
+import java.io.IOException;
+import java.nio.FloatBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import testjoltjni.TestUtils;
+
+/**
+ * Microbenchmarks for restoring a saved {@code PhysicsScene} dominated by a
+ * single large {@code MeshShape}, comparing {@code StreamInWrapper} (an
+ * {@code std::ifstream}) with {@code ByteBufferStreamIn} (a memory-mapped
+ * file).
+ * <p>
+ * The file is written once per trial, so after the 1st iteration it's served
+ * from the page cache in every case.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+public class SceneRestoreBenchmark {
+    // *************************************************************************
+    // fields
+
+    /**
+     * number of quads along each edge of the mesh
+     */
+    @Param({"64", "256"})
+    public int gridSize;
+    /**
+     * a stream over the mapped file, re-used by {@link #restoreRewound()}
+     */
+    private ByteBufferStreamIn mappedStream;
+    /**
+     * the temporary file containing the saved scene
+     */
+    private Path path;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Map the file and restore the scene from it.
+     *
+     * @return the freed scene reference (for the blackhole)
+     */
+    @Benchmark
+    public PhysicsSceneRef restoreMapped() {
+        ByteBufferStreamIn stream = ByteBufferStreamIn.open(path.toString());
+        PhysicsSceneRef result = restore(stream);
+        stream.close();
+
+        return result;
+    }
+
+    /**
+     * Restore the scene from a file that's already mapped, which isolates the
+     * cost of the reads from that of mapping.
+     *
+     * @return the freed scene reference (for the blackhole)
+     */
+    @Benchmark
+    public PhysicsSceneRef restoreRewound() {
+        mappedStream.rewind();
+        PhysicsSceneRef result = restore(mappedStream);
+
+        return result;
+    }
+
+    /**
+     * Open the file as an {@code std::ifstream} and restore the scene from it.
+     *
+     * @return the freed scene reference (for the blackhole)
+     */
+    @Benchmark
+    public PhysicsSceneRef restoreWrapper() {
+        int mode = StreamInWrapper.in() | StreamInWrapper.binary();
+        StreamInWrapper stream = StreamInWrapper.open(path.toString(), mode);
+        PhysicsSceneRef result = restore(stream);
+        stream.close();
+
+        return result;
+    }
+
+    /**
+     * Initialize the native library and save a scene containing a static mesh
+     * of {@code 2 * gridSize * gridSize} triangles to a temporary file.
+     *
+     * @throws IOException if the temporary file can't be created
+     */
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        JmhUtils.initialize();
+
+        int numFloats = 18 * gridSize * gridSize;
+        FloatBuffer positions = Jolt.newDirectFloatBuffer(numFloats);
+        for (int x = 0; x < gridSize; ++x) {
+            for (int z = 0; z < gridSize; ++z) {
+                float y00 = height(x, z);
+                float y01 = height(x, z + 1);
+                float y10 = height(x + 1, z);
+                float y11 = height(x + 1, z + 1);
+                positions.put(x).put(y00).put(z);
+                positions.put(x).put(y01).put(z + 1);
+                positions.put(x + 1).put(y11).put(z + 1);
+                positions.put(x).put(y00).put(z);
+                positions.put(x + 1).put(y11).put(z + 1);
+                positions.put(x + 1).put(y10).put(z);
+            }
+        }
+        positions.flip();
+        MeshShapeSettings meshSettings = new MeshShapeSettings(positions);
+        ShapeRefC meshShape = meshSettings.create().get();
+
+        PhysicsSceneRef scene = new PhysicsScene().toRef();
+        BodyCreationSettings bcs = new BodyCreationSettings(meshShape,
+                new RVec3(), new Quat(), EMotionType.Static,
+                TestUtils.objLayerNonMoving);
+        scene.addBody(bcs);
+
+        this.path = Files.createTempFile("scene", ".bin");
+        OfStream file = new OfStream(path.toString(),
+                StreamOutWrapper.out() | StreamOutWrapper.binary()
+                | StreamOutWrapper.trunc());
+        StreamOutWrapper streamOut = new StreamOutWrapper(file);
+        scene.saveBinaryState(streamOut, true, true);
+        file.closeStream();
+
+        this.mappedStream = ByteBufferStreamIn.open(path.toString());
+    }
+
+    /**
+     * Delete the temporary file and shut down the native library.
+     *
+     * @throws IOException if the temporary file can't be deleted
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        mappedStream.close();
+        Files.delete(path);
+        JmhUtils.shutdown();
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Return the height of the mesh at the specified grid point.
+     *
+     * @param x the X coordinate of the grid point
+     * @param z the Z coordinate of the grid point
+     * @return the Y coordinate
+     */
+    private static float height(int x, int z) {
+        float result = (float) (Math.sin(0.3 * x) * Math.cos(0.2 * z));
+        return result;
+    }
+
+    /**
+     * Restore the scene from the specified stream and then free it.
+     *
+     * @param stream the stream to read (not null)
+     * @return the freed scene reference (for the blackhole)
+     */
+    private static PhysicsSceneRef restore(StreamIn stream) {
+        PhysicsSceneResult result
+                = PhysicsScene.sRestoreFromBinaryState(stream);
+        assert !result.hasError() : result.getError();
+        PhysicsSceneRef scene = result.get();
+        scene.close();
+        result.close();
+
+        return scene;
+    }
+}
@@ -21,6 +21,7 @@ SOFTWARE.
  */
 package com.github.stephengold.joltjni;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -55,6 +56,29 @@ public class AllHitCollidePointCollector extends CollidePointCollector {
         return result;
     }
 
+    /**
+     * Copy all the hits into the specified cursor, replacing its previous
+     * contents, and position the cursor before the first hit. Unlike
+     * {@link #getHits()}, this allocates no JVM objects once the cursor's
+     * buffer is large enough.
+     *
+     * @param storeHits the cursor to fill (not null, modified)
+     * @return the number of hits copied (&ge;0)
+     */
+    public int copyHits(CollidePointHitCursor storeHits) {
+        long collectorVa = va();
+        int capacity = storeHits.capacity();
+        ByteBuffer buffer = storeHits.getBuffer();
+        int result = copyHits(collectorVa, buffer, capacity);
+        if (result > capacity) {
+            buffer = storeHits.reserve(result);
+            copyHits(collectorVa, buffer, result);
+        }
+        storeHits.load(result);
+
+        return result;
+    }
+
     /**
      * Access the hit with the specified index.
      *
@@ -111,6 +135,9 @@ public class AllHitCollidePointCollector extends CollidePointCollector {
 
     native private static int countHits(long collectorVa);
 
+    native private static int copyHits(
+            long collectorVa, ByteBuffer storeBuffer, int maxHits);
+
     native private static long createDefault();
 
     native private static long getHit(long collectorVa, int hitIndex);
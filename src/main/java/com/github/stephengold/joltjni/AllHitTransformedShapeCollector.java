@@ -65,7 +65,7 @@ public class AllHitTransformedShapeCollector extends TransformedShapeCollector {
     public ConstTransformedShape get(int index) {
         long collectorVa = va();
         long hitVa = getHit(collectorVa, index);
-        ConstTransformedShape result = new TransformedShape(hitVa, true);
+        ConstTransformedShape result = TransformedShape.newTemporary(hitVa);
 
         return result;
     }
@@ -81,7 +81,7 @@ public class AllHitTransformedShapeCollector extends TransformedShapeCollector {
         List<ConstTransformedShape> result = new ArrayList<>(numHits);
         for (int i = 0; i < numHits; ++i) {
             long hitVa = getHit(collectorVa, i);
-            ConstTransformedShape hit = new TransformedShape(hitVa, true);
+            ConstTransformedShape hit = TransformedShape.newTemporary(hitVa);
             result.add(hit);
         }
 
@@ -0,0 +1,291 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Utility methods to account for native heap allocations, broken down by type,
+ * in order to diagnose leaks.
+ * <p>
+ * Per-type accounting covers the {@code new} and {@code delete} operations
+ * of the glue code. Unlike {@code Jolt.countNews()}, it works in Release
+ * native libraries as well as Debug ones. When enabled, each operation costs
+ * a few relaxed atomic increments, cheap enough to leave enabled in
+ * production. By default, each delete is credited to the type named where it
+ * happens, which is sometimes a base class of the allocated type.
+ * <p>
+ * For exact attribution, address tracking can also be enabled. Each
+ * allocation is then remembered by address, so its deletion is credited to
+ * the type it was allocated as. This costs a lock and a hash-map insert or
+ * erase on every accounted {@code new} and {@code delete}, so it's intended
+ * for diagnostic runs.
+ * <p>
+ * Separately, owning {@code JoltPhysicsObject} instances can be sampled at
+ * random. The Java stack trace of each sampled allocation is retained until
+ * its native object is freed.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class AllocationTracker {
+    // *************************************************************************
+    // fields
+
+    /**
+     * average number of owning objects per sample, or 0 if sampling is
+     * disabled
+     */
+    private static volatile int samplingInterval;
+    /**
+     * allocation stack traces of sampled objects that haven't been freed yet,
+     * keyed by virtual address
+     */
+    final private static Map<Long, Throwable> liveSamples
+            = new ConcurrentHashMap<>();
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private AllocationTracker() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Copy the allocation stack traces of sampled objects whose native objects
+     * haven't been freed yet.
+     *
+     * @return a new list of traces, each with a message naming the Java class
+     * and virtual address
+     */
+    public static List<Throwable> copyLiveSamples() {
+        List<Throwable> result = new ArrayList<>(liveSamples.values());
+        return result;
+    }
+
+    /**
+     * Return the average number of owning objects per sample.
+     *
+     * @return the interval, or 0 if sampling is disabled
+     */
+    public static int getSamplingInterval() {
+        return samplingInterval;
+    }
+
+    /**
+     * Test whether per-type accounting is enabled.
+     *
+     * @return {@code true} if enabled, otherwise {@code false}
+     */
+    native public static boolean isEnabled();
+
+    /**
+     * Test whether the account of each allocation is remembered by address.
+     *
+     * @return {@code true} if tracked, otherwise {@code false}
+     */
+    native public static boolean isTrackingAddresses();
+
+    /**
+     * Describe the native types whose live counts grew the most between 2
+     * snapshots.
+     *
+     * @param before the earlier snapshot (not null, unaffected)
+     * @param after the later snapshot (not null, unaffected)
+     * @param maxTypes the maximum number of types to describe (&ge;0)
+     * @return a multi-line report (not null), one line per type
+     */
+    public static String reportGrowth(Map<String, TypeAllocations> before,
+            Map<String, TypeAllocations> after, int maxTypes) {
+        List<TypeAllocations> growing = topGrowth(before, after, maxTypes);
+
+        StringBuilder result = new StringBuilder(80 * growing.size());
+        for (TypeAllocations counts : growing) {
+            String name = counts.getTypeName();
+            long growth = growth(before.get(name), counts);
+            result.append(String.format("%+d %s%n", growth, counts));
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * Enable or disable per-type accounting. Objects allocated while
+     * accounting is disabled aren't counted. Unless their addresses were
+     * tracked, objects deleted while accounting is disabled aren't subtracted.
+     * Without address tracking, objects allocated before accounting was
+     * enabled are still subtracted when they're deleted, so accounting is best
+     * enabled before any allocations.
+     *
+     * @param setting {@code true} to enable, {@code false} to disable
+     * (default=false)
+     */
+    native public static void setEnabled(boolean setting);
+
+    /**
+     * Alter how often owning objects are sampled. Only objects constructed
+     * after the change are affected.
+     *
+     * @param interval the desired average number of objects per sample, or 0
+     * to disable sampling (&ge;0, default=0)
+     */
+    public static void setSamplingInterval(int interval) {
+        if (interval < 0) {
+            throw new IllegalArgumentException("interval = " + interval);
+        }
+        samplingInterval = interval;
+    }
+
+    /**
+     * Enable or disable address tracking. While enabled, each accounted
+     * allocation is remembered by address, and its deletion is credited to the
+     * type it was allocated as, even after tracking is disabled. Deletions of
+     * objects allocated while tracking was disabled are credited to the type
+     * named where they happen.
+     *
+     * @param setting {@code true} to enable, {@code false} to disable
+     * (default=false)
+     */
+    native public static void setTrackingAddresses(boolean setting);
+
+    /**
+     * Take a snapshot of the per-type accounts.
+     *
+     * @return a new map from type names to counts, sorted by name
+     */
+    public static Map<String, TypeAllocations> snapshot() {
+        Map<String, TypeAllocations> result = new TreeMap<>();
+        long[] storeCounts = new long[4];
+        int numTypes = countTypes();
+        for (int index = 0; index < numTypes; ++index) {
+            String name = getTypeName(index);
+            getCounts(index, storeCounts);
+            TypeAllocations counts = new TypeAllocations(name,
+                    storeCounts[0], storeCounts[1],
+                    storeCounts[2], storeCounts[3]);
+            result.put(name, counts);
+        }
+
+        return result;
+    }
+
+    /**
+     * Find the native types whose live counts grew the most between 2
+     * snapshots.
+     *
+     * @param before the earlier snapshot (not null, unaffected)
+     * @param after the later snapshot (not null, unaffected)
+     * @param maxTypes the maximum number of types to return (&ge;0)
+     * @return a new list of counts from {@code after}, in descending order of
+     * growth, excluding any types that didn't grow
+     */
+    public static List<TypeAllocations> topGrowth(
+            Map<String, TypeAllocations> before,
+            Map<String, TypeAllocations> after, int maxTypes) {
+        if (maxTypes < 0) {
+            throw new IllegalArgumentException("maxTypes = " + maxTypes);
+        }
+
+        List<TypeAllocations> result = new ArrayList<>(after.size());
+        Collection<TypeAllocations> candidates = after.values();
+        for (TypeAllocations counts : candidates) {
+            TypeAllocations old = before.get(counts.getTypeName());
+            if (growth(old, counts) > 0L) {
+                result.add(counts);
+            }
+        }
+        result.sort((a, b) -> Long.compare(
+                growth(before.get(b.getTypeName()), b),
+                growth(before.get(a.getTypeName()), a)));
+        if (result.size() > maxTypes) {
+            result = new ArrayList<>(result.subList(0, maxTypes));
+        }
+
+        return result;
+    }
+    // *************************************************************************
+    // package-private methods
+
+    /**
+     * Sample the specified owning object, if chosen. If the object is sampled,
+     * its allocation stack trace is recorded and the freeing action is
+     * wrapped to discard it.
+     *
+     * @param object the newly constructed object (not null, unaffected)
+     * @param va the virtual address of its native object (not zero)
+     * @param action the object's freeing action (not null)
+     * @return the freeing action to use (not null)
+     */
+    static Runnable sample(JoltPhysicsObject object, long va, Runnable action) {
+        int interval = samplingInterval;
+        if (interval == 0
+                || ThreadLocalRandom.current().nextInt(interval) != 0) {
+            return action;
+        }
+
+        String message = object.getClass().getSimpleName()
+                + "#" + Long.toHexString(va);
+        Throwable trace = new Throwable(message);
+        liveSamples.put(va, trace);
+
+        // The wrapper mustn't reference the object itself:
+        Runnable result = () -> {
+            liveSamples.remove(va);
+            action.run();
+        };
+        return result;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Return the growth in a type's live count between 2 snapshots.
+     *
+     * @param before the earlier counts, or {@code null} if none
+     * @param after the later counts (not null)
+     * @return the change in the live count
+     */
+    private static long growth(TypeAllocations before, TypeAllocations after) {
+        long result = after.countLive();
+        if (before != null) {
+            result -= before.countLive();
+        }
+
+        return result;
+    }
+    // *************************************************************************
+    // native private methods
+
+    native private static int countTypes();
+
+    native private static void getCounts(int index, long[] storeCounts);
+
+    native private static String getTypeName(int index);
+}
@@ -0,0 +1,224 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * A {@code ContactListener} that records contact events into a pre-allocated
+ * native buffer instead of invoking Java callbacks. After
+ * {@code PhysicsSystem.update()} returns, the recorded events can be drained
+ * (without any JNI upcalls) by means of {@link #getRecords()}.
+ * <p>
+ * Each record occupies {@link #cRecordBytes} bytes, laid out in native byte
+ * order as follows:
+ * <ul>
+ * <li>event type (int at {@link #cEventTypeOffset})</li>
+ * <li>ID of the first body (int at {@link #cBody1IdOffset})</li>
+ * <li>ID of the 2nd body (int at {@link #cBody2IdOffset})</li>
+ * <li>sub-shape ID in the first body (int at
+ * {@link #cSubShape1IdOffset})</li>
+ * <li>sub-shape ID in the 2nd body (int at {@link #cSubShape2IdOffset})</li>
+ * <li>number of contact points in the manifold (int at
+ * {@link #cNumPointsOffset})</li>
+ * <li>contact normal in system coordinates (3 floats at
+ * {@link #cNormalOffset})</li>
+ * <li>penetration depth (float at {@link #cPenetrationDepthOffset})</li>
+ * <li>combined friction (float at {@link #cFrictionOffset})</li>
+ * <li>combined restitution (float at {@link #cRestitutionOffset})</li>
+ * <li>mean contact point on the first body in system coordinates (3 doubles
+ * at {@link #cPoint1Offset})</li>
+ * <li>mean contact point on the 2nd body in system coordinates (3 doubles at
+ * {@link #cPoint2Offset})</li>
+ * </ul>
+ * For removed contacts, only the body IDs and sub-shape IDs are meaningful.
+ * <p>
+ * Recording is lock-free and safe during multi-threaded updates. Records that
+ * don't fit in the buffer are counted and discarded.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class BatchedContactListener extends ContactListener {
+    // *************************************************************************
+    // constants
+
+    /**
+     * event type for a contact that was detected for the first time
+     */
+    final public static int cEventAdded = 0;
+    /**
+     * event type for a contact that was also detected during the previous
+     * update
+     */
+    final public static int cEventPersisted = 1;
+    /**
+     * event type for a contact that was detected during the previous update
+     * but is no longer detected
+     */
+    final public static int cEventRemoved = 2;
+    /**
+     * byte offset of the event type in each record
+     */
+    final public static int cEventTypeOffset = 0;
+    /**
+     * byte offset of the first body's ID in each record
+     */
+    final public static int cBody1IdOffset = 4;
+    /**
+     * byte offset of the 2nd body's ID in each record
+     */
+    final public static int cBody2IdOffset = 8;
+    /**
+     * byte offset of the first sub-shape ID in each record
+     */
+    final public static int cSubShape1IdOffset = 12;
+    /**
+     * byte offset of the 2nd sub-shape ID in each record
+     */
+    final public static int cSubShape2IdOffset = 16;
+    /**
+     * byte offset of the contact-point count in each record
+     */
+    final public static int cNumPointsOffset = 20;
+    /**
+     * byte offset of the contact normal in each record
+     */
+    final public static int cNormalOffset = 24;
+    /**
+     * byte offset of the penetration depth in each record
+     */
+    final public static int cPenetrationDepthOffset = 36;
+    /**
+     * byte offset of the combined friction in each record
+     */
+    final public static int cFrictionOffset = 40;
+    /**
+     * byte offset of the combined restitution in each record
+     */
+    final public static int cRestitutionOffset = 44;
+    /**
+     * byte offset of the mean contact point on the first body in each record
+     */
+    final public static int cPoint1Offset = 48;
+    /**
+     * byte offset of the mean contact point on the 2nd body in each record
+     */
+    final public static int cPoint2Offset = 72;
+    /**
+     * number of bytes in each record
+     */
+    final public static int cRecordBytes = 96;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a listener with the specified capacity.
+     *
+     * @param maxRecords the maximum number of records per update (&gt;0)
+     */
+    public BatchedContactListener(int maxRecords) {
+        assert maxRecords > 0 : maxRecords;
+
+        long listenerVa = createBatchedContactListener(maxRecords);
+        setVirtualAddressAsOwner(listenerVa);
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Discard all recorded events and reset the dropped-record count. Don't
+     * invoke this during a physics update!
+     */
+    public void clear() {
+        long listenerVa = va();
+        clear(listenerVa);
+    }
+
+    /**
+     * Count the records that were discarded because the buffer was full. The
+     * listener is unaffected.
+     *
+     * @return the count (&ge;0)
+     */
+    public int countDropped() {
+        long listenerVa = va();
+        int result = countDropped(listenerVa);
+
+        return result;
+    }
+
+    /**
+     * Count the recorded events. The listener is unaffected.
+     *
+     * @return the count (&ge;0, &le;maxRecords)
+     */
+    public int countRecords() {
+        long listenerVa = va();
+        int result = countRecords(listenerVa);
+
+        return result;
+    }
+
+    /**
+     * Return the capacity of the buffer. The listener is unaffected.
+     *
+     * @return the maximum number of records per update (&gt;0)
+     */
+    public int getMaxRecords() {
+        long listenerVa = va();
+        int result = getMaxRecords(listenerVa);
+
+        return result;
+    }
+
+    /**
+     * Access the recorded events. The returned buffer is a view of native
+     * memory: it becomes invalid when the listener is freed, and its contents
+     * are overwritten by the next physics update after {@code clear()}. Don't
+     * invoke this during a physics update!
+     *
+     * @return a new direct buffer in native byte order, whose capacity is
+     * {@code countRecords() * cRecordBytes}
+     */
+    public ByteBuffer getRecords() {
+        long listenerVa = va();
+        ByteBuffer result = getRecords(listenerVa);
+        result.order(ByteOrder.nativeOrder());
+
+        return result;
+    }
+    // *************************************************************************
+    // native private methods
+
+    native private static void clear(long listenerVa);
+
+    native private static int countDropped(long listenerVa);
+
+    native private static int countRecords(long listenerVa);
+
+    native private static long createBatchedContactListener(int maxRecords);
+
+    native private static int getMaxRecords(long listenerVa);
+
+    native private static ByteBuffer getRecords(long listenerVa);
+}
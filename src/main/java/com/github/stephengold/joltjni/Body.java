@@ -561,7 +561,7 @@ public class Body extends NonCopyable implements ConstBody {
         assert isRigidBody(bodyVa) : "not a rigid body";
         long bodySettingsVa = getBodyCreationSettings(bodyVa);
         BodyCreationSettings result
-                = new BodyCreationSettings(bodySettingsVa, true);
+                = BodyCreationSettings.newTemporary(bodySettingsVa);
 
         return result;
     }
@@ -658,7 +658,7 @@ public class Body extends NonCopyable implements ConstBody {
     public RMat44 getCenterOfMassTransform() {
         long bodyVa = va();
         long matrixVa = getCenterOfMassTransform(bodyVa);
-        RMat44 result = new RMat44(matrixVa, true);
+        RMat44 result = RMat44.newTemporary(matrixVa);
 
         return result;
     }
@@ -728,7 +728,7 @@ public class Body extends NonCopyable implements ConstBody {
     public RMat44 getInverseCenterOfMassTransform() {
         long bodyVa = va();
         long matrixVa = getInverseCenterOfMassTransform(bodyVa);
-        RMat44 result = new RMat44(matrixVa, true);
+        RMat44 result = RMat44.newTemporary(matrixVa);
 
         return result;
     }
@@ -924,7 +924,7 @@ public class Body extends NonCopyable implements ConstBody {
     public TransformedShape getTransformedShape() {
         long bodyVa = va();
         long shapeVa = getTransformedShape(bodyVa);
-        TransformedShape result = new TransformedShape(shapeVa, true);
+        TransformedShape result = TransformedShape.newTemporary(shapeVa);
 
         return result;
     }
@@ -989,7 +989,7 @@ public class Body extends NonCopyable implements ConstBody {
     public RMat44 getWorldTransform() {
         long bodyVa = va();
         long matrixVa = getWorldTransform(bodyVa);
-        RMat44 result = new RMat44(matrixVa, true);
+        RMat44 result = RMat44.newTemporary(matrixVa);
 
         return result;
     }
@@ -135,6 +135,19 @@ public class BodyCreationSettings
         setVirtualAddress(bodySettingsVa, freeingAction);
     }
 
+    /**
+     * Instantiate temporary settings that own the specified native object. If
+     * a {@code JoltArena} is open, the settings are freed when that arena
+     * closes.
+     *
+     * @param bodySettingsVa the virtual address of the native object to assign
+     * (not zero)
+     * @param freeingAction the action to free the native object (not null)
+     */
+    private BodyCreationSettings(long bodySettingsVa, Runnable freeingAction) {
+        setVirtualAddressAsTemporary(bodySettingsVa, freeingAction);
+    }
+
     /**
      * Instantiate settings for the specified shape reference.
      *
@@ -752,6 +765,23 @@ public class BodyCreationSettings
         return result;
     }
     // *************************************************************************
+    // package-private methods
+
+    /**
+     * Create temporary settings that own the specified native object. Use
+     * this for getters and operations whose results are typically
+     * short-lived, not for objects meant to be kept.
+     *
+     * @param bodySettingsVa the virtual address of the native object to assign
+     * (not zero)
+     * @return a new JVM object (not null)
+     */
+    static BodyCreationSettings newTemporary(long bodySettingsVa) {
+        BodyCreationSettings result = new BodyCreationSettings(
+                bodySettingsVa, () -> free(bodySettingsVa));
+        return result;
+    }
+    // *************************************************************************
     // ConstBodyCreationSettings methods
 
     /**
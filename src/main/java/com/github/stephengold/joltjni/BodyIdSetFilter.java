@@ -0,0 +1,116 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+/**
+ * A {@code BodyFilter} that selects bodies by membership in a set, evaluated
+ * entirely in native code. The set is stored as a bitset indexed by body
+ * index, so sequence numbers are ignored.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class BodyIdSetFilter extends BodyFilter {
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a filter with an empty set.
+     *
+     * @param exclude {@code true} to reject bodies in the set, {@code false}
+     * to accept only bodies in the set
+     */
+    public BodyIdSetFilter(boolean exclude) {
+        super(true);
+        long filterVa = create(exclude);
+        setVirtualAddressAsOwner(filterVa);
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Add the specified body to the set.
+     *
+     * @param bodyId the ID of the body to add
+     */
+    public void add(int bodyId) {
+        long filterVa = va();
+        add(filterVa, bodyId);
+    }
+
+    /**
+     * Remove all bodies from the set.
+     */
+    public void clear() {
+        long filterVa = va();
+        clear(filterVa);
+    }
+
+    /**
+     * Test whether the specified body is in the set. The filter is
+     * unaffected.
+     *
+     * @param bodyId the ID of the body to test
+     * @return {@code true} if in the set, otherwise {@code false}
+     */
+    public boolean contains(int bodyId) {
+        long filterVa = va();
+        boolean result = contains(filterVa, bodyId);
+
+        return result;
+    }
+
+    /**
+     * Test whether bodies in the set are rejected. The filter is unaffected.
+     *
+     * @return {@code true} if rejected, {@code false} if accepted
+     */
+    public boolean isExclude() {
+        long filterVa = va();
+        boolean result = isExclude(filterVa);
+
+        return result;
+    }
+
+    /**
+     * Remove the specified body from the set.
+     *
+     * @param bodyId the ID of the body to remove
+     */
+    public void remove(int bodyId) {
+        long filterVa = va();
+        remove(filterVa, bodyId);
+    }
+    // *************************************************************************
+    // native private methods
+
+    native private static void add(long filterVa, int bodyId);
+
+    native private static void clear(long filterVa);
+
+    native private static boolean contains(long filterVa, int bodyId);
+
+    native private static long create(boolean exclude);
+
+    native private static boolean isExclude(long filterVa);
+
+    native private static void remove(long filterVa, int bodyId);
+}
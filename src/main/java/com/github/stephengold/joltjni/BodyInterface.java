@@ -34,6 +34,7 @@ import com.github.stephengold.joltjni.readonly.ConstTwoBodyConstraint;
 import com.github.stephengold.joltjni.readonly.QuatArg;
 import com.github.stephengold.joltjni.readonly.RVec3Arg;
 import com.github.stephengold.joltjni.readonly.Vec3Arg;
+import java.nio.Buffer;
 import java.nio.DoubleBuffer;
 import java.nio.FloatBuffer;
 
@@ -45,6 +46,52 @@ import java.nio.FloatBuffer;
  */
 public class BodyInterface extends NonCopyable {
     // *************************************************************************
+    // constants
+
+    /**
+     * field-mask bit for a body's location (3 components: X, Y, Z)
+     */
+    final public static int cStatePosition = 0x1;
+    /**
+     * field-mask bit for a body's orientation (4 components: X, Y, Z, W)
+     */
+    final public static int cStateRotation = 0x2;
+    /**
+     * field-mask bit for a body's linear velocity (3 components: X, Y, Z)
+     */
+    final public static int cStateLinearVelocity = 0x4;
+    /**
+     * field-mask bit for a body's angular velocity (3 components: X, Y, Z)
+     */
+    final public static int cStateAngularVelocity = 0x8;
+    /**
+     * field mask that selects all body-state fields that can be both read and
+     * written
+     */
+    final public static int cStateAll = 0xf;
+    /**
+     * field-mask bit for a linear impulse to apply (3 components: X, Y, Z)
+     * - import only
+     */
+    final public static int cStateLinearImpulse = 0x10;
+    /**
+     * field-mask bit for an angular impulse to apply (3 components: X, Y, Z)
+     * - import only
+     */
+    final public static int cStateAngularImpulse = 0x20;
+    /**
+     * field-mask bit to apply the position and rotation fields using
+     * {@code moveKinematic()} instead of teleporting the body (no components)
+     * - import only
+     */
+    final public static int cStateMoveKinematic = 0x40;
+    /**
+     * field mask that selects all body-state fields and options accepted by
+     * {@code setBodyStates()}
+     */
+    final public static int cStateAllImport = cStateAll | cStateLinearImpulse
+            | cStateAngularImpulse | cStateMoveKinematic;
+    // *************************************************************************
     // constructors
 
     /**
@@ -487,6 +534,103 @@ public class BodyInterface extends NonCopyable {
         storeVelocity.set(storeFloats);
     }
 
+    /**
+     * Copy the state of multiple bodies to the specified direct buffer, using
+     * a single native call. For each body, the fields selected by
+     * {@code fieldMask} are written in the order position, rotation, linear
+     * velocity, angular velocity, so each body occupies
+     * {@code stateStride(fieldMask)} elements, starting at index 0.
+     *
+     * @param bodyIds the IDs of the bodies to query (not null, unaffected)
+     * @param numBodies the number of bodies to query (&ge;0)
+     * @param fieldMask a bitmask of {@code cState...} values, excluding the
+     * import-only ones
+     * @param storeData storage for the state data (not null, direct, modified)
+     * @throws IllegalArgumentException if {@code numBodies} is negative or
+     * exceeds the length of {@code bodyIds}
+     */
+    public void getBodyStates(BodyIdArray bodyIds, int numBodies,
+            int fieldMask, DoubleBuffer storeData) {
+        checkNumBodies(numBodies, bodyIds);
+        checkExportMask(fieldMask);
+        checkStateBuffer(numBodies, fieldMask, storeData);
+        long bodyInterfaceVa = va();
+        long idsVa = bodyIds.va();
+        getBodyStatesDp(bodyInterfaceVa, idsVa, false, numBodies, fieldMask,
+                storeData);
+    }
+
+    /**
+     * Copy the state of multiple bodies to the specified direct buffer, using
+     * a single native call. Locations are converted to single precision. For
+     * each body, the fields selected by {@code fieldMask} are written in the
+     * order position, rotation, linear velocity, angular velocity, so each
+     * body occupies {@code stateStride(fieldMask)} elements, starting at index
+     * 0.
+     *
+     * @param bodyIds the IDs of the bodies to query (not null, unaffected)
+     * @param numBodies the number of bodies to query (&ge;0)
+     * @param fieldMask a bitmask of {@code cState...} values, excluding the
+     * import-only ones
+     * @param storeData storage for the state data (not null, direct, modified)
+     * @throws IllegalArgumentException if {@code numBodies} is negative or
+     * exceeds the length of {@code bodyIds}
+     */
+    public void getBodyStates(BodyIdArray bodyIds, int numBodies,
+            int fieldMask, FloatBuffer storeData) {
+        checkNumBodies(numBodies, bodyIds);
+        checkExportMask(fieldMask);
+        checkStateBuffer(numBodies, fieldMask, storeData);
+        long bodyInterfaceVa = va();
+        long idsVa = bodyIds.va();
+        getBodyStatesSp(bodyInterfaceVa, idsVa, false, numBodies, fieldMask,
+                storeData);
+    }
+
+    /**
+     * Copy the state of all bodies in the specified vector (for instance, the
+     * active bodies) to the specified direct buffer, using a single native
+     * call. The layout is the same as for
+     * {@link #getBodyStates(BodyIdArray, int, int, DoubleBuffer)}.
+     *
+     * @param bodyIds the IDs of the bodies to query (not null, unaffected)
+     * @param fieldMask a bitmask of {@code cState...} values, excluding the
+     * import-only ones
+     * @param storeData storage for the state data (not null, direct, modified)
+     */
+    public void getBodyStates(
+            BodyIdVector bodyIds, int fieldMask, DoubleBuffer storeData) {
+        int numBodies = bodyIds.size();
+        checkExportMask(fieldMask);
+        checkStateBuffer(numBodies, fieldMask, storeData);
+        long bodyInterfaceVa = va();
+        long idsVa = bodyIds.va();
+        getBodyStatesDp(bodyInterfaceVa, idsVa, true, numBodies, fieldMask,
+                storeData);
+    }
+
+    /**
+     * Copy the state of all bodies in the specified vector (for instance, the
+     * active bodies) to the specified direct buffer, using a single native
+     * call. The layout is the same as for
+     * {@link #getBodyStates(BodyIdArray, int, int, FloatBuffer)}.
+     *
+     * @param bodyIds the IDs of the bodies to query (not null, unaffected)
+     * @param fieldMask a bitmask of {@code cState...} values, excluding the
+     * import-only ones
+     * @param storeData storage for the state data (not null, direct, modified)
+     */
+    public void getBodyStates(
+            BodyIdVector bodyIds, int fieldMask, FloatBuffer storeData) {
+        int numBodies = bodyIds.size();
+        checkExportMask(fieldMask);
+        checkStateBuffer(numBodies, fieldMask, storeData);
+        long bodyInterfaceVa = va();
+        long idsVa = bodyIds.va();
+        getBodyStatesSp(bodyInterfaceVa, idsVa, true, numBodies, fieldMask,
+                storeData);
+    }
+
     /**
      * Return the type of the specified body.
      *
@@ -525,7 +669,7 @@ public class BodyInterface extends NonCopyable {
     public RMat44 getCenterOfMassTransform(int bodyId) {
         long bodyInterfaceVa = va();
         long matrixVa = getCenterOfMassTransform(bodyInterfaceVa, bodyId);
-        RMat44 result = new RMat44(matrixVa, true);
+        RMat44 result = RMat44.newTemporary(matrixVa);
 
         return result;
     }
@@ -593,7 +737,7 @@ public class BodyInterface extends NonCopyable {
     public Mat44 getInverseInertia(int bodyId) {
         long bodyInterfaceVa = va();
         long matrixVa = getInverseInertia(bodyInterfaceVa, bodyId);
-        Mat44 result = new Mat44(matrixVa, true);
+        Mat44 result = Mat44.newTemporary(matrixVa);
 
         return result;
     }
@@ -763,7 +907,7 @@ public class BodyInterface extends NonCopyable {
     public TransformedShape getTransformedShape(int bodyId) {
         long bodyInterfaceVa = va();
         long shapeVa = getTransformedShape(bodyInterfaceVa, bodyId);
-        TransformedShape result = new TransformedShape(shapeVa, true);
+        TransformedShape result = TransformedShape.newTemporary(shapeVa);
 
         return result;
     }
@@ -919,6 +1063,70 @@ public class BodyInterface extends NonCopyable {
                 omega.getX(), omega.getY(), omega.getZ());
     }
 
+    /**
+     * Alter the state of multiple bodies using data from the specified direct
+     * buffer, in a single native call. The layout matches
+     * {@link #getBodyStates(BodyIdArray, int, int, DoubleBuffer)}, extended
+     * with linear and angular impulses, which follow the angular velocity.
+     * When {@code cStateMoveKinematic} is set, the position and rotation
+     * fields (both required) are applied using {@code moveKinematic()}.
+     * Activation is handled once for the whole batch.
+     *
+     * @param bodyIds the IDs of the bodies to modify (not null, unaffected)
+     * @param numBodies the number of bodies to modify (&ge;0)
+     * @param fieldMask a bitmask of {@code cState...} values
+     * @param data the state data to apply (not null, direct, unaffected)
+     * @param deltaTime the duration of kinematic moves (in seconds, &gt;0,
+     * ignored unless {@code cStateMoveKinematic} is set)
+     * @param activation whether to activate the bodies (not null)
+     * @throws IllegalArgumentException if {@code numBodies} is negative or
+     * exceeds the length of {@code bodyIds}
+     */
+    public void setBodyStates(BodyIdArray bodyIds, int numBodies,
+            int fieldMask, DoubleBuffer data, float deltaTime,
+            EActivation activation) {
+        checkNumBodies(numBodies, bodyIds);
+        checkImportMask(fieldMask);
+        checkStateBuffer(numBodies, fieldMask, data);
+        long bodyInterfaceVa = va();
+        long idsVa = bodyIds.va();
+        int ordinal = activation.ordinal();
+        setBodyStatesDp(bodyInterfaceVa, idsVa, numBodies, fieldMask, data,
+                deltaTime, ordinal);
+    }
+
+    /**
+     * Alter the state of multiple bodies using data from the specified direct
+     * buffer, in a single native call. The layout matches
+     * {@link #getBodyStates(BodyIdArray, int, int, FloatBuffer)}, extended
+     * with linear and angular impulses, which follow the angular velocity.
+     * When {@code cStateMoveKinematic} is set, the position and rotation
+     * fields (both required) are applied using {@code moveKinematic()}.
+     * Activation is handled once for the whole batch.
+     *
+     * @param bodyIds the IDs of the bodies to modify (not null, unaffected)
+     * @param numBodies the number of bodies to modify (&ge;0)
+     * @param fieldMask a bitmask of {@code cState...} values
+     * @param data the state data to apply (not null, direct, unaffected)
+     * @param deltaTime the duration of kinematic moves (in seconds, &gt;0,
+     * ignored unless {@code cStateMoveKinematic} is set)
+     * @param activation whether to activate the bodies (not null)
+     * @throws IllegalArgumentException if {@code numBodies} is negative or
+     * exceeds the length of {@code bodyIds}
+     */
+    public void setBodyStates(BodyIdArray bodyIds, int numBodies,
+            int fieldMask, FloatBuffer data, float deltaTime,
+            EActivation activation) {
+        checkNumBodies(numBodies, bodyIds);
+        checkImportMask(fieldMask);
+        checkStateBuffer(numBodies, fieldMask, data);
+        long bodyInterfaceVa = va();
+        long idsVa = bodyIds.va();
+        int ordinal = activation.ordinal();
+        setBodyStatesSp(bodyInterfaceVa, idsVa, numBodies, fieldMask, data,
+                deltaTime, ordinal);
+    }
+
     /**
      * Alter the friction ratio of the specified body.
      *
@@ -1128,6 +1336,98 @@ public class BodyInterface extends NonCopyable {
         long bodyInterfaceVa = va();
         setUserData(bodyInterfaceVa, bodyId, value);
     }
+    /**
+     * Return the number of buffer elements occupied by each body when its
+     * state is copied using the specified field mask.
+     *
+     * @param fieldMask a bitmask of {@code cState...} values
+     * @return the count (&ge;0, &le;19)
+     */
+    public static int stateStride(int fieldMask) {
+        int result = 0;
+        if ((fieldMask & cStatePosition) != 0) {
+            result += 3;
+        }
+        if ((fieldMask & cStateRotation) != 0) {
+            result += 4;
+        }
+        if ((fieldMask & cStateLinearVelocity) != 0) {
+            result += 3;
+        }
+        if ((fieldMask & cStateAngularVelocity) != 0) {
+            result += 3;
+        }
+        if ((fieldMask & cStateLinearImpulse) != 0) {
+            result += 3;
+        }
+        if ((fieldMask & cStateAngularImpulse) != 0) {
+            result += 3;
+        }
+
+        return result;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Verify that the specified number of bodies is valid for the specified
+     * array of IDs.
+     *
+     * @param numBodies the number of bodies
+     * @param bodyIds the IDs of the bodies (not null, unaffected)
+     */
+    private static void checkNumBodies(int numBodies, BodyIdArray bodyIds) {
+        int length = bodyIds.length();
+        if (numBodies < 0 || numBodies > length) {
+            throw new IllegalArgumentException("numBodies = " + numBodies
+                    + ", but the array has length " + length);
+        }
+    }
+
+    /**
+     * Verify that the specified field mask is valid for export.
+     *
+     * @param fieldMask a bitmask of {@code cState...} values
+     */
+    private static void checkExportMask(int fieldMask) {
+        if ((fieldMask & ~cStateAll) != 0) {
+            throw new IllegalArgumentException(
+                    "fieldMask = 0x" + Integer.toHexString(fieldMask));
+        }
+    }
+
+    /**
+     * Verify that the specified field mask is valid for import.
+     *
+     * @param fieldMask a bitmask of {@code cState...} values
+     */
+    private static void checkImportMask(int fieldMask) {
+        if ((fieldMask & ~cStateAllImport) != 0) {
+            throw new IllegalArgumentException(
+                    "fieldMask = 0x" + Integer.toHexString(fieldMask));
+        }
+        int moveBits = cStatePosition | cStateRotation;
+        if ((fieldMask & cStateMoveKinematic) != 0
+                && (fieldMask & moveBits) != moveBits) {
+            throw new IllegalArgumentException(
+                    "a kinematic move requires both position and rotation");
+        }
+    }
+
+    /**
+     * Verify that a buffer is direct and large enough to hold the specified
+     * body states.
+     *
+     * @param numBodies the number of bodies (&ge;0)
+     * @param fieldMask a bitmask of {@code cState...} values
+     * @param buffer the buffer to verify (not null, unaffected)
+     */
+    private static void checkStateBuffer(
+            int numBodies, int fieldMask, Buffer buffer) {
+        // A product that exceeds Integer.MAX_VALUE can never fit:
+        long numRequired = (long) numBodies * stateStride(fieldMask);
+        BufferChecks.checkDirectBuffer("buffer", buffer, numRequired);
+    }
     // *************************************************************************
     // native private methods
 
@@ -1190,6 +1490,14 @@ public class BodyInterface extends NonCopyable {
     native private static void getAngularVelocity(
             long bodyInterfaceVa, int bodyId, FloatBuffer storeFloats);
 
+    native private static void getBodyStatesDp(long bodyInterfaceVa,
+            long idsVa, boolean isVector, int numBodies, int fieldMask,
+            DoubleBuffer storeData);
+
+    native private static void getBodyStatesSp(long bodyInterfaceVa,
+            long idsVa, boolean isVector, int numBodies, int fieldMask,
+            FloatBuffer storeData);
+
     native private static int getBodyType(long bodyInterfaceVa, int bodyId);
 
     native private static void getCenterOfMassPosition(
@@ -1260,6 +1568,14 @@ public class BodyInterface extends NonCopyable {
     native private static void setAngularVelocity(
             long bodyInterfaceVa, int bodyId, float wx, float wy, float wz);
 
+    native private static void setBodyStatesDp(long bodyInterfaceVa,
+            long idsVa, int numBodies, int fieldMask, DoubleBuffer data,
+            float deltaTime, int ordinal);
+
+    native private static void setBodyStatesSp(long bodyInterfaceVa,
+            long idsVa, int numBodies, int fieldMask, FloatBuffer data,
+            float deltaTime, int ordinal);
+
     native private static void setFriction(
             long bodyInterfaceVa, int bodyId, float friction);
 
@@ -0,0 +1,115 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+/**
+ * A {@code StateRecorderFilter} that saves only bodies in a set, evaluated
+ * entirely in native code. The set is a bitset indexed by body index, so
+ * sequence numbers are ignored. Contacts and two-body constraints are saved if
+ * either body is in the set.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class BodySetStateFilter extends StateRecorderFilter {
+    // *************************************************************************
+    // fields
+
+    /**
+     * system whose bodies are filtered (to prevent premature garbage
+     * collection)
+     */
+    final private PhysicsSystem system;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a filter with an empty set.
+     *
+     * @param system the system whose bodies will be saved (not null)
+     */
+    public BodySetStateFilter(PhysicsSystem system) {
+        super(create(system.va()), true);
+        this.system = system;
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Add the specified body to the set.
+     *
+     * @param bodyId the ID of the body to add
+     */
+    public void add(int bodyId) {
+        long filterVa = va();
+        add(filterVa, bodyId);
+    }
+
+    /**
+     * Add the specified bodies to the set.
+     *
+     * @param bodyIds the IDs of the bodies to add (not null, unaffected)
+     */
+    public void addAll(BodyIdVector bodyIds) {
+        long filterVa = va();
+        long vectorVa = bodyIds.va();
+        addAll(filterVa, vectorVa);
+    }
+
+    /**
+     * Remove all bodies from the set.
+     */
+    public void clear() {
+        long filterVa = va();
+        clear(filterVa);
+    }
+
+    /**
+     * Access the system whose bodies are filtered.
+     *
+     * @return the pre-existing instance (not null)
+     */
+    public PhysicsSystem getSystem() {
+        return system;
+    }
+
+    /**
+     * Remove the specified body from the set.
+     *
+     * @param bodyId the ID of the body to remove
+     */
+    public void remove(int bodyId) {
+        long filterVa = va();
+        remove(filterVa, bodyId);
+    }
+    // *************************************************************************
+    // native private methods
+
+    native private static void add(long filterVa, int bodyId);
+
+    native private static void addAll(long filterVa, long vectorVa);
+
+    native private static void clear(long filterVa);
+
+    native private static long create(long systemVa);
+
+    native private static void remove(long filterVa, int bodyId);
+}
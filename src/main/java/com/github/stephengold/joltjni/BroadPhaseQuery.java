@@ -25,6 +25,8 @@ import com.github.stephengold.joltjni.readonly.ConstAaBox;
 import com.github.stephengold.joltjni.readonly.ConstBroadPhaseQuery;
 import com.github.stephengold.joltjni.readonly.ConstOrientedBox;
 import com.github.stephengold.joltjni.readonly.Vec3Arg;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
 
 /**
  * Interface for crude collision detection against the bounding boxes in a
@@ -36,6 +38,25 @@ public class BroadPhaseQuery
         extends NonCopyable
         implements ConstBroadPhaseQuery {
     // *************************************************************************
+    // constants
+
+    /**
+     * number of buffer elements per query in the input of
+     * {@code collideAaBoxes()}: minimum X, Y, and Z, then maximum X, Y, and Z
+     */
+    final public static int cAaBoxStride = 6;
+    /**
+     * number of buffer elements per query in the {@code storeRanges} output
+     * of the batched queries: the offset of the query's first ID, then the
+     * number of IDs
+     */
+    final public static int cRangeStride = 2;
+    /**
+     * number of buffer elements per query in the input of
+     * {@code collideSpheres()}: center X, Y, and Z, then radius
+     */
+    final public static int cSphereStride = 4;
+    // *************************************************************************
     // constructors
 
     /**
@@ -209,6 +230,48 @@ public class BroadPhaseQuery
         collideAaBox(queryVa, boxVa, collectorVa, bplFilterVa, olFilterVa);
     }
 
+    /**
+     * Collect the bodies whose bounding boxes overlap each of a batch of test
+     * boxes, writing their IDs into a single buffer.
+     * <p>
+     * The queries are divided among the jobs of the specified job system,
+     * with the current thread helping out until all are done. The IDs of each
+     * query are stored contiguously, but queries handled by different jobs
+     * may be stored in any order, so use {@code storeRanges} to locate them.
+     * If {@code storeIds} is too small, the queries that didn't fit get an
+     * offset of -1 (with a valid count), and the return value indicates the
+     * capacity required.
+     *
+     * @param numBoxes the number of queries (&ge;0)
+     * @param boxes the test boxes, packed {@code cAaBoxStride} elements per
+     * query (not null, direct, unaffected)
+     * @param layerMasks for each query, a bitmask of the object layers it can
+     * overlap (bit N selects layer N, so layers &ge;32 are never
+     * overlapped), or {@code null} to overlap all layers (direct, unaffected)
+     * @param storeIds storage for the body IDs (not null, direct, modified)
+     * @param storeRanges storage for the offset and count of each query's
+     * IDs in {@code storeIds}, packed {@code cRangeStride} elements per
+     * query (not null, direct, modified)
+     * @param jobSystem the job system to use, or {@code null} to run all
+     * queries on the current thread
+     * @return the total number of IDs found (&ge;0, may exceed the capacity of
+     * {@code storeIds})
+     */
+    @Override
+    public int collideAaBoxes(int numBoxes, FloatBuffer boxes,
+            IntBuffer layerMasks, IntBuffer storeIds, IntBuffer storeRanges,
+            JobSystem jobSystem) {
+        checkBatch(numBoxes, boxes, cAaBoxStride, layerMasks, storeIds,
+                storeRanges);
+
+        long queryVa = va();
+        long jobSystemVa = (jobSystem == null) ? 0L : jobSystem.va();
+        int result = collideAaBoxes(queryVa, numBoxes, boxes, layerMasks,
+                storeIds, storeRanges, jobSystemVa);
+
+        return result;
+    }
+
     /**
      * Collect bodies whose bounding boxes intersect the specified oriented box.
      *
@@ -361,6 +424,48 @@ public class BroadPhaseQuery
         collideSphere(queryVa, centerX, centerY, centerZ, radius, collectorVa,
                 bplFilterVa, olFilterVa);
     }
+
+    /**
+     * Collect the bodies whose bounding boxes overlap each of a batch of test
+     * spheres, writing their IDs into a single buffer.
+     * <p>
+     * The queries are divided among the jobs of the specified job system,
+     * with the current thread helping out until all are done. The IDs of each
+     * query are stored contiguously, but queries handled by different jobs
+     * may be stored in any order, so use {@code storeRanges} to locate them.
+     * If {@code storeIds} is too small, the queries that didn't fit get an
+     * offset of -1 (with a valid count), and the return value indicates the
+     * capacity required.
+     *
+     * @param numSpheres the number of queries (&ge;0)
+     * @param spheres the test spheres, packed {@code cSphereStride} elements
+     * per query (not null, direct, unaffected)
+     * @param layerMasks for each query, a bitmask of the object layers it can
+     * overlap (bit N selects layer N, so layers &ge;32 are never
+     * overlapped), or {@code null} to overlap all layers (direct, unaffected)
+     * @param storeIds storage for the body IDs (not null, direct, modified)
+     * @param storeRanges storage for the offset and count of each query's
+     * IDs in {@code storeIds}, packed {@code cRangeStride} elements per
+     * query (not null, direct, modified)
+     * @param jobSystem the job system to use, or {@code null} to run all
+     * queries on the current thread
+     * @return the total number of IDs found (&ge;0, may exceed the capacity of
+     * {@code storeIds})
+     */
+    @Override
+    public int collideSpheres(int numSpheres, FloatBuffer spheres,
+            IntBuffer layerMasks, IntBuffer storeIds, IntBuffer storeRanges,
+            JobSystem jobSystem) {
+        checkBatch(numSpheres, spheres, cSphereStride, layerMasks, storeIds,
+                storeRanges);
+
+        long queryVa = va();
+        long jobSystemVa = (jobSystem == null) ? 0L : jobSystem.va();
+        int result = collideSpheres(queryVa, numSpheres, spheres, layerMasks,
+                storeIds, storeRanges, jobSystemVa);
+
+        return result;
+    }
     // *************************************************************************
     // protected methods
 
@@ -376,6 +481,37 @@ public class BroadPhaseQuery
         setVirtualAddress(queryVa, freeingAction);
     }
     // *************************************************************************
+    // private methods
+
+    /**
+     * Validate the arguments passed to a batched query.
+     *
+     * @param numQueries the number of queries
+     * @param queries the input buffer
+     * @param stride the number of input elements per query
+     * @param layerMasks the layer-mask buffer, or {@code null}
+     * @param storeIds the ID buffer
+     * @param storeRanges the range buffer
+     * @throws IllegalArgumentException if a buffer is too small or isn't
+     * direct
+     */
+    private static void checkBatch(int numQueries, FloatBuffer queries,
+            int stride, IntBuffer layerMasks, IntBuffer storeIds,
+            IntBuffer storeRanges) {
+        if (numQueries < 0) {
+            throw new IllegalArgumentException("numQueries = " + numQueries);
+        }
+        BufferChecks.checkDirectBuffer(
+                "queries", queries, (long) numQueries * stride);
+        if (layerMasks != null) {
+            BufferChecks.checkDirectBuffer(
+                    "layerMasks", layerMasks, numQueries);
+        }
+        BufferChecks.checkDirectBuffer("storeIds", storeIds, 0);
+        BufferChecks.checkDirectBuffer(
+                "storeRanges", storeRanges, (long) numQueries * cRangeStride);
+    }
+    // *************************************************************************
     // native private methods
 
     native private static void castAaBox(long queryVa, long boxCastVa,
@@ -387,6 +523,10 @@ public class BroadPhaseQuery
     native private static void collideAaBox(long queryVa, long boxVa,
             long collectorVa, long bplFilterVa, long olFilterVa);
 
+    native private static int collideAaBoxes(long queryVa, int numBoxes,
+            FloatBuffer boxes, IntBuffer layerMasks, IntBuffer storeIds,
+            IntBuffer storeRanges, long jobSystemVa);
+
     native private static void collideOrientedBox(long queryVa, long boxVa,
             long collectorVa, long bplFilterVa, long olFilterVa);
 
@@ -398,5 +538,9 @@ public class BroadPhaseQuery
             float centerY, float centerZ, float radius, long collectorVa,
             long bplFilterVa, long olFilterVa);
 
+    native private static int collideSpheres(long queryVa, int numSpheres,
+            FloatBuffer spheres, IntBuffer layerMasks, IntBuffer storeIds,
+            IntBuffer storeRanges, long jobSystemVa);
+
     native private static void free(long queryVa);
 }
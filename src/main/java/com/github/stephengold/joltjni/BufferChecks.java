@@ -0,0 +1,64 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import java.nio.Buffer;
+
+/**
+ * Argument checks for NIO buffers passed to native code, for internal use of
+ * the Jolt-JNI library.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class BufferChecks {
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private BufferChecks() {
+    }
+    // *************************************************************************
+    // package-private methods
+
+    /**
+     * Verify that the specified buffer is direct and large enough.
+     *
+     * @param name the name of the argument (for error messages)
+     * @param buffer the buffer to verify (not null)
+     * @param numRequired the number of elements required
+     * @throws IllegalArgumentException if the buffer is too small or isn't
+     * direct
+     */
+    static void checkDirectBuffer(
+            String name, Buffer buffer, long numRequired) {
+        if (!buffer.isDirect()) {
+            throw new IllegalArgumentException(name + " must be direct");
+        }
+        int capacity = buffer.capacity();
+        if (capacity < numRequired) {
+            throw new IllegalArgumentException(name + " capacity = " + capacity
+                    + ", but " + numRequired + " elements are required");
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A {@code StateRecorder} that reads and writes the contents of a direct
+ * {@code ByteBuffer} in place. Unlike {@code StateRecorderImpl}, saving and
+ * restoring state involves no Java heap allocation and no extra copies.
+ * <p>
+ * The recorder uses the bytes between the buffer's position and its limit,
+ * as they were when the buffer was assigned. The buffer's position and limit
+ * are never altered. If the recorded state doesn't fit, the recorder fails,
+ * but it keeps counting bytes, so {@link #countBytes()} reports the size
+ * required.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class ByteBufferStateRecorder extends StateRecorder {
+    // *************************************************************************
+    // fields
+
+    /**
+     * the buffer in use (not null, direct)
+     */
+    private ByteBuffer buffer;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a recorder that records into the specified buffer.
+     *
+     * @param buffer the buffer to use (not null, direct, writable, alias
+     * created)
+     */
+    public ByteBufferStateRecorder(ByteBuffer buffer) {
+        long recorderVa = createDefault();
+        setVirtualAddressAsOwner(recorderVa);
+        setBuffer(buffer);
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Discard the recorded data, so recording restarts at the beginning of the
+     * buffer.
+     */
+    public void clear() {
+        long recorderVa = va();
+        clear(recorderVa);
+    }
+
+    /**
+     * Return the number of bytes recorded, or the number required if the
+     * recorder failed while writing.
+     *
+     * @return the count (&ge;0)
+     */
+    public long countBytes() {
+        long recorderVa = va();
+        long result = countBytes(recorderVa);
+
+        return result;
+    }
+
+    /**
+     * Access the buffer in use.
+     *
+     * @return the pre-existing instance (not null)
+     */
+    public ByteBuffer getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Test whether a write didn't fit or a read ran past the recorded data.
+     *
+     * @return {@code true} if failed, otherwise {@code false}
+     */
+    public boolean isFailed() {
+        long recorderVa = va();
+        boolean result = isFailed(recorderVa);
+
+        return result;
+    }
+
+    /**
+     * Restart reading at the beginning of the recorded data.
+     */
+    public void rewind() {
+        long recorderVa = va();
+        rewind(recorderVa);
+    }
+
+    /**
+     * Record into the specified buffer, discarding any previous data.
+     *
+     * @param buffer the buffer to use (not null, direct, writable, alias
+     * created)
+     * @throws IllegalArgumentException if the buffer isn't direct or is
+     * read-only
+     */
+    public void setBuffer(ByteBuffer buffer) {
+        if (buffer.isReadOnly()) {
+            throw new IllegalArgumentException("buffer must be writable");
+        }
+        setData(buffer, 0);
+    }
+
+    /**
+     * Read previously recorded data from the specified buffer, such as a slice
+     * of a larger buffer. The data are used in place, not copied.
+     *
+     * @param data the buffer containing the data (not null, direct, alias
+     * created)
+     */
+    public void setData(ByteBuffer data) {
+        setData(data, data.remaining());
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Assign a buffer whose first bytes (starting from the buffer's position)
+     * are recorded data.
+     *
+     * @param buffer the buffer to use (not null, direct, alias created)
+     * @param numBytes the number of recorded bytes (&ge;0)
+     */
+    private void setData(ByteBuffer buffer, int numBytes) {
+        BufferChecks.checkDirectBuffer("buffer", buffer, 0);
+
+        long recorderVa = va();
+        int offset = buffer.position();
+        int capacity = buffer.remaining();
+        setData(recorderVa, buffer, offset, capacity, numBytes);
+        this.buffer = buffer;
+    }
+    // *************************************************************************
+    // native private methods
+
+    native private static void clear(long recorderVa);
+
+    native private static long countBytes(long recorderVa);
+
+    native private static long createDefault();
+
+    native private static boolean isFailed(long recorderVa);
+
+    native private static void rewind(long recorderVa);
+
+    native private static void setData(long recorderVa, ByteBuffer buffer,
+            int offset, int capacity, int numBytes);
+}
@@ -0,0 +1,183 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A {@code StreamIn} that reads the contents of a direct {@code ByteBuffer} in
+ * place, typically a {@code MappedByteBuffer} obtained from
+ * {@link #open(java.lang.String)}. Each native read is a single copy out of the
+ * buffer, so restoring a large scene streams straight from the page cache
+ * instead of through an {@code std::ifstream} and its buffers.
+ * <p>
+ * The stream reads the bytes between the buffer's position and its limit, as
+ * they were when the buffer was assigned. The buffer's position and limit are
+ * never altered.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class ByteBufferStreamIn extends StreamIn {
+    // *************************************************************************
+    // fields
+
+    /**
+     * the buffer being read (not null, direct)
+     */
+    private ByteBuffer buffer;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a stream that reads the specified buffer.
+     *
+     * @param data the buffer to read (not null, direct, alias created)
+     */
+    public ByteBufferStreamIn(ByteBuffer data) {
+        long streamVa = createDefault();
+        setVirtualAddressAsOwner(streamVa);
+        setData(data);
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Return the number of bytes consumed so far.
+     *
+     * @return the count (&ge;0)
+     */
+    public long countBytesRead() {
+        long streamVa = va();
+        long result = getPosition(streamVa);
+
+        return result;
+    }
+
+    /**
+     * Access the buffer being read.
+     *
+     * @return the pre-existing instance (not null)
+     */
+    public ByteBuffer getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Test whether a read has run past the end of the data.
+     *
+     * @return {@code true} if it has reached its end, otherwise {@code false}
+     */
+    public boolean isEof() {
+        long streamVa = va();
+        boolean result = isEof(streamVa);
+
+        return result;
+    }
+
+    /**
+     * Test whether a read has failed.
+     *
+     * @return {@code true} if failed, otherwise {@code false}
+     */
+    public boolean isFailed() {
+        long streamVa = va();
+        boolean result = isFailed(streamVa);
+
+        return result;
+    }
+
+    /**
+     * Map the specified file into memory for input. The mapping remains valid
+     * until the returned stream (and its buffer) become unreachable.
+     *
+     * @param fileName the name of the file to map (not null)
+     * @return a new object
+     * @throws IllegalArgumentException if the file exceeds 2 GiB
+     * @throws UncheckedIOException if the file can't be opened or mapped
+     */
+    public static ByteBufferStreamIn open(String fileName) {
+        Path path = Paths.get(fileName);
+        MappedByteBuffer mapped;
+        try (FileChannel channel
+                = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException(
+                        "file too large to map, size = " + size);
+            }
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0L, size);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+
+        ByteBufferStreamIn result = new ByteBufferStreamIn(mapped);
+
+        return result;
+    }
+
+    /**
+     * Restart reading at the beginning of the data, clearing the EOF and
+     * failure flags.
+     */
+    public void rewind() {
+        long streamVa = va();
+        rewind(streamVa);
+    }
+
+    /**
+     * Read the specified buffer, starting at its position, such as a slice of a
+     * larger buffer. The data are used in place, not copied.
+     *
+     * @param data the buffer to read (not null, direct, alias created)
+     */
+    public void setData(ByteBuffer data) {
+        BufferChecks.checkDirectBuffer("data", data, 0);
+
+        long streamVa = va();
+        int offset = data.position();
+        int numBytes = data.remaining();
+        setData(streamVa, data, offset, numBytes);
+        this.buffer = data;
+    }
+    // *************************************************************************
+    // native private methods
+
+    native private static long createDefault();
+
+    native private static long getPosition(long streamVa);
+
+    native private static boolean isEof(long streamVa);
+
+    native private static boolean isFailed(long streamVa);
+
+    native private static void rewind(long streamVa);
+
+    native private static void setData(
+            long streamVa, ByteBuffer data, int offset, int numBytes);
+}
@@ -0,0 +1,97 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+/**
+ * A {@code StateRecorderFilter} that saves only bodies whose position,
+ * rotation, velocities, or activation differ from their committed state,
+ * evaluated entirely in native code. A body with no committed state counts as
+ * changed. Contacts and two-body constraints are saved if either body is
+ * selected.
+ * <p>
+ * Saving doesn't alter the committed states. Invoke {@link #commit()} after
+ * a save is kept, so that consecutive saves form a chain of increments.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class ChangedBodyStateFilter extends StateRecorderFilter {
+    // *************************************************************************
+    // fields
+
+    /**
+     * system whose bodies are filtered (to prevent premature garbage
+     * collection)
+     */
+    final private PhysicsSystem system;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a filter with no committed states.
+     *
+     * @param system the system whose bodies will be saved (not null)
+     */
+    public ChangedBodyStateFilter(PhysicsSystem system) {
+        super(create(system.va()), true);
+        this.system = system;
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Adopt the states of the bodies selected by the latest save as their
+     * committed states.
+     *
+     * @return the number of bodies whose committed states changed (&ge;0)
+     */
+    public int commit() {
+        long filterVa = va();
+        int result = commit(filterVa);
+
+        return result;
+    }
+
+    /**
+     * Access the system whose bodies are filtered.
+     *
+     * @return the pre-existing instance (not null)
+     */
+    public PhysicsSystem getSystem() {
+        return system;
+    }
+
+    /**
+     * Forget all committed states, so the next save selects every body.
+     */
+    public void reset() {
+        long filterVa = va();
+        reset(filterVa);
+    }
+    // *************************************************************************
+    // native private methods
+
+    native private static int commit(long filterVa);
+
+    native private static long create(long systemVa);
+
+    native private static void reset(long filterVa);
+}
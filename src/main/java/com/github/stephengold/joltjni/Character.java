@@ -792,7 +792,7 @@ public class Character extends CharacterBase implements ConstCharacter {
     public TransformedShape getTransformedShape(boolean lockBodies) {
         long characterVa = va();
         long resultVa = getTransformedShape(characterVa, lockBodies);
-        TransformedShape result = new TransformedShape(resultVa, true);
+        TransformedShape result = TransformedShape.newTemporary(resultVa);
 
         return result;
     }
@@ -821,7 +821,7 @@ public class Character extends CharacterBase implements ConstCharacter {
     public RMat44 getWorldTransform(boolean lockBodies) {
         long characterVa = va();
         long matrixVa = getWorldTransform(characterVa, lockBodies);
-        RMat44 result = new RMat44(matrixVa, true);
+        RMat44 result = RMat44.newTemporary(matrixVa);
 
         return result;
     }
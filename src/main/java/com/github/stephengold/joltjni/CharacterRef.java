@@ -697,7 +697,7 @@ final public class CharacterRef extends Ref implements ConstCharacter {
     public TransformedShape getTransformedShape(boolean lockBodies) {
         long characterVa = targetVa();
         long resultVa = Character.getTransformedShape(characterVa, lockBodies);
-        TransformedShape result = new TransformedShape(resultVa, true);
+        TransformedShape result = TransformedShape.newTemporary(resultVa);
 
         return result;
     }
@@ -743,7 +743,7 @@ final public class CharacterRef extends Ref implements ConstCharacter {
         long matrixVa
                 = com.github.stephengold.joltjni.Character.getWorldTransform(
                         characterVa, lockBodies);
-        RMat44 result = new RMat44(matrixVa, true);
+        RMat44 result = RMat44.newTemporary(matrixVa);
 
         return result;
     }
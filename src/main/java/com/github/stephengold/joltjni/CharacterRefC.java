@@ -519,7 +519,7 @@ final public class CharacterRefC
     public TransformedShape getTransformedShape(boolean lockBodies) {
         long characterVa = targetVa();
         long resultVa = Character.getTransformedShape(characterVa, lockBodies);
-        TransformedShape result = new TransformedShape(resultVa, true);
+        TransformedShape result = TransformedShape.newTemporary(resultVa);
 
         return result;
     }
@@ -565,7 +565,7 @@ final public class CharacterRefC
         long matrixVa
                 = com.github.stephengold.joltjni.Character.getWorldTransform(
                         characterVa, lockBodies);
-        RMat44 result = new RMat44(matrixVa, true);
+        RMat44 result = RMat44.newTemporary(matrixVa);
 
         return result;
     }
@@ -486,7 +486,7 @@ public class CharacterVirtual
     public RMat44 getCenterOfMassTransform() {
         long characterVa = va();
         long matrixVa = getCenterOfMassTransform(characterVa);
-        RMat44 result = new RMat44(matrixVa, true);
+        RMat44 result = RMat44.newTemporary(matrixVa);
 
         return result;
     }
@@ -738,7 +738,7 @@ public class CharacterVirtual
     public TransformedShape getTransformedShape() {
         long characterVa = va();
         long resultVa = getTransformedShape(characterVa);
-        TransformedShape result = new TransformedShape(resultVa, true);
+        TransformedShape result = TransformedShape.newTemporary(resultVa);
 
         return result;
     }
@@ -767,7 +767,7 @@ public class CharacterVirtual
     public RMat44 getWorldTransform() {
         long characterVa = va();
         long matrixVa = getWorldTransform(characterVa);
-        RMat44 result = new RMat44(matrixVa, true);
+        RMat44 result = RMat44.newTemporary(matrixVa);
 
         return result;
     }
@@ -342,7 +342,7 @@ final public class CharacterVirtualRef
     public RMat44 getCenterOfMassTransform() {
         long characterVa = targetVa();
         long matrixVa = CharacterVirtual.getCenterOfMassTransform(characterVa);
-        RMat44 result = new RMat44(matrixVa, true);
+        RMat44 result = RMat44.newTemporary(matrixVa);
 
         return result;
     }
@@ -779,7 +779,7 @@ final public class CharacterVirtualRef
     public TransformedShape getTransformedShape() {
         long characterVa = targetVa();
         long resultVa = CharacterVirtual.getTransformedShape(characterVa);
-        TransformedShape result = new TransformedShape(resultVa, true);
+        TransformedShape result = TransformedShape.newTemporary(resultVa);
 
         return result;
     }
@@ -823,7 +823,7 @@ final public class CharacterVirtualRef
     public RMat44 getWorldTransform() {
         long characterVa = targetVa();
         long matrixVa = CharacterVirtual.getWorldTransform(characterVa);
-        RMat44 result = new RMat44(matrixVa, true);
+        RMat44 result = RMat44.newTemporary(matrixVa);
 
         return result;
     }
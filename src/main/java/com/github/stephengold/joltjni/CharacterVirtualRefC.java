@@ -170,7 +170,7 @@ final public class CharacterVirtualRefC
     public RMat44 getCenterOfMassTransform() {
         long characterVa = targetVa();
         long matrixVa = CharacterVirtual.getCenterOfMassTransform(characterVa);
-        RMat44 result = new RMat44(matrixVa, true);
+        RMat44 result = RMat44.newTemporary(matrixVa);
 
         return result;
     }
@@ -607,7 +607,7 @@ final public class CharacterVirtualRefC
     public TransformedShape getTransformedShape() {
         long characterVa = targetVa();
         long resultVa = CharacterVirtual.getTransformedShape(characterVa);
-        TransformedShape result = new TransformedShape(resultVa, true);
+        TransformedShape result = TransformedShape.newTemporary(resultVa);
 
         return result;
     }
@@ -651,7 +651,7 @@ final public class CharacterVirtualRefC
     public RMat44 getWorldTransform() {
         long characterVa = targetVa();
         long matrixVa = CharacterVirtual.getWorldTransform(characterVa);
-        RMat44 result = new RMat44(matrixVa, true);
+        RMat44 result = RMat44.newTemporary(matrixVa);
 
         return result;
     }
@@ -0,0 +1,157 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+/**
+ * A cursor over shape-collision hits copied from an
+ * {@code AllHitCollideShapeCollector}. Each record holds the contact point on
+ * each shape, the penetration axis, the penetration depth, the sub-shape ID
+ * on each shape, and the ID of the body that was hit, in that order. Contact
+ * faces aren't copied.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class CollideShapeHitCursor extends HitCursor {
+    // *************************************************************************
+    // constants
+
+    /**
+     * offset of the contact point on the first shape (in bytes)
+     */
+    final private static int cContactPoint1Offset = 0;
+    /**
+     * offset of the contact point on the 2nd shape (in bytes)
+     */
+    final private static int cContactPoint2Offset = 12;
+    /**
+     * offset of the penetration axis (in bytes)
+     */
+    final private static int cPenetrationAxisOffset = 24;
+    /**
+     * offset of the penetration depth (in bytes)
+     */
+    final private static int cPenetrationDepthOffset = 36;
+    /**
+     * offset of the sub-shape ID on the first shape (in bytes)
+     */
+    final private static int cSubShapeId1Offset = 40;
+    /**
+     * offset of the sub-shape ID on the 2nd shape (in bytes)
+     */
+    final private static int cSubShapeId2Offset = 44;
+    /**
+     * offset of the ID of the body that was hit (in bytes)
+     */
+    final private static int cBodyId2Offset = 48;
+    /**
+     * size of each record (in bytes)
+     */
+    final static int cStride = 52;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an empty cursor.
+     */
+    public CollideShapeHitCursor() {
+        super(cStride);
+    }
+
+    /**
+     * Instantiate an empty cursor with larger records, for use by subclasses.
+     *
+     * @param stride the size of each record (in bytes, &ge;52)
+     */
+    protected CollideShapeHitCursor(int stride) {
+        super(stride);
+        assert stride >= cStride : stride;
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Return the ID of the body that was hit.
+     *
+     * @return the body ID
+     */
+    public int getBodyId2() {
+        int result = getInt(cBodyId2Offset);
+        return result;
+    }
+
+    /**
+     * Copy the contact location on the first shape.
+     *
+     * @param storeResult storage for the location (not null, modified)
+     */
+    public void getContactPointOn1(Vec3 storeResult) {
+        getVec3(cContactPoint1Offset, storeResult);
+    }
+
+    /**
+     * Copy the contact location on the 2nd shape.
+     *
+     * @param storeResult storage for the location (not null, modified)
+     */
+    public void getContactPointOn2(Vec3 storeResult) {
+        getVec3(cContactPoint2Offset, storeResult);
+    }
+
+    /**
+     * Copy the direction to move the 2nd shape to resolve the penetration.
+     *
+     * @param storeResult storage for the direction (not null, modified)
+     */
+    public void getPenetrationAxis(Vec3 storeResult) {
+        getVec3(cPenetrationAxisOffset, storeResult);
+    }
+
+    /**
+     * Return the penetration depth.
+     *
+     * @return the depth
+     */
+    public float getPenetrationDepth() {
+        float result = getFloat(cPenetrationDepthOffset);
+        return result;
+    }
+
+    /**
+     * Return the ID of the colliding sub-shape on the first shape.
+     *
+     * @return a {@code SubShapeID} value
+     */
+    public int getSubShapeId1() {
+        int result = getInt(cSubShapeId1Offset);
+        return result;
+    }
+
+    /**
+     * Return the ID of the colliding sub-shape on the 2nd shape.
+     *
+     * @return a {@code SubShapeID} value
+     */
+    public int getSubShapeId2() {
+        int result = getInt(cSubShapeId2Offset);
+        return result;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import com.github.stephengold.joltjni.readonly.ConstCollisionGroup;
+
+/**
+ * A {@code BodyFilter} that accepts bodies whose collision group can collide
+ * with a specified group. The test is evaluated entirely in native code.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class CollisionGroupBodyFilter extends BodyFilter {
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a filter for the specified group.
+     *
+     * @param group the group to test against (not null, unaffected)
+     */
+    public CollisionGroupBodyFilter(ConstCollisionGroup group) {
+        super(true);
+        long groupVa = group.targetVa();
+        long filterVa = create(groupVa);
+        setVirtualAddressAsOwner(filterVa);
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Replace the group to test against. Don't invoke while a query is using
+     * the filter.
+     *
+     * @param group the desired group (not null, unaffected)
+     */
+    public void setGroup(ConstCollisionGroup group) {
+        long filterVa = va();
+        long groupVa = group.targetVa();
+        setGroup(filterVa, groupVa);
+    }
+    // *************************************************************************
+    // native private methods
+
+    native private static long create(long groupVa);
+
+    native private static void setGroup(long filterVa, long groupVa);
+}
@@ -0,0 +1,118 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@code BodyFilter} that combines other body filters in native code,
+ * without calling back into the JVM unless a child does.
+ * <p>
+ * When all children must pass, an empty composite accepts every body. When
+ * any child may pass, an empty composite rejects every body. The combined
+ * result can optionally be inverted.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class CompositeBodyFilter extends BodyFilter {
+    // *************************************************************************
+    // fields
+
+    /**
+     * child filters, kept here to protect them from garbage collection
+     */
+    final private List<BodyFilter> children = new ArrayList<>(4);
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an empty composite.
+     *
+     * @param requireAll {@code true} if a body must pass every child filter
+     * (AND), {@code false} if it must pass at least one (OR)
+     * @param invert {@code true} to invert the combined result (NAND or NOR),
+     * {@code false} to use it as-is
+     */
+    public CompositeBodyFilter(boolean requireAll, boolean invert) {
+        super(true);
+        long filterVa = create(requireAll, invert);
+        setVirtualAddressAsOwner(filterVa);
+    }
+
+    /**
+     * Instantiate a composite with the specified children.
+     *
+     * @param requireAll {@code true} if a body must pass every child filter
+     * (AND), {@code false} if it must pass at least one (OR)
+     * @param children the filters to combine (not null)
+     */
+    public CompositeBodyFilter(boolean requireAll, BodyFilter... children) {
+        this(requireAll, false);
+        for (BodyFilter child : children) {
+            add(child);
+        }
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Append a child filter. Don't invoke while a query is using the
+     * composite.
+     *
+     * @param child the filter to add (not null, alias created)
+     */
+    public void add(BodyFilter child) {
+        long filterVa = va();
+        long childVa = child.va();
+        add(filterVa, childVa);
+        children.add(child);
+    }
+
+    /**
+     * Remove all child filters. Don't invoke while a query is using the
+     * composite.
+     */
+    public void clear() {
+        long filterVa = va();
+        clear(filterVa);
+        children.clear();
+    }
+
+    /**
+     * Count the child filters. The composite is unaffected.
+     *
+     * @return the count (&ge;0)
+     */
+    public int countChildren() {
+        int result = children.size();
+        return result;
+    }
+    // *************************************************************************
+    // native private methods
+
+    native private static void add(long filterVa, long childVa);
+
+    native private static void clear(long filterVa);
+
+    native private static long create(boolean requireAll, boolean invert);
+}
@@ -0,0 +1,244 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A reusable, random-access view of collision hits that were copied from a
+ * native collector into a single direct buffer, one fixed-size record per
+ * hit.
+ * <p>
+ * The cursor usually steps forward with {@link #next()}, but
+ * {@link #moveTo(int)} selects any hit and {@link #rewind()} returns to the
+ * position before the first hit, so the hits can be visited in any order
+ * and any number of times.
+ * <p>
+ * Reading a hit through a cursor involves no JNI calls and no allocation.
+ * The buffer grows as needed but is never shrunk, so a cursor reused for
+ * similar queries settles into allocation-free operation.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+abstract public class HitCursor {
+    // *************************************************************************
+    // constants
+
+    /**
+     * initial number of records the buffer can hold
+     */
+    final private static int initialCapacity = 16;
+    // *************************************************************************
+    // fields
+
+    /**
+     * underlying buffer, in native byte order
+     */
+    private ByteBuffer buffer;
+    /**
+     * index of the current hit, or -1 if before the first hit
+     */
+    private int hitIndex = -1;
+    /**
+     * number of hits in the most recent snapshot
+     */
+    private int numHits;
+    /**
+     * size of each record (in bytes, &gt;0)
+     */
+    final private int stride;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an empty cursor with the specified record size.
+     *
+     * @param stride the size of each record (in bytes, &gt;0)
+     */
+    protected HitCursor(int stride) {
+        assert stride > 0 : stride;
+
+        this.stride = stride;
+        this.buffer = Jolt.newDirectByteBuffer(initialCapacity * stride);
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Return the number of hits in the most recent snapshot. The cursor is
+     * unaffected.
+     *
+     * @return the count (&ge;0)
+     */
+    public int countHits() {
+        return numHits;
+    }
+
+    /**
+     * Return the index of the current hit. The cursor is unaffected.
+     *
+     * @return the index (&ge;-1, &lt;numHits)
+     */
+    public int index() {
+        return hitIndex;
+    }
+
+    /**
+     * Make the specified hit current.
+     *
+     * @param hitIndex the index of the desired hit (&ge;0, &lt;numHits)
+     */
+    public void moveTo(int hitIndex) {
+        if (hitIndex < 0 || hitIndex >= numHits) {
+            throw new IndexOutOfBoundsException(
+                    "hitIndex = " + hitIndex + ", numHits = " + numHits);
+        }
+        this.hitIndex = hitIndex;
+    }
+
+    /**
+     * Advance to the next hit, if any.
+     *
+     * @return {@code true} if a hit is now current, {@code false} if the
+     * snapshot is exhausted
+     */
+    public boolean next() {
+        if (hitIndex + 1 < numHits) {
+            ++hitIndex;
+            return true;
+        } else {
+            this.hitIndex = numHits;
+            return false;
+        }
+    }
+
+    /**
+     * Return to the position before the first hit.
+     */
+    public void rewind() {
+        this.hitIndex = -1;
+    }
+    // *************************************************************************
+    // protected methods
+
+    /**
+     * Read a {@code float} from the current record.
+     *
+     * @param fieldOffset the offset of the field within the record (in bytes)
+     * @return the field value
+     */
+    protected float getFloat(int fieldOffset) {
+        float result = buffer.getFloat(recordStart() + fieldOffset);
+        return result;
+    }
+
+    /**
+     * Read an {@code int} from the current record.
+     *
+     * @param fieldOffset the offset of the field within the record (in bytes)
+     * @return the field value
+     */
+    protected int getInt(int fieldOffset) {
+        int result = buffer.getInt(recordStart() + fieldOffset);
+        return result;
+    }
+
+    /**
+     * Copy 3 consecutive {@code float}s from the current record.
+     *
+     * @param fieldOffset the offset of the first component within the record
+     * (in bytes)
+     * @param storeResult storage for the vector (not null, modified)
+     */
+    protected void getVec3(int fieldOffset, Vec3 storeResult) {
+        int start = recordStart() + fieldOffset;
+        storeResult.set(buffer.getFloat(start), buffer.getFloat(start + 4),
+                buffer.getFloat(start + 8));
+    }
+    // *************************************************************************
+    // package-private methods
+
+    /**
+     * Return how many records the buffer can hold. The cursor is unaffected.
+     *
+     * @return the count (&ge;0)
+     */
+    int capacity() {
+        int result = buffer.capacity() / stride;
+        return result;
+    }
+
+    /**
+     * Access the underlying buffer, to be filled by a collector.
+     *
+     * @return the pre-existing direct buffer
+     */
+    ByteBuffer getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Complete a snapshot and position the cursor before its first hit.
+     *
+     * @param numHits the number of records written (&ge;0, &le;capacity)
+     */
+    void load(int numHits) {
+        assert numHits >= 0 && numHits <= capacity() : numHits;
+
+        this.numHits = numHits;
+        this.hitIndex = -1;
+    }
+
+    /**
+     * Ensure the buffer can hold at least the specified number of records.
+     * Existing contents are discarded if the buffer grows.
+     *
+     * @param minHits the required number of records (&ge;0)
+     * @return the (possibly new) underlying buffer
+     */
+    ByteBuffer reserve(int minHits) {
+        if (minHits > capacity()) {
+            int newCapacity = Math.max(minHits, 2 * capacity());
+            this.buffer = Jolt.newDirectByteBuffer(newCapacity * stride);
+            this.numHits = 0;
+            this.hitIndex = -1;
+        }
+
+        return buffer;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Return the offset of the current record in the buffer.
+     *
+     * @return the offset (in bytes, &ge;0)
+     */
+    private int recordStart() {
+        if (hitIndex < 0 || hitIndex >= numHits) {
+            throw new IllegalStateException("No current hit");
+        }
+        int result = hitIndex * stride;
+
+        return result;
+    }
+}
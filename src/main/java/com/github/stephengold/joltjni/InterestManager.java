@@ -0,0 +1,234 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import com.github.stephengold.joltjni.readonly.RVec3Arg;
+import java.nio.IntBuffer;
+
+/**
+ * Track which bodies are near each of a set of observers, such as the
+ * clients of a multiplayer server, and report which bodies entered or left
+ * each observer's view sphere and which visible bodies moved.
+ * <p>
+ * Typical use is to invoke {@code update()} right after each
+ * {@code PhysicsSystem.update()}, followed by a single
+ * {@code copyEvents()}. A body is visible if its bounding box overlaps the
+ * observer's sphere. A visible body is reported as moved if it's active, so
+ * bodies repositioned without being activated aren't reported as moved.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class InterestManager extends NonCopyable {
+    // *************************************************************************
+    // constants
+
+    /**
+     * number of buffer elements per observer slot in the {@code storeRanges}
+     * output of {@code copyEvents()}: the offset and count of the entered IDs,
+     * then of the left IDs, then of the moved IDs
+     */
+    final public static int cRangeStride = 6;
+    // *************************************************************************
+    // fields
+
+    /**
+     * the system whose bodies are observed
+     */
+    final private PhysicsSystem system;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a manager with no observers.
+     *
+     * @param system the system whose bodies will be observed (not null)
+     */
+    public InterestManager(PhysicsSystem system) {
+        this.system = system;
+        long systemVa = system.va();
+        long managerVa = create(systemVa);
+        setVirtualAddress(managerVa, () -> free(managerVa));
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Add an observer. It sees nothing until the next {@code update()}.
+     *
+     * @param location the location of the observer (not null, unaffected)
+     * @param radius the radius of its view sphere (&ge;0)
+     * @return the ID of the new observer (&ge;0)
+     */
+    public int addObserver(RVec3Arg location, float radius) {
+        long managerVa = va();
+        double xx = location.xx();
+        double yy = location.yy();
+        double zz = location.zz();
+        int result = addObserver(managerVa, xx, yy, zz, radius);
+
+        return result;
+    }
+
+    /**
+     * Copy the events of the latest {@code update()} into the specified
+     * buffers. If {@code storeIds} is too small, only {@code storeRanges} is
+     * written, with every offset set to -1, and the return value indicates the
+     * capacity required. The manager is unaffected.
+     *
+     * @param storeIds storage for the body IDs (not null, direct, modified)
+     * @param storeRanges storage for the offsets and counts, packed
+     * {@code cRangeStride} elements per observer slot (not null, direct,
+     * modified)
+     * @return the total number of IDs (&ge;0, may exceed the capacity of
+     * {@code storeIds})
+     */
+    public int copyEvents(IntBuffer storeIds, IntBuffer storeRanges) {
+        int numSlots = countSlots();
+        BufferChecks.checkDirectBuffer("storeIds", storeIds, 0);
+        BufferChecks.checkDirectBuffer(
+                "storeRanges", storeRanges, numSlots * cRangeStride);
+
+        long managerVa = va();
+        int result = copyEvents(managerVa, storeIds, storeRanges);
+
+        return result;
+    }
+
+    /**
+     * Count the observer slots, including those of removed observers. The
+     * manager is unaffected.
+     *
+     * @return the count (&ge;0)
+     */
+    public int countSlots() {
+        long managerVa = va();
+        int result = countSlots(managerVa);
+
+        return result;
+    }
+
+    /**
+     * Count the bodies visible to the specified observer as of the latest
+     * {@code update()}. The manager is unaffected.
+     *
+     * @param observerId the ID of the observer
+     * @return the count (&ge;0)
+     */
+    public int countVisible(int observerId) {
+        long managerVa = va();
+        checkObserver(managerVa, observerId);
+        int result = countVisible(managerVa, observerId);
+
+        return result;
+    }
+
+    /**
+     * Access the system whose bodies are observed.
+     *
+     * @return the pre-existing instance (not null)
+     */
+    public PhysicsSystem getSystem() {
+        return system;
+    }
+
+    /**
+     * Remove the specified observer. Its ID may be reused by the next
+     * observer added.
+     *
+     * @param observerId the ID of the observer to remove
+     */
+    public void removeObserver(int observerId) {
+        long managerVa = va();
+        checkObserver(managerVa, observerId);
+        removeObserver(managerVa, observerId);
+    }
+
+    /**
+     * Move and/or resize the specified observer. The change takes effect in
+     * the next {@code update()}.
+     *
+     * @param observerId the ID of the observer to alter
+     * @param location the desired location (not null, unaffected)
+     * @param radius the desired view radius (&ge;0)
+     */
+    public void setObserver(int observerId, RVec3Arg location, float radius) {
+        long managerVa = va();
+        checkObserver(managerVa, observerId);
+        double xx = location.xx();
+        double yy = location.yy();
+        double zz = location.zz();
+        setObserver(managerVa, observerId, xx, yy, zz, radius);
+    }
+
+    /**
+     * Recompute visibility for every observer. Don't invoke while the system
+     * is being updated.
+     *
+     * @param jobSystem the job system to use, or {@code null} to process all
+     * observers on the current thread
+     */
+    public void update(JobSystem jobSystem) {
+        long managerVa = va();
+        long jobSystemVa = (jobSystem == null) ? 0L : jobSystem.va();
+        update(managerVa, jobSystemVa);
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Verify that the specified ID refers to a current observer.
+     *
+     * @param managerVa the virtual address of the native manager (not zero)
+     * @param observerId the ID to verify
+     * @throws IllegalArgumentException if the ID is invalid
+     */
+    private static void checkObserver(long managerVa, int observerId) {
+        if (!isObserver(managerVa, observerId)) {
+            throw new IllegalArgumentException("observerId = " + observerId);
+        }
+    }
+    // *************************************************************************
+    // native private methods
+
+    native private static int addObserver(
+            long managerVa, double xx, double yy, double zz, float radius);
+
+    native private static int copyEvents(
+            long managerVa, IntBuffer storeIds, IntBuffer storeRanges);
+
+    native private static int countSlots(long managerVa);
+
+    native private static int countVisible(long managerVa, int observerId);
+
+    native private static long create(long systemVa);
+
+    native private static void free(long managerVa);
+
+    native private static boolean isObserver(long managerVa, int observerId);
+
+    native private static void removeObserver(long managerVa, int observerId);
+
+    native private static void setObserver(long managerVa, int observerId,
+            double xx, double yy, double zz, float radius);
+
+    native private static void update(long managerVa, long jobSystemVa);
+}
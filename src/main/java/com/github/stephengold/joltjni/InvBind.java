@@ -65,7 +65,7 @@ public class InvBind extends JoltPhysicsObject {
     public Mat44 getInvBind() {
         long invBindVa = va();
         long resultVa = getInvBind(invBindVa);
-        Mat44 result = new Mat44(resultVa, true);
+        Mat44 result = Mat44.newTemporary(resultVa);
 
         return result;
     }
@@ -54,9 +54,37 @@ public class JobSystemThreadPool extends JobSystemWithBarrier {
      * autodetect
      */
     public JobSystemThreadPool(int maxJobs, int maxBarriers, int numThreads) {
+        this(maxJobs, maxBarriers, numThreads, false);
+    }
+
+    /**
+     * Instantiate a job system with the specified limits.
+     * <p>
+     * If {@code attachWorkers} is {@code true}, each worker thread is attached
+     * to the JVM (as a daemon thread) when it starts and remains attached
+     * until it stops. Java callbacks invoked on worker threads (for instance
+     * by {@code CustomContactListener}) then reuse the cached JNI environment
+     * instead of attaching and detaching the thread for every invocation.
+     *
+     * @param maxJobs the maximum number of jobs the system can allocate (a
+     * power of 2, &gt;1)
+     * @param maxBarriers the maximum number of barriers the system can allocate
+     * @param numThreads the number of worker threads to start (&ge;0) or -1 to
+     * autodetect
+     * @param attachWorkers {@code true} to keep the worker threads attached to
+     * the JVM, {@code false} to leave them detached
+     */
+    public JobSystemThreadPool(int maxJobs, int maxBarriers, int numThreads,
+            boolean attachWorkers) {
         assert maxJobs > 1 && ((maxJobs & (maxJobs - 1)) == 0x0) :
                 "maxJobs = " + maxJobs;
-        long systemVa = createJobSystem(maxJobs, maxBarriers, numThreads);
+        long systemVa;
+        if (attachWorkers) {
+            systemVa = createAttachedJobSystem(
+                    maxJobs, maxBarriers, numThreads);
+        } else {
+            systemVa = createJobSystem(maxJobs, maxBarriers, numThreads);
+        }
         setVirtualAddress(systemVa, () -> free(systemVa));
     }
     // *************************************************************************
@@ -75,6 +103,9 @@ public class JobSystemThreadPool extends JobSystemWithBarrier {
     // *************************************************************************
     // native private methods
 
+    native private static long createAttachedJobSystem(
+            int maxJobs, int maxBarriers, int numThreads);
+
     native private static long createJobSystem(
             int maxJobs, int maxBarriers, int numThreads);
 
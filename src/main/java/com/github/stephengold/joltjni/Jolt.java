@@ -827,6 +827,15 @@ final public class Jolt {
      */
     native public static void registerDefaultAllocator();
 
+    /**
+     * Register allocation hooks that pool small blocks by size class, using
+     * per-thread caches. This must be done before any other Jolt function is
+     * called, instead of {@code registerDefaultAllocator()}.
+     *
+     * @see PooledAllocator
+     */
+    native public static void registerPooledAllocator();
+
     /**
      * Register all physics types with the factory and install their collision
      * handlers.
@@ -0,0 +1,216 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A thread-confined scope for native-backed temporaries, such as the
+ * matrices, transformed shapes, and settings copies returned by getters, and
+ * the matrices returned by matrix operations. Objects created by public
+ * constructors, static factory methods such as {@code Mat44.sIdentity()}, or
+ * deserialization are never adopted.
+ * <p>
+ * While an arena is open on a thread, those temporaries aren't registered
+ * with the {@code Cleaner}. The arena owns them instead and frees all of
+ * them, newest first, when it closes. Tight loops that use temporaries
+ * therefore stop feeding the {@code Cleaner} thread and stop depending on
+ * garbage collection to release native memory. Typical use:
+ * <pre>{@code
+ * try (JoltArena arena = JoltArena.open()) {
+ *     RMat44 transform = body.getCenterOfMassTransform();
+ *     // ...
+ * }
+ * }</pre>
+ * <p>
+ * Temporaries created in the scope must not be used after the arena closes.
+ * To keep one, copy it with its copy constructor, which creates an
+ * independent object. Arenas nest: the innermost open arena on a thread
+ * receives the temporaries.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class JoltArena implements AutoCloseable {
+    // *************************************************************************
+    // constants
+
+    /**
+     * initial number of objects an arena can hold without growing
+     */
+    final private static int initialCapacity = 64;
+    /**
+     * number of arenas open on all threads, to skip the thread-local lookup
+     * when none are open
+     */
+    final private static AtomicInteger numOpen = new AtomicInteger();
+    /**
+     * innermost open arena of each thread
+     */
+    final private static ThreadLocal<JoltArena> innermost
+            = new ThreadLocal<>();
+    // *************************************************************************
+    // fields
+
+    /**
+     * true if open, false once closed
+     */
+    private boolean isOpen = true;
+    /**
+     * number of objects owned
+     */
+    private int numObjects;
+    /**
+     * the next-outer arena on the same thread, or {@code null} if none
+     */
+    final private JoltArena parent;
+    /**
+     * objects owned by the arena, in order of creation
+     */
+    private JoltPhysicsObject[] objects
+            = new JoltPhysicsObject[initialCapacity];
+    /**
+     * the thread that opened the arena
+     */
+    final private Thread owner;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an open arena for the current thread.
+     *
+     * @param parent the next-outer arena, or {@code null} if none
+     */
+    private JoltArena(JoltArena parent) {
+        this.parent = parent;
+        this.owner = Thread.currentThread();
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Count the objects currently owned by the arena. The arena is
+     * unaffected.
+     *
+     * @return the count (&ge;0)
+     */
+    public int countObjects() {
+        return numObjects;
+    }
+
+    /**
+     * Return the innermost arena open on the current thread.
+     *
+     * @return the pre-existing arena, or {@code null} if none
+     */
+    public static JoltArena current() {
+        if (numOpen.get() == 0) {
+            return null;
+        }
+        JoltArena result = innermost.get();
+
+        return result;
+    }
+
+    /**
+     * Test whether the arena is open. The arena is unaffected.
+     *
+     * @return {@code true} if open, otherwise {@code false}
+     */
+    public boolean isOpen() {
+        return isOpen;
+    }
+
+    /**
+     * Open a new arena on the current thread, nested inside any that's
+     * already open.
+     *
+     * @return a new arena
+     */
+    public static JoltArena open() {
+        JoltArena parent = innermost.get();
+        JoltArena result = new JoltArena(parent);
+        innermost.set(result);
+        numOpen.incrementAndGet();
+
+        return result;
+    }
+    // *************************************************************************
+    // AutoCloseable methods
+
+    /**
+     * Free every object the arena owns and restore the next-outer arena, if
+     * any. Closing an arena that's already closed has no effect.
+     *
+     * @throws IllegalStateException if invoked from another thread or while a
+     * nested arena is open
+     */
+    @Override
+    public void close() {
+        if (!isOpen) {
+            return;
+        }
+        if (Thread.currentThread() != owner) {
+            throw new IllegalStateException(
+                    "An arena must be closed by the thread that opened it.");
+        }
+        if (innermost.get() != this) {
+            throw new IllegalStateException(
+                    "A nested arena is still open.");
+        }
+
+        for (int i = numObjects - 1; i >= 0; --i) {
+            objects[i].close();
+            objects[i] = null;
+        }
+        this.numObjects = 0;
+        this.isOpen = false;
+
+        if (parent == null) {
+            innermost.remove();
+        } else {
+            innermost.set(parent);
+        }
+        numOpen.decrementAndGet();
+    }
+    // *************************************************************************
+    // package-private methods
+
+    /**
+     * Take ownership of the specified object.
+     *
+     * @param object the object to free when the arena closes (not null, owns
+     * its native object)
+     */
+    void adopt(JoltPhysicsObject object) {
+        assert isOpen;
+        assert object.ownsNativeObject();
+
+        if (numObjects == objects.length) {
+            JoltPhysicsObject[] larger
+                    = new JoltPhysicsObject[2 * objects.length];
+            System.arraycopy(objects, 0, larger, 0, numObjects);
+            this.objects = larger;
+        }
+        objects[numObjects] = object;
+        ++numObjects;
+    }
+}
@@ -23,9 +23,9 @@ package com.github.stephengold.joltjni;
 
 import com.github.stephengold.joltjni.readonly.ConstJoltPhysicsObject;
 import com.github.stephengold.joltjni.template.Ref;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.lang.ref.Cleaner;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * An abstract class to represent a (native) Jolt Physics object.
@@ -35,63 +35,31 @@ import java.util.concurrent.atomic.AtomicReference;
 abstract public class JoltPhysicsObject
         implements AutoCloseable, ConstJoltPhysicsObject {
     // *************************************************************************
-    // classes
+    // constants
 
     /**
-     * A static, non-capturing Runnable for the Cleaner.
+     * atomic access to the {@code freeingAction} field of each instance
      */
-    private static class CleanerRunnable implements Runnable {
-
-        /**
-         * virtual address of the native object
-         */
-        final private AtomicLong addressRef;
-        /**
-         * reference to the native freeing action
-         */
-        final private AtomicReference<Runnable> actionRef;
-
-        /**
-         * Instantiate a cleaner action.
-         *
-         * @param actionRef the shared atomic reference (not null)
-         * @param addressRef the shared address reference (not null)
-         */
-        CleanerRunnable(
-                AtomicReference<Runnable> actionRef, AtomicLong addressRef) {
-            this.actionRef = actionRef;
-            this.addressRef = addressRef;
-        }
-
-        /**
-         * If the native object hasn't been freed yet, invoke its freeing action
-         * and mark it as freed.
-         */
-        @Override
-        public void run() {
-            // Delegate to the shared, static cleanup method.
-            executeCleanup(actionRef, addressRef);
+    final private static VarHandle freeingActionHandle;
+
+    static {
+        try {
+            freeingActionHandle = MethodHandles.lookup().findVarHandle(
+                    JoltPhysicsObject.class, "freeingAction", Runnable.class);
+        } catch (IllegalAccessException | NoSuchFieldException exception) {
+            throw new ExceptionInInitializerError(exception);
         }
     }
     // *************************************************************************
     // fields
 
     /**
-     * virtual address of the assigned native object, or 0 for none
-     * <p>
-     * An AtomicLong is used so both the Cleaner and manual close() calls can
-     * safely set the address to zero after the native resource is freed,
-     * preventing use-after-free errors.
-     */
-    final private AtomicLong virtualAddress = new AtomicLong(0L);
-    /**
-     * freeing action if the JVM object owns its assigned native object
+     * registration with the cleaner, or {@code null} if not registered
      * <p>
-     * An AtomicReference is used to ensure the freeing action is executed
-     * exactly once, either by a manual call to close() or by the Cleaner.
+     * Cleaning it from close() runs the freeing action and also unregisters
+     * the phantom reference, so the garbage collector needn't process it.
      */
-    final private AtomicReference<Runnable> freeingActionRef
-            = new AtomicReference<>();
+    private Cleaner.Cleanable cleanable;
     /**
      * manage references to (native) Jolt-Physics objects, or {@code null} if
      * none
@@ -102,6 +70,20 @@ abstract public class JoltPhysicsObject
      * garbage collection), or {@code null} if none
      */
     final private JoltPhysicsObject containingObject;
+    /**
+     * freeing action if the JVM object owns its assigned native object,
+     * otherwise {@code null}
+     * <p>
+     * It's claimed (atomically set to {@code null}) before being executed,
+     * which ensures it's executed at most once.
+     */
+    private volatile Runnable freeingAction;
+    /**
+     * virtual address of the assigned native object, or 0 for none
+     * <p>
+     * Zeroed after the native object is freed, to catch use-after-free.
+     */
+    private volatile long virtualAddress;
     // *************************************************************************
     // constructors
 
@@ -120,7 +102,7 @@ abstract public class JoltPhysicsObject
      */
     protected JoltPhysicsObject(JoltPhysicsObject container, long va) {
         assert va  != 0L;
-        virtualAddress.set(va);
+        this.virtualAddress = va;
 
         assert container == null || container.ownsNativeObject() : container;
         this.containingObject = container;
@@ -161,7 +143,7 @@ abstract public class JoltPhysicsObject
      * @return the virtual address (not zero)
      */
     final public long va() {
-        long addr = virtualAddress.get(); // Read the atomic field once.
+        long addr = virtualAddress; // Read the volatile field once.
         assert addr != 0L : "Attempted to use an object that has already been"
                 + " freed: " + this;
         return addr;
@@ -186,9 +168,9 @@ abstract public class JoltPhysicsObject
     final protected void setVirtualAddress(long va) {
         assert va  != 0L : "invalid virtual address";
         assert !hasAssignedNativeObject() : "native object already assigned";
-        assert freeingActionRef.get() == null;
+        assert freeingAction == null;
 
-        virtualAddress.set(va);
+        this.virtualAddress = va;
     }
 
     /**
@@ -204,13 +186,40 @@ abstract public class JoltPhysicsObject
 
         if (action != null) {
             assert containingObject == null : containingObject;
-            this.freeingActionRef.set(action);
-
+            Runnable freeing = AllocationTracker.sample(this, va, action);
             if (cleaner != null) {
-                // Register the object with the cleaner:
-                cleaner.register(this,
-                        new CleanerRunnable(freeingActionRef, virtualAddress));
+                /*
+                 * Register the object with the cleaner. The action mustn't
+                 * reference this object, else it would never become
+                 * phantom reachable.
+                 */
+                this.cleanable = cleaner.register(this, freeing);
             }
+            this.freeingAction = freeing;
+        }
+    }
+    // *************************************************************************
+    // package-private methods
+
+    /**
+     * Assign a native temporary (assuming there's none already assigned) and
+     * a freeing action. If a {@code JoltArena} is open on the current thread,
+     * the arena frees the object when it closes, and the object isn't
+     * registered with the cleaner.
+     *
+     * @param va the virtual address of the native object to assign (not zero)
+     * @param action freeing action if the JVM object will own (be responsible
+     * for freeing) the native object, or {@code null} if not responsible
+     */
+    final void setVirtualAddressAsTemporary(long va, Runnable action) {
+        JoltArena arena = (action == null) ? null : JoltArena.current();
+        if (arena == null) {
+            setVirtualAddress(va, action);
+        } else {
+            assert containingObject == null : containingObject;
+            setVirtualAddress(va);
+            this.freeingAction = AllocationTracker.sample(this, va, action);
+            arena.adopt(this);
         }
     }
     // *************************************************************************
@@ -222,7 +231,20 @@ abstract public class JoltPhysicsObject
      */
     @Override
     public void close() {
-        executeCleanup(freeingActionRef, virtualAddress);
+        Runnable action = (Runnable) freeingActionHandle.getAndSet(this, null);
+        if (action != null) {
+            Cleaner.Cleanable registration = cleanable;
+            if (registration == null) {
+                action.run();
+            } else {
+                // Run the action and unregister the phantom reference:
+                this.cleanable = null;
+                registration.clean();
+            }
+
+            // Zero the virtual address to prevent use-after-free:
+            this.virtualAddress = 0L;
+        }
     }
 
     /**
@@ -236,7 +258,7 @@ abstract public class JoltPhysicsObject
     @Override
     public int compareTo(JoltPhysicsObject other) {
         long otherVa = other.va();
-        int result = Long.compare(virtualAddress.get(), otherVa);
+        int result = Long.compare(virtualAddress, otherVa);
 
         return result;
     }
@@ -248,7 +270,7 @@ abstract public class JoltPhysicsObject
      */
     @Override
     final public boolean hasAssignedNativeObject() {
-        if (virtualAddress.get() == 0L) {
+        if (virtualAddress == 0L) {
             return false;
         } else {
             return true;
@@ -263,7 +285,7 @@ abstract public class JoltPhysicsObject
      */
     @Override
     final public boolean ownsNativeObject() {
-        if (freeingActionRef.get() == null) {
+        if (freeingAction == null) {
             return false;
         } else {
             return true;
@@ -301,8 +323,7 @@ abstract public class JoltPhysicsObject
         } else if (otherObject != null
                 && otherObject.getClass() == getClass()) {
             JoltPhysicsObject otherJpo = (JoltPhysicsObject) otherObject;
-            result = (this.virtualAddress.get()
-                    == otherJpo.virtualAddress.get());
+            result = (this.virtualAddress == otherJpo.virtualAddress);
         } else {
             result = false;
         }
@@ -320,7 +341,7 @@ abstract public class JoltPhysicsObject
      */
     @Override
     public int hashCode() {
-        int result = (int) (virtualAddress.get() >> 4);
+        int result = (int) (virtualAddress >> 4);
         return result;
     }
 
@@ -333,28 +354,8 @@ abstract public class JoltPhysicsObject
     @Override
     public String toString() {
         String result = getClass().getSimpleName();
-        result += "#" + Long.toHexString(virtualAddress.get());
+        result += "#" + Long.toHexString(virtualAddress);
 
         return result;
     }
-    // *************************************************************************
-    // private methods
-
-    /**
-     * Atomically retrieve and execute the freeing action, then zero the virtual
-     * address.
-     *
-     * @param actionRef the atomic reference to the freeing action (not null)
-     * @param addressRef the atomic reference to the virtual address (not null)
-     */
-    private static void executeCleanup(
-            AtomicReference<Runnable> actionRef, AtomicLong addressRef) {
-        Runnable action = actionRef.getAndSet(null);
-        if (action != null) {
-            action.run();
-
-            // Zero the virtual address to prevent use-after-free:
-            addressRef.set(0L);
-        }
-    }
 }
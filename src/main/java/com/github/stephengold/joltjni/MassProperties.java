@@ -205,7 +205,7 @@ final public class MassProperties
     public Mat44 getInertia() {
         long propertiesVa = va();
         long matrixVa = getInertia(propertiesVa);
-        Mat44 result = new Mat44(matrixVa, true);
+        Mat44 result = Mat44.newTemporary(matrixVa);
 
         return result;
     }
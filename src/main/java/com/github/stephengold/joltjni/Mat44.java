@@ -80,6 +80,18 @@ final public class Mat44 extends JoltPhysicsObject implements Mat44Arg {
         setVirtualAddress(matrixVa, freeingAction);
     }
 
+    /**
+     * Instantiate a temporary matrix that owns the specified native object. If
+     * a {@code JoltArena} is open, the matrix is freed when that arena closes.
+     *
+     * @param matrixVa the virtual address of the native object to assign (not
+     * zero)
+     * @param freeingAction the action to free the native object (not null)
+     */
+    private Mat44(long matrixVa, Runnable freeingAction) {
+        setVirtualAddressAsTemporary(matrixVa, freeingAction);
+    }
+
     /**
      * Instantiate a copy of the specified matrix.
      *
@@ -158,7 +170,7 @@ final public class Mat44 extends JoltPhysicsObject implements Mat44Arg {
                 rightMultiplyInPlace(resultVa, factorVa);
             }
         }
-        Mat44 result = new Mat44(resultVa, true);
+        Mat44 result = newTemporary(resultVa);
 
         return result;
     }
@@ -442,6 +454,22 @@ final public class Mat44 extends JoltPhysicsObject implements Mat44Arg {
         return result;
     }
     // *************************************************************************
+    // package-private methods
+
+    /**
+     * Create a temporary matrix that owns the specified native object. Use this
+     * for getters and operations whose results are typically short-lived, not
+     * for objects meant to be kept.
+     *
+     * @param matrixVa the virtual address of the native object to assign (not
+     * zero)
+     * @return a new JVM object (not null)
+     */
+    static Mat44 newTemporary(long matrixVa) {
+        Mat44 result = new Mat44(matrixVa, () -> free(matrixVa));
+        return result;
+    }
+    // *************************************************************************
     // Mat44Arg methods
 
     /**
@@ -565,7 +593,7 @@ final public class Mat44 extends JoltPhysicsObject implements Mat44Arg {
     public Mat44 inversed() {
         long currentVa = va();
         long resultVa = inversed(currentVa);
-        Mat44 result = new Mat44(resultVa, true);
+        Mat44 result = newTemporary(resultVa);
 
         return result;
     }
@@ -579,7 +607,7 @@ final public class Mat44 extends JoltPhysicsObject implements Mat44Arg {
     public Mat44 inversed3x3() {
         long currentVa = va();
         long resultVa = inversed3x3(currentVa);
-        Mat44 result = new Mat44(resultVa, true);
+        Mat44 result = newTemporary(resultVa);
 
         return result;
     }
@@ -595,7 +623,7 @@ final public class Mat44 extends JoltPhysicsObject implements Mat44Arg {
     public Mat44 inversedRotationTranslation() {
         long currentVa = va();
         long resultVa = inversedRotationTranslation(currentVa);
-        Mat44 result = new Mat44(resultVa, true);
+        Mat44 result = newTemporary(resultVa);
 
         return result;
     }
@@ -642,7 +670,7 @@ final public class Mat44 extends JoltPhysicsObject implements Mat44Arg {
         long leftVa = va();
         long rightVa = right.targetVa();
         long resultVa = multiply(leftVa, rightVa);
-        Mat44 result = new Mat44(resultVa, true);
+        Mat44 result = newTemporary(resultVa);
 
         return result;
     }
@@ -659,7 +687,7 @@ final public class Mat44 extends JoltPhysicsObject implements Mat44Arg {
         long leftVa = va();
         long rightVa = right.targetVa();
         long resultVa = multiply3x3(leftVa, rightVa);
-        Mat44 result = new Mat44(resultVa, true);
+        Mat44 result = newTemporary(resultVa);
 
         return result;
     }
@@ -749,7 +777,7 @@ final public class Mat44 extends JoltPhysicsObject implements Mat44Arg {
         float y = vec3.getY();
         float z = vec3.getZ();
         long resultVa = postTranslated(matrixVa, x, y, z);
-        Mat44 result = new Mat44(resultVa, true);
+        Mat44 result = newTemporary(resultVa);
 
         return result;
     }
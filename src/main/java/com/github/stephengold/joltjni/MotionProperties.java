@@ -489,7 +489,7 @@ public class MotionProperties
     public Mat44 getLocalSpaceInverseInertia() {
         long propertiesVa = va();
         long matrixVa = getLocalSpaceInverseInertia(propertiesVa);
-        Mat44 result = new Mat44(matrixVa, true);
+        Mat44 result = Mat44.newTemporary(matrixVa);
 
         return result;
     }
@@ -27,6 +27,12 @@ import com.github.stephengold.joltjni.readonly.ConstShape;
 import com.github.stephengold.joltjni.readonly.RMat44Arg;
 import com.github.stephengold.joltjni.readonly.RVec3Arg;
 import com.github.stephengold.joltjni.readonly.Vec3Arg;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
 
 /**
  * Interface for precise collision detection against the bodies in a
@@ -38,6 +44,44 @@ public class NarrowPhaseQuery
         extends NonCopyable
         implements ConstNarrowPhaseQuery {
     // *************************************************************************
+    // constants
+
+    /**
+     * number of buffer elements per ray in the input of {@code castRays()}:
+     * the start location (X, Y, Z) followed by the offset (X, Y, Z)
+     */
+    final public static int cRayStride = 6;
+    /**
+     * number of bytes per ray in the output of {@code castRays()}
+     */
+    final public static int cRayHitStride = 24;
+    /**
+     * byte offset of the hit fraction (a {@code float}) in each output record,
+     * greater than 1 for a miss
+     */
+    final public static int cRayHitFractionOffset = 0;
+    /**
+     * byte offset of the body ID (an {@code int}) in each output record,
+     * {@code Jolt.cInvalidBodyId} for a miss
+     */
+    final public static int cRayHitBodyIdOffset = 4;
+    /**
+     * byte offset of the sub-shape ID (an {@code int}) in each output record
+     */
+    final public static int cRayHitSubShapeIdOffset = 8;
+    /**
+     * byte offset of the surface normal (3 {@code float}s, in system
+     * coordinates) in each output record, zero for a miss
+     */
+    final public static int cRayHitNormalOffset = 12;
+    /**
+     * number of buffer elements per query in the input of
+     * {@code castShapes()} and {@code collideShapes()}: the shape's position
+     * (X, Y, Z), its rotation (X, Y, Z, W), and the cast's direction and
+     * length (X, Y, Z), which {@code collideShapes()} ignores
+     */
+    final public static int cShapeQueryStride = 10;
+    // *************************************************************************
     // constructors
 
     /**
@@ -74,8 +118,12 @@ public class NarrowPhaseQuery
      */
     @Override
     public boolean castRay(RRayCast raycast, RayCastResult hitResult) {
+        long queryVa = va();
+        long raycastVa = raycast.va();
+        long hitResultVa = hitResult.va();
         boolean result
-                = castRay(raycast, hitResult, new BroadPhaseLayerFilter());
+                = castRay(queryVa, raycastVa, hitResultVa, 0L, 0L, 0L);
+
         return result;
     }
 
@@ -92,8 +140,13 @@ public class NarrowPhaseQuery
     @Override
     public boolean castRay(RRayCast raycast, RayCastResult hitResult,
             BroadPhaseLayerFilter bplFilter) {
-        boolean result = castRay(raycast, hitResult, bplFilter,
-                new ObjectLayerFilter());
+        long queryVa = va();
+        long raycastVa = raycast.va();
+        long hitResultVa = hitResult.va();
+        long bplFilterVa = bplFilter.va();
+        boolean result = castRay(
+                queryVa, raycastVa, hitResultVa, bplFilterVa, 0L, 0L);
+
         return result;
     }
 
@@ -111,8 +164,14 @@ public class NarrowPhaseQuery
     @Override
     public boolean castRay(RRayCast raycast, RayCastResult hitResult,
             BroadPhaseLayerFilter bplFilter, ObjectLayerFilter olFilter) {
+        long queryVa = va();
+        long raycastVa = raycast.va();
+        long hitResultVa = hitResult.va();
+        long bplFilterVa = bplFilter.va();
+        long olFilterVa = olFilter.va();
         boolean result = castRay(
-                raycast, hitResult, bplFilter, olFilter, new BodyFilter());
+                queryVa, raycastVa, hitResultVa, bplFilterVa, olFilterVa, 0L);
+
         return result;
     }
 
@@ -144,6 +203,140 @@ public class NarrowPhaseQuery
         return result;
     }
 
+    /**
+     * Cast a ray specified by primitives and obtain the nearest hit, if any,
+     * using default (accept-all) filters. No JVM or native objects are
+     * allocated.
+     *
+     * @param startX the X coordinate of the ray's start
+     * @param startY the Y coordinate of the ray's start
+     * @param startZ the Z coordinate of the ray's start
+     * @param offsetX the X component of the ray's direction and length
+     * @param offsetY the Y component of the ray's direction and length
+     * @param offsetZ the Z component of the ray's direction and length
+     * @param storeResult storage for the hit's fraction, body ID, and
+     * sub-shape ID (not null, reset before the cast, modified)
+     * @return {@code true} if a hit was found, otherwise {@code false}
+     */
+    @Override
+    public boolean castRay(double startX, double startY, double startZ,
+            float offsetX, float offsetY, float offsetZ,
+            RayCastResult storeResult) {
+        long queryVa = va();
+        long hitResultVa = storeResult.va();
+        boolean result = castRayPrimitive(queryVa, startX, startY, startZ,
+                offsetX, offsetY, offsetZ, hitResultVa, 0L, 0L, 0L);
+
+        return result;
+    }
+
+    /**
+     * Cast a ray specified by primitives and obtain the nearest hit, if any.
+     * No JVM or native objects are allocated.
+     *
+     * @param startX the X coordinate of the ray's start
+     * @param startY the Y coordinate of the ray's start
+     * @param startZ the Z coordinate of the ray's start
+     * @param offsetX the X component of the ray's direction and length
+     * @param offsetY the Y component of the ray's direction and length
+     * @param offsetZ the Z component of the ray's direction and length
+     * @param storeResult storage for the hit's fraction, body ID, and
+     * sub-shape ID (not null, reset before the cast, modified)
+     * @param bplFilter the broadphase-layer filter to apply (unaffected) or
+     * {@code null} to accept all layers
+     * @param olFilter the object-layer filter to apply (unaffected) or
+     * {@code null} to accept all layers
+     * @param bodyFilter the body filter to apply (unaffected) or {@code null}
+     * to accept all bodies
+     * @return {@code true} if a hit was found, otherwise {@code false}
+     */
+    @Override
+    public boolean castRay(double startX, double startY, double startZ,
+            float offsetX, float offsetY, float offsetZ,
+            RayCastResult storeResult, BroadPhaseLayerFilter bplFilter,
+            ObjectLayerFilter olFilter, BodyFilter bodyFilter) {
+        long queryVa = va();
+        long hitResultVa = storeResult.va();
+        long bplFilterVa = (bplFilter == null) ? 0L : bplFilter.va();
+        long olFilterVa = (olFilter == null) ? 0L : olFilter.va();
+        long bodyFilterVa = (bodyFilter == null) ? 0L : bodyFilter.va();
+        boolean result = castRayPrimitive(queryVa, startX, startY, startZ,
+                offsetX, offsetY, offsetZ, hitResultVa, bplFilterVa,
+                olFilterVa, bodyFilterVa);
+
+        return result;
+    }
+
+    /**
+     * Cast a batch of rays, each specified by single-precision values, and
+     * obtain the nearest hit for each one.
+     * <p>
+     * The rays are divided among the jobs of the specified job system, with
+     * the current thread helping out until all are done. Each output record
+     * is {@code cRayHitStride} bytes long. See {@code cRayHit*Offset} for its
+     * layout.
+     *
+     * @param numRays the number of rays to cast (&ge;0)
+     * @param rays the start locations and offsets of the rays, packed
+     * {@code cRayStride} elements per ray (not null, direct, unaffected)
+     * @param layerMasks for each ray, a bitmask of the object layers it can
+     * hit (bit N selects layer N, so layers &ge;32 are never hit), or
+     * {@code null} to hit all layers (direct, unaffected)
+     * @param storeHits storage for the results (not null, direct, native byte
+     * order, modified)
+     * @param jobSystem the job system to use, or {@code null} to cast all rays
+     * on the current thread
+     * @return the number of rays that hit something (&ge;0, &le;numRays)
+     */
+    @Override
+    public int castRays(int numRays, FloatBuffer rays, IntBuffer layerMasks,
+            ByteBuffer storeHits, JobSystem jobSystem) {
+        checkRayBuffers(numRays, rays, layerMasks, storeHits);
+
+        long queryVa = va();
+        long systemVa = getSystem().va();
+        long jobSystemVa = (jobSystem == null) ? 0L : jobSystem.va();
+        int result = castRaysSp(queryVa, systemVa, numRays, rays, layerMasks,
+                storeHits, jobSystemVa);
+
+        return result;
+    }
+
+    /**
+     * Cast a batch of rays, each specified by double-precision values, and
+     * obtain the nearest hit for each one.
+     * <p>
+     * The rays are divided among the jobs of the specified job system, with
+     * the current thread helping out until all are done. Each output record
+     * is {@code cRayHitStride} bytes long. See {@code cRayHit*Offset} for its
+     * layout.
+     *
+     * @param numRays the number of rays to cast (&ge;0)
+     * @param rays the start locations and offsets of the rays, packed
+     * {@code cRayStride} elements per ray (not null, direct, unaffected)
+     * @param layerMasks for each ray, a bitmask of the object layers it can
+     * hit (bit N selects layer N, so layers &ge;32 are never hit), or
+     * {@code null} to hit all layers (direct, unaffected)
+     * @param storeHits storage for the results (not null, direct, native byte
+     * order, modified)
+     * @param jobSystem the job system to use, or {@code null} to cast all rays
+     * on the current thread
+     * @return the number of rays that hit something (&ge;0, &le;numRays)
+     */
+    @Override
+    public int castRays(int numRays, DoubleBuffer rays, IntBuffer layerMasks,
+            ByteBuffer storeHits, JobSystem jobSystem) {
+        checkRayBuffers(numRays, rays, layerMasks, storeHits);
+
+        long queryVa = va();
+        long systemVa = getSystem().va();
+        long jobSystemVa = (jobSystem == null) ? 0L : jobSystem.va();
+        int result = castRaysDp(queryVa, systemVa, numRays, rays, layerMasks,
+                storeHits, jobSystemVa);
+
+        return result;
+    }
+
     /**
      * Cast a ray and collect the resulting hits.
      *
@@ -155,7 +348,11 @@ public class NarrowPhaseQuery
     @Override
     public void castRay(RRayCast raycast, RayCastSettings settings,
             CastRayCollector collector) {
-        castRay(raycast, settings, collector, new BroadPhaseLayerFilter());
+        long queryVa = va();
+        long raycastVa = raycast.va();
+        long settingsVa = settings.va();
+        long collectorVa = collector.va();
+        castRay(queryVa, raycastVa, settingsVa, collectorVa, 0L, 0L, 0L, 0L);
     }
 
     /**
@@ -171,8 +368,13 @@ public class NarrowPhaseQuery
     @Override
     public void castRay(RRayCast raycast, RayCastSettings settings,
             CastRayCollector collector, BroadPhaseLayerFilter bplFilter) {
-        castRay(raycast, settings, collector, bplFilter,
-                new ObjectLayerFilter());
+        long queryVa = va();
+        long raycastVa = raycast.va();
+        long settingsVa = settings.va();
+        long collectorVa = collector.va();
+        long bplFilterVa = bplFilter.va();
+        castRay(queryVa, raycastVa, settingsVa, collectorVa, bplFilterVa, 0L,
+                0L, 0L);
     }
 
     /**
@@ -190,8 +392,14 @@ public class NarrowPhaseQuery
     public void castRay(RRayCast raycast, RayCastSettings settings,
             CastRayCollector collector, BroadPhaseLayerFilter bplFilter,
             ObjectLayerFilter olFilter) {
-        castRay(raycast, settings, collector, bplFilter, olFilter,
-                new BodyFilter());
+        long queryVa = va();
+        long raycastVa = raycast.va();
+        long settingsVa = settings.va();
+        long collectorVa = collector.va();
+        long bplFilterVa = bplFilter.va();
+        long olFilterVa = olFilter.va();
+        castRay(queryVa, raycastVa, settingsVa, collectorVa, bplFilterVa,
+                olFilterVa, 0L, 0L);
     }
 
     /**
@@ -210,8 +418,15 @@ public class NarrowPhaseQuery
     public void castRay(RRayCast raycast, RayCastSettings settings,
             CastRayCollector collector, BroadPhaseLayerFilter bplFilter,
             ObjectLayerFilter olFilter, BodyFilter bodyFilter) {
-        castRay(raycast, settings, collector, bplFilter, olFilter, bodyFilter,
-                new ShapeFilter());
+        long queryVa = va();
+        long raycastVa = raycast.va();
+        long settingsVa = settings.va();
+        long collectorVa = collector.va();
+        long bplFilterVa = bplFilter.va();
+        long olFilterVa = olFilter.va();
+        long bodyFilterVa = bodyFilter.va();
+        castRay(queryVa, raycastVa, settingsVa, collectorVa, bplFilterVa,
+                olFilterVa, bodyFilterVa, 0L);
     }
 
     /**
@@ -244,6 +459,178 @@ public class NarrowPhaseQuery
                 olFilterVa, bodyFilterVa, shapeFilterVa);
     }
 
+    /**
+     * Cast a batch of shapes, each positioned using double-precision
+     * values, and store the hits of each query in slots of the specified
+     * storage.
+     * <p>
+     * If a query has more hits than slots, the earliest hits are kept.
+     *
+     * @param numQueries the number of queries (&ge;0,
+     * &le;storeHits.getMaxQueries())
+     * @param shapes the shape for each query (not null, length&ge;numQueries,
+     * unaffected)
+     * @param queries the transforms (and directions) of the shapes, packed
+     * {@code cShapeQueryStride} elements per query (not null, direct,
+     * unaffected)
+     * @param layerMasks for each query, a bitmask of the object layers it can
+     * hit (bit N selects layer N, so layers &ge;32 are never hit), or
+     * {@code null} to hit all layers (direct, unaffected)
+     * @param settings the settings to use, or {@code null} for the defaults
+     * (unaffected)
+     * @param storeHits storage for the results (not null, modified)
+     * @param jobSystem the job system to use, or {@code null} to run all
+     * queries on the current thread
+     * @return the total number of hits stored (&ge;0)
+     */
+    @Override
+    public int castShapes(int numQueries, ConstShape[] shapes,
+            DoubleBuffer queries, IntBuffer layerMasks,
+            ShapeCastSettings settings, ShapeQueryHits storeHits,
+            JobSystem jobSystem) {
+        long[] shapeVas = checkShapeQueries(
+                numQueries, shapes, queries, layerMasks, storeHits);
+
+        long queryVa = va();
+        long settingsVa = (settings == null) ? 0L : settings.va();
+        long jobSystemVa = (jobSystem == null) ? 0L : jobSystem.va();
+        int result = castShapesDp(queryVa, numQueries, shapeVas, queries,
+                layerMasks, settingsVa, storeHits.getBuffer(),
+                storeHits.getMaxQueries(), storeHits.getMaxHitsPerQuery(),
+                jobSystemVa);
+
+        return result;
+    }
+
+    /**
+     * Cast a batch of shapes, each positioned using single-precision
+     * values, and store the hits of each query in slots of the specified
+     * storage.
+     * <p>
+     * If a query has more hits than slots, the earliest hits are kept.
+     *
+     * @param numQueries the number of queries (&ge;0,
+     * &le;storeHits.getMaxQueries())
+     * @param shapes the shape for each query (not null, length&ge;numQueries,
+     * unaffected)
+     * @param queries the transforms (and directions) of the shapes, packed
+     * {@code cShapeQueryStride} elements per query (not null, direct,
+     * unaffected)
+     * @param layerMasks for each query, a bitmask of the object layers it can
+     * hit (bit N selects layer N, so layers &ge;32 are never hit), or
+     * {@code null} to hit all layers (direct, unaffected)
+     * @param settings the settings to use, or {@code null} for the defaults
+     * (unaffected)
+     * @param storeHits storage for the results (not null, modified)
+     * @param jobSystem the job system to use, or {@code null} to run all
+     * queries on the current thread
+     * @return the total number of hits stored (&ge;0)
+     */
+    @Override
+    public int castShapes(int numQueries, ConstShape[] shapes,
+            FloatBuffer queries, IntBuffer layerMasks,
+            ShapeCastSettings settings, ShapeQueryHits storeHits,
+            JobSystem jobSystem) {
+        long[] shapeVas = checkShapeQueries(
+                numQueries, shapes, queries, layerMasks, storeHits);
+
+        long queryVa = va();
+        long settingsVa = (settings == null) ? 0L : settings.va();
+        long jobSystemVa = (jobSystem == null) ? 0L : jobSystem.va();
+        int result = castShapesSp(queryVa, numQueries, shapeVas, queries,
+                layerMasks, settingsVa, storeHits.getBuffer(),
+                storeHits.getMaxQueries(), storeHits.getMaxHitsPerQuery(),
+                jobSystemVa);
+
+        return result;
+    }
+
+    /**
+     * Collide a batch of shapes, each positioned using double-precision
+     * values, and store the hits of each query in slots of the specified
+     * storage.
+     * <p>
+     * If a query has more hits than slots, the deepest hits are kept.
+     *
+     * @param numQueries the number of queries (&ge;0,
+     * &le;storeHits.getMaxQueries())
+     * @param shapes the shape for each query (not null, length&ge;numQueries,
+     * unaffected)
+     * @param queries the transforms (and directions) of the shapes, packed
+     * {@code cShapeQueryStride} elements per query (not null, direct,
+     * unaffected)
+     * @param layerMasks for each query, a bitmask of the object layers it can
+     * hit (bit N selects layer N, so layers &ge;32 are never hit), or
+     * {@code null} to hit all layers (direct, unaffected)
+     * @param settings the settings to use, or {@code null} for the defaults
+     * (unaffected)
+     * @param storeHits storage for the results (not null, modified)
+     * @param jobSystem the job system to use, or {@code null} to run all
+     * queries on the current thread
+     * @return the total number of hits stored (&ge;0)
+     */
+    @Override
+    public int collideShapes(int numQueries, ConstShape[] shapes,
+            DoubleBuffer queries, IntBuffer layerMasks,
+            CollideShapeSettings settings, ShapeQueryHits storeHits,
+            JobSystem jobSystem) {
+        long[] shapeVas = checkShapeQueries(
+                numQueries, shapes, queries, layerMasks, storeHits);
+
+        long queryVa = va();
+        long settingsVa = (settings == null) ? 0L : settings.va();
+        long jobSystemVa = (jobSystem == null) ? 0L : jobSystem.va();
+        int result = collideShapesDp(queryVa, numQueries, shapeVas, queries,
+                layerMasks, settingsVa, storeHits.getBuffer(),
+                storeHits.getMaxQueries(), storeHits.getMaxHitsPerQuery(),
+                jobSystemVa);
+
+        return result;
+    }
+
+    /**
+     * Collide a batch of shapes, each positioned using single-precision
+     * values, and store the hits of each query in slots of the specified
+     * storage.
+     * <p>
+     * If a query has more hits than slots, the deepest hits are kept.
+     *
+     * @param numQueries the number of queries (&ge;0,
+     * &le;storeHits.getMaxQueries())
+     * @param shapes the shape for each query (not null, length&ge;numQueries,
+     * unaffected)
+     * @param queries the transforms (and directions) of the shapes, packed
+     * {@code cShapeQueryStride} elements per query (not null, direct,
+     * unaffected)
+     * @param layerMasks for each query, a bitmask of the object layers it can
+     * hit (bit N selects layer N, so layers &ge;32 are never hit), or
+     * {@code null} to hit all layers (direct, unaffected)
+     * @param settings the settings to use, or {@code null} for the defaults
+     * (unaffected)
+     * @param storeHits storage for the results (not null, modified)
+     * @param jobSystem the job system to use, or {@code null} to run all
+     * queries on the current thread
+     * @return the total number of hits stored (&ge;0)
+     */
+    @Override
+    public int collideShapes(int numQueries, ConstShape[] shapes,
+            FloatBuffer queries, IntBuffer layerMasks,
+            CollideShapeSettings settings, ShapeQueryHits storeHits,
+            JobSystem jobSystem) {
+        long[] shapeVas = checkShapeQueries(
+                numQueries, shapes, queries, layerMasks, storeHits);
+
+        long queryVa = va();
+        long settingsVa = (settings == null) ? 0L : settings.va();
+        long jobSystemVa = (jobSystem == null) ? 0L : jobSystem.va();
+        int result = collideShapesSp(queryVa, numQueries, shapeVas, queries,
+                layerMasks, settingsVa, storeHits.getBuffer(),
+                storeHits.getMaxQueries(), storeHits.getMaxHitsPerQuery(),
+                jobSystemVa);
+
+        return result;
+    }
+
     /**
      * Cast a shape and collect the resulting hits.
      *
@@ -673,6 +1060,75 @@ public class NarrowPhaseQuery
                 baseX, baseY, baseZ, collectorVa, bplFilterVa,
                 olFilterVa, bodyFilterVa, shapeFilterVa);
     }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Validate the buffers passed to {@code castRays()}.
+     *
+     * @param numRays the number of rays to cast
+     * @param rays the input buffer
+     * @param layerMasks the layer-mask buffer, or {@code null}
+     * @param storeHits the output buffer
+     * @throws IllegalArgumentException if a buffer is too small or isn't
+     * direct, or if the output buffer doesn't use native byte order
+     */
+    private static void checkRayBuffers(int numRays, Buffer rays,
+            IntBuffer layerMasks, ByteBuffer storeHits) {
+        if (numRays < 0) {
+            throw new IllegalArgumentException("numRays = " + numRays);
+        }
+        BufferChecks.checkDirectBuffer(
+                "rays", rays, (long) numRays * cRayStride);
+        if (layerMasks != null) {
+            BufferChecks.checkDirectBuffer("layerMasks", layerMasks, numRays);
+        }
+        BufferChecks.checkDirectBuffer(
+                "storeHits", storeHits, (long) numRays * cRayHitStride);
+        if (storeHits.order() != ByteOrder.nativeOrder()) {
+            throw new IllegalArgumentException(
+                    "storeHits must use native byte order");
+        }
+    }
+
+    /**
+     * Validate the arguments passed to {@code castShapes()} or
+     * {@code collideShapes()}.
+     *
+     * @param numQueries the number of queries
+     * @param shapes the shapes
+     * @param queries the input buffer
+     * @param layerMasks the layer-mask buffer, or {@code null}
+     * @param storeHits the output storage
+     * @return a new array of shape addresses
+     * @throws IllegalArgumentException if an argument is too small or a
+     * buffer isn't direct
+     */
+    private static long[] checkShapeQueries(int numQueries,
+            ConstShape[] shapes, Buffer queries, IntBuffer layerMasks,
+            ShapeQueryHits storeHits) {
+        if (numQueries < 0 || numQueries > storeHits.getMaxQueries()) {
+            throw new IllegalArgumentException("numQueries = " + numQueries);
+        }
+        if (shapes.length < numQueries) {
+            throw new IllegalArgumentException(
+                    "shapes.length = " + shapes.length);
+        }
+        BufferChecks.checkDirectBuffer(
+                "queries", queries, (long) numQueries * cShapeQueryStride);
+        if (layerMasks != null) {
+            BufferChecks.checkDirectBuffer(
+                    "layerMasks", layerMasks, numQueries);
+        }
+
+        long[] result = new long[numQueries];
+        for (int i = 0; i < numQueries; ++i) {
+            result[i] = shapes[i].targetVa();
+        }
+
+        return result;
+    }
+
     // *************************************************************************
     // native private methods
 
@@ -684,11 +1140,34 @@ public class NarrowPhaseQuery
             long settingsVa, long collectorVa, long bplFilterVa,
             long olFilterVa, long bodyFilterVa, long shapeFilterVa);
 
+    native private static boolean castRayPrimitive(long queryVa,
+            double startX, double startY, double startZ, float offsetX,
+            float offsetY, float offsetZ, long castResultVa, long bplFilterVa,
+            long olFilterVa, long bodyFilterVa);
+
+    native private static int castRaysDp(long queryVa, long systemVa,
+            int numRays, DoubleBuffer rays, IntBuffer layerMasks,
+            ByteBuffer storeHits, long jobSystemVa);
+
+    native private static int castRaysSp(long queryVa, long systemVa,
+            int numRays, FloatBuffer rays, IntBuffer layerMasks,
+            ByteBuffer storeHits, long jobSystemVa);
+
     native private static void castShape(long queryVa, long shapeCastVa,
             long settingsVa, double baseX, double baseY, double baseZ,
             long collectorVa, long bplFilterVa, long olFilterVa,
             long bodyFilterVa, long shapeFilterVa);
 
+    native private static int castShapesDp(long queryVa, int numQueries,
+            long[] shapeVas, DoubleBuffer queries, IntBuffer layerMasks,
+            long settingsVa, ByteBuffer storeHits, int maxQueries,
+            int maxHitsPerQuery, long jobSystemVa);
+
+    native private static int castShapesSp(long queryVa, int numQueries,
+            long[] shapeVas, FloatBuffer queries, IntBuffer layerMasks,
+            long settingsVa, ByteBuffer storeHits, int maxQueries,
+            int maxHitsPerQuery, long jobSystemVa);
+
     native private static void collectTransformedShapes(
             long queryVa, long boxVa, long collectorVa, long bplFilterVa,
             long olFilterVa, long bodyFilterVa, long shapeFilterVa);
@@ -702,4 +1181,14 @@ public class NarrowPhaseQuery
             double baseX, double baseY, double baseZ, long collectorVa,
             long bplFilterVa, long olFilterVa, long bodyFilterVa,
             long shapeFilterVa);
+
+    native private static int collideShapesDp(long queryVa, int numQueries,
+            long[] shapeVas, DoubleBuffer queries, IntBuffer layerMasks,
+            long settingsVa, ByteBuffer storeHits, int maxQueries,
+            int maxHitsPerQuery, long jobSystemVa);
+
+    native private static int collideShapesSp(long queryVa, int numQueries,
+            long[] shapeVas, FloatBuffer queries, IntBuffer layerMasks,
+            long settingsVa, ByteBuffer storeHits, int maxQueries,
+            int maxHitsPerQuery, long jobSystemVa);
 }
@@ -0,0 +1,88 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+/**
+ * A {@code StateRecorderFilter} that saves only bodies in selected object
+ * layers, evaluated entirely in native code. Initially, no layers are
+ * selected. Contacts and two-body constraints are saved if either body is
+ * selected.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class ObjectLayerStateFilter extends StateRecorderFilter {
+    // *************************************************************************
+    // fields
+
+    /**
+     * system whose bodies are filtered (to prevent premature garbage
+     * collection)
+     */
+    final private PhysicsSystem system;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a filter with no layers selected.
+     *
+     * @param system the system whose bodies will be saved (not null)
+     */
+    public ObjectLayerStateFilter(PhysicsSystem system) {
+        super(create(system.va()), true);
+        this.system = system;
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Access the system whose bodies are filtered.
+     *
+     * @return the pre-existing instance (not null)
+     */
+    public PhysicsSystem getSystem() {
+        return system;
+    }
+
+    /**
+     * Select or deselect the specified object layer.
+     *
+     * @param objectLayer the index of the layer (&ge;0)
+     * @param selected {@code true} to save bodies in the layer, {@code false}
+     * to skip them
+     */
+    public void setLayer(int objectLayer, boolean selected) {
+        if (objectLayer < 0) {
+            throw new IllegalArgumentException(
+                    "objectLayer = " + objectLayer);
+        }
+
+        long filterVa = va();
+        setLayer(filterVa, objectLayer, selected);
+    }
+    // *************************************************************************
+    // native private methods
+
+    native private static long create(long systemVa);
+
+    native private static void setLayer(
+            long filterVa, int objectLayer, boolean selected);
+}
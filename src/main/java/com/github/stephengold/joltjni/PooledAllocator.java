@@ -0,0 +1,132 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+/**
+ * Statistics of the pooled native allocator, which is installed by
+ * {@link Jolt#registerPooledAllocator()}.
+ * <p>
+ * Allocations of up to 512 bytes are rounded up to a size class and served
+ * from per-thread free lists. Larger allocations (and all aligned ones) are
+ * passed on to the default allocator.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class PooledAllocator {
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private PooledAllocator() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Return the number of bytes currently allocated through the pooled
+     * allocator. Pooled blocks are counted at the size of their class.
+     *
+     * @return the number of bytes (&ge;0)
+     */
+    native public static long bytesInUse();
+
+    /**
+     * Count the large (unpooled) blocks currently allocated.
+     *
+     * @return the count (&ge;0)
+     */
+    native public static long countLargeBlocks();
+
+    /**
+     * Count the pooled blocks of the specified size class that are currently
+     * allocated.
+     *
+     * @param sizeClass the index of the size class (&ge;0,
+     * &lt;countSizeClasses())
+     * @return the count (&ge;0)
+     */
+    public static long countLiveBlocks(int sizeClass) {
+        checkSizeClass(sizeClass);
+        long result = countLiveBlocksNative(sizeClass);
+
+        return result;
+    }
+
+    /**
+     * Return the number of size classes.
+     *
+     * @return the count (&gt;0)
+     */
+    native public static int countSizeClasses();
+
+    /**
+     * Return the block size of the specified size class.
+     *
+     * @param sizeClass the index of the size class (&ge;0,
+     * &lt;countSizeClasses())
+     * @return the size (in bytes, &gt;0)
+     */
+    public static int getClassSize(int sizeClass) {
+        checkSizeClass(sizeClass);
+        int result = getClassSizeNative(sizeClass);
+
+        return result;
+    }
+
+    /**
+     * Test whether the pooled allocator has been installed.
+     *
+     * @return {@code true} if installed, otherwise {@code false}
+     */
+    native public static boolean isRegistered();
+
+    /**
+     * Return the peak number of bytes the pooled allocator has obtained from
+     * the default allocator. Slabs are retained once obtained, so this is an
+     * upper bound on peak usage.
+     *
+     * @return the number of bytes (&ge;0)
+     */
+    native public static long peakBytes();
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Verify that the argument is a valid size-class index.
+     *
+     * @param sizeClass the index to check
+     */
+    private static void checkSizeClass(int sizeClass) {
+        int numClasses = countSizeClasses();
+        if (sizeClass < 0 || sizeClass >= numClasses) {
+            throw new IllegalArgumentException("sizeClass = " + sizeClass);
+        }
+    }
+    // *************************************************************************
+    // native private methods
+
+    native private static long countLiveBlocksNative(int sizeClass);
+
+    native private static int getClassSizeNative(int sizeClass);
+}
@@ -71,6 +71,18 @@ final public class RMat44 extends JoltPhysicsObject implements RMat44Arg {
         setVirtualAddress(matrixVa, freeingAction);
     }
 
+    /**
+     * Instantiate a temporary matrix that owns the specified native object. If
+     * a {@code JoltArena} is open, the matrix is freed when that arena closes.
+     *
+     * @param matrixVa the virtual address of the native object to assign (not
+     * zero)
+     * @param freeingAction the action to free the native object (not null)
+     */
+    private RMat44(long matrixVa, Runnable freeingAction) {
+        setVirtualAddressAsTemporary(matrixVa, freeingAction);
+    }
+
     /**
      * Instantiate from a single-precision matrix.
      *
@@ -170,7 +182,7 @@ final public class RMat44 extends JoltPhysicsObject implements RMat44Arg {
                 rightMultiplyInPlace(resultVa, factorVa);
             }
         }
-        RMat44 result = new RMat44(resultVa, true);
+        RMat44 result = newTemporary(resultVa);
 
         return result;
     }
@@ -372,6 +384,22 @@ final public class RMat44 extends JoltPhysicsObject implements RMat44Arg {
         return result;
     }
     // *************************************************************************
+    // package-private methods
+
+    /**
+     * Create a temporary matrix that owns the specified native object. Use this
+     * for getters and operations whose results are typically short-lived, not
+     * for objects meant to be kept.
+     *
+     * @param matrixVa the virtual address of the native object to assign (not
+     * zero)
+     * @return a new JVM object (not null)
+     */
+    static RMat44 newTemporary(long matrixVa) {
+        RMat44 result = new RMat44(matrixVa, () -> free(matrixVa));
+        return result;
+    }
+    // *************************************************************************
     // RMat44Arg methods
 
     /**
@@ -496,7 +524,7 @@ final public class RMat44 extends JoltPhysicsObject implements RMat44Arg {
     public RMat44 inversed() {
         long currentVa = va();
         long resultVa = inversed(currentVa);
-        RMat44 result = new RMat44(resultVa, true);
+        RMat44 result = newTemporary(resultVa);
 
         return result;
     }
@@ -512,7 +540,7 @@ final public class RMat44 extends JoltPhysicsObject implements RMat44Arg {
     public RMat44 inversedRotationTranslation() {
         long currentVa = va();
         long resultVa = inversedRotationTranslation(currentVa);
-        RMat44 result = new RMat44(resultVa, true);
+        RMat44 result = newTemporary(resultVa);
 
         return result;
     }
@@ -559,7 +587,7 @@ final public class RMat44 extends JoltPhysicsObject implements RMat44Arg {
         long leftVa = va();
         long rightVa = right.targetVa();
         long resultVa = multiplyBySp(leftVa, rightVa);
-        RMat44 result = new RMat44(resultVa, true);
+        RMat44 result = newTemporary(resultVa);
 
         return result;
     }
@@ -576,7 +604,7 @@ final public class RMat44 extends JoltPhysicsObject implements RMat44Arg {
         long leftVa = va();
         long rightVa = right.targetVa();
         long productVa = multiply(leftVa, rightVa);
-        RMat44 result = new RMat44(productVa, true);
+        RMat44 result = newTemporary(productVa);
 
         return result;
     }
@@ -688,7 +716,7 @@ final public class RMat44 extends JoltPhysicsObject implements RMat44Arg {
         double yy = leftVector.yy();
         double zz = leftVector.zz();
         long resultVa = postTranslated(matrixVa, xx, yy, zz);
-        RMat44 result = new RMat44(resultVa, true);
+        RMat44 result = newTemporary(resultVa);
 
         return result;
     }
@@ -707,7 +735,7 @@ final public class RMat44 extends JoltPhysicsObject implements RMat44Arg {
         float y = vec3.getY();
         float z = vec3.getZ();
         long resultVa = postTranslatedSp(matrixVa, x, y, z);
-        RMat44 result = new RMat44(resultVa, true);
+        RMat44 result = newTemporary(resultVa);
 
         return result;
     }
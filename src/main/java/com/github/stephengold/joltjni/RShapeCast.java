@@ -137,7 +137,7 @@ public class RShapeCast extends JoltPhysicsObject {
     public RMat44 getCenterOfMassStart() {
         long castVa = va();
         long resultVa = getCenterOfMassStart(castVa);
-        RMat44 result = new RMat44(resultVa, true);
+        RMat44 result = RMat44.newTemporary(resultVa);
 
         return result;
     }
@@ -0,0 +1,92 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+/**
+ * A cursor over ray-cast hits copied from an {@code AllHitCastRayCollector}.
+ * Each record holds the hit fraction, body ID, and sub-shape ID, in that
+ * order.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class RayCastHitCursor extends HitCursor {
+    // *************************************************************************
+    // constants
+
+    /**
+     * offset of the hit fraction within a record (in bytes)
+     */
+    final private static int cFractionOffset = 0;
+    /**
+     * offset of the body ID within a record (in bytes)
+     */
+    final private static int cBodyIdOffset = 4;
+    /**
+     * offset of the sub-shape ID within a record (in bytes)
+     */
+    final private static int cSubShapeIdOffset = 8;
+    /**
+     * size of each record (in bytes)
+     */
+    final static int cStride = 12;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an empty cursor.
+     */
+    public RayCastHitCursor() {
+        super(cStride);
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Return the ID of the body that was hit.
+     *
+     * @return the body ID
+     */
+    public int getBodyId() {
+        int result = getInt(cBodyIdOffset);
+        return result;
+    }
+
+    /**
+     * Return the fraction of the ray at which the hit occurred.
+     *
+     * @return the fraction (&ge;0, &le;1)
+     */
+    public float getFraction() {
+        float result = getFloat(cFractionOffset);
+        return result;
+    }
+
+    /**
+     * Return the ID of the sub-shape that was hit.
+     *
+     * @return a {@code SubShapeID} value
+     */
+    public int getSubShapeId2() {
+        int result = getInt(cSubShapeIdOffset);
+        return result;
+    }
+}
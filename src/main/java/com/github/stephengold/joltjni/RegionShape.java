@@ -43,12 +43,106 @@ final public class RegionShape extends Shape {
         super(shapeVa);
     }
 
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Count how many sub-shape lookups were answered by the cache since the
+     * statistics were last reset. The shape is unaffected.
+     *
+     * @return the count (&ge;0)
+     */
+    public long countCacheHits() {
+        long shapeVa = va();
+        long result = countCacheHits(shapeVa);
+
+        return result;
+    }
+
+    /**
+     * Count how many sub-shape lookups missed the cache since the statistics
+     * were last reset. The shape is unaffected.
+     *
+     * @return the count (&ge;0)
+     */
+    public long countCacheMisses() {
+        long shapeVa = va();
+        long result = countCacheMisses(shapeVa);
+
+        return result;
+    }
+
+    /**
+     * Discard all cached sub-shapes. Invoke this whenever the collector's
+     * contents change, or use a {@code RegionShapeCacheListener} to do it
+     * before each simulation step.
+     */
+    public void invalidateCache() {
+        long shapeVa = va();
+        invalidateCache(shapeVa);
+    }
+
+    /**
+     * Test whether sub-shapes resolved by the collector are cached. The shape
+     * is unaffected.
+     *
+     * @return {@code true} if caching, otherwise {@code false}
+     */
+    public boolean isCacheEnabled() {
+        long shapeVa = va();
+        boolean result = isCacheEnabled(shapeVa);
+
+        return result;
+    }
+
+    /**
+     * Reset the cache hit/miss statistics to zero.
+     */
+    public void resetCacheStats() {
+        long shapeVa = va();
+        resetCacheStats(shapeVa);
+    }
+
+    /**
+     * Enable or disable caching of the sub-shapes resolved by the collector.
+     * While enabled, repeated lookups of the same shape index (for materials,
+     * surface normals, and contact callbacks) within a step don't call the
+     * collector. Disabling the cache also discards its contents. (default
+     * disabled)
+     * <p>
+     * Cached sub-shapes aren't updated when the collector's contents change,
+     * so unless a {@code RegionShapeCacheListener} is added to the physics
+     * system, invoke {@link #invalidateCache()} after each edit. The cache
+     * holds at most 16,384 sub-shapes, so it stays bounded even if it's never
+     * invalidated.
+     *
+     * @param enable {@code true} to enable caching, {@code false} to disable it
+     */
+    public void setCacheEnabled(boolean enable) {
+        long shapeVa = va();
+        setCacheEnabled(shapeVa, enable);
+    }
+
+    /**
+     * Register the shape type with the collision dispatcher.
+     */
     public static void sRegister() {
         registerShape();
     }
-
     // *************************************************************************
     // native private methods
 
+    native private static long countCacheHits(long shapeVa);
+
+    native private static long countCacheMisses(long shapeVa);
+
+    native private static void invalidateCache(long shapeVa);
+
+    native private static boolean isCacheEnabled(long shapeVa);
+
     native private static void registerShape();
+
+    native private static void resetCacheStats(long shapeVa);
+
+    native private static void setCacheEnabled(long shapeVa, boolean enable);
 }
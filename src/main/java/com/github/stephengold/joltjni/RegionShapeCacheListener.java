@@ -0,0 +1,87 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+/**
+ * A step listener that, before each simulation step, discards the sub-shapes
+ * cached by a {@code RegionShape}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class RegionShapeCacheListener
+        extends JoltPhysicsObject
+        implements PhysicsStepListener {
+    // *************************************************************************
+    // fields
+
+    /**
+     * the shape whose cache is invalidated
+     */
+    final private RegionShape shape;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a listener for the specified shape.
+     *
+     * @param shape the shape to invalidate (not null)
+     */
+    public RegionShapeCacheListener(RegionShape shape) {
+        this.shape = shape;
+        long shapeVa = shape.va();
+        long listenerVa = create(shapeVa);
+        setVirtualAddress(listenerVa, () -> free(listenerVa));
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Access the shape whose cache is invalidated.
+     *
+     * @return the pre-existing instance (not null)
+     */
+    public RegionShape getShape() {
+        return shape;
+    }
+    // *************************************************************************
+    // PhysicsStepListener methods
+
+    /**
+     * Callback invoked (by native code) each time the system is stepped.
+     *
+     * @param contextVa the virtual address of the
+     * {@code PhysicsStepListenerContext} (not zero)
+     */
+    @Override
+    public void onStep(long contextVa) {
+        long listenerVa = va();
+        onStep(listenerVa, contextVa);
+    }
+    // *************************************************************************
+    // native private methods
+
+    native private static long create(long shapeVa);
+
+    native private static void free(long listenerVa);
+
+    native private static void onStep(long listenerVa, long contextVa);
+}
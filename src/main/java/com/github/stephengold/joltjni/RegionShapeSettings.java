@@ -48,6 +48,23 @@ public class RegionShapeSettings extends ShapeSettings {
         setVirtualAddress(settingsVa, null); // not owner due to ref counting
     }
 
+    /**
+     * Instantiate settings for a region that exactly covers the grid of the
+     * specified voxel collector.
+     *
+     * @param shapeCollector the native collector used to collect shapes for
+     * collisions (not null)
+     */
+    public RegionShapeSettings(VoxelShapeCollector shapeCollector) {
+        Vec3 halfExtents = shapeCollector.getHalfExtents();
+        float hx = halfExtents.getX();
+        float hy = halfExtents.getY();
+        float hz = halfExtents.getZ();
+        long settingsVa = createRegionShapeSettings(
+                shapeCollector.va(), hx, hy, hz);
+        setVirtualAddress(settingsVa, null); // not owner due to ref counting
+    }
+
     // *************************************************************************
     // native private methods
 
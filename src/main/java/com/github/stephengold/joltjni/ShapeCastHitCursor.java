@@ -0,0 +1,78 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+/**
+ * A cursor over shape-cast hits copied from an
+ * {@code AllHitCastShapeCollector}. Each record extends the record of
+ * {@code CollideShapeHitCursor} with the hit fraction and a back-face flag.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class ShapeCastHitCursor extends CollideShapeHitCursor {
+    // *************************************************************************
+    // constants
+
+    /**
+     * offset of the hit fraction within a record (in bytes)
+     */
+    final private static int cFractionOffset = 52;
+    /**
+     * offset of the back-face flag within a record (in bytes)
+     */
+    final private static int cIsBackFaceHitOffset = 56;
+    /**
+     * size of each record (in bytes)
+     */
+    final static int cStride = 60;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an empty cursor.
+     */
+    public ShapeCastHitCursor() {
+        super(cStride);
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Return the fraction of the cast at which the hit occurred.
+     *
+     * @return the fraction (&ge;0, &le;1)
+     */
+    public float getFraction() {
+        float result = getFloat(cFractionOffset);
+        return result;
+    }
+
+    /**
+     * Test whether the shape was hit from the back side.
+     *
+     * @return {@code true} if hit from the back, otherwise {@code false}
+     */
+    public boolean getIsBackFaceHit() {
+        boolean result = getInt(cIsBackFaceHitOffset) != 0;
+        return result;
+    }
+}
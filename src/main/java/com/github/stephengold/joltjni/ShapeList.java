@@ -50,6 +50,19 @@ final public class ShapeList extends Array<ShapeRefC> {
         this();
         pushBack(shapeRef);
     }
+
+    /**
+     * Instantiate a list with the specified native object assigned.
+     *
+     * @param listVa the virtual address of the native object to assign (not
+     * zero)
+     * @param owner {@code true} &rarr; make the JVM object the owner,
+     * {@code false} &rarr; it isn't the owner
+     */
+    ShapeList(long listVa, boolean owner) {
+        Runnable freeingAction = owner ? () -> free(listVa) : null;
+        setVirtualAddress(listVa, freeingAction);
+    }
     // *************************************************************************
     // Array<ShapeRefC> methods
 
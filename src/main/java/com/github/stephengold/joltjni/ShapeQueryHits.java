@@ -0,0 +1,301 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+/**
+ * Storage for the results of batched shape queries, such as
+ * {@code NarrowPhaseQuery.castShapes()}, in a single direct buffer.
+ * <p>
+ * Each query gets a fixed number of hit slots. The buffer holds a
+ * struct-of-arrays layout, so each hit attribute is stored in its own array,
+ * indexed by {@code queryIndex * getMaxHitsPerQuery() + hitIndex}:
+ * <ol>
+ * <li>hit counts (1 {@code int} per query)</li>
+ * <li>fractions (1 {@code float} per slot, 0 for collide queries)</li>
+ * <li>body IDs (1 {@code int} per slot)</li>
+ * <li>sub-shape IDs on the body (1 {@code int} per slot)</li>
+ * <li>contact points on the body, relative to the query's position (3
+ * {@code float}s per slot)</li>
+ * <li>penetration axes, normalized (3 {@code float}s per slot)</li>
+ * <li>penetration depths (1 {@code float} per slot)</li>
+ * </ol>
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class ShapeQueryHits {
+    // *************************************************************************
+    // fields
+
+    /**
+     * the underlying buffer, in native byte order
+     */
+    final private ByteBuffer buffer;
+    /**
+     * view of the penetration depths
+     */
+    final private FloatBuffer depths;
+    /**
+     * view of the fractions
+     */
+    final private FloatBuffer fractions;
+    /**
+     * view of the penetration axes
+     */
+    final private FloatBuffer normals;
+    /**
+     * view of the contact points
+     */
+    final private FloatBuffer points;
+    /**
+     * maximum number of hits stored per query
+     */
+    final private int maxHitsPerQuery;
+    /**
+     * maximum number of queries
+     */
+    final private int maxQueries;
+    /**
+     * view of the body IDs
+     */
+    final private IntBuffer bodyIds;
+    /**
+     * view of the hit counts
+     */
+    final private IntBuffer counts;
+    /**
+     * view of the sub-shape IDs
+     */
+    final private IntBuffer subShapeIds;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate storage for the specified numbers of queries and hits.
+     *
+     * @param maxQueries the maximum number of queries per batch (&ge;0)
+     * @param maxHitsPerQuery the maximum number of hits stored per query
+     * (&ge;1)
+     */
+    public ShapeQueryHits(int maxQueries, int maxHitsPerQuery) {
+        if (maxQueries < 0) {
+            throw new IllegalArgumentException("maxQueries = " + maxQueries);
+        }
+        if (maxHitsPerQuery < 1) {
+            throw new IllegalArgumentException(
+                    "maxHitsPerQuery = " + maxHitsPerQuery);
+        }
+        long numBytes = sizeInBytes(
+                maxQueries, (long) maxQueries * maxHitsPerQuery);
+        if (numBytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("maxQueries = " + maxQueries
+                    + ", maxHitsPerQuery = " + maxHitsPerQuery);
+        }
+        this.maxQueries = maxQueries;
+        this.maxHitsPerQuery = maxHitsPerQuery;
+
+        int numSlots = maxQueries * maxHitsPerQuery;
+        this.buffer = Jolt.newDirectByteBuffer((int) numBytes);
+
+        this.counts = slice(0, maxQueries).asIntBuffer();
+        int offset = 4 * maxQueries;
+        this.fractions = slice(offset, numSlots).asFloatBuffer();
+        offset += 4 * numSlots;
+        this.bodyIds = slice(offset, numSlots).asIntBuffer();
+        offset += 4 * numSlots;
+        this.subShapeIds = slice(offset, numSlots).asIntBuffer();
+        offset += 4 * numSlots;
+        this.points = slice(offset, 3 * numSlots).asFloatBuffer();
+        offset += 12 * numSlots;
+        this.normals = slice(offset, 3 * numSlots).asFloatBuffer();
+        offset += 12 * numSlots;
+        this.depths = slice(offset, numSlots).asFloatBuffer();
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Return the number of hits stored for the specified query.
+     *
+     * @param queryIndex the index of the query (&ge;0, &lt;maxQueries)
+     * @return the count (&ge;0, &le;maxHitsPerQuery)
+     */
+    public int countHits(int queryIndex) {
+        int result = counts.get(queryIndex);
+        return result;
+    }
+
+    /**
+     * Return the ID of the body that was hit.
+     *
+     * @param queryIndex the index of the query (&ge;0, &lt;maxQueries)
+     * @param hitIndex the index of the hit (&ge;0, &lt;countHits(queryIndex))
+     * @return the body ID
+     */
+    public int getBodyId(int queryIndex, int hitIndex) {
+        int result = bodyIds.get(slot(queryIndex, hitIndex));
+        return result;
+    }
+
+    /**
+     * Access the underlying buffer, which uses native byte order.
+     *
+     * @return the pre-existing direct buffer
+     */
+    public ByteBuffer getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Copy the contact point on the body that was hit.
+     *
+     * @param queryIndex the index of the query (&ge;0, &lt;maxQueries)
+     * @param hitIndex the index of the hit (&ge;0, &lt;countHits(queryIndex))
+     * @param storeResult storage for the location, relative to the query's
+     * position (not null, modified)
+     */
+    public void getContactPoint(
+            int queryIndex, int hitIndex, Vec3 storeResult) {
+        int base = 3 * slot(queryIndex, hitIndex);
+        storeResult.set(
+                points.get(base), points.get(base + 1), points.get(base + 2));
+    }
+
+    /**
+     * Return the fraction of the cast at which the hit occurred.
+     *
+     * @param queryIndex the index of the query (&ge;0, &lt;maxQueries)
+     * @param hitIndex the index of the hit (&ge;0, &lt;countHits(queryIndex))
+     * @return the fraction (&ge;0, &le;1, 0 for collide queries)
+     */
+    public float getFraction(int queryIndex, int hitIndex) {
+        float result = fractions.get(slot(queryIndex, hitIndex));
+        return result;
+    }
+
+    /**
+     * Return the maximum number of hits stored per query.
+     *
+     * @return the count (&ge;1)
+     */
+    public int getMaxHitsPerQuery() {
+        return maxHitsPerQuery;
+    }
+
+    /**
+     * Return the maximum number of queries per batch.
+     *
+     * @return the count (&ge;0)
+     */
+    public int getMaxQueries() {
+        return maxQueries;
+    }
+
+    /**
+     * Return the penetration depth.
+     *
+     * @param queryIndex the index of the query (&ge;0, &lt;maxQueries)
+     * @param hitIndex the index of the hit (&ge;0, &lt;countHits(queryIndex))
+     * @return the depth
+     */
+    public float getPenetrationDepth(int queryIndex, int hitIndex) {
+        float result = depths.get(slot(queryIndex, hitIndex));
+        return result;
+    }
+
+    /**
+     * Copy the normalized direction in which to move the body out of
+     * collision.
+     *
+     * @param queryIndex the index of the query (&ge;0, &lt;maxQueries)
+     * @param hitIndex the index of the hit (&ge;0, &lt;countHits(queryIndex))
+     * @param storeResult storage for the direction (not null, modified)
+     */
+    public void getPenetrationAxis(
+            int queryIndex, int hitIndex, Vec3 storeResult) {
+        int base = 3 * slot(queryIndex, hitIndex);
+        float x = normals.get(base);
+        float y = normals.get(base + 1);
+        float z = normals.get(base + 2);
+        storeResult.set(x, y, z);
+    }
+
+    /**
+     * Return the ID of the sub-shape that was hit.
+     *
+     * @param queryIndex the index of the query (&ge;0, &lt;maxQueries)
+     * @param hitIndex the index of the hit (&ge;0, &lt;countHits(queryIndex))
+     * @return the sub-shape ID
+     */
+    public int getSubShapeId2(int queryIndex, int hitIndex) {
+        int result = subShapeIds.get(slot(queryIndex, hitIndex));
+        return result;
+    }
+
+    /**
+     * Return the size of the buffer needed for the specified capacities.
+     *
+     * @param maxQueries the maximum number of queries (&ge;0)
+     * @param numSlots the total number of hit slots (&ge;0)
+     * @return the size (in bytes)
+     */
+    static long sizeInBytes(int maxQueries, long numSlots) {
+        long result = 4L * maxQueries + 40L * numSlots;
+        return result;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Return the slot index of the specified hit.
+     *
+     * @param queryIndex the index of the query
+     * @param hitIndex the index of the hit
+     * @return the slot index
+     */
+    private int slot(int queryIndex, int hitIndex) {
+        assert queryIndex >= 0 && queryIndex < maxQueries : queryIndex;
+        assert hitIndex >= 0 && hitIndex < maxHitsPerQuery : hitIndex;
+
+        int result = queryIndex * maxHitsPerQuery + hitIndex;
+        return result;
+    }
+
+    /**
+     * Create a byte view of a portion of the buffer.
+     *
+     * @param byteOffset the offset of the portion (in bytes)
+     * @param numElements the number of 4-byte elements in the portion
+     * @return a new view in native byte order
+     */
+    private ByteBuffer slice(int byteOffset, int numElements) {
+        ByteBuffer duplicate = buffer.duplicate();
+        duplicate.position(byteOffset);
+        duplicate.limit(byteOffset + 4 * numElements);
+        ByteBuffer result = duplicate.slice().order(buffer.order());
+
+        return result;
+    }
+}
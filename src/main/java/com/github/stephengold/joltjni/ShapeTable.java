@@ -0,0 +1,109 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import com.github.stephengold.joltjni.streamutils.IdToMaterialMap;
+import com.github.stephengold.joltjni.streamutils.IdToShapeMap;
+import com.github.stephengold.joltjni.streamutils.MaterialToIdMap;
+import com.github.stephengold.joltjni.streamutils.ShapeToIdMap;
+
+/**
+ * Utility methods to save shapes as a table of independent records and restore
+ * them concurrently on a {@code JobSystem}.
+ * <p>
+ * A table stores the materials of its shapes once, followed by a
+ * self-contained record for each shape, so records can be restored in any
+ * order. Sub-shapes are shared within a record but not between records.
+ * <p>
+ * Both methods add the table's shapes to the shape map in table order, so body
+ * settings saved after the table with
+ * {@code BodyCreationSettings.saveWithChildren()} can be restored with
+ * {@link BodyCreationSettings#sRestoreWithChildren} using the same maps.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class ShapeTable {
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private ShapeTable() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Restore a table written by
+     * {@link #save(StreamOut, ShapeList, ShapeToIdMap, MaterialToIdMap)}.
+     *
+     * @param stream where to read the table (not null)
+     * @param jobSystem the job system to use, or {@code null} to restore on
+     * the current thread only
+     * @param shapeMap the map to add the table's shapes to (not null,
+     * modified)
+     * @param materialMap the map to add the table's materials to (not null,
+     * modified)
+     * @return a new result containing the table's shapes in order
+     */
+    public static ShapeListResult restore(StreamIn stream, JobSystem jobSystem,
+            IdToShapeMap shapeMap, IdToMaterialMap materialMap) {
+        long streamVa = stream.va();
+        long jobSystemVa = (jobSystem == null) ? 0L : jobSystem.va();
+        long shapeMapVa = shapeMap.va();
+        long materialMapVa = materialMap.va();
+        long resultVa = restore(
+                streamVa, jobSystemVa, shapeMapVa, materialMapVa);
+        ShapeListResult result = new ShapeListResult(resultVa, true);
+
+        return result;
+    }
+
+    /**
+     * Write the specified shapes to a stream as a table. Shapes already in the
+     * shape map, and repeats, are left out of the table.
+     *
+     * @param stream where to write the table (not null)
+     * @param shapes the shapes to write (not null, unaffected)
+     * @param shapeMap the map to add the table's shapes to (not null,
+     * modified)
+     * @param materialMap the map to add the shapes' materials to (not null,
+     * modified)
+     */
+    public static void save(StreamOut stream, ShapeList shapes,
+            ShapeToIdMap shapeMap, MaterialToIdMap materialMap) {
+        long streamVa = stream.va();
+        long listVa = shapes.va();
+        long shapeMapVa = shapeMap.va();
+        long materialMapVa = materialMap.va();
+        save(streamVa, listVa, shapeMapVa, materialMapVa);
+    }
+    // *************************************************************************
+    // native private methods
+
+    native private static long restore(long streamVa, long jobSystemVa,
+            long shapeMapVa, long materialMapVa);
+
+    native private static void save(long streamVa, long listVa,
+            long shapeMapVa, long materialMapVa);
+}
@@ -0,0 +1,118 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Utility methods to encode a state snapshot as a compact delta against a
+ * reference snapshot, such as the previous tick in a rollback history, and to
+ * decode it again.
+ * <p>
+ * Snapshots are the bytes recorded by a {@code StateRecorder}, typically a
+ * {@code ByteBufferStateRecorder}. The delta is the byte-wise XOR of the 2
+ * snapshots, with runs of zeros encoded as varint counts. The state of bodies
+ * that didn't change (for instance, sleeping bodies) XORs to zeros, so a
+ * delta's size tracks the number of bodies that changed rather than the size
+ * of the world. Snapshots should be saved with the same state flags and filter,
+ * so the same bodies line up at the same offsets.
+ * <p>
+ * Each buffer argument is used between its position and its limit. The
+ * buffers' positions and limits aren't altered.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class StateDelta {
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private StateDelta() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Reconstruct a snapshot from its delta against the same reference it was
+     * encoded against.
+     *
+     * @param reference the reference snapshot (not null, direct, unaffected)
+     * @param delta the encoded delta (not null, direct, unaffected)
+     * @param storeCurrent storage for the reconstructed snapshot (not null,
+     * direct, modified only if the snapshot fits)
+     * @return the size of the snapshot (in bytes, may exceed the space
+     * remaining in {@code storeCurrent}), or 0 if the delta is malformed
+     */
+    public static int decode(
+            ByteBuffer reference, ByteBuffer delta, ByteBuffer storeCurrent) {
+        BufferChecks.checkDirectBuffer("reference", reference, 0);
+        BufferChecks.checkDirectBuffer("delta", delta, 0);
+        BufferChecks.checkDirectBuffer("storeCurrent", storeCurrent, 0);
+
+        int result = decode(
+                reference, reference.position(), reference.remaining(),
+                delta, delta.position(), delta.remaining(),
+                storeCurrent, storeCurrent.position(),
+                storeCurrent.remaining());
+
+        return result;
+    }
+
+    /**
+     * Encode a snapshot as a delta against a reference snapshot.
+     *
+     * @param reference the reference snapshot (not null, direct, unaffected)
+     * @param current the snapshot to encode (not null, direct, unaffected)
+     * @param storeDelta storage for the delta (not null, direct, modified: if
+     * the delta doesn't fit, it receives only a truncated prefix, which can't
+     * be decoded)
+     * @return the size of the delta (in bytes, may exceed the space remaining
+     * in {@code storeDelta})
+     */
+    public static int encode(
+            ByteBuffer reference, ByteBuffer current, ByteBuffer storeDelta) {
+        BufferChecks.checkDirectBuffer("reference", reference, 0);
+        BufferChecks.checkDirectBuffer("current", current, 0);
+        BufferChecks.checkDirectBuffer("storeDelta", storeDelta, 0);
+
+        int result = encode(
+                reference, reference.position(), reference.remaining(),
+                current, current.position(), current.remaining(),
+                storeDelta, storeDelta.position(), storeDelta.remaining());
+
+        return result;
+    }
+    // *************************************************************************
+    // native private methods
+
+    native private static int decode(ByteBuffer referenceBuffer,
+            int referenceOffset, int referenceSize, ByteBuffer deltaBuffer,
+            int deltaOffset, int deltaSize, ByteBuffer storeBuffer,
+            int storeOffset, int storeCapacity);
+
+    native private static int encode(ByteBuffer referenceBuffer,
+            int referenceOffset, int referenceSize, ByteBuffer currentBuffer,
+            int currentOffset, int currentSize, ByteBuffer storeBuffer,
+            int storeOffset, int storeCapacity);
+}
@@ -117,7 +117,7 @@ public class SubShape extends JoltPhysicsObject implements ConstSubShape {
         float sy = scale.getY();
         float sz = scale.getZ();
         long resultVa = getLocalTransformNoScale(subshapeVa, sx, sy, sz);
-        Mat44 result = new Mat44(resultVa, true);
+        Mat44 result = Mat44.newTemporary(resultVa);
 
         return result;
     }
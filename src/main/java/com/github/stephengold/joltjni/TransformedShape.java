@@ -54,6 +54,35 @@ public class TransformedShape
         Runnable freeingAction = owner ? () -> free(shapeVa) : null;
         setVirtualAddress(shapeVa, freeingAction);
     }
+
+    /**
+     * Instantiate a temporary shape that owns the specified native object. If a
+     * {@code JoltArena} is open, the shape is freed when that arena closes.
+     *
+     * @param shapeVa the virtual address of the native object to assign (not
+     * zero)
+     * @param freeingAction the action to free the native object (not null)
+     */
+    private TransformedShape(long shapeVa, Runnable freeingAction) {
+        setVirtualAddressAsTemporary(shapeVa, freeingAction);
+    }
+    // *************************************************************************
+    // package-private methods
+
+    /**
+     * Create a temporary shape that owns the specified native object. Use this
+     * for getters and operations whose results are typically short-lived, not
+     * for objects meant to be kept.
+     *
+     * @param shapeVa the virtual address of the native object to assign (not
+     * zero)
+     * @return a new JVM object (not null)
+     */
+    static TransformedShape newTemporary(long shapeVa) {
+        TransformedShape result
+                = new TransformedShape(shapeVa, () -> free(shapeVa));
+        return result;
+    }
     // *************************************************************************
     // ConstTransformedShape methods
 
@@ -80,7 +80,7 @@ public class TransformedSphere extends TransformedConvexObject {
     public Mat44 getTransform() {
         long objectVa = va();
         long resultVa = getTransform(objectVa);
-        Mat44 result = new Mat44(resultVa, true);
+        Mat44 result = Mat44.newTemporary(resultVa);
 
         return result;
     }
@@ -121,7 +121,7 @@ abstract public class TwoBodyConstraint
     public Mat44 getConstraintToBody1Matrix() {
         long constraintVa = va();
         long matrixVa = getConstraintToBody1Matrix(constraintVa);
-        Mat44 result = new Mat44(matrixVa, true);
+        Mat44 result = Mat44.newTemporary(matrixVa);
 
         return result;
     }
@@ -136,7 +136,7 @@ abstract public class TwoBodyConstraint
     public Mat44 getConstraintToBody2Matrix() {
         long constraintVa = va();
         long matrixVa = getConstraintToBody2Matrix(constraintVa);
-        Mat44 result = new Mat44(matrixVa, true);
+        Mat44 result = Mat44.newTemporary(matrixVa);
 
         return result;
     }
@@ -143,7 +143,7 @@ final public class TwoBodyConstraintRef
         long constraintVa = targetVa();
         long matrixVa
                 = TwoBodyConstraint.getConstraintToBody1Matrix(constraintVa);
-        Mat44 result = new Mat44(matrixVa, true);
+        Mat44 result = Mat44.newTemporary(matrixVa);
 
         return result;
     }
@@ -159,7 +159,7 @@ final public class TwoBodyConstraintRef
         long constraintVa = targetVa();
         long matrixVa
                 = TwoBodyConstraint.getConstraintToBody2Matrix(constraintVa);
-        Mat44 result = new Mat44(matrixVa, true);
+        Mat44 result = Mat44.newTemporary(matrixVa);
 
         return result;
     }
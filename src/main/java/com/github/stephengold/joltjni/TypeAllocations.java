@@ -0,0 +1,143 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+/**
+ * An immutable snapshot of the heap allocations made by glue code for a single
+ * native type.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ * @see AllocationTracker#snapshot()
+ */
+final public class TypeAllocations {
+    // *************************************************************************
+    // fields
+
+    /**
+     * cumulative number of {@code delete} operations
+     */
+    final private long numDeletes;
+    /**
+     * cumulative number of {@code new} operations
+     */
+    final private long numNews;
+    /**
+     * cumulative number of bytes freed
+     */
+    final private long deleteBytes;
+    /**
+     * cumulative number of bytes allocated
+     */
+    final private long newBytes;
+    /**
+     * name of the native type, as traced by the glue code
+     */
+    final private String typeName;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a snapshot with the specified counts.
+     *
+     * @param typeName the name of the native type (not null)
+     * @param numNews the cumulative number of {@code new} operations
+     * @param numDeletes the cumulative number of {@code delete} operations
+     * @param newBytes the cumulative number of bytes allocated
+     * @param deleteBytes the cumulative number of bytes freed
+     */
+    TypeAllocations(String typeName, long numNews, long numDeletes,
+            long newBytes, long deleteBytes) {
+        this.typeName = typeName;
+        this.numNews = numNews;
+        this.numDeletes = numDeletes;
+        this.newBytes = newBytes;
+        this.deleteBytes = deleteBytes;
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Return the cumulative number of {@code delete} operations. The snapshot
+     * is unaffected.
+     *
+     * @return the count (&ge;0)
+     */
+    public long countDeletes() {
+        return numDeletes;
+    }
+
+    /**
+     * Return the number of objects allocated but not yet freed. The snapshot
+     * is unaffected.
+     *
+     * @return the count
+     */
+    public long countLive() {
+        long result = numNews - numDeletes;
+        return result;
+    }
+
+    /**
+     * Return the cumulative number of {@code new} operations. The snapshot is
+     * unaffected.
+     *
+     * @return the count (&ge;0)
+     */
+    public long countNews() {
+        return numNews;
+    }
+
+    /**
+     * Return the name of the native type. The snapshot is unaffected.
+     *
+     * @return the name (not null)
+     */
+    public String getTypeName() {
+        return typeName;
+    }
+
+    /**
+     * Return the number of bytes allocated but not yet freed. Sizes are
+     * shallow: memory owned indirectly isn't included, and an array counts as
+     * a single element. The snapshot is unaffected.
+     *
+     * @return the number of bytes
+     */
+    public long liveBytes() {
+        long result = newBytes - deleteBytes;
+        return result;
+    }
+    // *************************************************************************
+    // Object methods
+
+    /**
+     * Represent the snapshot as a String. The snapshot is unaffected.
+     *
+     * @return a descriptive string of text (not null, not empty)
+     */
+    @Override
+    public String toString() {
+        String result = String.format("%s live=%d (%d bytes) news=%d",
+                typeName, countLive(), liveBytes(), numNews);
+        return result;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+/**
+ * A {@code BodyFilter} that accepts bodies whose user data, masked with a
+ * specified mask, equals a specified value. The test is evaluated entirely in
+ * native code.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class UserDataBodyFilter extends BodyFilter {
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a filter with the specified mask and value.
+     *
+     * @param mask the bits of the user data to compare
+     * @param value the value to compare against (bits outside the mask
+     * should be zero)
+     */
+    public UserDataBodyFilter(long mask, long value) {
+        super(true);
+        long filterVa = create(mask, value);
+        setVirtualAddressAsOwner(filterVa);
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Return the mask. The filter is unaffected.
+     *
+     * @return the mask
+     */
+    public long getMask() {
+        long filterVa = va();
+        long result = getMask(filterVa);
+
+        return result;
+    }
+
+    /**
+     * Return the value to compare against. The filter is unaffected.
+     *
+     * @return the value
+     */
+    public long getValue() {
+        long filterVa = va();
+        long result = getValue(filterVa);
+
+        return result;
+    }
+
+    /**
+     * Alter the mask and value. Don't invoke while a query is using the
+     * filter.
+     *
+     * @param mask the bits of the user data to compare
+     * @param value the value to compare against (bits outside the mask
+     * should be zero)
+     */
+    public void set(long mask, long value) {
+        long filterVa = va();
+        set(filterVa, mask, value);
+    }
+    // *************************************************************************
+    // native private methods
+
+    native private static long create(long mask, long value);
+
+    native private static long getMask(long filterVa);
+
+    native private static long getValue(long filterVa);
+
+    native private static void set(long filterVa, long mask, long value);
+}
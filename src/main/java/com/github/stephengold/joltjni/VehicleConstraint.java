@@ -426,7 +426,7 @@ public class VehicleConstraint
         float uz = up.getZ();
         long matrixVa = getWheelWorldTransform(
                 constraintVa, wheelIndex, rx, ry, rz, ux, uy, uz);
-        RMat44 result = new RMat44(matrixVa, true);
+        RMat44 result = RMat44.newTemporary(matrixVa);
 
         return result;
     }
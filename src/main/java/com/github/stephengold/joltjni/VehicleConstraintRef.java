@@ -417,7 +417,7 @@ final public class VehicleConstraintRef
         float uz = up.getZ();
         long matrixVa = VehicleConstraint.getWheelWorldTransform(
                 constraintVa, wheelIndex, rx, ry, rz, ux, uy, uz);
-        RMat44 result = new RMat44(matrixVa, true);
+        RMat44 result = RMat44.newTemporary(matrixVa);
 
         return result;
     }
@@ -0,0 +1,91 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+/**
+ * A step listener that, before each simulation step, activates the bodies
+ * overlapping the sections of a {@code VoxelShapeCollector} that were edited
+ * since the previous step.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class VoxelActivationListener
+        extends JoltPhysicsObject
+        implements PhysicsStepListener {
+    // *************************************************************************
+    // fields
+
+    /**
+     * protect the monitored collector from garbage collection
+     */
+    final private VoxelShapeCollector collector;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a listener for the specified collector and body.
+     *
+     * @param collector the collector to monitor (not null)
+     * @param regionBodyId the ID of the body whose {@code RegionShape} uses
+     * the collector
+     */
+    public VoxelActivationListener(
+            VoxelShapeCollector collector, int regionBodyId) {
+        this.collector = collector;
+        long collectorVa = collector.va();
+        long listenerVa = create(collectorVa, regionBodyId);
+        setVirtualAddress(listenerVa, () -> free(listenerVa));
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Access the monitored collector.
+     *
+     * @return the pre-existing instance (not null)
+     */
+    public VoxelShapeCollector getCollector() {
+        return collector;
+    }
+    // *************************************************************************
+    // PhysicsStepListener methods
+
+    /**
+     * Callback invoked (by native code) each time the system is stepped.
+     *
+     * @param contextVa the virtual address of the
+     * {@code PhysicsStepListenerContext} (not zero)
+     */
+    @Override
+    public void onStep(long contextVa) {
+        long listenerVa = va();
+        onStep(listenerVa, contextVa);
+    }
+    // *************************************************************************
+    // native private methods
+
+    native private static long create(long collectorVa, int regionBodyId);
+
+    native private static void free(long listenerVa);
+
+    native private static void onStep(long listenerVa, long contextVa);
+}
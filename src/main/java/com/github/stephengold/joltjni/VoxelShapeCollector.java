@@ -0,0 +1,423 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import com.github.stephengold.joltjni.readonly.ConstShape;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+
+/**
+ * An {@code IndexedShapeCollector} backed by a dense native grid of palette
+ * indices, so that collision queries against a {@code RegionShape} never call
+ * back into Java.
+ * <p>
+ * The grid consists of unit cells centered on the region. Each cell holds an
+ * index into a palette of shapes, with index 0 denoting an empty cell. Cells
+ * are addressed linearly with X varying fastest, then Y, then Z.
+ * <p>
+ * Natively, cells are stored in copy-on-write sections of 16x16x16 cells, and
+ * sections without any solid cells aren't allocated. The grid may be edited
+ * while other threads query it. To wake the bodies affected by edits, add a
+ * {@code VoxelActivationListener} to the physics system.
+ * <p>
+ * Optionally, runs of identical cells whose palette entry is a full unit cube
+ * can be merged into larger boxes during collision queries.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class VoxelShapeCollector extends IndexedShapeCollector {
+    // *************************************************************************
+    // constants
+
+    /**
+     * maximum number of cells along each axis
+     */
+    final public static int cMaxSize = 510;
+    /**
+     * maximum palette index
+     */
+    final public static int cMaxPaletteIndex = 0xffff;
+    /**
+     * number of cells along each axis of a section
+     */
+    final public static int cSectionSize = 16;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a collector with the specified dimensions. All cells are
+     * initially empty.
+     *
+     * @param sizeX the number of cells along the X axis (&ge;1, &le;510)
+     * @param sizeY the number of cells along the Y axis (&ge;1, &le;510)
+     * @param sizeZ the number of cells along the Z axis (&ge;1, &le;510)
+     */
+    public VoxelShapeCollector(int sizeX, int sizeY, int sizeZ) {
+        checkSize(sizeX);
+        checkSize(sizeY);
+        checkSize(sizeZ);
+
+        long collectorVa = create(sizeX, sizeY, sizeZ);
+        setVirtualAddress(collectorVa, true);
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Count the cells in the grid. The collector is unaffected.
+     *
+     * @return the count (&ge;1)
+     */
+    public int countCells() {
+        int result = getSizeX() * getSizeY() * getSizeZ();
+        return result;
+    }
+
+    /**
+     * Set every cell to the specified palette index.
+     *
+     * @param paletteIndex the desired index (&ge;0, &lt;paletteSize,
+     * 0&rarr;empty)
+     */
+    public void fill(int paletteIndex) {
+        checkPaletteIndex(paletteIndex);
+        long collectorVa = va();
+        fill(collectorVa, paletteIndex);
+    }
+
+    /**
+     * Test whether full-cube cells are merged into larger boxes during
+     * collision queries. The collector is unaffected.
+     *
+     * @return {@code true} if merged, otherwise {@code false}
+     */
+    public boolean getMergeBoxes() {
+        long collectorVa = va();
+        boolean result = getMergeBoxes(collectorVa);
+
+        return result;
+    }
+
+    /**
+     * Return the palette index of the specified cell. The collector is
+     * unaffected.
+     *
+     * @param x the X coordinate of the cell (&ge;0, &lt;sizeX)
+     * @param y the Y coordinate of the cell (&ge;0, &lt;sizeY)
+     * @param z the Z coordinate of the cell (&ge;0, &lt;sizeZ)
+     * @return the palette index (&ge;0, &le;65535, 0&rarr;empty)
+     */
+    public int getCell(int x, int y, int z) {
+        checkCell(x, y, z);
+        long collectorVa = va();
+        int result = getCell(collectorVa, x, y, z);
+
+        return result;
+    }
+
+    /**
+     * Return the half extents of the region covered by the grid. The
+     * collector is unaffected.
+     *
+     * @return a new vector
+     */
+    public Vec3 getHalfExtents() {
+        float hx = 0.5f * getSizeX();
+        float hy = 0.5f * getSizeY();
+        float hz = 0.5f * getSizeZ();
+        Vec3 result = new Vec3(hx, hy, hz);
+
+        return result;
+    }
+
+    /**
+     * Return the number of palette entries, including the reserved empty
+     * entry. The collector is unaffected.
+     *
+     * @return the count (&ge;1)
+     */
+    public int getPaletteSize() {
+        long collectorVa = va();
+        int result = getPaletteSize(collectorVa);
+
+        return result;
+    }
+
+    /**
+     * Return the number of cells along the X axis. The collector is
+     * unaffected.
+     *
+     * @return the count (&ge;1)
+     */
+    public int getSizeX() {
+        long collectorVa = va();
+        int result = getSizeX(collectorVa);
+
+        return result;
+    }
+
+    /**
+     * Return the number of cells along the Y axis. The collector is
+     * unaffected.
+     *
+     * @return the count (&ge;1)
+     */
+    public int getSizeY() {
+        long collectorVa = va();
+        int result = getSizeY(collectorVa);
+
+        return result;
+    }
+
+    /**
+     * Return the number of cells along the Z axis. The collector is
+     * unaffected.
+     *
+     * @return the count (&ge;1)
+     */
+    public int getSizeZ() {
+        long collectorVa = va();
+        int result = getSizeZ(collectorVa);
+
+        return result;
+    }
+
+    /**
+     * Alter the palette index of the specified cell.
+     *
+     * @param x the X coordinate of the cell (&ge;0, &lt;sizeX)
+     * @param y the Y coordinate of the cell (&ge;0, &lt;sizeY)
+     * @param z the Z coordinate of the cell (&ge;0, &lt;sizeZ)
+     * @param paletteIndex the desired index (&ge;0, &lt;paletteSize,
+     * 0&rarr;empty)
+     */
+    public void setCell(int x, int y, int z, int paletteIndex) {
+        checkCell(x, y, z);
+        checkPaletteIndex(paletteIndex);
+        long collectorVa = va();
+        setCell(collectorVa, x, y, z, paletteIndex);
+    }
+
+    /**
+     * Enable or disable the merging of full-cube cells into larger boxes during
+     * collision queries (default=false). Merged boxes are cached per section.
+     * They reduce the number of narrow-phase pairs and avoid collisions with
+     * the internal edges between neighboring cubes.
+     *
+     * @param setting {@code true} to merge, {@code false} to return individual
+     * cells
+     */
+    public void setMergeBoxes(boolean setting) {
+        long collectorVa = va();
+        setMergeBoxes(collectorVa, setting);
+    }
+
+    /**
+     * Copy palette indices from the specified direct buffer to a run of
+     * consecutive cells.
+     *
+     * @param startCell the linear index of the first cell to modify (&ge;0)
+     * @param paletteIndices the desired indices (not null, direct, unaffected)
+     */
+    public void setCells(int startCell, IntBuffer paletteIndices) {
+        int numCells = paletteIndices.capacity();
+        BufferChecks.checkDirectBuffer("paletteIndices", paletteIndices, 0);
+        checkRun(startCell, numCells);
+        long collectorVa = va();
+        setCellsFromInts(collectorVa, startCell, paletteIndices);
+    }
+
+    /**
+     * Copy palette indices from the specified direct buffer to a run of
+     * consecutive cells. Each element is treated as an unsigned 16-bit value.
+     *
+     * @param startCell the linear index of the first cell to modify (&ge;0)
+     * @param paletteIndices the desired indices (not null, direct, unaffected)
+     */
+    public void setCells(int startCell, ShortBuffer paletteIndices) {
+        int numCells = paletteIndices.capacity();
+        BufferChecks.checkDirectBuffer("paletteIndices", paletteIndices, 0);
+        checkRun(startCell, numCells);
+        long collectorVa = va();
+        setCellsFromShorts(collectorVa, startCell, paletteIndices);
+    }
+
+    /**
+     * Replace all cells of the specified section with palette indices from the
+     * specified direct buffer. The replacement is built before the section is
+     * locked, so concurrent queries are blocked only briefly.
+     *
+     * @param sectionX the X coordinate of the section (&ge;0)
+     * @param sectionY the Y coordinate of the section (&ge;0)
+     * @param sectionZ the Z coordinate of the section (&ge;0)
+     * @param paletteIndices the desired indices, in section-local order with X
+     * varying fastest (not null, direct, capacity&ge;4096, unaffected)
+     */
+    public void setSection(int sectionX, int sectionY, int sectionZ,
+            ShortBuffer paletteIndices) {
+        // Native code doesn't verify the capacity in Release builds:
+        int numSectionCells = cSectionSize * cSectionSize * cSectionSize;
+        BufferChecks.checkDirectBuffer(
+                "paletteIndices", paletteIndices, numSectionCells);
+        checkSection(sectionX, getSizeX());
+        checkSection(sectionY, getSizeY());
+        checkSection(sectionZ, getSizeZ());
+
+        long collectorVa = va();
+        setSection(collectorVa, sectionX, sectionY, sectionZ, paletteIndices);
+    }
+
+    /**
+     * Replace the shape of the specified palette entry. The shape should fit
+     * within a unit cube centered on its origin.
+     *
+     * @param paletteIndex the index of the entry to modify (&ge;1, &le;65535)
+     * @param shape the desired shape (not null, unaffected)
+     */
+    public void setPaletteShape(int paletteIndex, ConstShape shape) {
+        setPaletteShape(paletteIndex, shape, false);
+    }
+
+    /**
+     * Replace the shape of the specified palette entry. The shape should fit
+     * within a unit cube centered on its origin.
+     *
+     * @param paletteIndex the index of the entry to modify (&ge;1, &le;65535)
+     * @param shape the desired shape (not null, unaffected)
+     * @param isFullCube {@code true} if the shape fills its cell, so that
+     * neighboring cells with the same index can be merged, otherwise
+     * {@code false}
+     */
+    public void setPaletteShape(
+            int paletteIndex, ConstShape shape, boolean isFullCube) {
+        if (paletteIndex < 1 || paletteIndex > cMaxPaletteIndex) {
+            throw new IllegalArgumentException(
+                    "paletteIndex = " + paletteIndex);
+        }
+        long collectorVa = va();
+        long shapeVa = shape.targetVa();
+        setPaletteShape(collectorVa, paletteIndex, shapeVa, isFullCube);
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Verify that the specified cell lies within the grid.
+     *
+     * @param x the X coordinate of the cell
+     * @param y the Y coordinate of the cell
+     * @param z the Z coordinate of the cell
+     */
+    private void checkCell(int x, int y, int z) {
+        if (x < 0 || x >= getSizeX() || y < 0 || y >= getSizeY()
+                || z < 0 || z >= getSizeZ()) {
+            throw new IllegalArgumentException(
+                    "x = " + x + ", y = " + y + ", z = " + z);
+        }
+    }
+
+    /**
+     * Verify that the specified palette index refers to an existing entry.
+     *
+     * @param paletteIndex the palette index to verify
+     */
+    private void checkPaletteIndex(int paletteIndex) {
+        if (paletteIndex < 0 || paletteIndex >= getPaletteSize()) {
+            throw new IllegalArgumentException(
+                    "paletteIndex = " + paletteIndex);
+        }
+    }
+
+    /**
+     * Verify that the specified run of cells lies within the grid.
+     *
+     * @param startCell the linear index of the first cell in the run
+     * @param numCells the number of cells in the run
+     */
+    private void checkRun(int startCell, int numCells) {
+        if (startCell < 0 || startCell + numCells > countCells()) {
+            throw new IllegalArgumentException("startCell = " + startCell
+                    + ", numCells = " + numCells);
+        }
+    }
+
+    /**
+     * Verify that the specified section coordinate is valid.
+     *
+     * @param sectionCoordinate the section coordinate to verify
+     * @param size the number of cells along the same axis
+     */
+    private static void checkSection(int sectionCoordinate, int size) {
+        int numSections = (size + cSectionSize - 1) / cSectionSize;
+        if (sectionCoordinate < 0 || sectionCoordinate >= numSections) {
+            throw new IllegalArgumentException(
+                    "section coordinate = " + sectionCoordinate);
+        }
+    }
+
+    /**
+     * Verify that the specified grid dimension is valid.
+     *
+     * @param size the number of cells along an axis
+     */
+    private static void checkSize(int size) {
+        if (size < 1 || size > cMaxSize) {
+            throw new IllegalArgumentException("size = " + size);
+        }
+    }
+    // *************************************************************************
+    // native private methods
+
+    native private static long create(int sizeX, int sizeY, int sizeZ);
+
+    native private static void fill(long collectorVa, int paletteIndex);
+
+    native private static int getCell(long collectorVa, int x, int y, int z);
+
+    native private static boolean getMergeBoxes(long collectorVa);
+
+    native private static int getPaletteSize(long collectorVa);
+
+    native private static int getSizeX(long collectorVa);
+
+    native private static int getSizeY(long collectorVa);
+
+    native private static int getSizeZ(long collectorVa);
+
+    native private static void setCell(
+            long collectorVa, int x, int y, int z, int paletteIndex);
+
+    native private static void setCellsFromInts(
+            long collectorVa, int startCell, IntBuffer paletteIndices);
+
+    native private static void setCellsFromShorts(
+            long collectorVa, int startCell, ShortBuffer paletteIndices);
+
+    native private static void setSection(long collectorVa, int sectionX,
+            int sectionY, int sectionZ, ShortBuffer paletteIndices);
+
+    native private static void setMergeBoxes(
+            long collectorVa, boolean setting);
+
+    native private static void setPaletteShape(long collectorVa,
+            int paletteIndex, long shapeVa, boolean isFullCube);
+}
@@ -25,9 +25,12 @@ import com.github.stephengold.joltjni.AaBoxCast;
 import com.github.stephengold.joltjni.BroadPhaseLayerFilter;
 import com.github.stephengold.joltjni.CastShapeBodyCollector;
 import com.github.stephengold.joltjni.CollideShapeBodyCollector;
+import com.github.stephengold.joltjni.JobSystem;
 import com.github.stephengold.joltjni.ObjectLayerFilter;
 import com.github.stephengold.joltjni.RayCast;
 import com.github.stephengold.joltjni.RayCastBodyCollector;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
 
 /**
  * Read-only access to a {@code BroadPhaseQuery}. (native type:
@@ -129,6 +132,28 @@ public interface ConstBroadPhaseQuery extends ConstJoltPhysicsObject {
     void collideAaBox(ConstAaBox box, CollideShapeBodyCollector collector,
             BroadPhaseLayerFilter bplFilter, ObjectLayerFilter olFilter);
 
+    /**
+     * Collect the bodies whose bounding boxes overlap each of a batch of test
+     * boxes, writing their IDs into a single buffer.
+     *
+     * @param numBoxes the number of queries (&ge;0)
+     * @param boxes the minimum and maximum coordinates of the test boxes,
+     * packed 6 elements per query (not null, direct, unaffected)
+     * @param layerMasks for each query, a bitmask of the object layers it can
+     * overlap, or {@code null} to overlap all layers (direct, unaffected)
+     * @param storeIds storage for the body IDs (not null, direct, modified)
+     * @param storeRanges storage for the offset and count of each query's
+     * IDs in {@code storeIds}, 2 elements per query (not null, direct,
+     * modified)
+     * @param jobSystem the job system to use, or {@code null} to run all
+     * queries on the current thread
+     * @return the total number of IDs found (&ge;0, may exceed the capacity of
+     * {@code storeIds})
+     */
+    int collideAaBoxes(int numBoxes, FloatBuffer boxes,
+            IntBuffer layerMasks, IntBuffer storeIds, IntBuffer storeRanges,
+            JobSystem jobSystem);
+
     /**
      * Collect bodies whose bounding boxes intersect the specified oriented box.
      *
@@ -230,4 +255,26 @@ public interface ConstBroadPhaseQuery extends ConstJoltPhysicsObject {
     void collideSphere(
             Vec3Arg center, float radius, CollideShapeBodyCollector collector,
             BroadPhaseLayerFilter bplFilter, ObjectLayerFilter olFilter);
+
+    /**
+     * Collect the bodies whose bounding boxes overlap each of a batch of test
+     * spheres, writing their IDs into a single buffer.
+     *
+     * @param numSpheres the number of queries (&ge;0)
+     * @param spheres the centers and radii of the test spheres, packed 4
+     * elements per query (not null, direct, unaffected)
+     * @param layerMasks for each query, a bitmask of the object layers it can
+     * overlap, or {@code null} to overlap all layers (direct, unaffected)
+     * @param storeIds storage for the body IDs (not null, direct, modified)
+     * @param storeRanges storage for the offset and count of each query's
+     * IDs in {@code storeIds}, 2 elements per query (not null, direct,
+     * modified)
+     * @param jobSystem the job system to use, or {@code null} to run all
+     * queries on the current thread
+     * @return the total number of IDs found (&ge;0, may exceed the capacity of
+     * {@code storeIds})
+     */
+    int collideSpheres(int numSpheres, FloatBuffer spheres,
+            IntBuffer layerMasks, IntBuffer storeIds, IntBuffer storeRanges,
+            JobSystem jobSystem);
 }
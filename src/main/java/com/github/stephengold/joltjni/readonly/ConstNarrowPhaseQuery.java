@@ -28,6 +28,7 @@ import com.github.stephengold.joltjni.CastShapeCollector;
 import com.github.stephengold.joltjni.CollidePointCollector;
 import com.github.stephengold.joltjni.CollideShapeCollector;
 import com.github.stephengold.joltjni.CollideShapeSettings;
+import com.github.stephengold.joltjni.JobSystem;
 import com.github.stephengold.joltjni.ObjectLayerFilter;
 import com.github.stephengold.joltjni.RRayCast;
 import com.github.stephengold.joltjni.RShapeCast;
@@ -35,7 +36,12 @@ import com.github.stephengold.joltjni.RayCastResult;
 import com.github.stephengold.joltjni.RayCastSettings;
 import com.github.stephengold.joltjni.ShapeCastSettings;
 import com.github.stephengold.joltjni.ShapeFilter;
+import com.github.stephengold.joltjni.ShapeQueryHits;
 import com.github.stephengold.joltjni.TransformedShapeCollector;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
 
 /**
  * Read-only access to a {@code NarrowPhaseQuery}. (native type:
@@ -97,6 +103,86 @@ public interface ConstNarrowPhaseQuery extends ConstJoltPhysicsObject {
             BroadPhaseLayerFilter bplFilter,
             ObjectLayerFilter olFilter, BodyFilter bodyFilter);
 
+    /**
+     * Cast a ray specified by primitives and obtain the nearest hit, if any,
+     * using default (accept-all) filters. No JVM or native objects are
+     * allocated.
+     *
+     * @param startX the X coordinate of the ray's start
+     * @param startY the Y coordinate of the ray's start
+     * @param startZ the Z coordinate of the ray's start
+     * @param offsetX the X component of the ray's direction and length
+     * @param offsetY the Y component of the ray's direction and length
+     * @param offsetZ the Z component of the ray's direction and length
+     * @param storeResult storage for the hit's fraction, body ID, and
+     * sub-shape ID (not null, reset before the cast, modified)
+     * @return {@code true} if a hit was found, otherwise {@code false}
+     */
+    boolean castRay(double startX, double startY, double startZ,
+            float offsetX, float offsetY, float offsetZ,
+            RayCastResult storeResult);
+
+    /**
+     * Cast a ray specified by primitives and obtain the nearest hit, if any.
+     * No JVM or native objects are allocated.
+     *
+     * @param startX the X coordinate of the ray's start
+     * @param startY the Y coordinate of the ray's start
+     * @param startZ the Z coordinate of the ray's start
+     * @param offsetX the X component of the ray's direction and length
+     * @param offsetY the Y component of the ray's direction and length
+     * @param offsetZ the Z component of the ray's direction and length
+     * @param storeResult storage for the hit's fraction, body ID, and
+     * sub-shape ID (not null, reset before the cast, modified)
+     * @param bplFilter the broadphase-layer filter to apply (unaffected) or
+     * {@code null} to accept all layers
+     * @param olFilter the object-layer filter to apply (unaffected) or
+     * {@code null} to accept all layers
+     * @param bodyFilter the body filter to apply (unaffected) or {@code null}
+     * to accept all bodies
+     * @return {@code true} if a hit was found, otherwise {@code false}
+     */
+    boolean castRay(double startX, double startY, double startZ,
+            float offsetX, float offsetY, float offsetZ,
+            RayCastResult storeResult, BroadPhaseLayerFilter bplFilter,
+            ObjectLayerFilter olFilter, BodyFilter bodyFilter);
+
+    /**
+     * Cast a batch of rays, each specified by single-precision values, and
+     * obtain the nearest hit for each one.
+     *
+     * @param numRays the number of rays to cast (&ge;0)
+     * @param rays the start locations and offsets of the rays, packed 6
+     * elements per ray (not null, direct, unaffected)
+     * @param layerMasks for each ray, a bitmask of the object layers it can
+     * hit, or {@code null} to hit all layers (direct, unaffected)
+     * @param storeHits storage for the results (not null, direct, native byte
+     * order, modified)
+     * @param jobSystem the job system to use, or {@code null} to cast all rays
+     * on the current thread
+     * @return the number of rays that hit something (&ge;0, &le;numRays)
+     */
+    int castRays(int numRays, FloatBuffer rays, IntBuffer layerMasks,
+            ByteBuffer storeHits, JobSystem jobSystem);
+
+    /**
+     * Cast a batch of rays, each specified by double-precision values, and
+     * obtain the nearest hit for each one.
+     *
+     * @param numRays the number of rays to cast (&ge;0)
+     * @param rays the start locations and offsets of the rays, packed 6
+     * elements per ray (not null, direct, unaffected)
+     * @param layerMasks for each ray, a bitmask of the object layers it can
+     * hit, or {@code null} to hit all layers (direct, unaffected)
+     * @param storeHits storage for the results (not null, direct, native byte
+     * order, modified)
+     * @param jobSystem the job system to use, or {@code null} to cast all rays
+     * on the current thread
+     * @return the number of rays that hit something (&ge;0, &le;numRays)
+     */
+    int castRays(int numRays, DoubleBuffer rays, IntBuffer layerMasks,
+            ByteBuffer storeHits, JobSystem jobSystem);
+
     /**
      * Cast a ray and collect the resulting hits.
      *
@@ -170,6 +256,110 @@ public interface ConstNarrowPhaseQuery extends ConstJoltPhysicsObject {
             ObjectLayerFilter olFilter, BodyFilter bodyFilter,
             ShapeFilter shapeFilter);
 
+    /**
+     * Cast a batch of shapes, each positioned using double-precision
+     * values, and store the hits of each query in slots of the specified
+     * storage.
+     * <p>
+     * If a query has more hits than slots, the earliest hits are kept.
+     *
+     * @param numQueries the number of queries (&ge;0,
+     * &le;storeHits.getMaxQueries())
+     * @param shapes the shape for each query (not null, length&ge;numQueries,
+     * unaffected)
+     * @param queries the transforms (and directions) of the shapes, packed 10
+     * elements per query (not null, direct, unaffected)
+     * @param layerMasks for each query, a bitmask of the object layers it can
+     * hit, or {@code null} to hit all layers (direct, unaffected)
+     * @param settings the settings to use, or {@code null} for the defaults
+     * (unaffected)
+     * @param storeHits storage for the results (not null, modified)
+     * @param jobSystem the job system to use, or {@code null} to run all
+     * queries on the current thread
+     * @return the total number of hits stored (&ge;0)
+     */
+    int castShapes(int numQueries, ConstShape[] shapes, DoubleBuffer queries,
+            IntBuffer layerMasks, ShapeCastSettings settings,
+            ShapeQueryHits storeHits, JobSystem jobSystem);
+
+    /**
+     * Cast a batch of shapes, each positioned using single-precision
+     * values, and store the hits of each query in slots of the specified
+     * storage.
+     * <p>
+     * If a query has more hits than slots, the earliest hits are kept.
+     *
+     * @param numQueries the number of queries (&ge;0,
+     * &le;storeHits.getMaxQueries())
+     * @param shapes the shape for each query (not null, length&ge;numQueries,
+     * unaffected)
+     * @param queries the transforms (and directions) of the shapes, packed 10
+     * elements per query (not null, direct, unaffected)
+     * @param layerMasks for each query, a bitmask of the object layers it can
+     * hit, or {@code null} to hit all layers (direct, unaffected)
+     * @param settings the settings to use, or {@code null} for the defaults
+     * (unaffected)
+     * @param storeHits storage for the results (not null, modified)
+     * @param jobSystem the job system to use, or {@code null} to run all
+     * queries on the current thread
+     * @return the total number of hits stored (&ge;0)
+     */
+    int castShapes(int numQueries, ConstShape[] shapes, FloatBuffer queries,
+            IntBuffer layerMasks, ShapeCastSettings settings,
+            ShapeQueryHits storeHits, JobSystem jobSystem);
+
+    /**
+     * Collide a batch of shapes, each positioned using double-precision
+     * values, and store the hits of each query in slots of the specified
+     * storage.
+     * <p>
+     * If a query has more hits than slots, the deepest hits are kept.
+     *
+     * @param numQueries the number of queries (&ge;0,
+     * &le;storeHits.getMaxQueries())
+     * @param shapes the shape for each query (not null, length&ge;numQueries,
+     * unaffected)
+     * @param queries the transforms (and directions) of the shapes, packed 10
+     * elements per query (not null, direct, unaffected)
+     * @param layerMasks for each query, a bitmask of the object layers it can
+     * hit, or {@code null} to hit all layers (direct, unaffected)
+     * @param settings the settings to use, or {@code null} for the defaults
+     * (unaffected)
+     * @param storeHits storage for the results (not null, modified)
+     * @param jobSystem the job system to use, or {@code null} to run all
+     * queries on the current thread
+     * @return the total number of hits stored (&ge;0)
+     */
+    int collideShapes(int numQueries, ConstShape[] shapes, DoubleBuffer queries,
+            IntBuffer layerMasks, CollideShapeSettings settings,
+            ShapeQueryHits storeHits, JobSystem jobSystem);
+
+    /**
+     * Collide a batch of shapes, each positioned using single-precision
+     * values, and store the hits of each query in slots of the specified
+     * storage.
+     * <p>
+     * If a query has more hits than slots, the deepest hits are kept.
+     *
+     * @param numQueries the number of queries (&ge;0,
+     * &le;storeHits.getMaxQueries())
+     * @param shapes the shape for each query (not null, length&ge;numQueries,
+     * unaffected)
+     * @param queries the transforms (and directions) of the shapes, packed 10
+     * elements per query (not null, direct, unaffected)
+     * @param layerMasks for each query, a bitmask of the object layers it can
+     * hit, or {@code null} to hit all layers (direct, unaffected)
+     * @param settings the settings to use, or {@code null} for the defaults
+     * (unaffected)
+     * @param storeHits storage for the results (not null, modified)
+     * @param jobSystem the job system to use, or {@code null} to run all
+     * queries on the current thread
+     * @return the total number of hits stored (&ge;0)
+     */
+    int collideShapes(int numQueries, ConstShape[] shapes, FloatBuffer queries,
+            IntBuffer layerMasks, CollideShapeSettings settings,
+            ShapeQueryHits storeHits, JobSystem jobSystem);
+
     /**
      * Cast a shape and collect the resulting hits.
      *
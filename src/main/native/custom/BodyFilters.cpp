@@ -0,0 +1,86 @@
+#include <Jolt/Jolt.h>
+
+#include "BodyFilters.h"
+
+JPH_NAMESPACE_BEGIN
+
+void BodyIdSetFilter::Add(const BodyID &inBodyID)
+{
+	uint32 index = inBodyID.GetIndex();
+	uint word = index >> 6;
+	if (word >= mBits.size())
+		mBits.resize(word + 1, 0);
+	mBits[word] |= uint64(1) << (index & 63);
+}
+
+void BodyIdSetFilter::Remove(const BodyID &inBodyID)
+{
+	uint32 index = inBodyID.GetIndex();
+	uint word = index >> 6;
+	if (word < mBits.size())
+		mBits[word] &= ~(uint64(1) << (index & 63));
+}
+
+bool BodyIdSetFilter::Contains(const BodyID &inBodyID) const
+{
+	if (inBodyID.IsInvalid())
+		return false;
+
+	uint32 index = inBodyID.GetIndex();
+	uint word = index >> 6;
+	return word < mBits.size() && (mBits[word] & (uint64(1) << (index & 63))) != 0;
+}
+
+bool CompositeBodyFilter::ShouldCollide(const BodyID &inBodyID) const
+{
+	// When inverting, the final decision depends on the locked test, so let every body through to that stage
+	if (mInvert)
+		return true;
+
+	if (mRule == ERule::All)
+	{
+		for (const BodyFilter *child : mChildren)
+			if (!child->ShouldCollide(inBodyID))
+				return false;
+		return true;
+	}
+	else
+	{
+		for (const BodyFilter *child : mChildren)
+			if (child->ShouldCollide(inBodyID))
+				return true;
+		return false;
+	}
+}
+
+bool CompositeBodyFilter::ShouldCollideLocked(const Body &inBody) const
+{
+	// A child accepts a body only if both of its tests pass, since ShouldCollide() of this filter may have passed a body
+	// that the child itself would have rejected
+	const BodyID &body_id = inBody.GetID();
+	bool result;
+	if (mRule == ERule::All)
+	{
+		result = true;
+		for (const BodyFilter *child : mChildren)
+			if (!child->ShouldCollide(body_id) || !child->ShouldCollideLocked(inBody))
+			{
+				result = false;
+				break;
+			}
+	}
+	else
+	{
+		result = false;
+		for (const BodyFilter *child : mChildren)
+			if (child->ShouldCollide(body_id) && child->ShouldCollideLocked(inBody))
+			{
+				result = true;
+				break;
+			}
+	}
+
+	return result != mInvert;
+}
+
+JPH_NAMESPACE_END
@@ -0,0 +1,113 @@
+#pragma once
+
+#include <Jolt/Physics/Body/Body.h>
+#include <Jolt/Physics/Body/BodyFilter.h>
+#include <Jolt/Physics/Collision/CollisionGroup.h>
+
+JPH_NAMESPACE_BEGIN
+
+/// A body filter that selects bodies by membership in a set of body indices, stored as a bitset.
+///
+/// Only the index part of each BodyID is compared, so a body that reuses the index of a removed body is treated the same.
+class BodyIdSetFilter final : public BodyFilter
+{
+public:
+	JPH_OVERRIDE_NEW_DELETE
+
+	/// Constructor. If inExclude is true, bodies in the set are rejected, otherwise only bodies in the set are accepted.
+	explicit						BodyIdSetFilter(bool inExclude) : mExclude(inExclude) { }
+
+	/// Add a body to the set
+	void							Add(const BodyID &inBodyID);
+
+	/// Remove a body from the set
+	void							Remove(const BodyID &inBodyID);
+
+	/// Remove all bodies from the set
+	void							Clear()										{ mBits.clear(); }
+
+	/// Test whether a body is in the set
+	bool							Contains(const BodyID &inBodyID) const;
+
+	/// Test whether bodies in the set are rejected
+	bool							IsExclude() const							{ return mExclude; }
+
+	// See: BodyFilter
+	virtual bool					ShouldCollide(const BodyID &inBodyID) const override { return Contains(inBodyID) != mExclude; }
+
+private:
+	Array<uint64>					mBits;
+	bool							mExclude;
+};
+
+/// A body filter that accepts bodies whose user data, masked with mMask, equals mValue.
+class UserDataBodyFilter final : public BodyFilter
+{
+public:
+	JPH_OVERRIDE_NEW_DELETE
+
+	/// Constructor
+									UserDataBodyFilter(uint64 inMask, uint64 inValue) : mMask(inMask), mValue(inValue) { }
+
+	// See: BodyFilter
+	virtual bool					ShouldCollideLocked(const Body &inBody) const override { return (inBody.GetUserData() & mMask) == mValue; }
+
+	uint64							mMask;
+	uint64							mValue;
+};
+
+/// A body filter that accepts bodies whose collision group can collide with a specified group.
+class CollisionGroupBodyFilter final : public BodyFilter
+{
+public:
+	JPH_OVERRIDE_NEW_DELETE
+
+	/// Constructor
+	explicit						CollisionGroupBodyFilter(const CollisionGroup &inGroup) : mGroup(inGroup) { }
+
+	// See: BodyFilter
+	virtual bool					ShouldCollideLocked(const Body &inBody) const override { return mGroup.CanCollide(inBody.GetCollisionGroup()); }
+
+	CollisionGroup					mGroup;
+};
+
+/// A body filter that combines other body filters. With ERule::All, a body must pass every child filter (an empty
+/// composite accepts all bodies). With ERule::Any, a body must pass at least one child filter (an empty composite rejects
+/// all bodies). The result can optionally be inverted.
+///
+/// Children aren't owned, the caller must keep them alive for as long as the composite is in use.
+class CompositeBodyFilter final : public BodyFilter
+{
+public:
+	JPH_OVERRIDE_NEW_DELETE
+
+	/// How child results are combined
+	enum class ERule : uint8
+	{
+		All,
+		Any,
+	};
+
+	/// Constructor
+									CompositeBodyFilter(ERule inRule, bool inInvert) : mRule(inRule), mInvert(inInvert) { }
+
+	/// Add a child filter
+	void							Add(const BodyFilter *inFilter)				{ mChildren.push_back(inFilter); }
+
+	/// Remove all child filters
+	void							Clear()										{ mChildren.clear(); }
+
+	/// Number of child filters
+	uint							GetNumChildren() const						{ return (uint)mChildren.size(); }
+
+	// See: BodyFilter
+	virtual bool					ShouldCollide(const BodyID &inBodyID) const override;
+	virtual bool					ShouldCollideLocked(const Body &inBody) const override;
+
+private:
+	Array<const BodyFilter *>		mChildren;
+	ERule							mRule;
+	bool							mInvert;
+};
+
+JPH_NAMESPACE_END
@@ -0,0 +1,58 @@
+#include <Jolt/Jolt.h>
+
+#include <cstring>
+
+#include "ByteBufferStateRecorder.h"
+
+JPH_NAMESPACE_BEGIN
+
+void ByteBufferStateRecorder::SetData(uint8 *inData, size_t inCapacity, size_t inNumBytes)
+{
+	JPH_ASSERT(inNumBytes <= inCapacity);
+
+	mData = inData;
+	mCapacity = inCapacity;
+	mWritePos = inNumBytes;
+	mReadPos = 0;
+	mFailed = false;
+}
+
+void ByteBufferStateRecorder::WriteBytes(const void *inData, size_t inNumBytes)
+{
+	if (!mFailed && inNumBytes <= mCapacity - mWritePos)
+		std::memcpy(mData + mWritePos, inData, inNumBytes);
+	else
+		mFailed = true;
+
+	// Keep counting, so the caller learns how much space is required
+	mWritePos += inNumBytes;
+}
+
+void ByteBufferStateRecorder::ReadBytes(void *outData, size_t inNumBytes)
+{
+	if (mFailed || inNumBytes > mWritePos - mReadPos)
+	{
+		mFailed = true;
+		return;
+	}
+	const uint8 *data = mData + mReadPos;
+	mReadPos += inNumBytes;
+
+	// When validating, compare in place rather than through a temporary
+	if (IsValidating() && std::memcmp(data, outData, inNumBytes) != 0)
+	{
+		Trace("Mismatch reading %u bytes", (uint)inNumBytes);
+		for (size_t i = 0; i < inNumBytes; ++i)
+		{
+			int b1 = static_cast<const uint8 *>(outData)[i];
+			int b2 = data[i];
+			if (b1 != b2)
+				Trace("Offset %d: %02X -> %02X", (int)i, b1, b2);
+		}
+		JPH_BREAKPOINT;
+	}
+
+	std::memcpy(outData, data, inNumBytes);
+}
+
+JPH_NAMESPACE_END
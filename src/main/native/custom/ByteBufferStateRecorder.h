@@ -0,0 +1,48 @@
+#pragma once
+
+#include <Jolt/Physics/StateRecorder.h>
+
+JPH_NAMESPACE_BEGIN
+
+/// A state recorder that reads and writes a caller-supplied memory region, such as the contents of a direct ByteBuffer,
+/// so saving and restoring a physics system copies nothing beyond the region itself.
+///
+/// The region isn't owned. When a write doesn't fit, nothing is written and the recorder fails, but GetNumBytes() keeps
+/// counting, so the caller can learn how large a region it needs.
+class ByteBufferStateRecorder final : public StateRecorder
+{
+public:
+	JPH_OVERRIDE_NEW_DELETE
+
+	/// Record into the specified region, discarding any previous data
+	void							SetRegion(uint8 *inData, size_t inCapacity)	{ SetData(inData, inCapacity, 0); }
+
+	/// Use the specified region, whose first inNumBytes bytes are recorded data. Reading restarts from the beginning.
+	void							SetData(uint8 *inData, size_t inCapacity, size_t inNumBytes);
+
+	/// Discard the recorded data, so writing restarts from the beginning of the region
+	void							Clear()										{ mWritePos = 0; mReadPos = 0; mFailed = false; }
+
+	/// Restart reading from the beginning of the region
+	void							Rewind()									{ mReadPos = 0; }
+
+	/// Number of bytes recorded, or required if a write didn't fit
+	size_t							GetNumBytes() const							{ return mWritePos; }
+
+	// See: StreamOut
+	virtual void					WriteBytes(const void *inData, size_t inNumBytes) override;
+
+	// See: StreamIn
+	virtual void					ReadBytes(void *outData, size_t inNumBytes) override;
+	virtual bool					IsEOF() const override						{ return mReadPos >= mWritePos; }
+	virtual bool					IsFailed() const override					{ return mFailed; }
+
+private:
+	uint8 *							mData = nullptr;
+	size_t							mCapacity = 0;
+	size_t							mWritePos = 0;
+	size_t							mReadPos = 0;
+	bool							mFailed = false;
+};
+
+JPH_NAMESPACE_END
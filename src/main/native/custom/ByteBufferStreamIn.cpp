@@ -0,0 +1,37 @@
+#include <Jolt/Jolt.h>
+
+#include <cstring>
+
+#include "ByteBufferStreamIn.h"
+
+JPH_NAMESPACE_BEGIN
+
+void ByteBufferStreamIn::SetRegion(const uint8 *inData, size_t inNumBytes)
+{
+	JPH_ASSERT(inData != nullptr || inNumBytes == 0);
+
+	mData = inData;
+	mSize = inNumBytes;
+	Rewind();
+}
+
+void ByteBufferStreamIn::ReadBytes(void *outData, size_t inNumBytes)
+{
+	size_t available = mSize - mReadPos;
+	if (inNumBytes > available)
+	{
+		// Like std::istream, deliver what's left and then report both EOF and failure
+		if (available > 0)
+			std::memcpy(outData, mData + mReadPos, available);
+		mReadPos = mSize;
+		mEOF = true;
+		mFailed = true;
+		return;
+	}
+
+	if (inNumBytes > 0)
+		std::memcpy(outData, mData + mReadPos, inNumBytes);
+	mReadPos += inNumBytes;
+}
+
+JPH_NAMESPACE_END
@@ -0,0 +1,40 @@
+#pragma once
+
+#include <Jolt/Core/StreamIn.h>
+
+JPH_NAMESPACE_BEGIN
+
+/// An input stream that reads a caller-supplied memory region, such as the contents of a direct or memory-mapped
+/// ByteBuffer. Each read is a single memcpy, so arrays that Jolt reads in bulk (mesh triangles, height samples, ...)
+/// are copied straight from the region without an intermediate stream buffer.
+///
+/// The region isn't owned. As with std::istream, IsEOF() only becomes true once a read runs past the end of the region,
+/// and such a read also fails the stream.
+class ByteBufferStreamIn final : public StreamIn
+{
+public:
+	JPH_OVERRIDE_NEW_DELETE
+
+	/// Read from the specified region, starting at its beginning
+	void							SetRegion(const uint8 *inData, size_t inNumBytes);
+
+	/// Restart reading from the beginning of the region and clear the EOF and failure flags
+	void							Rewind()									{ mReadPos = 0; mEOF = false; mFailed = false; }
+
+	/// Number of bytes consumed so far
+	size_t							GetPosition() const							{ return mReadPos; }
+
+	// See: StreamIn
+	virtual void					ReadBytes(void *outData, size_t inNumBytes) override;
+	virtual bool					IsEOF() const override						{ return mEOF; }
+	virtual bool					IsFailed() const override					{ return mFailed; }
+
+private:
+	const uint8 *					mData = nullptr;
+	size_t							mSize = 0;
+	size_t							mReadPos = 0;
+	bool							mEOF = false;
+	bool							mFailed = false;
+};
+
+JPH_NAMESPACE_END
@@ -0,0 +1,58 @@
+#pragma once
+
+#include <Jolt/Core/Atomics.h>
+#include <Jolt/Core/JobSystem.h>
+
+JPH_SUPPRESS_WARNINGS_STD_BEGIN
+#include <type_traits>
+JPH_SUPPRESS_WARNINGS_STD_END
+
+JPH_NAMESPACE_BEGIN
+
+/// Invoke inRangeFunction(start, end) on consecutive ranges covering [0, inNumItems). If a job system is provided, the
+/// ranges are divided among a few jobs per thread (so uneven items balance out) and the current thread helps out until
+/// all of them are done.
+/// @param inJobSystem The job system to use, or nullptr to run on the current thread
+/// @param inNumItems Number of items to process
+/// @param inMinItemsPerJob Minimum number of items in a job, to amortize the cost of creating it
+/// @param inRangeFunction Function that processes a range, it may return void or a count
+/// @param inJobName Name of the jobs, for profiling
+/// @return The sum of the counts returned by inRangeFunction, or 0 if it returns void
+template <class RangeFunction>
+uint ForEachRange(JobSystem *inJobSystem, uint inNumItems, uint inMinItemsPerJob, const RangeFunction &inRangeFunction, const char *inJobName = "ForEachRange")
+{
+	// Invoke the function on one range, returning 0 if it returns void
+	auto invoke_range = [&inRangeFunction](uint inStart, uint inEnd) -> uint
+	{
+		if constexpr (std::is_void_v<decltype(inRangeFunction(inStart, inEnd))>)
+		{
+			inRangeFunction(inStart, inEnd);
+			return 0;
+		}
+		else
+			return uint(inRangeFunction(inStart, inEnd));
+	};
+
+	JPH_ASSERT(inMinItemsPerJob > 0);
+	uint num_jobs = (inNumItems + inMinItemsPerJob - 1) / inMinItemsPerJob;
+	if (inJobSystem != nullptr)
+		num_jobs = min(num_jobs, 4 * (uint)max(1, inJobSystem->GetMaxConcurrency()));
+	if (inJobSystem == nullptr || num_jobs <= 1)
+		return invoke_range(0, inNumItems);
+
+	atomic<uint> sum { 0 };
+	uint items_per_job = (inNumItems + num_jobs - 1) / num_jobs;
+	JobSystem::Barrier *barrier = inJobSystem->CreateBarrier();
+	for (uint start = 0; start < inNumItems; start += items_per_job)
+	{
+		uint end = min(start + items_per_job, inNumItems);
+		JobHandle handle = inJobSystem->CreateJob(inJobName, Color::sGreen, [&invoke_range, &sum, start, end]() { sum.fetch_add(invoke_range(start, end), memory_order_relaxed); });
+		barrier->AddJob(handle);
+	}
+	inJobSystem->WaitForJobs(barrier);
+	inJobSystem->DestroyBarrier(barrier);
+
+	return sum.load(memory_order_relaxed);
+}
+
+JPH_NAMESPACE_END
@@ -0,0 +1,142 @@
+#include <Jolt/Jolt.h>
+
+#include <Jolt/Core/QuickSort.h>
+#include <Jolt/Physics/Collision/CollisionCollectorImpl.h>
+
+#include "ForEachRange.h"
+#include "InterestManager.h"
+
+JPH_NAMESPACE_BEGIN
+
+uint InterestManager::AddObserver(RVec3Arg inPosition, float inRadius)
+{
+	uint id;
+	if (mFreeSlots.empty())
+	{
+		id = (uint)mObservers.size();
+		mObservers.emplace_back();
+	}
+	else
+	{
+		id = mFreeSlots.back();
+		mFreeSlots.pop_back();
+	}
+
+	Observer &observer = mObservers[id];
+	observer.mPosition = inPosition;
+	observer.mRadius = inRadius;
+	observer.mInUse = true;
+	return id;
+}
+
+void InterestManager::RemoveObserver(uint inObserverID)
+{
+	JPH_ASSERT(IsObserver(inObserverID));
+
+	Observer &observer = mObservers[inObserverID];
+	observer.mInUse = false;
+	observer.mVisible.clear();
+	observer.mEntered.clear();
+	observer.mLeft.clear();
+	observer.mMoved.clear();
+	mFreeSlots.push_back(inObserverID);
+}
+
+void InterestManager::SetObserver(uint inObserverID, RVec3Arg inPosition, float inRadius)
+{
+	JPH_ASSERT(IsObserver(inObserverID));
+
+	Observer &observer = mObservers[inObserverID];
+	observer.mPosition = inPosition;
+	observer.mRadius = inRadius;
+}
+
+void InterestManager::Update(JobSystem *inJobSystem)
+{
+	// Gather the active bodies once, as a bitset indexed by body index
+	BodyIDVector active_ids;
+	mSystem->GetActiveBodies(EBodyType::RigidBody, active_ids);
+	BodyIDVector active_soft_ids;
+	mSystem->GetActiveBodies(EBodyType::SoftBody, active_soft_ids);
+	active_ids.insert(active_ids.end(), active_soft_ids.begin(), active_soft_ids.end());
+	mActiveBits.clear();
+	for (const BodyID &id : active_ids)
+	{
+		uint32 index = id.GetIndex();
+		uint word = index >> 6;
+		if (word >= mActiveBits.size())
+			mActiveBits.resize(word + 1, 0);
+		mActiveBits[word] |= uint64(1) << (index & 63);
+	}
+
+	// Divide the observers among a few jobs per thread, so uneven observers balance out
+	constexpr uint cMinObserversPerJob = 8;
+	ForEachRange(inJobSystem, (uint)mObservers.size(), cMinObserversPerJob, [this](uint inStart, uint inEnd) { UpdateRange(inStart, inEnd); }, "InterestManager");
+}
+
+void InterestManager::UpdateRange(uint inStart, uint inEnd)
+{
+	const BroadPhaseQuery &query = mSystem->GetBroadPhaseQuery();
+	AllHitCollisionCollector<CollideShapeBodyCollector> collector;
+
+	for (uint i = inStart; i < inEnd; ++i)
+	{
+		Observer &observer = mObservers[i];
+		observer.mEntered.clear();
+		observer.mLeft.clear();
+		observer.mMoved.clear();
+		if (!observer.mInUse)
+			continue;
+
+		// The broad phase stores single-precision bounds
+		collector.Reset();
+		query.CollideSphere(Vec3(observer.mPosition), observer.mRadius, collector);
+		Array<BodyID> &current = collector.mHits;
+		QuickSort(current.begin(), current.end());
+
+		// Merge the sorted old and new sets
+		const Array<BodyID> &previous = observer.mVisible;
+		size_t p = 0, c = 0;
+		while (p < previous.size() || c < current.size())
+		{
+			if (c == current.size() || (p < previous.size() && previous[p] < current[c]))
+				observer.mLeft.push_back(previous[p++]);
+			else if (p == previous.size() || current[c] < previous[p])
+				observer.mEntered.push_back(current[c++]);
+			else
+			{
+				if (IsActive(current[c]))
+					observer.mMoved.push_back(current[c]);
+				++p;
+				++c;
+			}
+		}
+
+		observer.mVisible.swap(current);
+	}
+}
+
+uint InterestManager::CopyEvents(uint32 *outIDs, uint inMaxIDs, int32 *outRanges) const
+{
+	uint total = 0;
+	for (const Observer &observer : mObservers)
+		total += uint(observer.mEntered.size() + observer.mLeft.size() + observer.mMoved.size());
+	bool fits = total <= inMaxIDs;
+
+	uint offset = 0;
+	int32 *range = outRanges;
+	for (const Observer &observer : mObservers)
+		for (const Array<BodyID> *list : { &observer.mEntered, &observer.mLeft, &observer.mMoved })
+		{
+			uint count = (uint)list->size();
+			*range++ = fits? int32(offset) : -1;
+			*range++ = int32(count);
+			if (fits)
+				for (const BodyID &id : *list)
+					outIDs[offset++] = id.GetIndexAndSequenceNumber();
+		}
+
+	return total;
+}
+
+JPH_NAMESPACE_END
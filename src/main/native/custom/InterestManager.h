@@ -0,0 +1,89 @@
+#pragma once
+
+#include <Jolt/Core/JobSystem.h>
+#include <Jolt/Physics/Body/BodyID.h>
+#include <Jolt/Physics/PhysicsSystem.h>
+
+JPH_NAMESPACE_BEGIN
+
+/// Tracks which bodies are near each of a set of observers (for instance the players of a multiplayer server) and
+/// reports, after each physics update, which bodies entered or left each observer's view sphere and which visible
+/// bodies moved.
+///
+/// Visibility is decided by the broad phase: a body is visible if its bounding box overlaps the observer's sphere.
+/// A visible body is reported as moved if it is active, since only active bodies move during a physics step. Bodies
+/// repositioned while inactive (by teleporting them without activation) aren't reported as moved, though they will
+/// still enter and leave correctly.
+///
+/// Observers are identified by slot indices. A removed observer's slot is reused by the next observer added.
+class InterestManager
+{
+public:
+	JPH_OVERRIDE_NEW_DELETE
+
+	/// Number of values per observer slot in the ranges output of CopyEvents(): offset and count of the entered,
+	/// left and moved IDs
+	static constexpr uint			cRangeStride = 6;
+
+	/// Constructor
+	explicit						InterestManager(const PhysicsSystem *inSystem) : mSystem(inSystem) { }
+
+	/// Add an observer and return its ID
+	uint							AddObserver(RVec3Arg inPosition, float inRadius);
+
+	/// Remove an observer, its visible bodies are forgotten without generating leave events
+	void							RemoveObserver(uint inObserverID);
+
+	/// Move and/or resize an observer, the change takes effect in the next Update()
+	void							SetObserver(uint inObserverID, RVec3Arg inPosition, float inRadius);
+
+	/// Test whether an ID refers to an observer that hasn't been removed
+	bool							IsObserver(uint inObserverID) const			{ return inObserverID < mObservers.size() && mObservers[inObserverID].mInUse; }
+
+	/// Number of observer slots, including unused ones
+	uint							GetNumSlots() const							{ return (uint)mObservers.size(); }
+
+	/// Number of bodies visible to an observer as of the latest Update()
+	uint							GetNumVisible(uint inObserverID) const		{ return (uint)mObservers[inObserverID].mVisible.size(); }
+
+	/// Recompute visibility for all observers, typically right after PhysicsSystem::Update(). If a job system is
+	/// provided, observers are divided among jobs and the calling thread helps out until they're all done.
+	void							Update(JobSystem *inJobSystem);
+
+	/// Copy the events of the latest Update() into a single array of body IDs (as returned by
+	/// BodyID::GetIndexAndSequenceNumber()). For each observer slot, cRangeStride values are written to outRanges. If
+	/// the IDs don't fit in inMaxIDs, only outRanges is written, with every offset set to -1. Returns the total number of
+	/// IDs.
+	uint							CopyEvents(uint32 *outIDs, uint inMaxIDs, int32 *outRanges) const;
+
+private:
+	/// State of a single observer
+	struct Observer
+	{
+		RVec3						mPosition;
+		float						mRadius = 0.0f;
+		bool						mInUse = false;
+		Array<BodyID>				mVisible;									///< Sorted
+		Array<BodyID>				mEntered;
+		Array<BodyID>				mLeft;
+		Array<BodyID>				mMoved;
+	};
+
+	/// Recompute visibility for the observers in [inStart, inEnd)
+	void							UpdateRange(uint inStart, uint inEnd);
+
+	/// Test whether a body was active during the latest Update()
+	inline bool						IsActive(const BodyID &inBodyID) const
+	{
+		uint32 index = inBodyID.GetIndex();
+		uint word = index >> 6;
+		return word < mActiveBits.size() && (mActiveBits[word] & (uint64(1) << (index & 63))) != 0;
+	}
+
+	const PhysicsSystem *			mSystem;
+	Array<Observer>					mObservers;
+	Array<uint>						mFreeSlots;
+	Array<uint64>					mActiveBits;
+};
+
+JPH_NAMESPACE_END
@@ -0,0 +1,349 @@
+#include <Jolt/Jolt.h>
+
+#include <algorithm>
+#include <atomic>
+#include <cstring>
+#include <mutex>
+
+#include "PooledAllocator.h"
+
+JPH_NAMESPACE_BEGIN
+
+namespace
+{
+	// Sizes are multiples of 16 so that every payload stays 16-byte aligned
+	constexpr uint32 cClassSizes[PooledAllocator::cNumSizeClasses] = { 16, 32, 48, 64, 96, 128, 160, 192, 256, 320, 384, 512 };
+	constexpr uint32 cMaxPooledSize = 512;
+	constexpr uint32 cLargeClass = 0xffffffff;
+	constexpr size_t cSlabSize = 64 * 1024;
+	constexpr uint cBatchSize = 32;
+	constexpr uint cMaxCached = 2 * cBatchSize;
+
+	/// Precedes every payload. For pooled blocks it's written once, when the slab is carved.
+	struct BlockHeader
+	{
+		uint32						mClass;
+		uint32						mUnused;
+		uint64						mSize;		///< Requested size, for large blocks only
+	};
+	constexpr size_t cHeaderSize = sizeof(BlockHeader);
+	static_assert(cHeaderSize == 16, "Header must preserve 16-byte alignment");
+
+	/// Overlays the payload of a free block
+	struct FreeBlock
+	{
+		FreeBlock *					mNext;
+	};
+
+	/// Free blocks shared between threads, one list per size class
+	struct CentralList
+	{
+		std::mutex					mMutex;
+		FreeBlock *					mHead = nullptr;
+	};
+
+	/// Per-thread free lists and statistics, linked into a registry so statistics can be summed
+	struct ThreadCache
+	{
+									ThreadCache();
+									~ThreadCache();
+
+		FreeBlock *					mHeads[PooledAllocator::cNumSizeClasses] = { };
+		uint						mCounts[PooledAllocator::cNumSizeClasses] = { };
+		std::atomic<int64>			mLiveBlocks[PooledAllocator::cNumSizeClasses] = { };	///< Written only by the owning thread, may go negative
+		ThreadCache *				mPrev = nullptr;
+		ThreadCache *				mNext = nullptr;
+	};
+
+	AlignedAllocateFunction			sDefaultAlignedAllocate = nullptr;
+	AlignedFreeFunction				sDefaultAlignedFree = nullptr;
+	bool							sRegistered = false;
+	uint8							sClassOfUnits[cMaxPooledSize / 16 + 1];
+
+	CentralList						sCentral[PooledAllocator::cNumSizeClasses];
+
+	std::mutex						sRegistryMutex;
+	ThreadCache *					sFirstCache = nullptr;
+	std::atomic<int64>				sRetiredLiveBlocks[PooledAllocator::cNumSizeClasses] = { };	///< From exited threads and from use after a thread's cache is gone
+
+	std::atomic<uint64>				sSlabBytes { 0 };
+	std::atomic<uint64>				sLargeBlocks { 0 };
+	std::atomic<uint64>				sLargeBytes { 0 };
+	std::atomic<uint64>				sPeakLargeBytes { 0 };
+
+	thread_local bool				tCacheDestroyed = false;
+
+	/// Pop one block from the central list of the specified class, carving a new slab if the list is empty. Caller must hold the lock.
+	FreeBlock *						sPopCentralLocked(uint inClass)
+	{
+		CentralList &central = sCentral[inClass];
+		if (central.mHead == nullptr)
+		{
+			uint8 *slab = static_cast<uint8 *>(sDefaultAlignedAllocate(cSlabSize, 16));
+			JPH_ASSERT(slab != nullptr);
+			sSlabBytes.fetch_add(cSlabSize, std::memory_order_relaxed);
+
+			// Link the blocks in address order
+			size_t stride = cHeaderSize + cClassSizes[inClass];
+			size_t num_blocks = cSlabSize / stride;
+			for (size_t i = num_blocks; i-- > 0; )
+			{
+				BlockHeader *header = reinterpret_cast<BlockHeader *>(slab + i * stride);
+				header->mClass = inClass;
+				header->mSize = cClassSizes[inClass];
+				FreeBlock *block = reinterpret_cast<FreeBlock *>(header + 1);
+				block->mNext = central.mHead;
+				central.mHead = block;
+			}
+		}
+
+		FreeBlock *result = central.mHead;
+		central.mHead = result->mNext;
+		return result;
+	}
+
+	ThreadCache::ThreadCache()
+	{
+		std::lock_guard lock(sRegistryMutex);
+		mNext = sFirstCache;
+		if (sFirstCache != nullptr)
+			sFirstCache->mPrev = this;
+		sFirstCache = this;
+	}
+
+	ThreadCache::~ThreadCache()
+	{
+		// Return cached blocks to the central lists
+		for (uint c = 0; c < PooledAllocator::cNumSizeClasses; ++c)
+		{
+			FreeBlock *head = mHeads[c];
+			if (head == nullptr)
+				continue;
+			FreeBlock *tail = head;
+			while (tail->mNext != nullptr)
+				tail = tail->mNext;
+			std::lock_guard lock(sCentral[c].mMutex);
+			tail->mNext = sCentral[c].mHead;
+			sCentral[c].mHead = head;
+		}
+
+		// Fold statistics into the retired totals and unlink
+		std::lock_guard lock(sRegistryMutex);
+		for (uint c = 0; c < PooledAllocator::cNumSizeClasses; ++c)
+			sRetiredLiveBlocks[c].fetch_add(mLiveBlocks[c].load(std::memory_order_relaxed), std::memory_order_relaxed);
+		if (mPrev != nullptr)
+			mPrev->mNext = mNext;
+		else
+			sFirstCache = mNext;
+		if (mNext != nullptr)
+			mNext->mPrev = mPrev;
+
+		tCacheDestroyed = true;
+	}
+
+	/// Access the current thread's cache, or nullptr if the thread is exiting and its cache is already gone
+	ThreadCache *					sGetCache()
+	{
+		if (tCacheDestroyed)
+			return nullptr;
+		thread_local ThreadCache cache;
+		return &cache;
+	}
+
+	/// Single-writer increment of a per-thread counter, without a locked instruction
+	inline void						sAddLive(std::atomic<int64> &ioCounter, int64 inDelta)
+	{
+		ioCounter.store(ioCounter.load(std::memory_order_relaxed) + inDelta, std::memory_order_relaxed);
+	}
+
+	void *							sAllocateLarge(size_t inSize)
+	{
+		BlockHeader *header = static_cast<BlockHeader *>(sDefaultAlignedAllocate(cHeaderSize + inSize, 16));
+		if (header == nullptr)
+			return nullptr;
+		header->mClass = cLargeClass;
+		header->mSize = inSize;
+
+		sLargeBlocks.fetch_add(1, std::memory_order_relaxed);
+		uint64 bytes = sLargeBytes.fetch_add(inSize, std::memory_order_relaxed) + inSize;
+		uint64 peak = sPeakLargeBytes.load(std::memory_order_relaxed);
+		while (bytes > peak && !sPeakLargeBytes.compare_exchange_weak(peak, bytes, std::memory_order_relaxed))
+			;
+
+		return header + 1;
+	}
+
+	void *							sAllocate(size_t inSize)
+	{
+		if (inSize > cMaxPooledSize)
+			return sAllocateLarge(inSize);
+		uint c = sClassOfUnits[(inSize + 15) >> 4];
+
+		ThreadCache *cache = sGetCache();
+		if (cache == nullptr)
+		{
+			sRetiredLiveBlocks[c].fetch_add(1, std::memory_order_relaxed);
+			std::lock_guard lock(sCentral[c].mMutex);
+			return sPopCentralLocked(c);
+		}
+
+		if (cache->mHeads[c] == nullptr)
+		{
+			// Refill with a batch, linked in the order popped
+			std::lock_guard lock(sCentral[c].mMutex);
+			FreeBlock *head = nullptr;
+			for (uint i = 0; i < cBatchSize; ++i)
+			{
+				FreeBlock *block = sPopCentralLocked(c);
+				block->mNext = head;
+				head = block;
+			}
+			cache->mHeads[c] = head;
+			cache->mCounts[c] = cBatchSize;
+		}
+
+		FreeBlock *result = cache->mHeads[c];
+		cache->mHeads[c] = result->mNext;
+		--cache->mCounts[c];
+		sAddLive(cache->mLiveBlocks[c], 1);
+		return result;
+	}
+
+	void							sFree(void *inBlock)
+	{
+		if (inBlock == nullptr)
+			return;
+
+		BlockHeader *header = static_cast<BlockHeader *>(inBlock) - 1;
+		uint32 c = header->mClass;
+		if (c == cLargeClass)
+		{
+			sLargeBlocks.fetch_sub(1, std::memory_order_relaxed);
+			sLargeBytes.fetch_sub(header->mSize, std::memory_order_relaxed);
+			sDefaultAlignedFree(header);
+			return;
+		}
+		JPH_ASSERT(c < PooledAllocator::cNumSizeClasses);
+
+		FreeBlock *block = static_cast<FreeBlock *>(inBlock);
+		ThreadCache *cache = sGetCache();
+		if (cache == nullptr)
+		{
+			sRetiredLiveBlocks[c].fetch_sub(1, std::memory_order_relaxed);
+			std::lock_guard lock(sCentral[c].mMutex);
+			block->mNext = sCentral[c].mHead;
+			sCentral[c].mHead = block;
+			return;
+		}
+
+		block->mNext = cache->mHeads[c];
+		cache->mHeads[c] = block;
+		++cache->mCounts[c];
+		sAddLive(cache->mLiveBlocks[c], -1);
+
+		if (cache->mCounts[c] > cMaxCached)
+		{
+			// Spill a batch from the head of the list
+			FreeBlock *head = cache->mHeads[c];
+			FreeBlock *tail = head;
+			for (uint i = 1; i < cBatchSize; ++i)
+				tail = tail->mNext;
+			cache->mHeads[c] = tail->mNext;
+			cache->mCounts[c] -= cBatchSize;
+
+			std::lock_guard lock(sCentral[c].mMutex);
+			tail->mNext = sCentral[c].mHead;
+			sCentral[c].mHead = head;
+		}
+	}
+
+	void *							sReallocate(void *inBlock, size_t inOldSize, size_t inNewSize)
+	{
+		if (inBlock == nullptr)
+			return sAllocate(inNewSize);
+
+		// Keep the block if the new size maps to the same class
+		const BlockHeader *header = static_cast<const BlockHeader *>(inBlock) - 1;
+		if (header->mClass != cLargeClass && inNewSize > 0 && inNewSize <= cMaxPooledSize
+			&& sClassOfUnits[(inNewSize + 15) >> 4] == header->mClass)
+			return inBlock;
+
+		void *result = sAllocate(inNewSize);
+		if (result != nullptr)
+		{
+			std::memcpy(result, inBlock, std::min(inOldSize, inNewSize));
+			sFree(inBlock);
+		}
+		return result;
+	}
+}
+
+void PooledAllocator::sRegister()
+{
+#ifndef JPH_DISABLE_CUSTOM_ALLOCATOR
+	JPH_ASSERT(!sRegistered);
+
+	// Capture the default aligned hooks, which back the slabs and large blocks
+	RegisterDefaultAllocator();
+	sDefaultAlignedAllocate = AlignedAllocate;
+	sDefaultAlignedFree = AlignedFree;
+
+	// Map each multiple of 16 bytes to the smallest class that fits it
+	uint c = 0;
+	for (uint units = 0; units <= cMaxPooledSize / 16; ++units)
+	{
+		while (cClassSizes[c] < units * 16)
+			++c;
+		sClassOfUnits[units] = uint8(c);
+	}
+
+	Allocate = sAllocate;
+	Reallocate = sReallocate;
+	Free = sFree;
+	sRegistered = true;
+#endif
+}
+
+bool PooledAllocator::sIsRegistered()
+{
+	return sRegistered;
+}
+
+uint PooledAllocator::sGetClassSize(uint inClass)
+{
+	JPH_ASSERT(inClass < cNumSizeClasses);
+	return cClassSizes[inClass];
+}
+
+uint64 PooledAllocator::sGetNumLiveBlocks(uint inClass)
+{
+	JPH_ASSERT(inClass < cNumSizeClasses);
+
+	std::lock_guard lock(sRegistryMutex);
+	int64 result = sRetiredLiveBlocks[inClass].load(std::memory_order_relaxed);
+	for (const ThreadCache *cache = sFirstCache; cache != nullptr; cache = cache->mNext)
+		result += cache->mLiveBlocks[inClass].load(std::memory_order_relaxed);
+
+	// Counts are read without stopping other threads, so a transient negative sum is possible
+	return result > 0? uint64(result) : 0;
+}
+
+uint64 PooledAllocator::sGetNumLargeBlocks()
+{
+	return sLargeBlocks.load(std::memory_order_relaxed);
+}
+
+uint64 PooledAllocator::sGetBytesInUse()
+{
+	uint64 result = sLargeBytes.load(std::memory_order_relaxed);
+	for (uint c = 0; c < cNumSizeClasses; ++c)
+		result += sGetNumLiveBlocks(c) * cClassSizes[c];
+	return result;
+}
+
+uint64 PooledAllocator::sGetPeakBytes()
+{
+	return sSlabBytes.load(std::memory_order_relaxed) + sPeakLargeBytes.load(std::memory_order_relaxed);
+}
+
+JPH_NAMESPACE_END
@@ -0,0 +1,41 @@
+#pragma once
+
+JPH_NAMESPACE_BEGIN
+
+/// An allocator for Jolt's Allocate/Reallocate/Free hooks that pools small blocks by size class.
+///
+/// Requests of up to 512 bytes are rounded up to one of cNumSizeClasses sizes and served from per-thread free lists, which
+/// are refilled from (and spilled to) per-class central lists in batches, so most allocations and frees take no lock. Central
+/// lists are carved from 64 KiB slabs, which are retained until the process exits. Larger requests, and all aligned requests,
+/// are passed on to the default allocator.
+///
+/// Statistics are gathered without any shared atomics on the pooled paths, so they're cheap enough to leave on.
+class PooledAllocator
+{
+public:
+	/// Number of size classes
+	static constexpr uint			cNumSizeClasses = 12;
+
+	/// Install the pooled allocator. Must be called before any other Jolt function, instead of RegisterDefaultAllocator().
+	static void						sRegister();
+
+	/// Test whether the pooled allocator has been installed
+	static bool						sIsRegistered();
+
+	/// Size (in bytes) of the blocks in the specified size class
+	static uint						sGetClassSize(uint inClass);
+
+	/// Number of pooled blocks of the specified size class currently allocated
+	static uint64					sGetNumLiveBlocks(uint inClass);
+
+	/// Number of large (unpooled) blocks currently allocated
+	static uint64					sGetNumLargeBlocks();
+
+	/// Number of bytes currently allocated, with pooled blocks counted at their class size
+	static uint64					sGetBytesInUse();
+
+	/// Peak number of bytes obtained from the default allocator for slabs and large blocks
+	static uint64					sGetPeakBytes();
+};
+
+JPH_NAMESPACE_END
@@ -4,6 +4,8 @@
 #include <Jolt/Physics/Collision/CollisionDispatch.h>
 #include <Jolt/Physics/Collision/Shape/SubShapeID.h>
 
+#include <mutex>
+
 #include "RegionShape.h"
 #include "RegionShapeVisitors.h"
 
@@ -30,6 +32,72 @@ RegionShape::RegionShape(const RegionShapeSettings& inSettings, ShapeResult& out
 	outResult.Set(this);
 }
 
+bool IndexedShapeCache::Find(uint32 inShapeIndex, IndexedShape &outShape) const
+{
+	const Stripe &stripe = mStripes[sGetStripe(inShapeIndex)];
+	{
+		std::lock_guard<Mutex> lock(stripe.mMutex);
+		UnorderedMap<uint32, IndexedShape>::const_iterator it = stripe.mShapes.find(inShapeIndex);
+		if (it != stripe.mShapes.end())
+		{
+			outShape = it->second;
+			mNumHits.fetch_add(1, memory_order_relaxed);
+			return true;
+		}
+	}
+
+	mNumMisses.fetch_add(1, memory_order_relaxed);
+	return false;
+}
+
+void IndexedShapeCache::Insert(const IndexedShape &inShape)
+{
+	Stripe &stripe = mStripes[sGetStripe(inShape.mShapeIndex)];
+	std::lock_guard<Mutex> lock(stripe.mMutex);
+
+	// Keep the cache bounded when it isn't invalidated regularly
+	if (stripe.mShapes.size() >= cMaxShapesPerStripe && stripe.mShapes.find(inShape.mShapeIndex) == stripe.mShapes.end())
+		stripe.mShapes.clear();
+
+	stripe.mShapes[inShape.mShapeIndex] = inShape;
+}
+
+void IndexedShapeCache::Clear()
+{
+	for (Stripe &stripe : mStripes)
+	{
+		std::lock_guard<Mutex> lock(stripe.mMutex);
+		stripe.mShapes.clear();
+	}
+}
+
+void RegionShape::GetShapeAt(uint32 inShapeIndex, IndexedShape &outShape) const
+{
+	if (!IsCacheEnabled())
+	{
+		mShapeCollector->GetShapeAt(inShapeIndex, &outShape);
+		return;
+	}
+
+	if (mCache.Find(inShapeIndex, outShape))
+		return;
+
+	mShapeCollector->GetShapeAt(inShapeIndex, &outShape);
+	if (outShape.mShape != nullptr)
+		mCache.Insert(outShape);
+}
+
+void RegionShape::CollectAt(const AABox &inBox, IndexedShapes &outShapes) const
+{
+	mShapeCollector->CollectAt(&inBox, &outShapes);
+
+	// Remember the collected shapes, so later lookups by index (materials, normals, contact callbacks) hit the cache
+	if (IsCacheEnabled())
+		for (const IndexedShape &shape : outShapes)
+			if (shape.mShape != nullptr)
+				mCache.Insert(shape);
+}
+
 const PhysicsMaterial* RegionShape::GetMaterial(const SubShapeID& inSubShapeID) const
 {
 	// Decode sub shape index
@@ -37,7 +105,7 @@ const PhysicsMaterial* RegionShape::GetMaterial(const SubShapeID& inSubShapeID)
 	uint32 index = GetSubShapeIndexFromID(inSubShapeID, remainder);
 
 	IndexedShape shape;
-	mShapeCollector->GetShapeAt(index, &shape);
+	GetShapeAt(index, shape);
 
 	if (shape.mShape == nullptr) {
 		return PhysicsMaterial::sDefault;
@@ -56,7 +124,7 @@ Vec3 RegionShape::GetSurfaceNormal(const SubShapeID& inSubShapeID, Vec3Arg inLoc
 
 	// Transform surface position to local space and pass call on
 	IndexedShape shape;
-	mShapeCollector->GetShapeAt(index, &shape);
+	GetShapeAt(index, shape);
 
 	Mat44 transform = Mat44::sInverseRotationTranslation(Quat::sIdentity(), shape.GetPositionCOM());
 	Vec3 normal = shape.mShape->GetSurfaceNormal(remainder, transform * inLocalSurfacePosition);
@@ -84,7 +152,7 @@ JPH_INLINE void RegionShape::WalkSubShapes(Visitor& ioVisitor) const
 	AABox collect_at = ioVisitor.GetTestWorldSpaceBounds();
 
 	IndexedShapes shapes;
-	mShapeCollector->CollectAt(&collect_at, &shapes);
+	CollectAt(collect_at, shapes);
 	uint shapes_size = shapes.size();
 
 	for (uint index = 0; index < shapes_size; index++)
@@ -157,7 +225,7 @@ void RegionShape::CollideSoftBodyVertices(Mat44Arg inCenterOfMassTransform, Vec3
 	AABox collect_at = AABox(min_position, max_position).Scaled(inScale).Transformed(inverse_transform);
 
 	IndexedShapes shapes;
-	mShapeCollector->CollectAt(&collect_at, &shapes);
+	CollectAt(collect_at, shapes);
 	uint shapes_size = shapes.size();
 
 	for (uint index = 0; index < shapes_size; index++)
@@ -202,7 +270,7 @@ void RegionShape::sCastCompoundVsShape(const ShapeCast& inShapeCast, const Shape
 
 	// Collect shapes
 	IndexedShapes shapes;
-	compound->mShapeCollector->CollectAt(&inShapeCast.mShapeWorldBounds, &shapes);
+	compound->CollectAt(inShapeCast.mShapeWorldBounds, shapes);
 
 	// Number of sub shapes
 	int n = (int)shapes.size();
@@ -1,8 +1,12 @@
 #pragma once
 
+#include "Jolt/Core/Atomics.h"
+#include "Jolt/Core/Mutex.h"
+#include "Jolt/Core/UnorderedMap.h"
 #include "Jolt/Physics/Collision/CollisionDispatch.h"
 #include "Jolt/Physics/Collision/Shape/Shape.h"
 #include "Jolt/Physics/Collision/Shape/SubShapeID.h"
+#include "Jolt/Physics/PhysicsStepListener.h"
 
 JPH_NAMESPACE_BEGIN
 
@@ -81,6 +85,47 @@ public:
 	virtual void				GetShapeAt(uint32 inShapeIndex, IndexedShape* ioShape) = 0;
 };
 
+/// A cache of the sub shapes resolved by an IndexedShapeCollector, keyed by shape index.
+/// The cache is split into independently locked stripes, so concurrent lookups rarely contend.
+/// Each stripe holds at most cMaxShapesPerStripe shapes; a full stripe is emptied before the next insertion, so the
+/// cache stays bounded even if it's never invalidated.
+class IndexedShapeCache
+{
+public:
+	/// Number of independently locked stripes
+	static constexpr uint		cNumStripes = 16;
+
+	/// Maximum number of shapes in each stripe
+	static constexpr uint		cMaxShapesPerStripe = 1024;
+
+	/// Look up a shape, returns false (a miss) if it isn't cached
+	bool						Find(uint32 inShapeIndex, IndexedShape &outShape) const;
+
+	/// Add a shape to the cache
+	void						Insert(const IndexedShape &inShape);
+
+	/// Remove all shapes from the cache
+	void						Clear();
+
+	/// Statistics
+	uint64						GetNumHits() const							{ return mNumHits.load(memory_order_relaxed); }
+	uint64						GetNumMisses() const						{ return mNumMisses.load(memory_order_relaxed); }
+	void						ResetStats()								{ mNumHits.store(0, memory_order_relaxed); mNumMisses.store(0, memory_order_relaxed); }
+
+private:
+	struct alignas(JPH_CACHE_LINE_SIZE) Stripe
+	{
+		mutable Mutex			mMutex;
+		UnorderedMap<uint32, IndexedShape> mShapes;
+	};
+
+	static inline uint			sGetStripe(uint32 inShapeIndex)			{ return (inShapeIndex ^ (inShapeIndex >> 9) ^ (inShapeIndex >> 18)) & (cNumStripes - 1); }
+
+	Stripe						mStripes[cNumStripes];
+	mutable atomic<uint64>		mNumHits { 0 };
+	mutable atomic<uint64>		mNumMisses { 0 };
+};
+
 /// Class that constructs a RegionShape.
 class JPH_EXPORT RegionShapeSettings final : public ShapeSettings
 {
@@ -158,6 +203,18 @@ public:
 	virtual void					Draw(DebugRenderer* inRenderer, RMat44Arg inCenterOfMassTransform, Vec3Arg inScale, ColorArg inColor, bool inUseMaterialColors, bool inDrawWireframe) const override {};
 #endif // JPH_DEBUG_RENDERER
 
+	/// Enable or disable caching of the sub shapes resolved by the collector.
+	/// The cache should be invalidated whenever the collector's contents change, typically at the start of each step.
+	void							SetCacheEnabled(bool inEnabled)				{ mCacheEnabled.store(inEnabled, memory_order_relaxed); if (!inEnabled) mCache.Clear(); }
+	bool							IsCacheEnabled() const						{ return mCacheEnabled.load(memory_order_relaxed); }
+
+	/// Remove all cached sub shapes
+	void							InvalidateCache() const						{ mCache.Clear(); }
+
+	/// Access the cache statistics
+	const IndexedShapeCache &		GetCache() const							{ return mCache; }
+	IndexedShapeCache &				GetCache()									{ return mCache; }
+
 	// See Shape::GetSubShapeIDBitsRecursive
 	virtual uint					GetSubShapeIDBitsRecursive() const override { return GetSubShapeIDBits(); }; // todo: can't get child, because they are "unknown"
 
@@ -208,8 +265,32 @@ protected:
 	}
 
 private:
+	/// Resolve a sub shape through the cache (if enabled) or the collector
+	void							GetShapeAt(uint32 inShapeIndex, IndexedShape &outShape) const;
+
+	/// Collect the sub shapes overlapping a box, adding them to the cache (if enabled)
+	void							CollectAt(const AABox &inBox, IndexedShapes &outShapes) const;
+
 	IndexedShapeCollector*          mShapeCollector;
 	Vec3                            mHalfExtent;
+	mutable IndexedShapeCache		mCache;
+	atomic<bool>					mCacheEnabled { false };
+};
+
+/// A step listener that invalidates the sub shape cache of a RegionShape before each step
+class RegionShapeCacheInvalidator final : public PhysicsStepListener
+{
+public:
+	JPH_OVERRIDE_NEW_DELETE
+
+	/// Constructor
+									RegionShapeCacheInvalidator(const RegionShape *inShape) : mShape(inShape) { }
+
+	// See: PhysicsStepListener
+	virtual void					OnStep(const PhysicsStepListenerContext &inContext) override { mShape->InvalidateCache(); }
+
+private:
+	RefConst<RegionShape>			mShape;
 };
 
 JPH_NAMESPACE_END
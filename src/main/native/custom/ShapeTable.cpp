@@ -0,0 +1,165 @@
+#include <Jolt/Jolt.h>
+
+#include <Jolt/Core/UnorderedSet.h>
+
+#include "ByteBufferStreamIn.h"
+#include "ForEachRange.h"
+#include "ShapeTable.h"
+
+JPH_NAMESPACE_BEGIN
+
+/// Output stream that appends to an array of bytes
+class ShapeTableStreamOut final : public StreamOut
+{
+public:
+	explicit						ShapeTableStreamOut(Array<uint8> &outData) : mData(outData) { }
+
+	// See: StreamOut
+	virtual void					WriteBytes(const void *inData, size_t inNumBytes) override
+	{
+		const uint8 *data = static_cast<const uint8 *>(inData);
+		mData.insert(mData.end(), data, data + inNumBytes);
+	}
+	virtual bool					IsFailed() const override					{ return false; }
+
+private:
+	Array<uint8> &					mData;
+};
+
+void ShapeTable::sSave(StreamOut &inStream, const ShapeList &inShapes, ShapeToIDMap &ioShapeMap, MaterialToIDMap &ioMaterialMap)
+{
+	// Select the shapes of the table
+	Array<const Shape *> table;
+	UnorderedSet<const Shape *> in_table;
+	for (const Shape *shape : inShapes)
+		if (shape != nullptr && ioShapeMap.find(shape) == ioShapeMap.end() && in_table.insert(shape).second)
+			table.push_back(shape);
+
+	// Collect the materials of the table's shapes and all their sub-shapes, visiting each shape once
+	PhysicsMaterialList materials;
+	UnorderedSet<const PhysicsMaterial *> in_materials;
+	UnorderedSet<const Shape *> visited;
+	Array<const Shape *> stack(table.begin(), table.end());
+	PhysicsMaterialList shape_materials;
+	ShapeList sub_shapes;
+	while (!stack.empty())
+	{
+		const Shape *shape = stack.back();
+		stack.pop_back();
+		if (!visited.insert(shape).second)
+			continue;
+
+		shape_materials.clear();
+		shape->SaveMaterialState(shape_materials);
+		for (const PhysicsMaterial *material : shape_materials)
+			if (material != nullptr && ioMaterialMap.find(material) == ioMaterialMap.end() && in_materials.insert(material).second)
+				materials.push_back(material);
+
+		sub_shapes.clear();
+		shape->SaveSubShapeState(sub_shapes);
+		for (const Shape *sub_shape : sub_shapes)
+			if (sub_shape != nullptr)
+				stack.push_back(sub_shape);
+	}
+	StreamUtils::SaveObjectArray<PhysicsMaterial, PhysicsMaterialList>(inStream, materials, &ioMaterialMap);
+
+	// Write each shape to a separate record. All materials are known by now, so a record only holds their IDs.
+	Array<uint8> records;
+	Array<uint32> record_sizes;
+	record_sizes.reserve(table.size());
+	ShapeTableStreamOut records_stream(records);
+	for (const Shape *shape : table)
+	{
+		size_t start = records.size();
+		ShapeToIDMap record_shape_map;
+		JPH_IF_ENABLE_ASSERTS(size_t num_materials = ioMaterialMap.size();)
+		shape->SaveWithChildren(records_stream, record_shape_map, ioMaterialMap);
+		JPH_ASSERT(ioMaterialMap.size() == num_materials);
+		record_sizes.push_back(uint32(records.size() - start));
+	}
+	inStream.Write(record_sizes);
+	inStream.WriteBytes(records.data(), records.size());
+
+	// Assign IDs in table order, matching sRestore()
+	for (const Shape *shape : table)
+	{
+		uint32 shape_id = uint32(ioShapeMap.size());
+		ioShapeMap[shape] = shape_id;
+	}
+}
+
+Result<ShapeList> ShapeTable::sRestore(StreamIn &inStream, JobSystem *inJobSystem, IDToShapeMap &ioShapeMap, IDToMaterialMap &ioMaterialMap)
+{
+	Result<ShapeList> result;
+
+	// Restore the shared materials
+	Result<PhysicsMaterialList> materials = StreamUtils::RestoreObjectArray<PhysicsMaterial, PhysicsMaterialList>(inStream, ioMaterialMap);
+	if (materials.HasError())
+	{
+		result.SetError(materials.GetError());
+		return result;
+	}
+
+	// Read the sizes of the records, then all the records with a single read
+	Array<uint32> record_sizes;
+	inStream.Read(record_sizes);
+	if (inStream.IsEOF() || inStream.IsFailed())
+	{
+		result.SetError("Failed to read shape table");
+		return result;
+	}
+	uint num_records = (uint)record_sizes.size();
+	Array<size_t> record_starts;
+	record_starts.reserve(num_records);
+	size_t num_bytes = 0;
+	for (uint32 size : record_sizes)
+	{
+		record_starts.push_back(num_bytes);
+		num_bytes += size;
+	}
+	Array<uint8> records;
+	records.resize(num_bytes);
+	inStream.ReadBytes(records.data(), num_bytes);
+	if (inStream.IsFailed())
+	{
+		result.SetError("Failed to read shape records");
+		return result;
+	}
+
+	// Restore the records in ranges. Each range has its own copy of the material map, in case a record holds a material.
+	Array<Shape::ShapeResult> shape_results(num_records);
+	auto restore_range = [&](uint inStart, uint inEnd)
+	{
+		IDToMaterialMap material_map = ioMaterialMap;
+		ByteBufferStreamIn record_stream;
+		for (uint i = inStart; i < inEnd; ++i)
+		{
+			record_stream.SetRegion(records.data() + record_starts[i], record_sizes[i]);
+			IDToShapeMap record_shape_map;
+			shape_results[i] = Shape::sRestoreWithChildren(record_stream, record_shape_map, material_map);
+		}
+	};
+
+	// Meshes and height fields are expensive while primitives are cheap, so use a few jobs per thread to balance the load
+	ForEachRange(inJobSystem, num_records, 1, restore_range, "ShapeTable");
+
+	// Resolve the IDs in table order, now that all records are restored
+	ShapeList shapes;
+	shapes.reserve(num_records);
+	for (const Shape::ShapeResult &shape_result : shape_results)
+	{
+		if (shape_result.HasError())
+		{
+			result.SetError(shape_result.GetError());
+			return result;
+		}
+		shapes.push_back(shape_result.Get());
+	}
+	for (const Shape *shape : shapes)
+		ioShapeMap.push_back(const_cast<Shape *>(shape));
+
+	result.Set(shapes);
+	return result;
+}
+
+JPH_NAMESPACE_END
@@ -0,0 +1,42 @@
+#pragma once
+
+#include <Jolt/Core/JobSystem.h>
+#include <Jolt/Core/Result.h>
+#include <Jolt/Core/StreamIn.h>
+#include <Jolt/Core/StreamOut.h>
+#include <Jolt/Core/StreamUtils.h>
+#include <Jolt/Physics/Collision/Shape/Shape.h>
+
+JPH_NAMESPACE_BEGIN
+
+/// Saves a list of shapes as a table of independent records, so they can be restored concurrently on a job system.
+///
+/// Shape::SaveWithChildren() writes each shape where it's first used, so a stream can only be decoded front to back. A
+/// shape table instead writes, in order:
+/// - the materials of all the shapes (including those of their sub-shapes), using the caller's material map;
+/// - the size of each shape record;
+/// - the shape records, each written by SaveWithChildren() with a fresh shape map, so it refers to nothing outside
+///   itself except the materials above.
+///
+/// Materials remain shared between shapes. Sub-shapes are shared within a record, but a sub-shape used by 2 shapes of
+/// the table is stored (and restored) twice.
+///
+/// The table's shapes are added to the caller's shape map in table order, on saving as well as on restoring, so body
+/// creation settings saved afterwards with the same maps refer to them by ID.
+class ShapeTable
+{
+public:
+	using ShapeToIDMap = StreamUtils::ObjectToIDMap<Shape>;
+	using IDToShapeMap = StreamUtils::IDToObjectMap<Shape>;
+	using MaterialToIDMap = StreamUtils::ObjectToIDMap<PhysicsMaterial>;
+	using IDToMaterialMap = StreamUtils::IDToObjectMap<PhysicsMaterial>;
+
+	/// Save the specified shapes as a table. Shapes already in ioShapeMap, and repeats, are left out of the table.
+	static void						sSave(StreamOut &inStream, const ShapeList &inShapes, ShapeToIDMap &ioShapeMap, MaterialToIDMap &ioMaterialMap);
+
+	/// Restore a table written by sSave(), using a few jobs per thread of inJobSystem (or the calling thread only if it's null).
+	/// @return The shapes of the table, in order
+	static Result<ShapeList>		sRestore(StreamIn &inStream, JobSystem *inJobSystem, IDToShapeMap &ioShapeMap, IDToMaterialMap &ioMaterialMap);
+};
+
+JPH_NAMESPACE_END
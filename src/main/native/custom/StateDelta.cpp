@@ -0,0 +1,147 @@
+#include <Jolt/Jolt.h>
+
+#include <algorithm>
+#include <cstring>
+
+#include "StateDelta.h"
+
+JPH_NAMESPACE_BEGIN
+
+namespace
+{
+	/// XOR of the current byte with the reference byte at the same offset
+	inline uint8					sXorAt(const uint8 *inReference, size_t inReferenceSize, const uint8 *inCurrent, size_t inIndex)
+	{
+		return inIndex < inReferenceSize? inCurrent[inIndex] ^ inReference[inIndex] : inCurrent[inIndex];
+	}
+
+	/// Append a varint, counting the bytes even when they don't fit
+	inline size_t					sWriteVarint(uint8 *outData, size_t inPos, size_t inCapacity, uint64 inValue)
+	{
+		do
+		{
+			uint8 byte = uint8(inValue & 0x7f);
+			inValue >>= 7;
+			if (inValue != 0)
+				byte |= 0x80;
+			if (inPos < inCapacity)
+				outData[inPos] = byte;
+			++inPos;
+		}
+		while (inValue != 0);
+		return inPos;
+	}
+
+	/// Read a varint, returning false if the data ends first or the value overflows
+	inline bool						sReadVarint(const uint8 *inData, size_t inSize, size_t &ioPos, uint64 &outValue)
+	{
+		outValue = 0;
+		for (uint shift = 0; shift < 64; shift += 7)
+		{
+			if (ioPos >= inSize)
+				return false;
+			uint8 byte = inData[ioPos++];
+			outValue |= uint64(byte & 0x7f) << shift;
+			if ((byte & 0x80) == 0)
+				return true;
+		}
+		return false;
+	}
+}
+
+size_t StateDelta::sEncode(const uint8 *inReference, size_t inReferenceSize, const uint8 *inCurrent, size_t inCurrentSize, uint8 *outDelta, size_t inDeltaCapacity)
+{
+	size_t common_size = std::min(inReferenceSize, inCurrentSize);
+	size_t pos = sWriteVarint(outDelta, 0, inDeltaCapacity, inCurrentSize);
+
+	size_t i = 0;
+	while (i < inCurrentSize)
+	{
+		// Skip unchanged bytes, a word at a time where possible
+		size_t run_start = i;
+		while (i + 8 <= common_size)
+		{
+			uint64 a, b;
+			std::memcpy(&a, inCurrent + i, 8);
+			std::memcpy(&b, inReference + i, 8);
+			if (a != b)
+				break;
+			i += 8;
+		}
+		while (i < inCurrentSize && sXorAt(inReference, inReferenceSize, inCurrent, i) == 0)
+			++i;
+		if (i == inCurrentSize)
+			break; // Trailing zeros are implied
+
+		// Extend the literal until a long enough zero run, or the end
+		size_t literal_start = i;
+		size_t literal_end = i;
+		size_t j = i;
+		while (j < inCurrentSize)
+		{
+			if (sXorAt(inReference, inReferenceSize, inCurrent, j) != 0)
+			{
+				literal_end = ++j;
+				continue;
+			}
+			size_t k = j;
+			while (k < inCurrentSize && k - j < cMinZeroRun && sXorAt(inReference, inReferenceSize, inCurrent, k) == 0)
+				++k;
+			if (k - j >= cMinZeroRun || k == inCurrentSize)
+				break;
+			j = k;
+		}
+
+		pos = sWriteVarint(outDelta, pos, inDeltaCapacity, literal_start - run_start);
+		pos = sWriteVarint(outDelta, pos, inDeltaCapacity, literal_end - literal_start);
+		for (size_t m = literal_start; m < literal_end; ++m, ++pos)
+			if (pos < inDeltaCapacity)
+				outDelta[pos] = sXorAt(inReference, inReferenceSize, inCurrent, m);
+		i = literal_end;
+	}
+
+	return pos;
+}
+
+size_t StateDelta::sDecode(const uint8 *inReference, size_t inReferenceSize, const uint8 *inDelta, size_t inDeltaSize, uint8 *outCurrent, size_t inCurrentCapacity)
+{
+	size_t pos = 0;
+	uint64 current_size;
+	if (!sReadVarint(inDelta, inDeltaSize, pos, current_size))
+		return 0;
+	if (current_size > inCurrentCapacity)
+		return size_t(current_size);
+
+	// Copies a span of the reference, zero-filled past its end
+	auto copy_reference = [inReference, inReferenceSize, outCurrent](size_t inStart, size_t inEnd) {
+		size_t copy_end = std::min(inEnd, std::max(inStart, inReferenceSize));
+		if (copy_end > inStart)
+			std::memcpy(outCurrent + inStart, inReference + inStart, copy_end - inStart);
+		std::memset(outCurrent + copy_end, 0, inEnd - copy_end);
+	};
+
+	size_t i = 0;
+	while (pos < inDeltaSize)
+	{
+		uint64 num_zeros, num_literals;
+		if (!sReadVarint(inDelta, inDeltaSize, pos, num_zeros)
+			|| !sReadVarint(inDelta, inDeltaSize, pos, num_literals)
+			|| num_zeros > current_size - i
+			|| num_literals > current_size - i - num_zeros
+			|| num_literals > inDeltaSize - pos)
+		{
+			JPH_ASSERT(false, "Malformed state delta");
+			return 0;
+		}
+
+		copy_reference(i, i + size_t(num_zeros));
+		i += size_t(num_zeros);
+		for (uint64 m = 0; m < num_literals; ++m, ++i)
+			outCurrent[i] = inDelta[pos++] ^ (i < inReferenceSize? inReference[i] : 0);
+	}
+	copy_reference(i, size_t(current_size));
+
+	return size_t(current_size);
+}
+
+JPH_NAMESPACE_END
@@ -0,0 +1,30 @@
+#pragma once
+
+JPH_NAMESPACE_BEGIN
+
+/// Encodes a state snapshot as a delta against a reference snapshot, and decodes it again.
+///
+/// The snapshot is XORed with the reference byte by byte (reference bytes past its end count as zero). The result is stored
+/// as alternating runs: a varint count of zero bytes to skip, then a varint count of literal bytes followed by those bytes.
+/// Zero runs shorter than cMinZeroRun are folded into the surrounding literal, and trailing zeros are implied.
+///
+/// Bodies whose state didn't change between 2 snapshots produce only zeros, so the size of a delta tracks the number of
+/// bodies that changed rather than the size of the world.
+class StateDelta
+{
+public:
+	/// Shortest run of unchanged bytes worth breaking a literal for
+	static constexpr size_t			cMinZeroRun = 4;
+
+	/// Encode inCurrent relative to inReference. Writes as much of the delta as fits in inDeltaCapacity bytes, so if the
+	/// returned size exceeds inDeltaCapacity, outDelta holds only a truncated prefix, which can't be decoded.
+	/// @return The size of the delta, which may exceed inDeltaCapacity
+	static size_t					sEncode(const uint8 *inReference, size_t inReferenceSize, const uint8 *inCurrent, size_t inCurrentSize, uint8 *outDelta, size_t inDeltaCapacity);
+
+	/// Decode a delta relative to the same reference it was encoded against. Writes to outCurrent only if the whole snapshot
+	/// fits in inCurrentCapacity bytes.
+	/// @return The size of the snapshot, which may exceed inCurrentCapacity, or 0 if the delta is malformed
+	static size_t					sDecode(const uint8 *inReference, size_t inReferenceSize, const uint8 *inDelta, size_t inDeltaSize, uint8 *outCurrent, size_t inCurrentCapacity);
+};
+
+JPH_NAMESPACE_END
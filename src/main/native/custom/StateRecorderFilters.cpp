@@ -0,0 +1,143 @@
+#include <Jolt/Jolt.h>
+
+#include <Jolt/Core/HashCombine.h>
+#include <Jolt/Physics/Constraints/TwoBodyConstraint.h>
+
+#include "StateRecorderFilters.h"
+
+JPH_NAMESPACE_BEGIN
+
+namespace
+{
+	inline bool						sTestBit(const Array<uint64> &inBits, uint inIndex)
+	{
+		uint word = inIndex >> 6;
+		return word < inBits.size() && (inBits[word] & (uint64(1) << (inIndex & 63))) != 0;
+	}
+
+	inline void						sSetBit(Array<uint64> &ioBits, uint inIndex, bool inValue)
+	{
+		uint word = inIndex >> 6;
+		if (word >= ioBits.size())
+		{
+			if (!inValue)
+				return;
+			ioBits.resize(word + 1, 0);
+		}
+		uint64 mask = uint64(1) << (inIndex & 63);
+		if (inValue)
+			ioBits[word] |= mask;
+		else
+			ioBits[word] &= ~mask;
+	}
+}
+
+bool BodySelectingStateFilter::IsSelectedID(const BodyID &inBodyID) const
+{
+	if (inBodyID.IsInvalid())
+		return false;
+
+	const Body *body = mBodyLockInterface.TryGetBody(inBodyID);
+	return body != nullptr && IsSelected(*body);
+}
+
+bool BodySelectingStateFilter::ShouldSaveConstraint(const Constraint &inConstraint) const
+{
+	if (inConstraint.GetType() != EConstraintType::TwoBodyConstraint)
+		return true;
+
+	const TwoBodyConstraint &constraint = static_cast<const TwoBodyConstraint &>(inConstraint);
+	return IsSelected(*constraint.GetBody1()) || IsSelected(*constraint.GetBody2());
+}
+
+bool BodySelectingStateFilter::ShouldSaveContact(const BodyID &inBody1, const BodyID &inBody2) const
+{
+	return IsSelectedID(inBody1) || IsSelectedID(inBody2);
+}
+
+void BodySetStateFilter::Add(const BodyID &inBodyID)
+{
+	sSetBit(mBits, inBodyID.GetIndex(), true);
+}
+
+void BodySetStateFilter::Remove(const BodyID &inBodyID)
+{
+	sSetBit(mBits, inBodyID.GetIndex(), false);
+}
+
+bool BodySetStateFilter::IsSelected(const Body &inBody) const
+{
+	return sTestBit(mBits, inBody.GetID().GetIndex());
+}
+
+void ObjectLayerStateFilter::SetLayer(ObjectLayer inLayer, bool inSelected)
+{
+	sSetBit(mBits, inLayer, inSelected);
+}
+
+bool ObjectLayerStateFilter::IsSelected(const Body &inBody) const
+{
+	return sTestBit(mBits, inBody.GetObjectLayer());
+}
+
+uint64 ChangedBodyStateFilter::sFingerprint(const Body &inBody)
+{
+	// Hash components explicitly, since the padding lanes of vector types are undefined
+	RVec3 position = inBody.GetPosition();
+	Quat rotation = inBody.GetRotation();
+	Vec3 linear_velocity = inBody.GetLinearVelocity();
+	Vec3 angular_velocity = inBody.GetAngularVelocity();
+	Real location[3] = { position.GetX(), position.GetY(), position.GetZ() };
+	float motion[10] = {
+		rotation.GetX(), rotation.GetY(), rotation.GetZ(), rotation.GetW(),
+		linear_velocity.GetX(), linear_velocity.GetY(), linear_velocity.GetZ(),
+		angular_velocity.GetX(), angular_velocity.GetY(), angular_velocity.GetZ() };
+
+	uint64 hash = HashBytes(location, sizeof(location));
+	hash = HashBytes(motion, sizeof(motion), hash);
+	hash ^= inBody.IsActive()? 1 : 0;
+	return hash != 0? hash : 1;
+}
+
+uint ChangedBodyStateFilter::Commit()
+{
+	uint result = 0;
+	for (uint word = 0; word < mSelected.size(); ++word)
+	{
+		uint64 bits = mSelected[word];
+		for (uint index = word << 6; bits != 0; ++index, bits >>= 1)
+		{
+			if ((bits & 1) == 0)
+				continue;
+			if (index >= mCommitted.size())
+				mCommitted.resize(index + 1, 0);
+			mCommitted[index] = mPending[index];
+			++result;
+		}
+		mSelected[word] = 0;
+	}
+	return result;
+}
+
+bool ChangedBodyStateFilter::IsSelected(const Body &inBody) const
+{
+	uint index = inBody.GetID().GetIndex();
+	return index >= mCommitted.size() || mCommitted[index] != sFingerprint(inBody);
+}
+
+bool ChangedBodyStateFilter::ShouldSaveBody(const Body &inBody) const
+{
+	uint index = inBody.GetID().GetIndex();
+	uint64 fingerprint = sFingerprint(inBody);
+	bool changed = index >= mCommitted.size() || mCommitted[index] != fingerprint;
+	if (changed)
+	{
+		if (index >= mPending.size())
+			mPending.resize(index + 1, 0);
+		mPending[index] = fingerprint;
+	}
+	sSetBit(mSelected, index, changed);
+	return changed;
+}
+
+JPH_NAMESPACE_END
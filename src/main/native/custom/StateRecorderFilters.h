@@ -0,0 +1,120 @@
+#pragma once
+
+#include <Jolt/Physics/Body/Body.h>
+#include <Jolt/Physics/Body/BodyLockInterface.h>
+#include <Jolt/Physics/PhysicsSystem.h>
+#include <Jolt/Physics/StateRecorder.h>
+
+JPH_NAMESPACE_BEGIN
+
+/// Base class for state-recorder filters that select bodies natively, so saving a large world makes no calls into Java.
+///
+/// A contact is saved if either of its bodies is selected, and so is a two-body constraint. Other constraints are always
+/// saved.
+class BodySelectingStateFilter : public StateRecorderFilter
+{
+public:
+	JPH_OVERRIDE_NEW_DELETE
+
+	/// Constructor. The system must outlive the filter.
+	explicit						BodySelectingStateFilter(const PhysicsSystem &inSystem) : mBodyLockInterface(inSystem.GetBodyLockInterfaceNoLock()) { }
+
+	/// Test whether the specified body is selected
+	virtual bool					IsSelected(const Body &inBody) const = 0;
+
+	// See: StateRecorderFilter
+	virtual bool					ShouldSaveBody(const Body &inBody) const override { return IsSelected(inBody); }
+	virtual bool					ShouldSaveConstraint(const Constraint &inConstraint) const override;
+	virtual bool					ShouldSaveContact(const BodyID &inBody1, const BodyID &inBody2) const override;
+
+private:
+	/// Test whether the identified body exists and is selected
+	bool							IsSelectedID(const BodyID &inBodyID) const;
+
+	const BodyLockInterface &		mBodyLockInterface;
+};
+
+/// Selects only active bodies
+class ActiveBodyStateFilter final : public BodySelectingStateFilter
+{
+public:
+	using BodySelectingStateFilter::BodySelectingStateFilter;
+
+	// See: BodySelectingStateFilter
+	virtual bool					IsSelected(const Body &inBody) const override { return inBody.IsActive(); }
+};
+
+/// Selects bodies by membership in a set of body indices, stored as a bitset
+class BodySetStateFilter final : public BodySelectingStateFilter
+{
+public:
+	using BodySelectingStateFilter::BodySelectingStateFilter;
+
+	/// Add a body to the set
+	void							Add(const BodyID &inBodyID);
+
+	/// Remove a body from the set
+	void							Remove(const BodyID &inBodyID);
+
+	/// Remove all bodies from the set
+	void							Clear()										{ mBits.clear(); }
+
+	// See: BodySelectingStateFilter
+	virtual bool					IsSelected(const Body &inBody) const override;
+
+private:
+	Array<uint64>					mBits;
+};
+
+/// Selects bodies by object layer
+class ObjectLayerStateFilter final : public BodySelectingStateFilter
+{
+public:
+	using BodySelectingStateFilter::BodySelectingStateFilter;
+
+	/// Select or deselect the specified layer
+	void							SetLayer(ObjectLayer inLayer, bool inSelected);
+
+	// See: BodySelectingStateFilter
+	virtual bool					IsSelected(const Body &inBody) const override;
+
+private:
+	Array<uint64>					mBits;
+};
+
+/// Selects bodies whose position, rotation, velocities or activation differ from their committed state. A body that has
+/// no committed state counts as changed.
+///
+/// Saving doesn't alter the committed states, so it doesn't matter how often Jolt consults the filter. Instead, Commit()
+/// adopts the states of the bodies selected by the latest save, so consecutive saves followed by commits form a chain of
+/// increments.
+class ChangedBodyStateFilter final : public BodySelectingStateFilter
+{
+public:
+	using BodySelectingStateFilter::BodySelectingStateFilter;
+
+	/// Adopt the states of the bodies selected by the latest save as their committed states
+	/// @return The number of bodies whose committed states changed
+	uint							Commit();
+
+	/// Forget all committed states, so the next save selects every body
+	void							Reset()										{ mCommitted.clear(); mPending.clear(); mSelected.clear(); }
+
+	// See: BodySelectingStateFilter
+	virtual bool					IsSelected(const Body &inBody) const override;
+
+	// See: StateRecorderFilter
+	virtual bool					ShouldSaveBody(const Body &inBody) const override;
+
+private:
+	/// Hash of the saved state of a body, never 0
+	static uint64					sFingerprint(const Body &inBody);
+
+	Array<uint64>					mCommitted;									///< Indexed by body index, 0 if none
+
+	// Updated while saving, which the filter interface treats as const
+	mutable Array<uint64>			mPending;									///< Indexed by body index, valid where mSelected is set
+	mutable Array<uint64>			mSelected;									///< Bitset of bodies selected by the latest save
+};
+
+JPH_NAMESPACE_END
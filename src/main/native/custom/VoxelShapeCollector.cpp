@@ -0,0 +1,634 @@
+#include <Jolt/Jolt.h>
+
+#include <Jolt/Physics/Body/BodyInterface.h>
+#include <Jolt/Physics/Collision/CastResult.h>
+#include <Jolt/Physics/Collision/PhysicsMaterial.h>
+#include <Jolt/Physics/Collision/Shape/BoxShape.h>
+#include <Jolt/Physics/Collision/RayCast.h>
+#include <Jolt/Physics/PhysicsSystem.h>
+
+#include "VoxelShapeCollector.h"
+
+#include <cmath>
+#include <mutex>
+#include <shared_mutex>
+
+JPH_NAMESPACE_BEGIN
+
+/// Convert a grid-space coordinate to a cell coordinate, clamped to [-1, inSize]
+static inline int sToCell(float inCoordinate, uint inSize)
+{
+	float clamped = Clamp(inCoordinate, -1.0f, float(inSize));
+	return (int)std::floor(clamped);
+}
+
+bool VoxelSection::IsEmpty() const
+{
+	for (uint16 cell : mCells)
+		if (cell != 0)
+			return false;
+
+	return true;
+}
+
+VoxelShapeCollector::VoxelShapeCollector(uint inSizeX, uint inSizeY, uint inSizeZ) :
+	mSizeX(inSizeX),
+	mSizeY(inSizeY),
+	mSizeZ(inSizeZ)
+{
+	JPH_ASSERT(inSizeX <= cMaxSize && inSizeY <= cMaxSize && inSizeZ <= cMaxSize);
+
+	mNumSectionsX = (inSizeX + VoxelSection::cSize - 1) >> VoxelSection::cSizeBits;
+	mNumSectionsY = (inSizeY + VoxelSection::cSize - 1) >> VoxelSection::cSizeBits;
+	mNumSectionsZ = (inSizeZ + VoxelSection::cSize - 1) >> VoxelSection::cSizeBits;
+	mHalfExtent = GetHalfExtent();
+	mSections.resize(GetNumSections());
+	mIsDirty.resize(GetNumSections(), false);
+	mPalette.resize(1); // index 0 is always empty
+	mFullCube.resize(1, false);
+}
+
+uint VoxelShapeCollector::GetPaletteSize() const
+{
+	std::shared_lock<SharedMutex> lock(mSectionsMutex);
+	return (uint)mPalette.size();
+}
+
+void VoxelShapeCollector::SetPaletteShape(uint16 inPaletteIndex, const Shape *inShape, bool inIsFullCube)
+{
+	JPH_ASSERT(inPaletteIndex != 0, "palette index 0 is reserved for empty cells");
+	if (inPaletteIndex == 0)
+		return;
+
+	std::lock_guard<Mutex> write_lock(mWriteMutex);
+	std::unique_lock<SharedMutex> lock(mSectionsMutex);
+	if (inPaletteIndex >= mPalette.size())
+	{
+		mPalette.resize(inPaletteIndex + 1);
+		mFullCube.resize(inPaletteIndex + 1, false);
+	}
+	mPalette[inPaletteIndex] = inShape;
+	mFullCube[inPaletteIndex] = inIsFullCube;
+
+	// Invalidate all merged boxes and the box shapes derived from the palette
+	if (++mPaletteVersion == 0)
+		mPaletteVersion = 1;
+	std::lock_guard<Mutex> cache_lock(mBoxCacheMutex);
+	mBoxCache.clear();
+}
+
+const Shape *VoxelShapeCollector::GetPaletteShape(uint16 inPaletteIndex) const
+{
+	std::shared_lock<SharedMutex> lock(mSectionsMutex);
+	return GetPaletteShapeLocked(inPaletteIndex);
+}
+
+bool VoxelShapeCollector::IsPaletteFullCube(uint16 inPaletteIndex) const
+{
+	std::shared_lock<SharedMutex> lock(mSectionsMutex);
+	return IsPaletteFullCubeLocked(inPaletteIndex);
+}
+
+uint16 VoxelShapeCollector::GetCell(uint inX, uint inY, uint inZ) const
+{
+	std::shared_lock<SharedMutex> lock(mSectionsMutex);
+	return GetCellLocked(inX, inY, inZ);
+}
+
+void VoxelShapeCollector::MarkDirty(uint inSectionIndex)
+{
+	if (!mIsDirty[inSectionIndex])
+	{
+		mIsDirty[inSectionIndex] = true;
+		mDirtySections.push_back(inSectionIndex);
+	}
+}
+
+void VoxelShapeCollector::SetCellLocked(uint inX, uint inY, uint inZ, uint16 inPaletteIndex)
+{
+	const uint section_index = GetSectionIndexOfCell(inX, inY, inZ);
+	const uint local_index = VoxelSection::sGetLocalIndex(inX, inY, inZ);
+	Ref<VoxelSection> &section = mSections[section_index];
+	if (section == nullptr)
+	{
+		if (inPaletteIndex == 0)
+			return;
+		section = new VoxelSection;
+	}
+	else if (section->mCells[local_index] == inPaletteIndex)
+		return;
+	else if (section->GetRefCount() > 1)
+		section = new VoxelSection(*section); // copy on write, someone holds a snapshot
+
+	section->mCells[local_index] = inPaletteIndex;
+	section->InvalidateMergedBoxes();
+	MarkDirty(section_index);
+}
+
+void VoxelShapeCollector::SetCell(uint inX, uint inY, uint inZ, uint16 inPaletteIndex)
+{
+	std::lock_guard<Mutex> write_lock(mWriteMutex);
+	std::unique_lock<SharedMutex> lock(mSectionsMutex);
+	SetCellLocked(inX, inY, inZ, inPaletteIndex);
+}
+
+void VoxelShapeCollector::SetCells(uint inStart, const uint16 *inPaletteIndices, uint inCount)
+{
+	JPH_ASSERT(inStart + inCount <= GetNumCells());
+
+	std::lock_guard<Mutex> write_lock(mWriteMutex);
+	std::unique_lock<SharedMutex> lock(mSectionsMutex);
+	uint x = inStart % mSizeX;
+	uint y = (inStart / mSizeX) % mSizeY;
+	uint z = inStart / (mSizeX * mSizeY);
+	for (uint i = 0; i < inCount; ++i)
+	{
+		SetCellLocked(x, y, z, inPaletteIndices[i]);
+		if (++x == mSizeX)
+		{
+			x = 0;
+			if (++y == mSizeY)
+			{
+				y = 0;
+				++z;
+			}
+		}
+	}
+}
+
+void VoxelShapeCollector::SetCells(uint inStart, const int32 *inPaletteIndices, uint inCount)
+{
+	JPH_ASSERT(inStart + inCount <= GetNumCells());
+
+	std::lock_guard<Mutex> write_lock(mWriteMutex);
+	std::unique_lock<SharedMutex> lock(mSectionsMutex);
+	uint x = inStart % mSizeX;
+	uint y = (inStart / mSizeX) % mSizeY;
+	uint z = inStart / (mSizeX * mSizeY);
+	for (uint i = 0; i < inCount; ++i)
+	{
+		SetCellLocked(x, y, z, (uint16)inPaletteIndices[i]);
+		if (++x == mSizeX)
+		{
+			x = 0;
+			if (++y == mSizeY)
+			{
+				y = 0;
+				++z;
+			}
+		}
+	}
+}
+
+void VoxelShapeCollector::SetSection(uint inSectionX, uint inSectionY, uint inSectionZ, const uint16 *inPaletteIndices)
+{
+	const uint section_index = GetSectionIndex(inSectionX, inSectionY, inSectionZ);
+
+	// Build the replacement without blocking queries
+	Ref<VoxelSection> section = new VoxelSection;
+	memcpy(section->mCells, inPaletteIndices, sizeof(section->mCells));
+
+	// Clear any cells that lie outside the grid
+	const uint s = VoxelSection::cSize;
+	for (uint z = 0; z < s; ++z)
+		for (uint y = 0; y < s; ++y)
+			for (uint x = 0; x < s; ++x)
+				if (inSectionX * s + x >= mSizeX || inSectionY * s + y >= mSizeY || inSectionZ * s + z >= mSizeZ)
+					section->mCells[VoxelSection::sGetLocalIndex(x, y, z)] = 0;
+
+	if (section->IsEmpty())
+		section = nullptr;
+
+	std::lock_guard<Mutex> write_lock(mWriteMutex);
+	{
+		std::unique_lock<SharedMutex> lock(mSectionsMutex);
+		std::swap(mSections[section_index], section);
+	}
+	MarkDirty(section_index);
+
+	// The previous section (if any) is released here, outside the exclusive lock
+}
+
+RefConst<VoxelSection> VoxelShapeCollector::GetSection(uint inSectionIndex) const
+{
+	std::shared_lock<SharedMutex> lock(mSectionsMutex);
+	return mSections[inSectionIndex].GetPtr();
+}
+
+void VoxelShapeCollector::Fill(uint16 inPaletteIndex)
+{
+	// All interior sections share a single filled section, which gets copied on the first write
+	Ref<VoxelSection> filled;
+	if (inPaletteIndex != 0)
+	{
+		filled = new VoxelSection;
+		for (uint16 &cell : filled->mCells)
+			cell = inPaletteIndex;
+	}
+
+	std::lock_guard<Mutex> write_lock(mWriteMutex);
+	std::unique_lock<SharedMutex> lock(mSectionsMutex);
+	const uint s = VoxelSection::cSize;
+	for (uint sz = 0; sz < mNumSectionsZ; ++sz)
+		for (uint sy = 0; sy < mNumSectionsY; ++sy)
+			for (uint sx = 0; sx < mNumSectionsX; ++sx)
+			{
+				const uint section_index = GetSectionIndex(sx, sy, sz);
+				const bool is_partial = (sx + 1) * s > mSizeX || (sy + 1) * s > mSizeY || (sz + 1) * s > mSizeZ;
+				if (filled != nullptr && is_partial)
+				{
+					// Sections on the boundary of the grid get their own copy, with the cells outside the grid left empty
+					Ref<VoxelSection> trimmed = new VoxelSection;
+					for (uint z = 0; z < s && sz * s + z < mSizeZ; ++z)
+						for (uint y = 0; y < s && sy * s + y < mSizeY; ++y)
+							for (uint x = 0; x < s && sx * s + x < mSizeX; ++x)
+								trimmed->mCells[VoxelSection::sGetLocalIndex(x, y, z)] = inPaletteIndex;
+					mSections[section_index] = trimmed;
+				}
+				else
+					mSections[section_index] = filled;
+				MarkDirty(section_index);
+			}
+}
+
+AABox VoxelShapeCollector::GetSectionBounds(uint inSectionIndex) const
+{
+	const uint sx = inSectionIndex % mNumSectionsX;
+	const uint sy = (inSectionIndex / mNumSectionsX) % mNumSectionsY;
+	const uint sz = inSectionIndex / (mNumSectionsX * mNumSectionsY);
+	const uint s = VoxelSection::cSize;
+
+	const Vec3 min(float(sx * s), float(sy * s), float(sz * s));
+	const Vec3 max(float(JPH::min((sx + 1) * s, mSizeX)), float(JPH::min((sy + 1) * s, mSizeY)), float(JPH::min((sz + 1) * s, mSizeZ)));
+	return AABox(min - mHalfExtent, max - mHalfExtent);
+}
+
+void VoxelShapeCollector::TakeDirtySections(Array<uint> &ioSections)
+{
+	ioSections.clear();
+
+	std::lock_guard<Mutex> write_lock(mWriteMutex);
+	std::swap(ioSections, mDirtySections);
+	for (uint section_index : ioSections)
+		mIsDirty[section_index] = false;
+}
+
+const Array<VoxelSection::MergedBox> &VoxelShapeCollector::GetMergedBoxesLocked(const VoxelSection &inSection) const
+{
+	if (inSection.mMergedVersion.load(memory_order_acquire) == mPaletteVersion)
+		return inSection.mMergedBoxes;
+
+	// Several queries may need the same section, only one of them builds the boxes
+	std::lock_guard<Mutex> lock(inSection.mMergeMutex);
+	if (inSection.mMergedVersion.load(memory_order_relaxed) == mPaletteVersion)
+		return inSection.mMergedBoxes;
+
+	Array<VoxelSection::MergedBox> &boxes = inSection.mMergedBoxes;
+	boxes.clear();
+
+	const uint16 *cells = inSection.mCells;
+	bool used[VoxelSection::cNumCells] = { };
+	const uint n = VoxelSection::cSize;
+	for (uint z = 0; z < n; ++z)
+		for (uint y = 0; y < n; ++y)
+			for (uint x = 0; x < n; ++x)
+			{
+				const uint16 palette_index = cells[VoxelSection::sGetLocalIndex(x, y, z)];
+				if (palette_index == 0 || used[VoxelSection::sGetLocalIndex(x, y, z)] || !IsPaletteFullCubeLocked(palette_index))
+					continue;
+
+				auto matches = [cells, &used, palette_index](uint inX, uint inY, uint inZ) {
+					const uint i = VoxelSection::sGetLocalIndex(inX, inY, inZ);
+					return !used[i] && cells[i] == palette_index;
+				};
+
+				// Grow along X, then Y, then Z
+				uint dx = 1;
+				while (x + dx < n && matches(x + dx, y, z))
+					++dx;
+
+				uint dy = 1;
+				for (; y + dy < n; ++dy)
+				{
+					bool row_matches = true;
+					for (uint i = 0; i < dx && row_matches; ++i)
+						row_matches = matches(x + i, y + dy, z);
+					if (!row_matches)
+						break;
+				}
+
+				uint dz = 1;
+				for (; z + dz < n; ++dz)
+				{
+					bool slab_matches = true;
+					for (uint j = 0; j < dy && slab_matches; ++j)
+						for (uint i = 0; i < dx && slab_matches; ++i)
+							slab_matches = matches(x + i, y + j, z + dz);
+					if (!slab_matches)
+						break;
+				}
+
+				for (uint k = 0; k < dz; ++k)
+					for (uint j = 0; j < dy; ++j)
+						for (uint i = 0; i < dx; ++i)
+							used[VoxelSection::sGetLocalIndex(x + i, y + j, z + k)] = true;
+
+				VoxelSection::MergedBox &box = boxes.emplace_back();
+				box.mMin[0] = uint8(x);
+				box.mMin[1] = uint8(y);
+				box.mMin[2] = uint8(z);
+				box.mSize[0] = uint8(dx);
+				box.mSize[1] = uint8(dy);
+				box.mSize[2] = uint8(dz);
+				box.mPaletteIndex = palette_index;
+			}
+
+	inSection.mMergedVersion.store(mPaletteVersion, memory_order_release);
+	return boxes;
+}
+
+const Shape *VoxelShapeCollector::GetMergedBoxShape(const VoxelSection::MergedBox &inBox, const Shape *inCellShape)
+{
+	const uint64 key = uint64(inBox.mSize[0]) | (uint64(inBox.mSize[1]) << 8) | (uint64(inBox.mSize[2]) << 16) | (uint64(inBox.mPaletteIndex) << 24);
+
+	std::lock_guard<Mutex> lock(mBoxCacheMutex);
+	RefConst<Shape> &shape = mBoxCache[key];
+	if (shape == nullptr)
+	{
+		const Vec3 half_extent = 0.5f * Vec3(float(inBox.mSize[0]), float(inBox.mSize[1]), float(inBox.mSize[2]));
+		shape = new BoxShape(half_extent, cDefaultConvexRadius, inCellShape->GetMaterial(SubShapeID()));
+	}
+
+	return shape;
+}
+
+void VoxelShapeCollector::LoadMergedBox(uint inSectionX, uint inSectionY, uint inSectionZ, const VoxelSection::MergedBox &inBox, const Shape *inShape, IndexedShape &outShape) const
+{
+	const uint s = VoxelSection::cSize;
+	const uint x = inSectionX * s + inBox.mMin[0];
+	const uint y = inSectionY * s + inBox.mMin[1];
+	const uint z = inSectionZ * s + inBox.mMin[2];
+	const Vec3 min(float(x), float(y), float(z));
+	const Vec3 center = min + 0.5f * Vec3(float(inBox.mSize[0]), float(inBox.mSize[1]), float(inBox.mSize[2]));
+
+	outShape.LoadShape(inShape, cMergedBoxFlag | sEncodeShapeIndex(x, y, z), center - mHalfExtent);
+}
+
+void VoxelShapeCollector::LoadCell(uint inX, uint inY, uint inZ, const Shape *inShape, IndexedShape &outShape) const
+{
+	outShape.LoadShapeFromHalfExtent(inShape, sEncodeShapeIndex(inX, inY, inZ), mHalfExtent);
+}
+
+template <class Visitor>
+void VoxelShapeCollector::WalkRay(const RayCast &inRay, Visitor &ioVisitor) const
+{
+	// Work in grid space, where cell (x, y, z) occupies [x, x + 1] x [y, y + 1] x [z, z + 1]
+	const Vec3 origin = inRay.mOrigin + mHalfExtent;
+	const Vec3 direction = inRay.mDirection;
+	const uint sizes[3] = { mSizeX, mSizeY, mSizeZ };
+
+	// Clip the ray against the grid bounds
+	float t_enter = 0.0f;
+	float t_exit = 1.0f;
+	for (uint axis = 0; axis < 3; ++axis)
+	{
+		float o = origin[axis];
+		float d = direction[axis];
+		if (d == 0.0f)
+		{
+			if (o < 0.0f || o > float(sizes[axis]))
+				return;
+		}
+		else
+		{
+			float t1 = -o / d;
+			float t2 = (float(sizes[axis]) - o) / d;
+			if (t1 > t2)
+				std::swap(t1, t2);
+			t_enter = max(t_enter, t1);
+			t_exit = min(t_exit, t2);
+			if (t_enter > t_exit)
+				return;
+		}
+	}
+
+	// Initialize the traversal (Amanatides & Woo)
+	const Vec3 start = origin + t_enter * direction;
+	int cell[3];
+	int step[3];
+	float t_max[3];
+	float t_delta[3];
+	for (uint axis = 0; axis < 3; ++axis)
+	{
+		cell[axis] = Clamp(sToCell(start[axis], sizes[axis]), 0, int(sizes[axis]) - 1);
+		float d = direction[axis];
+		if (d > 0.0f)
+		{
+			step[axis] = 1;
+			t_delta[axis] = 1.0f / d;
+			t_max[axis] = (float(cell[axis] + 1) - origin[axis]) / d;
+		}
+		else if (d < 0.0f)
+		{
+			step[axis] = -1;
+			t_delta[axis] = -1.0f / d;
+			t_max[axis] = (float(cell[axis]) - origin[axis]) / d;
+		}
+		else
+		{
+			step[axis] = 0;
+			t_delta[axis] = FLT_MAX;
+			t_max[axis] = FLT_MAX;
+		}
+	}
+
+	for (;;)
+	{
+		uint16 palette_index = GetCellLocked(cell[0], cell[1], cell[2]);
+		if (palette_index != 0)
+		{
+			const Shape *shape = GetPaletteShapeLocked(palette_index);
+			if (shape != nullptr && ioVisitor(uint(cell[0]), uint(cell[1]), uint(cell[2]), shape))
+				return;
+		}
+
+		// Step to the neighboring cell with the nearest boundary
+		uint axis = t_max[0] < t_max[1]? (t_max[0] < t_max[2]? 0 : 2) : (t_max[1] < t_max[2]? 1 : 2);
+		if (t_max[axis] > t_exit)
+			return;
+		cell[axis] += step[axis];
+		if (cell[axis] < 0 || cell[axis] >= int(sizes[axis]))
+			return;
+		t_max[axis] += t_delta[axis];
+	}
+}
+
+void VoxelShapeCollector::CollectAt(const AABox *inBox, IndexedShapes *inTo)
+{
+	const Vec3 lower = inBox->mMin + mHalfExtent;
+	const Vec3 upper = inBox->mMax + mHalfExtent;
+
+	const int x0 = max(sToCell(lower.GetX(), mSizeX), 0);
+	const int y0 = max(sToCell(lower.GetY(), mSizeY), 0);
+	const int z0 = max(sToCell(lower.GetZ(), mSizeZ), 0);
+	const int x1 = min(sToCell(upper.GetX(), mSizeX), int(mSizeX) - 1);
+	const int y1 = min(sToCell(upper.GetY(), mSizeY), int(mSizeY) - 1);
+	const int z1 = min(sToCell(upper.GetZ(), mSizeZ), int(mSizeZ) - 1);
+	if (x0 > x1 || y0 > y1 || z0 > z1)
+		return;
+
+	const bool merge_boxes = GetMergeBoxes();
+
+	std::shared_lock<SharedMutex> lock(mSectionsMutex);
+
+	// Visit the overlapping sections, skipping empty ones
+	const uint bits = VoxelSection::cSizeBits;
+	for (uint sz = z0 >> bits; sz <= uint(z1) >> bits; ++sz)
+		for (uint sy = y0 >> bits; sy <= uint(y1) >> bits; ++sy)
+			for (uint sx = x0 >> bits; sx <= uint(x1) >> bits; ++sx)
+			{
+				const VoxelSection *section = mSections[GetSectionIndex(sx, sy, sz)];
+				if (section == nullptr)
+					continue;
+
+				const int cx0 = max(x0, int(sx << bits)), cx1 = min(x1, int(((sx + 1) << bits) - 1));
+				const int cy0 = max(y0, int(sy << bits)), cy1 = min(y1, int(((sy + 1) << bits) - 1));
+				const int cz0 = max(z0, int(sz << bits)), cz1 = min(z1, int(((sz + 1) << bits) - 1));
+
+				// Merged boxes replace the full-cube cells
+				if (merge_boxes)
+					for (const VoxelSection::MergedBox &box : GetMergedBoxesLocked(*section))
+					{
+						const int bx = int(sx << bits) + box.mMin[0];
+						const int by = int(sy << bits) + box.mMin[1];
+						const int bz = int(sz << bits) + box.mMin[2];
+						if (bx > cx1 || by > cy1 || bz > cz1 || bx + box.mSize[0] <= cx0 || by + box.mSize[1] <= cy0 || bz + box.mSize[2] <= cz0)
+							continue;
+
+						const Shape *cell_shape = GetPaletteShapeLocked(box.mPaletteIndex);
+						if (cell_shape == nullptr)
+							continue;
+
+						IndexedShape &indexed_shape = inTo->emplace_back();
+						LoadMergedBox(sx, sy, sz, box, GetMergedBoxShape(box, cell_shape), indexed_shape);
+					}
+
+				for (int z = cz0; z <= cz1; ++z)
+					for (int y = cy0; y <= cy1; ++y)
+						for (int x = cx0; x <= cx1; ++x)
+						{
+							uint16 palette_index = section->mCells[VoxelSection::sGetLocalIndex(x, y, z)];
+							if (palette_index == 0 || (merge_boxes && IsPaletteFullCubeLocked(palette_index)))
+								continue;
+
+							const Shape *shape = GetPaletteShapeLocked(palette_index);
+							if (shape == nullptr)
+								continue;
+
+							IndexedShape &indexed_shape = inTo->emplace_back();
+							LoadCell(x, y, z, shape, indexed_shape);
+						}
+			}
+}
+
+bool VoxelShapeCollector::CastRay(const RayCast &inRay, IndexedShape *ioShape)
+{
+	// Find the first cell whose shape is actually hit, cells are visited front to back
+	bool found = false;
+	auto visitor = [this, &inRay, ioShape, &found](uint inX, uint inY, uint inZ, const Shape *inShape) {
+		IndexedShape candidate;
+		LoadCell(inX, inY, inZ, inShape, candidate);
+
+		RayCast ray = inRay.Transformed(Mat44::sTranslation(-candidate.GetPositionCOM()));
+		RayCastResult hit;
+		if (!inShape->CastRay(ray, SubShapeIDCreator(), hit))
+			return false;
+
+		*ioShape = candidate;
+		found = true;
+		return true;
+	};
+
+	std::shared_lock<SharedMutex> lock(mSectionsMutex);
+	WalkRay(inRay, visitor);
+
+	return found;
+}
+
+void VoxelShapeCollector::CollectCastRay(const RayCast &inRay, IndexedShapes *ioShapes)
+{
+	auto visitor = [this, ioShapes](uint inX, uint inY, uint inZ, const Shape *inShape) {
+		IndexedShape &indexed_shape = ioShapes->emplace_back();
+		LoadCell(inX, inY, inZ, inShape, indexed_shape);
+		return false;
+	};
+
+	std::shared_lock<SharedMutex> lock(mSectionsMutex);
+	WalkRay(inRay, visitor);
+}
+
+void VoxelShapeCollector::GetShapeAt(uint32 inShapeIndex, IndexedShape *ioShape)
+{
+	const int x = int(inShapeIndex & 0x1FF) - 1;
+	const int y = int((inShapeIndex >> 9) & 0x1FF) - 1;
+	const int z = int((inShapeIndex >> 18) & 0x1FF) - 1;
+
+	const Shape *shape = nullptr;
+	if (x >= 0 && y >= 0 && z >= 0 && x < int(mSizeX) && y < int(mSizeY) && z < int(mSizeZ))
+	{
+		std::shared_lock<SharedMutex> lock(mSectionsMutex);
+
+		if ((inShapeIndex & cMergedBoxFlag) != 0)
+		{
+			// Find the merged box whose minimum is the encoded cell
+			const uint bits = VoxelSection::cSizeBits;
+			const VoxelSection *section = mSections[GetSectionIndexOfCell(x, y, z)];
+			if (section != nullptr)
+				for (const VoxelSection::MergedBox &box : GetMergedBoxesLocked(*section))
+					if (box.mMin[0] == (x & (VoxelSection::cSize - 1)) && box.mMin[1] == (y & (VoxelSection::cSize - 1)) && box.mMin[2] == (z & (VoxelSection::cSize - 1)))
+					{
+						const Shape *cell_shape = GetPaletteShapeLocked(box.mPaletteIndex);
+						if (cell_shape == nullptr)
+							break;
+
+						LoadMergedBox(uint(x) >> bits, uint(y) >> bits, uint(z) >> bits, box, GetMergedBoxShape(box, cell_shape), *ioShape);
+						return;
+					}
+
+			// The box no longer exists, fall back to the cell
+		}
+
+		shape = GetPaletteShapeLocked(GetCellLocked(x, y, z));
+	}
+
+	if (shape == nullptr)
+	{
+		ioShape->mShape = nullptr;
+		ioShape->mShapeIndex = inShapeIndex;
+		return;
+	}
+
+	LoadCell(x, y, z, shape, *ioShape);
+}
+
+void VoxelActivationListener::OnStep(const PhysicsStepListenerContext &inContext)
+{
+	mCollector->TakeDirtySections(mDirtySections);
+	if (mDirtySections.empty())
+		return;
+
+	// Step listeners run while the bodies are locked, so use the non-locking interface
+	BodyInterface &body_interface = inContext.mPhysicsSystem->GetBodyInterfaceNoLock();
+	const RMat44 com_transform = body_interface.GetCenterOfMassTransform(mRegionBodyID);
+	const Mat44 transform = com_transform.GetRotation().PostTranslated(Vec3(com_transform.GetTranslation()));
+
+	for (uint section_index : mDirtySections)
+	{
+		// Expand slightly so that bodies resting on the section are included
+		AABox bounds = mCollector->GetSectionBounds(section_index);
+		bounds.ExpandBy(Vec3::sReplicate(0.1f));
+		body_interface.ActivateBodiesInAABox(bounds.Transformed(transform), mBroadPhaseLayerFilter, mObjectLayerFilter);
+	}
+}
+
+JPH_NAMESPACE_END
@@ -0,0 +1,247 @@
+#pragma once
+
+#include <Jolt/Core/Atomics.h>
+#include <Jolt/Core/Mutex.h>
+#include <Jolt/Core/UnorderedMap.h>
+#include <Jolt/Physics/Collision/BroadPhase/BroadPhaseLayer.h>
+#include <Jolt/Physics/Collision/ObjectLayer.h>
+#include <Jolt/Physics/PhysicsStepListener.h>
+
+#include "RegionShape.h"
+
+JPH_NAMESPACE_BEGIN
+
+/// A cubic block of voxel cells. Sections are shared copy-on-write: a section with more than one reference is never
+/// modified in place.
+class VoxelSection : public RefTarget<VoxelSection>
+{
+public:
+	JPH_OVERRIDE_NEW_DELETE
+
+	/// Number of cells along each axis of a section
+	static constexpr uint			cSizeBits = 4;
+	static constexpr uint			cSize = 1 << cSizeBits;
+	static constexpr uint			cNumCells = cSize * cSize * cSize;
+
+	/// Constructors
+									VoxelSection()								{ memset(mCells, 0, sizeof(mCells)); }
+									VoxelSection(const VoxelSection &inRHS)		{ memcpy(mCells, inRHS.mCells, sizeof(mCells)); }
+	VoxelSection &					operator = (const VoxelSection &) = delete;
+
+	/// Convert section-local cell coordinates to an index into mCells (X varies fastest, then Y, then Z)
+	static inline uint				sGetLocalIndex(uint inX, uint inY, uint inZ)
+	{
+		return (inX & (cSize - 1)) | ((inY & (cSize - 1)) << cSizeBits) | ((inZ & (cSize - 1)) << (2 * cSizeBits));
+	}
+
+	/// Test whether every cell is empty
+	bool							IsEmpty() const;
+
+	/// A box of identical full-cube cells, found by greedy merging
+	struct MergedBox
+	{
+		uint8						mMin[3];									///< Section-local coordinates of the minimum cell
+		uint8						mSize[3];									///< Number of cells along each axis
+		uint16						mPaletteIndex;
+	};
+
+	/// Invalidate the merged boxes, the caller must have exclusive access to the cells
+	void							InvalidateMergedBoxes()						{ mMergedVersion.store(0, memory_order_relaxed); }
+
+	uint16							mCells[cNumCells];
+
+	/// Merged boxes (valid when mMergedVersion equals the collector's palette version) and the lock used to build them
+	mutable Array<MergedBox>		mMergedBoxes;
+	mutable atomic<uint32>			mMergedVersion { 0 };
+	mutable Mutex					mMergeMutex;
+};
+
+/// An IndexedShapeCollector backed by a chunked grid of palette indices, so RegionShape queries never leave native code.
+///
+/// The grid covers [-mHalfExtent, mHalfExtent] of the region with unit cells, stored in sections of 16^3 cells. A
+/// section that contains only empty cells isn't allocated. Each cell holds a 16-bit index into the shape palette,
+/// palette index 0 means "empty". Cell (x, y, z) uses the same shape index encoding as
+/// IndexedShape::LoadShapeFromHalfExtent(), with each coordinate offset by one.
+///
+/// Optionally, runs of identical cells whose palette entry is flagged as a full unit cube are merged greedily into larger
+/// boxes, cached per section. CollectAt() then returns one BoxShape per merged box instead of one shape per cell, which
+/// reduces narrow-phase pairs and avoids internal-edge collisions between neighboring cubes. Merged boxes have
+/// cMergedBoxFlag set in their shape index, with the coordinates of their minimum cell in the remaining bits.
+///
+/// Edits may run concurrently with queries: queries hold a shared lock on the section table, edits are serialized by a
+/// writer mutex and only take the exclusive lock to store cells or publish sections. Edited sections are recorded as
+/// dirty until TakeDirtySections() is invoked.
+class VoxelShapeCollector final : public IndexedShapeCollector
+{
+public:
+	JPH_OVERRIDE_NEW_DELETE
+
+	/// Maximum number of cells along each axis, limited by the 9-bit shape index encoding
+	static constexpr uint			cMaxSize = 510;
+
+	/// Shape index bit that marks a merged box
+	static constexpr uint32			cMergedBoxFlag = 0x80000000;
+
+	/// Constructor, all cells start empty
+									VoxelShapeCollector(uint inSizeX, uint inSizeY, uint inSizeZ);
+
+	/// Grid dimensions
+	uint							GetSizeX() const							{ return mSizeX; }
+	uint							GetSizeY() const							{ return mSizeY; }
+	uint							GetSizeZ() const							{ return mSizeZ; }
+	uint							GetNumCells() const							{ return mSizeX * mSizeY * mSizeZ; }
+
+	/// Number of sections along each axis
+	uint							GetNumSectionsX() const						{ return mNumSectionsX; }
+	uint							GetNumSectionsY() const						{ return mNumSectionsY; }
+	uint							GetNumSectionsZ() const						{ return mNumSectionsZ; }
+	uint							GetNumSections() const						{ return mNumSectionsX * mNumSectionsY * mNumSectionsZ; }
+
+	/// Half extent of the region covered by the grid
+	Vec3							GetHalfExtent() const						{ return 0.5f * Vec3(float(mSizeX), float(mSizeY), float(mSizeZ)); }
+
+	/// Shape palette, index 0 is reserved for empty cells
+	uint							GetPaletteSize() const;
+	void							SetPaletteShape(uint16 inPaletteIndex, const Shape *inShape, bool inIsFullCube = false);
+	const Shape *					GetPaletteShape(uint16 inPaletteIndex) const;
+	bool							IsPaletteFullCube(uint16 inPaletteIndex) const;
+
+	/// Enable or disable merging of full-cube cells in CollectAt()
+	void							SetMergeBoxes(bool inMergeBoxes)			{ mMergeBoxes.store(inMergeBoxes, memory_order_relaxed); }
+	bool							GetMergeBoxes() const						{ return mMergeBoxes.load(memory_order_relaxed); }
+
+	/// Access a single cell
+	uint16							GetCell(uint inX, uint inY, uint inZ) const;
+	void							SetCell(uint inX, uint inY, uint inZ, uint16 inPaletteIndex);
+
+	/// Bulk writes of inCount cells, starting at linear cell index inStart (X varies fastest, then Y, then Z)
+	void							SetCells(uint inStart, const uint16 *inPaletteIndices, uint inCount);
+	void							SetCells(uint inStart, const int32 *inPaletteIndices, uint inCount);
+
+	/// Replace all cells of the specified section with VoxelSection::cNumCells indices in section-local order
+	void							SetSection(uint inSectionX, uint inSectionY, uint inSectionZ, const uint16 *inPaletteIndices);
+
+	/// Get a snapshot of the specified section, or nullptr if it's empty. The snapshot won't change when the grid is edited.
+	RefConst<VoxelSection>			GetSection(uint inSectionIndex) const;
+
+	/// Set every cell to the same palette index
+	void							Fill(uint16 inPaletteIndex);
+
+	/// Convert section coordinates to a linear section index
+	inline uint						GetSectionIndex(uint inSectionX, uint inSectionY, uint inSectionZ) const
+	{
+		JPH_ASSERT(inSectionX < mNumSectionsX && inSectionY < mNumSectionsY && inSectionZ < mNumSectionsZ);
+		return inSectionX + mNumSectionsX * (inSectionY + mNumSectionsY * inSectionZ);
+	}
+
+	/// Bounds of a section, in the local space of the region
+	AABox							GetSectionBounds(uint inSectionIndex) const;
+
+	/// Move the indices of all sections edited since the previous invocation to ioSections, clearing the dirty set
+	void							TakeDirtySections(Array<uint> &ioSections);
+
+	// See: IndexedShapeCollector
+	virtual void					CollectAt(const AABox *inBox, IndexedShapes *inTo) override;
+	virtual bool					CastRay(const RayCast &inRay, IndexedShape *ioShape) override;
+	virtual void					CollectCastRay(const RayCast &inRay, IndexedShapes *ioShapes) override;
+	virtual void					GetShapeAt(uint32 inShapeIndex, IndexedShape *ioShape) override;
+
+private:
+	/// Encode cell coordinates as a RegionShape sub-shape index
+	static inline uint32			sEncodeShapeIndex(uint inX, uint inY, uint inZ)
+	{
+		return (inX + 1) | ((inY + 1) << 9) | ((inZ + 1) << 18);
+	}
+
+	/// Section index of the section containing the specified cell
+	inline uint						GetSectionIndexOfCell(uint inX, uint inY, uint inZ) const
+	{
+		JPH_ASSERT(inX < mSizeX && inY < mSizeY && inZ < mSizeZ);
+		return GetSectionIndex(inX >> VoxelSection::cSizeBits, inY >> VoxelSection::cSizeBits, inZ >> VoxelSection::cSizeBits);
+	}
+
+	/// Read a cell, the caller must hold mSectionsMutex (shared or exclusive)
+	inline uint16					GetCellLocked(uint inX, uint inY, uint inZ) const
+	{
+		const VoxelSection *section = mSections[GetSectionIndexOfCell(inX, inY, inZ)];
+		return section == nullptr? 0 : section->mCells[VoxelSection::sGetLocalIndex(inX, inY, inZ)];
+	}
+
+	/// Write a cell, the caller must hold mWriteMutex and mSectionsMutex (exclusive)
+	void							SetCellLocked(uint inX, uint inY, uint inZ, uint16 inPaletteIndex);
+
+	/// Record a section as dirty, the caller must hold mWriteMutex
+	void							MarkDirty(uint inSectionIndex);
+
+	/// Look up a palette entry, the caller must hold mSectionsMutex (shared or exclusive)
+	inline const Shape *			GetPaletteShapeLocked(uint16 inPaletteIndex) const
+	{
+		return inPaletteIndex < mPalette.size()? mPalette[inPaletteIndex].GetPtr() : nullptr;
+	}
+
+	/// Look up the full-cube flag of a palette entry, the caller must hold mSectionsMutex (shared or exclusive)
+	inline bool						IsPaletteFullCubeLocked(uint16 inPaletteIndex) const
+	{
+		return inPaletteIndex < mFullCube.size() && mFullCube[inPaletteIndex];
+	}
+
+	/// Get the merged boxes of a section, building them if needed. The caller must hold mSectionsMutex (shared or exclusive).
+	const Array<VoxelSection::MergedBox> &GetMergedBoxesLocked(const VoxelSection &inSection) const;
+
+	/// Get the (cached) box shape for a merged box
+	const Shape *					GetMergedBoxShape(const VoxelSection::MergedBox &inBox, const Shape *inCellShape);
+
+	/// Load the shape of a merged box in the section with the specified minimum cell
+	void							LoadMergedBox(uint inSectionX, uint inSectionY, uint inSectionZ, const VoxelSection::MergedBox &inBox, const Shape *inShape, IndexedShape &outShape) const;
+
+	/// Load the shape of the specified non-empty cell
+	void							LoadCell(uint inX, uint inY, uint inZ, const Shape *inShape, IndexedShape &outShape) const;
+
+	/// Walk the non-empty cells pierced by a ray, in order of increasing fraction, until the visitor returns true.
+	/// The caller must hold mSectionsMutex (shared or exclusive).
+	template <class Visitor>
+	void							WalkRay(const RayCast &inRay, Visitor &ioVisitor) const;
+
+	uint							mSizeX;
+	uint							mSizeY;
+	uint							mSizeZ;
+	uint							mNumSectionsX;
+	uint							mNumSectionsY;
+	uint							mNumSectionsZ;
+	Vec3							mHalfExtent;
+	Array<Ref<VoxelSection>>		mSections;
+	Array<RefConst<Shape>>			mPalette;
+	Array<bool>						mFullCube;
+	uint32							mPaletteVersion = 1;						///< Incremented whenever the palette changes, never 0
+	atomic<bool>					mMergeBoxes { false };
+	Mutex							mBoxCacheMutex;								///< Protects mBoxCache
+	UnorderedMap<uint64, RefConst<Shape>> mBoxCache;							///< Box shapes of merged boxes, keyed by size and palette index
+	mutable SharedMutex				mSectionsMutex;								///< Protects mSections, the cells of unshared sections, mPalette, mFullCube and mPaletteVersion
+	Mutex							mWriteMutex;								///< Serializes edits, protects the dirty set
+	Array<uint>						mDirtySections;
+	Array<bool>						mIsDirty;
+};
+
+/// A step listener that wakes the bodies overlapping the dirty sections of a VoxelShapeCollector, before each step
+class VoxelActivationListener final : public PhysicsStepListener
+{
+public:
+	JPH_OVERRIDE_NEW_DELETE
+
+	/// Constructor
+	/// @param inCollector The collector to monitor
+	/// @param inRegionBodyID The body whose RegionShape uses the collector
+									VoxelActivationListener(VoxelShapeCollector *inCollector, const BodyID &inRegionBodyID) : mCollector(inCollector), mRegionBodyID(inRegionBodyID) { }
+
+	// See: PhysicsStepListener
+	virtual void					OnStep(const PhysicsStepListenerContext &inContext) override;
+
+private:
+	VoxelShapeCollector *			mCollector;
+	BodyID							mRegionBodyID;
+	Array<uint>						mDirtySections;
+	BroadPhaseLayerFilter			mBroadPhaseLayerFilter;
+	ObjectLayerFilter				mObjectLayerFilter;
+};
+
+JPH_NAMESPACE_END
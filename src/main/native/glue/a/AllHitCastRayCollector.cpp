@@ -33,6 +33,17 @@ SOFTWARE.
 
 using namespace JPH;
 
+/*
+ * the record written for each hit by copyHits(), 12 bytes per hit
+ * (must match the constants in RayCastHitCursor.java):
+ */
+struct RayCastHitRecord {
+    float mFraction;
+    uint32 mBodyId;
+    uint32 mSubShapeId2;
+};
+static_assert(sizeof(RayCastHitRecord) == 12, "unexpected size of RayCastHitRecord");
+
 /*
  * Class:     com_github_stephengold_joltjni_AllHitCastRayCollector
  * Method:    countHits
@@ -46,6 +57,34 @@ JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_AllHitCastRayCollecto
     return result;
 }
 
+/*
+ * Class:     com_github_stephengold_joltjni_AllHitCastRayCollector
+ * Method:    copyHits
+ * Signature: (JLjava/nio/ByteBuffer;I)I
+ */
+JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_AllHitCastRayCollector_copyHits
+  (JNIEnv *pEnv, jclass, jlong collectorVa, jobject storeBuffer, jint maxHits) {
+    const AllHitCollisionCollector<CastRayCollector> * const pCollector
+            = reinterpret_cast<AllHitCollisionCollector<CastRayCollector> *> (collectorVa);
+    const Array<RayCastResult>::size_type numHits = pCollector->mHits.size();
+    if (numHits > (Array<RayCastResult>::size_type) maxHits) {
+        return numHits; // the caller will grow the buffer and try again
+    }
+    RayCastHitRecord * const pRecords
+            = (RayCastHitRecord *) pEnv->GetDirectBufferAddress(storeBuffer);
+    JPH_ASSERT(pRecords != NULL);
+    JPH_ASSERT(pEnv->GetDirectBufferCapacity(storeBuffer)
+            >= (jlong) (numHits * sizeof(RayCastHitRecord)));
+    for (Array<RayCastResult>::size_type i = 0; i < numHits; ++i) {
+        const RayCastResult& hit = pCollector->mHits[i];
+        RayCastHitRecord& record = pRecords[i];
+        record.mFraction = hit.mFraction;
+        record.mBodyId = hit.mBodyID.GetIndexAndSequenceNumber();
+        record.mSubShapeId2 = hit.mSubShapeID2.GetValue();
+    }
+    return numHits;
+}
+
 /*
  * Class:     com_github_stephengold_joltjni_AllHitCastRayCollector
  * Method:    createDefault
@@ -26,12 +26,30 @@ SOFTWARE.
 #include "Jolt/Jolt.h"
 #include "Jolt/Physics/Collision/CollisionCollectorImpl.h"
 #include "Jolt/Physics/Collision/CollisionDispatch.h"
+#include "Jolt/Physics/Collision/ShapeCast.h"
 
 #include "auto/com_github_stephengold_joltjni_AllHitCastShapeCollector.h"
 #include "glue/glue.h"
 
 using namespace JPH;
 
+/*
+ * the record written for each hit by copyHits(), 60 bytes per hit
+ * (must match the constants in ShapeCastHitCursor.java):
+ */
+struct ShapeCastHitRecord {
+    Float3 mContactPointOn1;
+    Float3 mContactPointOn2;
+    Float3 mPenetrationAxis;
+    float mPenetrationDepth;
+    uint32 mSubShapeId1;
+    uint32 mSubShapeId2;
+    uint32 mBodyId2;
+    float mFraction;
+    uint32 mIsBackFaceHit;
+};
+static_assert(sizeof(ShapeCastHitRecord) == 60, "unexpected size of ShapeCastHitRecord");
+
 /*
  * Class:     com_github_stephengold_joltjni_AllHitCastShapeCollector
  * Method:    countHits
@@ -45,6 +63,40 @@ JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_AllHitCastShapeCollec
     return result;
 }
 
+/*
+ * Class:     com_github_stephengold_joltjni_AllHitCastShapeCollector
+ * Method:    copyHits
+ * Signature: (JLjava/nio/ByteBuffer;I)I
+ */
+JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_AllHitCastShapeCollector_copyHits
+  (JNIEnv *pEnv, jclass, jlong collectorVa, jobject storeBuffer, jint maxHits) {
+    const AllHitCollisionCollector<CastShapeCollector> * const pCollector
+            = reinterpret_cast<AllHitCollisionCollector<CastShapeCollector> *> (collectorVa);
+    const Array<ShapeCastResult>::size_type numHits = pCollector->mHits.size();
+    if (numHits > (Array<ShapeCastResult>::size_type) maxHits) {
+        return numHits; // the caller will grow the buffer and try again
+    }
+    ShapeCastHitRecord * const pRecords
+            = (ShapeCastHitRecord *) pEnv->GetDirectBufferAddress(storeBuffer);
+    JPH_ASSERT(pRecords != NULL);
+    JPH_ASSERT(pEnv->GetDirectBufferCapacity(storeBuffer)
+            >= (jlong) (numHits * sizeof(ShapeCastHitRecord)));
+    for (Array<ShapeCastResult>::size_type i = 0; i < numHits; ++i) {
+        const ShapeCastResult& hit = pCollector->mHits[i];
+        ShapeCastHitRecord& record = pRecords[i];
+        hit.mContactPointOn1.StoreFloat3(&record.mContactPointOn1);
+        hit.mContactPointOn2.StoreFloat3(&record.mContactPointOn2);
+        hit.mPenetrationAxis.StoreFloat3(&record.mPenetrationAxis);
+        record.mPenetrationDepth = hit.mPenetrationDepth;
+        record.mSubShapeId1 = hit.mSubShapeID1.GetValue();
+        record.mSubShapeId2 = hit.mSubShapeID2.GetValue();
+        record.mBodyId2 = hit.mBodyID2.GetIndexAndSequenceNumber();
+        record.mFraction = hit.mFraction;
+        record.mIsBackFaceHit = hit.mIsBackFaceHit ? 1 : 0;
+    }
+    return numHits;
+}
+
 /*
  * Class:     com_github_stephengold_joltjni_AllHitCastShapeCollector
  * Method:    createDefault
@@ -33,6 +33,16 @@ SOFTWARE.
 
 using namespace JPH;
 
+/*
+ * the record written for each hit by copyHits(), 8 bytes per hit
+ * (must match the constants in CollidePointHitCursor.java):
+ */
+struct CollidePointHitRecord {
+    uint32 mBodyId;
+    uint32 mSubShapeId2;
+};
+static_assert(sizeof(CollidePointHitRecord) == 8, "unexpected size of CollidePointHitRecord");
+
 /*
  * Class:     com_github_stephengold_joltjni_AllHitCollidePointCollector
  * Method:    countHits
@@ -46,6 +56,33 @@ JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_AllHitCollidePointCol
     return result;
 }
 
+/*
+ * Class:     com_github_stephengold_joltjni_AllHitCollidePointCollector
+ * Method:    copyHits
+ * Signature: (JLjava/nio/ByteBuffer;I)I
+ */
+JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_AllHitCollidePointCollector_copyHits
+  (JNIEnv *pEnv, jclass, jlong collectorVa, jobject storeBuffer, jint maxHits) {
+    const AllHitCollisionCollector<CollidePointCollector> * const pCollector
+            = reinterpret_cast<AllHitCollisionCollector<CollidePointCollector> *> (collectorVa);
+    const Array<CollidePointResult>::size_type numHits = pCollector->mHits.size();
+    if (numHits > (Array<CollidePointResult>::size_type) maxHits) {
+        return numHits; // the caller will grow the buffer and try again
+    }
+    CollidePointHitRecord * const pRecords
+            = (CollidePointHitRecord *) pEnv->GetDirectBufferAddress(storeBuffer);
+    JPH_ASSERT(pRecords != NULL);
+    JPH_ASSERT(pEnv->GetDirectBufferCapacity(storeBuffer)
+            >= (jlong) (numHits * sizeof(CollidePointHitRecord)));
+    for (Array<CollidePointResult>::size_type i = 0; i < numHits; ++i) {
+        const CollidePointResult& hit = pCollector->mHits[i];
+        CollidePointHitRecord& record = pRecords[i];
+        record.mBodyId = hit.mBodyID.GetIndexAndSequenceNumber();
+        record.mSubShapeId2 = hit.mSubShapeID2.GetValue();
+    }
+    return numHits;
+}
+
 /*
  * Class:     com_github_stephengold_joltjni_AllHitCollidePointCollector
  * Method:    createDefault
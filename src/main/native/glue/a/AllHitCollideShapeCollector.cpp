@@ -24,6 +24,7 @@ SOFTWARE.
  * Author: Stephen Gold
  */
 #include "Jolt/Jolt.h"
+#include "Jolt/Physics/Collision/CollideShape.h"
 #include "Jolt/Physics/Collision/CollisionCollectorImpl.h"
 #include "Jolt/Physics/Collision/CollisionDispatch.h"
 
@@ -32,6 +33,21 @@ SOFTWARE.
 
 using namespace JPH;
 
+/*
+ * the record written for each hit by copyHits(), 52 bytes per hit
+ * (must match the constants in CollideShapeHitCursor.java):
+ */
+struct CollideShapeHitRecord {
+    Float3 mContactPointOn1;
+    Float3 mContactPointOn2;
+    Float3 mPenetrationAxis;
+    float mPenetrationDepth;
+    uint32 mSubShapeId1;
+    uint32 mSubShapeId2;
+    uint32 mBodyId2;
+};
+static_assert(sizeof(CollideShapeHitRecord) == 52, "unexpected size of CollideShapeHitRecord");
+
 /*
  * Class:     com_github_stephengold_joltjni_AllHitCollideShapeCollector
  * Method:    countHits
@@ -45,6 +61,38 @@ JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_AllHitCollideShapeCol
     return result;
 }
 
+/*
+ * Class:     com_github_stephengold_joltjni_AllHitCollideShapeCollector
+ * Method:    copyHits
+ * Signature: (JLjava/nio/ByteBuffer;I)I
+ */
+JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_AllHitCollideShapeCollector_copyHits
+  (JNIEnv *pEnv, jclass, jlong collectorVa, jobject storeBuffer, jint maxHits) {
+    const AllHitCollisionCollector<CollideShapeCollector> * const pCollector
+            = reinterpret_cast<AllHitCollisionCollector<CollideShapeCollector> *> (collectorVa);
+    const Array<CollideShapeResult>::size_type numHits = pCollector->mHits.size();
+    if (numHits > (Array<CollideShapeResult>::size_type) maxHits) {
+        return numHits; // the caller will grow the buffer and try again
+    }
+    CollideShapeHitRecord * const pRecords
+            = (CollideShapeHitRecord *) pEnv->GetDirectBufferAddress(storeBuffer);
+    JPH_ASSERT(pRecords != NULL);
+    JPH_ASSERT(pEnv->GetDirectBufferCapacity(storeBuffer)
+            >= (jlong) (numHits * sizeof(CollideShapeHitRecord)));
+    for (Array<CollideShapeResult>::size_type i = 0; i < numHits; ++i) {
+        const CollideShapeResult& hit = pCollector->mHits[i];
+        CollideShapeHitRecord& record = pRecords[i];
+        hit.mContactPointOn1.StoreFloat3(&record.mContactPointOn1);
+        hit.mContactPointOn2.StoreFloat3(&record.mContactPointOn2);
+        hit.mPenetrationAxis.StoreFloat3(&record.mPenetrationAxis);
+        record.mPenetrationDepth = hit.mPenetrationDepth;
+        record.mSubShapeId1 = hit.mSubShapeID1.GetValue();
+        record.mSubShapeId2 = hit.mSubShapeID2.GetValue();
+        record.mBodyId2 = hit.mBodyID2.GetIndexAndSequenceNumber();
+    }
+    return numHits;
+}
+
 /*
  * Class:     com_github_stephengold_joltjni_AllHitCollideShapeCollector
  * Method:    createDefault
@@ -0,0 +1,223 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+/*
+ * Author: Stephen Gold
+ */
+#include "Jolt/Jolt.h"
+#include "Jolt/Core/Mutex.h"
+#include "Jolt/Core/UnorderedMap.h"
+#include <cstring>
+#include <mutex>
+#include "auto/com_github_stephengold_joltjni_AllocationTracker.h"
+#include "glue/glue.h"
+
+using namespace JPH;
+
+// global flag to enable per-type accounting of new/delete operations:
+std::atomic<bool> gAccountAllocations{false};
+
+// accounts in order of creation, protected by gAccountsMutex:
+static Array<TypeAllocationAccount *> gAccounts;
+static Mutex gAccountsMutex;
+
+TypeAllocationAccount *GetAllocationAccount(const char *className) {
+    std::lock_guard<Mutex> lock(gAccountsMutex);
+    for (TypeAllocationAccount *pAccount : gAccounts) {
+        if (std::strcmp(pAccount->mName, className) == 0) {
+            return pAccount;
+        }
+    }
+    TypeAllocationAccount * const pResult
+            = new TypeAllocationAccount(className);
+    gAccounts.push_back(pResult);
+    return pResult;
+}
+
+// global flag to remember the account of each allocation by address:
+std::atomic<bool> gTrackAllocationAddresses{false};
+
+// number of address-tracked allocations not yet deleted:
+std::atomic<uint64> gNumRecordedAllocations{0};
+
+// the account and size of each live tracked allocation, keyed by address:
+struct RecordedAllocation {
+    TypeAllocationAccount *mpAccount;
+    uint64 mNumBytes;
+};
+
+// the address map is split into shards to reduce lock contention:
+static constexpr uint cNumAllocationShards = 64;
+static struct AllocationShard {
+    Mutex mMutex;
+    UnorderedMap<uint64, RecordedAllocation> mMap;
+} gAllocationShards[cNumAllocationShards];
+
+static AllocationShard& GetAllocationShard(uint64 address) {
+    // heap addresses are at least 16-byte aligned:
+    const uint64 hash = Hash<uint64>{}(address >> 4);
+    return gAllocationShards[hash % cNumAllocationShards];
+}
+
+void CreditDeletion(TypeAllocationAccount *pAccount, uint64 numBytes) {
+    pAccount->mNumDeletes.fetch_add(1, std::memory_order_relaxed);
+    pAccount->mDeleteBytes.fetch_add(numBytes, std::memory_order_relaxed);
+}
+
+void RecordAllocation(TypeAllocationAccount *pAccount, const void *pointer,
+        uint64 numBytes) {
+    pAccount->mNumNews.fetch_add(1, std::memory_order_relaxed);
+    pAccount->mNewBytes.fetch_add(numBytes, std::memory_order_relaxed);
+    if (!gTrackAllocationAddresses.load(std::memory_order_relaxed)) {
+        return;
+    }
+
+    const uint64 address = reinterpret_cast<uint64> (pointer);
+    AllocationShard& shard = GetAllocationShard(address);
+    std::lock_guard<Mutex> lock(shard.mMutex);
+    const RecordedAllocation record = {pAccount, numBytes};
+    auto [iterator, inserted] = shard.mMap.try_emplace(address, record);
+    if (inserted) {
+        gNumRecordedAllocations.fetch_add(1, std::memory_order_relaxed);
+    } else {
+        /*
+         * The address was reused, so the previous object must have been freed
+         * by a path that doesn't trace deletes, such as a reference count:
+         */
+        const RecordedAllocation& previous = iterator->second;
+        CreditDeletion(previous.mpAccount, previous.mNumBytes);
+        iterator->second = record;
+    }
+}
+
+bool RecordDeletion(const void *pointer) {
+    const uint64 address = reinterpret_cast<uint64> (pointer);
+    AllocationShard& shard = GetAllocationShard(address);
+    std::lock_guard<Mutex> lock(shard.mMutex);
+    auto iterator = shard.mMap.find(address);
+    if (iterator == shard.mMap.end()) { // allocated while not tracked
+        return false;
+    }
+
+    const RecordedAllocation& record = iterator->second;
+    CreditDeletion(record.mpAccount, record.mNumBytes);
+    shard.mMap.erase(iterator);
+    gNumRecordedAllocations.fetch_sub(1, std::memory_order_relaxed);
+    return true;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_AllocationTracker
+ * Method:    countTypes
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_AllocationTracker_countTypes
+  (JNIEnv *, jclass) {
+    std::lock_guard<Mutex> lock(gAccountsMutex);
+    const Array<TypeAllocationAccount *>::size_type result = gAccounts.size();
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_AllocationTracker
+ * Method:    getCounts
+ * Signature: (I[J)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_AllocationTracker_getCounts
+  (JNIEnv *pEnv, jclass, jint index, jlongArray storeCounts) {
+    const TypeAllocationAccount *pAccount;
+    {
+        std::lock_guard<Mutex> lock(gAccountsMutex);
+        JPH_ASSERT(index >= 0 && index < (jint) gAccounts.size());
+        pAccount = gAccounts[index];
+    }
+    jboolean isCopy;
+    jlong * const pCounts = pEnv->GetLongArrayElements(storeCounts, &isCopy);
+    /*
+     * Read the deletes before the news,
+     * so a concurrent allocation can't make the live count negative:
+     */
+    pCounts[1] = pAccount->mNumDeletes.load();
+    pCounts[3] = pAccount->mDeleteBytes.load();
+    pCounts[0] = pAccount->mNumNews.load();
+    pCounts[2] = pAccount->mNewBytes.load();
+    pEnv->ReleaseLongArrayElements(storeCounts, pCounts, 0);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_AllocationTracker
+ * Method:    getTypeName
+ * Signature: (I)Ljava/lang/String;
+ */
+JNIEXPORT jstring JNICALL Java_com_github_stephengold_joltjni_AllocationTracker_getTypeName
+  (JNIEnv *pEnv, jclass, jint index) {
+    const char *pName;
+    {
+        std::lock_guard<Mutex> lock(gAccountsMutex);
+        JPH_ASSERT(index >= 0 && index < (jint) gAccounts.size());
+        pName = gAccounts[index]->mName;
+    }
+    const jstring result = pEnv->NewStringUTF(pName);
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_AllocationTracker
+ * Method:    isEnabled
+ * Signature: ()Z
+ */
+JNIEXPORT jboolean JNICALL Java_com_github_stephengold_joltjni_AllocationTracker_isEnabled
+  (JNIEnv *, jclass) {
+    const bool result = gAccountAllocations.load();
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_AllocationTracker
+ * Method:    isTrackingAddresses
+ * Signature: ()Z
+ */
+JNIEXPORT jboolean JNICALL Java_com_github_stephengold_joltjni_AllocationTracker_isTrackingAddresses
+  (JNIEnv *, jclass) {
+    const bool result = gTrackAllocationAddresses.load();
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_AllocationTracker
+ * Method:    setEnabled
+ * Signature: (Z)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_AllocationTracker_setEnabled
+  (JNIEnv *, jclass, jboolean setting) {
+    gAccountAllocations.store(setting);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_AllocationTracker
+ * Method:    setTrackingAddresses
+ * Signature: (Z)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_AllocationTracker_setTrackingAddresses
+  (JNIEnv *, jclass, jboolean setting) {
+    gTrackAllocationAddresses.store(setting);
+}
\ No newline at end of file
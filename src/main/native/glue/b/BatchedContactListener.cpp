@@ -0,0 +1,254 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+/*
+ * Author: Stephen Gold
+ */
+#include "Jolt/Jolt.h"
+#include "Jolt/Physics/Body/Body.h"
+#include "Jolt/Physics/Collision/ContactListener.h"
+#include "auto/com_github_stephengold_joltjni_BatchedContactListener.h"
+#include "glue/glue.h"
+
+#include <atomic>
+
+using namespace JPH;
+
+/*
+ * The layout of each record must match the offsets
+ * in BatchedContactListener.java:
+ */
+struct ContactRecord {
+    uint32 mEventType;
+    uint32 mBody1Id;
+    uint32 mBody2Id;
+    uint32 mSubShape1Id;
+    uint32 mSubShape2Id;
+    uint32 mNumPoints;
+    float mNormal[3];
+    float mPenetrationDepth;
+    float mFriction;
+    float mRestitution;
+    double mPoint1[3];
+    double mPoint2[3];
+};
+static_assert(sizeof(ContactRecord) == 96, "unexpected record size");
+
+class BatchedContactListener : ContactListener {
+    Array<ContactRecord> mRecords;
+    std::atomic<uint32> mNumReserved;
+    std::atomic<uint32> mNumDropped;
+
+    /*
+     * Reserve a record slot without locking, or return nullptr if full.
+     */
+    ContactRecord *Reserve() {
+        const uint32 index = mNumReserved.fetch_add(1, std::memory_order_relaxed);
+        if (index < mRecords.size()) {
+            return &mRecords[index];
+        } else {
+            mNumDropped.fetch_add(1, std::memory_order_relaxed);
+            return nullptr;
+        }
+    }
+
+    void Record(uint32 eventType, const Body& inBody1, const Body& inBody2,
+            const ContactManifold& inManifold, const ContactSettings& inSettings) {
+        ContactRecord * const pRecord = Reserve();
+        if (pRecord == nullptr) {
+            return;
+        }
+
+        pRecord->mEventType = eventType;
+        pRecord->mBody1Id = inBody1.GetID().GetIndexAndSequenceNumber();
+        pRecord->mBody2Id = inBody2.GetID().GetIndexAndSequenceNumber();
+        pRecord->mSubShape1Id = inManifold.mSubShapeID1.GetValue();
+        pRecord->mSubShape2Id = inManifold.mSubShapeID2.GetValue();
+
+        const Vec3 normal = inManifold.mWorldSpaceNormal;
+        pRecord->mNormal[0] = normal.GetX();
+        pRecord->mNormal[1] = normal.GetY();
+        pRecord->mNormal[2] = normal.GetZ();
+        pRecord->mPenetrationDepth = inManifold.mPenetrationDepth;
+        pRecord->mFriction = inSettings.mCombinedFriction;
+        pRecord->mRestitution = inSettings.mCombinedRestitution;
+
+        // Average the contact points, relative to the base offset:
+        const uint numPoints = inManifold.mRelativeContactPointsOn1.size();
+        pRecord->mNumPoints = numPoints;
+        Vec3 sum1 = Vec3::sZero();
+        Vec3 sum2 = Vec3::sZero();
+        for (uint i = 0; i < numPoints; ++i) {
+            sum1 += inManifold.mRelativeContactPointsOn1[i];
+            sum2 += inManifold.mRelativeContactPointsOn2[i];
+        }
+        const RVec3 base = inManifold.mBaseOffset;
+        RVec3 point1 = base;
+        RVec3 point2 = base;
+        if (numPoints > 0) {
+            point1 += sum1 / float(numPoints);
+            point2 += sum2 / float(numPoints);
+        }
+        pRecord->mPoint1[0] = point1.GetX();
+        pRecord->mPoint1[1] = point1.GetY();
+        pRecord->mPoint1[2] = point1.GetZ();
+        pRecord->mPoint2[0] = point2.GetX();
+        pRecord->mPoint2[1] = point2.GetY();
+        pRecord->mPoint2[2] = point2.GetZ();
+    }
+
+public:
+    BatchedContactListener(uint32 maxRecords)
+    : mNumReserved(0), mNumDropped(0) {
+        mRecords.resize(maxRecords);
+    }
+
+    void Clear() {
+        mNumReserved.store(0, std::memory_order_relaxed);
+        mNumDropped.store(0, std::memory_order_relaxed);
+    }
+
+    uint32 CountDropped() const {
+        return mNumDropped.load(std::memory_order_relaxed);
+    }
+
+    uint32 CountRecords() const {
+        const uint32 numReserved = mNumReserved.load(std::memory_order_relaxed);
+        const uint32 capacity = mRecords.size();
+        return std::min(numReserved, capacity);
+    }
+
+    ContactRecord *GetData() {
+        return mRecords.data();
+    }
+
+    uint32 GetMaxRecords() const {
+        return mRecords.size();
+    }
+
+    void OnContactAdded(const Body& inBody1, const Body& inBody2,
+            const ContactManifold& inManifold, ContactSettings& ioSettings) override {
+        Record(com_github_stephengold_joltjni_BatchedContactListener_cEventAdded,
+                inBody1, inBody2, inManifold, ioSettings);
+    }
+
+    void OnContactPersisted(const Body& inBody1, const Body& inBody2,
+            const ContactManifold& inManifold, ContactSettings& ioSettings) override {
+        Record(com_github_stephengold_joltjni_BatchedContactListener_cEventPersisted,
+                inBody1, inBody2, inManifold, ioSettings);
+    }
+
+    void OnContactRemoved(const SubShapeIDPair& inPair) override {
+        ContactRecord * const pRecord = Reserve();
+        if (pRecord == nullptr) {
+            return;
+        }
+
+        memset(pRecord, 0, sizeof(ContactRecord));
+        pRecord->mEventType
+                = com_github_stephengold_joltjni_BatchedContactListener_cEventRemoved;
+        pRecord->mBody1Id = inPair.GetBody1ID().GetIndexAndSequenceNumber();
+        pRecord->mBody2Id = inPair.GetBody2ID().GetIndexAndSequenceNumber();
+        pRecord->mSubShape1Id = inPair.GetSubShapeID1().GetValue();
+        pRecord->mSubShape2Id = inPair.GetSubShapeID2().GetValue();
+    }
+};
+
+/*
+ * Class:     com_github_stephengold_joltjni_BatchedContactListener
+ * Method:    clear
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_BatchedContactListener_clear
+  (JNIEnv *, jclass, jlong listenerVa) {
+    BatchedContactListener * const pListener
+            = reinterpret_cast<BatchedContactListener *> (listenerVa);
+    pListener->Clear();
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_BatchedContactListener
+ * Method:    countDropped
+ * Signature: (J)I
+ */
+JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_BatchedContactListener_countDropped
+  (JNIEnv *, jclass, jlong listenerVa) {
+    const BatchedContactListener * const pListener
+            = reinterpret_cast<BatchedContactListener *> (listenerVa);
+    const uint32 result = pListener->CountDropped();
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_BatchedContactListener
+ * Method:    countRecords
+ * Signature: (J)I
+ */
+JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_BatchedContactListener_countRecords
+  (JNIEnv *, jclass, jlong listenerVa) {
+    const BatchedContactListener * const pListener
+            = reinterpret_cast<BatchedContactListener *> (listenerVa);
+    const uint32 result = pListener->CountRecords();
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_BatchedContactListener
+ * Method:    createBatchedContactListener
+ * Signature: (I)J
+ */
+JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_BatchedContactListener_createBatchedContactListener
+  (JNIEnv *, jclass, jint maxRecords) {
+    BatchedContactListener * const pResult
+            = new BatchedContactListener(maxRecords);
+    TRACE_NEW("BatchedContactListener", pResult)
+    return reinterpret_cast<jlong> (pResult);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_BatchedContactListener
+ * Method:    getMaxRecords
+ * Signature: (J)I
+ */
+JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_BatchedContactListener_getMaxRecords
+  (JNIEnv *, jclass, jlong listenerVa) {
+    const BatchedContactListener * const pListener
+            = reinterpret_cast<BatchedContactListener *> (listenerVa);
+    const uint32 result = pListener->GetMaxRecords();
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_BatchedContactListener
+ * Method:    getRecords
+ * Signature: (J)Ljava/nio/ByteBuffer;
+ */
+JNIEXPORT jobject JNICALL Java_com_github_stephengold_joltjni_BatchedContactListener_getRecords
+  (JNIEnv *pEnv, jclass, jlong listenerVa) {
+    BatchedContactListener * const pListener
+            = reinterpret_cast<BatchedContactListener *> (listenerVa);
+    ContactRecord * const pData = pListener->GetData();
+    const jlong numBytes = pListener->CountRecords() * sizeof(ContactRecord);
+    const jobject result = pEnv->NewDirectByteBuffer(pData, numBytes);
+    EXCEPTION_CHECK(pEnv)
+    return result;
+}
@@ -26,10 +26,113 @@ SOFTWARE.
 #include "Jolt/Jolt.h"
 #include "Jolt/Physics/Collision/BroadPhase/BroadPhaseQuery.h"
 #include "auto/com_github_stephengold_joltjni_BroadPhaseQuery.h"
+#include "glue/batch.h"
 #include "glue/glue.h"
 
 using namespace JPH;
 
+/*
+ * the minimum number of queries handled by each job in collideAaBoxes() and
+ * collideSpheres():
+ */
+static const uint cMinOverlapQueriesPerJob = 16;
+
+/*
+ * A body collector that appends IDs to an array:
+ */
+class AppendBodyIdCollector : public CollideShapeBodyCollector {
+public:
+    explicit AppendBodyIdCollector(Array<uint32>& ids) : mIds(ids) {
+    }
+
+    virtual void AddHit(const BodyID& inBodyId) override {
+        mIds.push_back(inBodyId.GetIndexAndSequenceNumber());
+    }
+
+private:
+    Array<uint32>& mIds;
+};
+
+/*
+ * Run the overlap queries with indices in [startIndex, stopIndex), then copy
+ * their IDs into a block reserved from the shared output buffer. Each query
+ * is performed by invoking collide(queryIndex, collector, olFilter). Return
+ * the number of IDs found:
+ */
+template <typename F>
+static uint OverlapRange(const jint *pMasks, jint *pIds, jlong capacityIds,
+        jint *pRanges, std::atomic<uint>& numReserved, uint startIndex,
+        uint stopIndex, const F& collide) {
+    Array<uint32> ids;
+    AppendBodyIdCollector collector(ids);
+    const ObjectLayerFilter defaultFilter;
+    for (uint i = startIndex; i < stopIndex; ++i) {
+        const uint numBefore = (uint) ids.size();
+        if (pMasks == nullptr) {
+            collide(i, collector, defaultFilter);
+        } else {
+            const MaskObjectLayerFilter olFilter(pMasks[i]);
+            collide(i, collector, olFilter);
+        }
+        collector.Reset();
+        pRanges[2 * i + 1] = (uint) ids.size() - numBefore;
+    }
+
+    // reserve space for the whole range at once:
+    const uint numIds = (uint) ids.size();
+    const uint blockStart
+            = numReserved.fetch_add(numIds, std::memory_order_relaxed);
+    const bool fits = blockStart + (jlong) numIds <= capacityIds;
+    if (fits && numIds > 0) {
+        memcpy(pIds + blockStart, ids.data(), numIds * sizeof(uint32));
+    }
+    uint offset = blockStart;
+    for (uint i = startIndex; i < stopIndex; ++i) {
+        pRanges[2 * i] = fits ? (jint) offset : -1;
+        offset += pRanges[2 * i + 1];
+    }
+
+    return numIds;
+}
+
+/*
+ * Perform a batch of overlap queries, each specified by stride elements of
+ * the queries buffer, and return the total number of IDs found:
+ */
+template <typename F>
+static jint OverlapBatch(JNIEnv *pEnv, jint numQueries, jobject queriesBuffer,
+        jint stride, jobject masksBuffer, jobject idsBuffer,
+        jobject rangesBuffer, jlong jobSystemVa, const F& collide) {
+    const jfloat * const pQueries
+            = (jfloat *) pEnv->GetDirectBufferAddress(queriesBuffer);
+    JPH_ASSERT(pQueries != NULL);
+    JPH_ASSERT(pEnv->GetDirectBufferCapacity(queriesBuffer)
+            >= stride * numQueries);
+    const jint *pMasks = nullptr;
+    if (masksBuffer != nullptr) {
+        pMasks = (jint *) pEnv->GetDirectBufferAddress(masksBuffer);
+        JPH_ASSERT(pMasks != NULL);
+        JPH_ASSERT(pEnv->GetDirectBufferCapacity(masksBuffer) >= numQueries);
+    }
+    DIRECT_INT_BUFFER(pEnv, idsBuffer, pIds, capacityIds);
+    DIRECT_INT_BUFFER(pEnv, rangesBuffer, pRanges, capacityRanges);
+    JPH_ASSERT(capacityRanges >= 2 * numQueries);
+
+    JobSystem * const pJobSystem = reinterpret_cast<JobSystem *> (jobSystemVa);
+    std::atomic<uint> numReserved(0);
+    const jint result = ForEachRange(pJobSystem, numQueries,
+            cMinOverlapQueriesPerJob, [&](uint startIndex, uint stopIndex) {
+        return OverlapRange(pMasks, pIds, capacityIds, pRanges, numReserved,
+                startIndex, stopIndex,
+                [&](uint i, CollideShapeBodyCollector& collector,
+                const ObjectLayerFilter& olFilter) {
+            collide(pQueries + stride * i, collector, olFilter);
+        });
+    }, "JoltJniBatch");
+
+    return result;
+}
+
 /*
  * Class:     com_github_stephengold_joltjni_BroadPhaseQuery
  * Method:    castAaBox
@@ -92,6 +195,30 @@ JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_BroadPhaseQuery_colli
     pQuery->CollideAABox(*pBox, *pCollector, *pBplFilter, *pOlFilter);
 }
 
+/*
+ * Class:     com_github_stephengold_joltjni_BroadPhaseQuery
+ * Method:    collideAaBoxes
+ * Signature: (JILjava/nio/FloatBuffer;Ljava/nio/IntBuffer;Ljava/nio/IntBuffer;Ljava/nio/IntBuffer;J)I
+ */
+JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_BroadPhaseQuery_collideAaBoxes
+  (JNIEnv *pEnv, jclass, jlong queryVa, jint numBoxes, jobject boxesBuffer,
+  jobject masksBuffer, jobject idsBuffer, jobject rangesBuffer,
+  jlong jobSystemVa) {
+    const BroadPhaseQuery * const pQuery
+            = reinterpret_cast<BroadPhaseQuery *> (queryVa);
+    const jint result = OverlapBatch(pEnv, numBoxes, boxesBuffer, 6,
+            masksBuffer, idsBuffer, rangesBuffer, jobSystemVa,
+            [pQuery](const jfloat *pBox, CollideShapeBodyCollector& collector,
+            const ObjectLayerFilter& olFilter) {
+        const AABox box(Vec3(pBox[0], pBox[1], pBox[2]),
+                Vec3(pBox[3], pBox[4], pBox[5]));
+        const BroadPhaseLayerFilter bplFilter;
+        pQuery->CollideAABox(box, collector, bplFilter, olFilter);
+    });
+
+    return result;
+}
+
 /*
  * Class:     com_github_stephengold_joltjni_BroadPhaseQuery
  * Method:    collideOrientedBox
@@ -152,6 +279,31 @@ JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_BroadPhaseQuery_colli
     pQuery->CollideSphere(center, radius, *pCollector, *pBplFilter, *pOlFilter);
 }
 
+/*
+ * Class:     com_github_stephengold_joltjni_BroadPhaseQuery
+ * Method:    collideSpheres
+ * Signature: (JILjava/nio/FloatBuffer;Ljava/nio/IntBuffer;Ljava/nio/IntBuffer;Ljava/nio/IntBuffer;J)I
+ */
+JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_BroadPhaseQuery_collideSpheres
+  (JNIEnv *pEnv, jclass, jlong queryVa, jint numSpheres, jobject spheresBuffer,
+  jobject masksBuffer, jobject idsBuffer, jobject rangesBuffer,
+  jlong jobSystemVa) {
+    const BroadPhaseQuery * const pQuery
+            = reinterpret_cast<BroadPhaseQuery *> (queryVa);
+    const jint result = OverlapBatch(pEnv, numSpheres, spheresBuffer, 4,
+            masksBuffer, idsBuffer, rangesBuffer, jobSystemVa,
+            [pQuery](const jfloat *pSphere,
+            CollideShapeBodyCollector& collector,
+            const ObjectLayerFilter& olFilter) {
+        const Vec3 center(pSphere[0], pSphere[1], pSphere[2]);
+        const BroadPhaseLayerFilter bplFilter;
+        pQuery->CollideSphere(
+                center, pSphere[3], collector, bplFilter, olFilter);
+    });
+
+    return result;
+}
+
 /*
  * Class:     com_github_stephengold_joltjni_BroadPhaseQuery
  * Method:    free
@@ -0,0 +1,105 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+/*
+ * Author: Stephen Gold
+ */
+#include "Jolt/Jolt.h"
+#include "auto/com_github_stephengold_joltjni_ByteBufferStateRecorder.h"
+#include "glue/glue.h"
+#include "custom/ByteBufferStateRecorder.h"
+
+using namespace JPH;
+
+/*
+ * Class:     com_github_stephengold_joltjni_ByteBufferStateRecorder
+ * Method:    clear
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_ByteBufferStateRecorder_clear
+  (JNIEnv *, jclass, jlong recorderVa) {
+    ByteBufferStateRecorder * const pRecorder
+            = reinterpret_cast<ByteBufferStateRecorder *> (recorderVa);
+    pRecorder->Clear();
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_ByteBufferStateRecorder
+ * Method:    countBytes
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_ByteBufferStateRecorder_countBytes
+  (JNIEnv *, jclass, jlong recorderVa) {
+    const ByteBufferStateRecorder * const pRecorder
+            = reinterpret_cast<ByteBufferStateRecorder *> (recorderVa);
+    const size_t result = pRecorder->GetNumBytes();
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_ByteBufferStateRecorder
+ * Method:    createDefault
+ * Signature: ()J
+ */
+JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_ByteBufferStateRecorder_createDefault
+  BODYOF_CREATE_DEFAULT(ByteBufferStateRecorder)
+
+/*
+ * Class:     com_github_stephengold_joltjni_ByteBufferStateRecorder
+ * Method:    isFailed
+ * Signature: (J)Z
+ */
+JNIEXPORT jboolean JNICALL Java_com_github_stephengold_joltjni_ByteBufferStateRecorder_isFailed
+  (JNIEnv *, jclass, jlong recorderVa) {
+    const ByteBufferStateRecorder * const pRecorder
+            = reinterpret_cast<ByteBufferStateRecorder *> (recorderVa);
+    const bool result = pRecorder->IsFailed();
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_ByteBufferStateRecorder
+ * Method:    rewind
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_ByteBufferStateRecorder_rewind
+  (JNIEnv *, jclass, jlong recorderVa) {
+    ByteBufferStateRecorder * const pRecorder
+            = reinterpret_cast<ByteBufferStateRecorder *> (recorderVa);
+    pRecorder->Rewind();
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_ByteBufferStateRecorder
+ * Method:    setData
+ * Signature: (JLjava/nio/ByteBuffer;III)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_ByteBufferStateRecorder_setData
+  (JNIEnv *pEnv, jclass, jlong recorderVa, jobject buffer, jint offset,
+        jint capacity, jint numBytes) {
+    ByteBufferStateRecorder * const pRecorder
+            = reinterpret_cast<ByteBufferStateRecorder *> (recorderVa);
+    uint8 * const pBytes = (uint8 *) pEnv->GetDirectBufferAddress(buffer);
+    JPH_ASSERT(pBytes != NULL);
+    JPH_ASSERT(offset + capacity <= pEnv->GetDirectBufferCapacity(buffer));
+    pRecorder->SetData(pBytes + offset, capacity, numBytes);
+}
\ No newline at end of file
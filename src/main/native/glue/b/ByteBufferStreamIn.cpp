@@ -0,0 +1,112 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+/*
+ * Author: Stephen Gold
+ */
+#include "Jolt/Jolt.h"
+#include "auto/com_github_stephengold_joltjni_ByteBufferStreamIn.h"
+#include "glue/glue.h"
+#include "custom/ByteBufferStreamIn.h"
+
+using namespace JPH;
+
+/*
+ * Class:     com_github_stephengold_joltjni_ByteBufferStreamIn
+ * Method:    createDefault
+ * Signature: ()J
+ */
+JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_ByteBufferStreamIn_createDefault
+  BODYOF_CREATE_DEFAULT(ByteBufferStreamIn)
+
+/*
+ * Class:     com_github_stephengold_joltjni_ByteBufferStreamIn
+ * Method:    getPosition
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_ByteBufferStreamIn_getPosition
+  (JNIEnv *, jclass, jlong streamVa) {
+    const ByteBufferStreamIn * const pStream
+            = reinterpret_cast<ByteBufferStreamIn *> (streamVa);
+    const size_t result = pStream->GetPosition();
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_ByteBufferStreamIn
+ * Method:    isEof
+ * Signature: (J)Z
+ */
+JNIEXPORT jboolean JNICALL Java_com_github_stephengold_joltjni_ByteBufferStreamIn_isEof
+  (JNIEnv *, jclass, jlong streamVa) {
+    const ByteBufferStreamIn * const pStream
+            = reinterpret_cast<ByteBufferStreamIn *> (streamVa);
+    const bool result = pStream->IsEOF();
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_ByteBufferStreamIn
+ * Method:    isFailed
+ * Signature: (J)Z
+ */
+JNIEXPORT jboolean JNICALL Java_com_github_stephengold_joltjni_ByteBufferStreamIn_isFailed
+  (JNIEnv *, jclass, jlong streamVa) {
+    const ByteBufferStreamIn * const pStream
+            = reinterpret_cast<ByteBufferStreamIn *> (streamVa);
+    const bool result = pStream->IsFailed();
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_ByteBufferStreamIn
+ * Method:    rewind
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_ByteBufferStreamIn_rewind
+  (JNIEnv *, jclass, jlong streamVa) {
+    ByteBufferStreamIn * const pStream
+            = reinterpret_cast<ByteBufferStreamIn *> (streamVa);
+    pStream->Rewind();
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_ByteBufferStreamIn
+ * Method:    setData
+ * Signature: (JLjava/nio/ByteBuffer;II)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_ByteBufferStreamIn_setData
+  (JNIEnv *pEnv, jclass, jlong streamVa, jobject data, jint offset,
+        jint numBytes) {
+    ByteBufferStreamIn * const pStream
+            = reinterpret_cast<ByteBufferStreamIn *> (streamVa);
+    const uint8 * const pBytes
+            = (const uint8 *) pEnv->GetDirectBufferAddress(data);
+    // an empty mapping might not have an address
+    JPH_ASSERT(pBytes != NULL || numBytes == 0);
+    JPH_ASSERT(offset + numBytes <= pEnv->GetDirectBufferCapacity(data));
+    if (pBytes == NULL) {
+        pStream->SetRegion(nullptr, 0);
+    } else {
+        pStream->SetRegion(pBytes + offset, numBytes);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,53 @@
+#ifndef _Included_batch
+#define _Included_batch
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+/*
+ * Author: Stephen Gold
+ */
+
+/*
+ * helpers shared by the glue for batched queries:
+ */
+#include "Jolt/Jolt.h"
+#include "Jolt/Physics/Collision/ObjectLayer.h"
+#include "custom/ForEachRange.h"
+
+/*
+ * An object-layer filter that accepts only layers whose bits are set in a
+ * 32-bit mask. Layers numbered 32 or higher are always rejected:
+ */
+class MaskObjectLayerFilter : public JPH::ObjectLayerFilter {
+public:
+    explicit MaskObjectLayerFilter(JPH::uint32 mask) : mMask(mask) {
+    }
+
+    virtual bool ShouldCollide(JPH::ObjectLayer inLayer) const override {
+        return inLayer < 32 && (mMask & (1u << inLayer)) != 0;
+    }
+
+private:
+    const JPH::uint32 mMask;
+};
+
+#endif
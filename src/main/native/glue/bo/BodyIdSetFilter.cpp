@@ -0,0 +1,108 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+/*
+ * Author: Stephen Gold
+ */
+#include "Jolt/Jolt.h"
+#include "auto/com_github_stephengold_joltjni_BodyIdSetFilter.h"
+#include "glue/glue.h"
+#include "custom/BodyFilters.h"
+
+using namespace JPH;
+
+/*
+ * Class:     com_github_stephengold_joltjni_BodyIdSetFilter
+ * Method:    add
+ * Signature: (JI)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_BodyIdSetFilter_add
+  (JNIEnv *, jclass, jlong filterVa, jint bodyId) {
+    BodyIdSetFilter * const pFilter
+            = reinterpret_cast<BodyIdSetFilter *> (filterVa);
+    const BodyID id(bodyId);
+    pFilter->Add(id);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_BodyIdSetFilter
+ * Method:    clear
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_BodyIdSetFilter_clear
+  (JNIEnv *, jclass, jlong filterVa) {
+    BodyIdSetFilter * const pFilter
+            = reinterpret_cast<BodyIdSetFilter *> (filterVa);
+    pFilter->Clear();
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_BodyIdSetFilter
+ * Method:    contains
+ * Signature: (JI)Z
+ */
+JNIEXPORT jboolean JNICALL Java_com_github_stephengold_joltjni_BodyIdSetFilter_contains
+  (JNIEnv *, jclass, jlong filterVa, jint bodyId) {
+    const BodyIdSetFilter * const pFilter
+            = reinterpret_cast<BodyIdSetFilter *> (filterVa);
+    const BodyID id(bodyId);
+    const bool result = pFilter->Contains(id);
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_BodyIdSetFilter
+ * Method:    create
+ * Signature: (Z)J
+ */
+JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_BodyIdSetFilter_create
+  (JNIEnv *, jclass, jboolean exclude) {
+    BodyIdSetFilter * const pResult = new BodyIdSetFilter(exclude);
+    TRACE_NEW("BodyIdSetFilter", pResult)
+    return reinterpret_cast<jlong> (pResult);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_BodyIdSetFilter
+ * Method:    isExclude
+ * Signature: (J)Z
+ */
+JNIEXPORT jboolean JNICALL Java_com_github_stephengold_joltjni_BodyIdSetFilter_isExclude
+  (JNIEnv *, jclass, jlong filterVa) {
+    const BodyIdSetFilter * const pFilter
+            = reinterpret_cast<BodyIdSetFilter *> (filterVa);
+    const bool result = pFilter->IsExclude();
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_BodyIdSetFilter
+ * Method:    remove
+ * Signature: (JI)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_BodyIdSetFilter_remove
+  (JNIEnv *, jclass, jlong filterVa, jint bodyId) {
+    BodyIdSetFilter * const pFilter
+            = reinterpret_cast<BodyIdSetFilter *> (filterVa);
+    const BodyID id(bodyId);
+    pFilter->Remove(id);
+}
\ No newline at end of file
@@ -25,6 +25,7 @@ SOFTWARE.
  */
 #include "Jolt/Jolt.h"
 #include "Jolt/Physics/Body/BodyInterface.h"
+#include "Jolt/Physics/Body/BodyManager.h"
 #include "Jolt/Physics/Collision/BroadPhase/BroadPhase.h"
 #include "Jolt/Physics/Collision/Shape/Shape.h"
 #include "Jolt/Physics/Collision/TransformedShape.h"
@@ -34,6 +35,151 @@ SOFTWARE.
 
 using namespace JPH;
 
+/*
+ * bits of the field mask used by getBodyStatesDp(), getBodyStatesSp(),
+ * setBodyStatesDp(), and setBodyStatesSp(), values must match
+ * BodyInterface.java
+ */
+#define STATE_POSITION 0x1
+#define STATE_ROTATION 0x2
+#define STATE_LINEAR_VELOCITY 0x4
+#define STATE_ANGULAR_VELOCITY 0x8
+#define STATE_LINEAR_IMPULSE 0x10
+#define STATE_ANGULAR_IMPULSE 0x20
+#define STATE_MOVE_KINEMATIC 0x40
+
+/*
+ * Copy the selected state fields of numBodies bodies, packed in a fixed
+ * stride, to the specified storage.
+ */
+template <typename T>
+static void GetBodyStates(const BodyInterface *pInterface, const BodyID *pIds,
+        jint numBodies, jint fieldMask, T *pStore) {
+    const bool wantPosition = (fieldMask & STATE_POSITION) != 0;
+    const bool wantRotation = (fieldMask & STATE_ROTATION) != 0;
+    const bool wantLinear = (fieldMask & STATE_LINEAR_VELOCITY) != 0;
+    const bool wantAngular = (fieldMask & STATE_ANGULAR_VELOCITY) != 0;
+    for (jint i = 0; i < numBodies; ++i) {
+        const BodyID id = pIds[i];
+        if (wantPosition || wantRotation) {
+            RVec3 location;
+            Quat orientation;
+            pInterface->GetPositionAndRotation(id, location, orientation);
+            if (wantPosition) {
+                *pStore++ = (T) location.GetX();
+                *pStore++ = (T) location.GetY();
+                *pStore++ = (T) location.GetZ();
+            }
+            if (wantRotation) {
+                *pStore++ = (T) orientation.GetX();
+                *pStore++ = (T) orientation.GetY();
+                *pStore++ = (T) orientation.GetZ();
+                *pStore++ = (T) orientation.GetW();
+            }
+        }
+        if (wantLinear || wantAngular) {
+            Vec3 linear, angular;
+            pInterface->GetLinearAndAngularVelocity(id, linear, angular);
+            if (wantLinear) {
+                *pStore++ = (T) linear.GetX();
+                *pStore++ = (T) linear.GetY();
+                *pStore++ = (T) linear.GetZ();
+            }
+            if (wantAngular) {
+                *pStore++ = (T) angular.GetX();
+                *pStore++ = (T) angular.GetY();
+                *pStore++ = (T) angular.GetZ();
+            }
+        }
+    }
+}
+
+/*
+ * Apply the selected state fields of numBodies bodies, packed in a fixed
+ * stride, then activate the whole batch (if requested) in one call.
+ */
+template <typename T>
+static void SetBodyStates(BodyInterface *pInterface, const BodyID *pIds,
+        jint numBodies, jint fieldMask, const T *pData, jfloat deltaTime,
+        EActivation activation) {
+    const bool setPosition = (fieldMask & STATE_POSITION) != 0;
+    const bool setRotation = (fieldMask & STATE_ROTATION) != 0;
+    const bool setLinear = (fieldMask & STATE_LINEAR_VELOCITY) != 0;
+    const bool setAngular = (fieldMask & STATE_ANGULAR_VELOCITY) != 0;
+    const bool addLinear = (fieldMask & STATE_LINEAR_IMPULSE) != 0;
+    const bool addAngular = (fieldMask & STATE_ANGULAR_IMPULSE) != 0;
+    const bool moveKinematic = (fieldMask & STATE_MOVE_KINEMATIC) != 0;
+    const EActivation dont = EActivation::DontActivate;
+    for (jint i = 0; i < numBodies; ++i) {
+        const BodyID id = pIds[i];
+        RVec3 location;
+        if (setPosition) {
+            location = RVec3(pData[0], pData[1], pData[2]);
+            pData += 3;
+        }
+        Quat orientation;
+        if (setRotation) {
+            orientation = Quat(pData[0], pData[1], pData[2], pData[3]);
+            pData += 4;
+        }
+        if (moveKinematic) {
+            pInterface->MoveKinematic(id, location, orientation, deltaTime);
+        } else if (setPosition && setRotation) {
+            pInterface->SetPositionAndRotation(
+                    id, location, orientation, dont);
+        } else if (setPosition) {
+            pInterface->SetPosition(id, location, dont);
+        } else if (setRotation) {
+            pInterface->SetRotation(id, orientation, dont);
+        }
+
+        Vec3 linear, angular;
+        if (setLinear) {
+            linear = Vec3(pData[0], pData[1], pData[2]);
+            pData += 3;
+        }
+        if (setAngular) {
+            angular = Vec3(pData[0], pData[1], pData[2]);
+            pData += 3;
+        }
+        if (setLinear && setAngular) {
+            pInterface->SetLinearAndAngularVelocity(id, linear, angular);
+        } else if (setLinear) {
+            pInterface->SetLinearVelocity(id, linear);
+        } else if (setAngular) {
+            pInterface->SetAngularVelocity(id, angular);
+        }
+
+        if (addLinear) {
+            const Vec3 impulse(pData[0], pData[1], pData[2]);
+            pData += 3;
+            pInterface->AddImpulse(id, impulse);
+        }
+        if (addAngular) {
+            const Vec3 impulse(pData[0], pData[1], pData[2]);
+            pData += 3;
+            pInterface->AddAngularImpulse(id, impulse);
+        }
+    }
+    if (activation == EActivation::Activate && numBodies > 0) {
+        pInterface->ActivateBodies(pIds, numBodies);
+    }
+}
+
+/*
+ * Convert the virtual address of a BodyID[] or a BodyIDVector to a pointer to
+ * its first element.
+ */
+static const BodyID * BodyIdsOf(jlong idsVa, jboolean isVector) {
+    if (isVector) {
+        const BodyIDVector * const pVector
+                = reinterpret_cast<BodyIDVector *> (idsVa);
+        return pVector->data();
+    } else {
+        return reinterpret_cast<BodyID *> (idsVa);
+    }
+}
+
 /*
  * Class:     com_github_stephengold_joltjni_BodyInterface
  * Method:    activateBodiesInAaBox
@@ -336,6 +482,36 @@ JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_BodyInterface_getAngu
     pFloats[2] = result.GetZ();
 }
 
+/*
+ * Class:     com_github_stephengold_joltjni_BodyInterface
+ * Method:    getBodyStatesDp
+ * Signature: (JJZIILjava/nio/DoubleBuffer;)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_BodyInterface_getBodyStatesDp
+  (JNIEnv *pEnv, jclass, jlong bodyInterfaceVa, jlong idsVa,
+  jboolean isVector, jint numBodies, jint fieldMask, jobject storeData) {
+    const BodyInterface * const pInterface
+            = reinterpret_cast<BodyInterface *> (bodyInterfaceVa);
+    const BodyID * const pIds = BodyIdsOf(idsVa, isVector);
+    DIRECT_DOUBLE_BUFFER(pEnv, storeData, pDoubles, capacityDoubles);
+    GetBodyStates(pInterface, pIds, numBodies, fieldMask, pDoubles);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_BodyInterface
+ * Method:    getBodyStatesSp
+ * Signature: (JJZIILjava/nio/FloatBuffer;)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_BodyInterface_getBodyStatesSp
+  (JNIEnv *pEnv, jclass, jlong bodyInterfaceVa, jlong idsVa,
+  jboolean isVector, jint numBodies, jint fieldMask, jobject storeData) {
+    const BodyInterface * const pInterface
+            = reinterpret_cast<BodyInterface *> (bodyInterfaceVa);
+    const BodyID * const pIds = BodyIdsOf(idsVa, isVector);
+    DIRECT_FLOAT_BUFFER(pEnv, storeData, pFloats, capacityFloats);
+    GetBodyStates(pInterface, pIds, numBodies, fieldMask, pFloats);
+}
+
 /*
  * Class:     com_github_stephengold_joltjni_BodyInterface
  * Method:    getBodyType
@@ -741,6 +917,40 @@ JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_BodyInterface_setAngu
     pInterface->SetAngularVelocity(id, omega);
 }
 
+/*
+ * Class:     com_github_stephengold_joltjni_BodyInterface
+ * Method:    setBodyStatesDp
+ * Signature: (JJIILjava/nio/DoubleBuffer;FI)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_BodyInterface_setBodyStatesDp
+  (JNIEnv *pEnv, jclass, jlong bodyInterfaceVa, jlong idsVa, jint numBodies,
+  jint fieldMask, jobject data, jfloat deltaTime, jint ordinal) {
+    BodyInterface * const pInterface
+            = reinterpret_cast<BodyInterface *> (bodyInterfaceVa);
+    const BodyID * const pIds = reinterpret_cast<BodyID *> (idsVa);
+    DIRECT_DOUBLE_BUFFER(pEnv, data, pDoubles, capacityDoubles);
+    const EActivation activation = (EActivation) ordinal;
+    SetBodyStates(pInterface, pIds, numBodies, fieldMask, pDoubles, deltaTime,
+            activation);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_BodyInterface
+ * Method:    setBodyStatesSp
+ * Signature: (JJIILjava/nio/FloatBuffer;FI)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_BodyInterface_setBodyStatesSp
+  (JNIEnv *pEnv, jclass, jlong bodyInterfaceVa, jlong idsVa, jint numBodies,
+  jint fieldMask, jobject data, jfloat deltaTime, jint ordinal) {
+    BodyInterface * const pInterface
+            = reinterpret_cast<BodyInterface *> (bodyInterfaceVa);
+    const BodyID * const pIds = reinterpret_cast<BodyID *> (idsVa);
+    DIRECT_FLOAT_BUFFER(pEnv, data, pFloats, capacityFloats);
+    const EActivation activation = (EActivation) ordinal;
+    SetBodyStates(pInterface, pIds, numBodies, fieldMask, pFloats, deltaTime,
+            activation);
+}
+
 /*
  * Class:     com_github_stephengold_joltjni_BodyInterface
  * Method:    setFriction
@@ -0,0 +1,96 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+/*
+ * Author: Stephen Gold
+ */
+#include "Jolt/Jolt.h"
+#include "Jolt/Physics/Body/BodyManager.h"
+#include "auto/com_github_stephengold_joltjni_BodySetStateFilter.h"
+#include "glue/glue.h"
+#include "custom/StateRecorderFilters.h"
+
+using namespace JPH;
+
+/*
+ * Class:     com_github_stephengold_joltjni_BodySetStateFilter
+ * Method:    add
+ * Signature: (JI)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_BodySetStateFilter_add
+  (JNIEnv *, jclass, jlong filterVa, jint bodyId) {
+    BodySetStateFilter * const pFilter
+            = reinterpret_cast<BodySetStateFilter *> (filterVa);
+    const BodyID id(bodyId);
+    pFilter->Add(id);
+}
+/*
+ * Class:     com_github_stephengold_joltjni_BodySetStateFilter
+ * Method:    addAll
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_BodySetStateFilter_addAll
+  (JNIEnv *, jclass, jlong filterVa, jlong vectorVa) {
+    BodySetStateFilter * const pFilter
+            = reinterpret_cast<BodySetStateFilter *> (filterVa);
+    const BodyIDVector * const pVector
+            = reinterpret_cast<BodyIDVector *> (vectorVa);
+    for (const BodyID &id : *pVector) {
+        pFilter->Add(id);
+    }
+}
+/*
+ * Class:     com_github_stephengold_joltjni_BodySetStateFilter
+ * Method:    clear
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_BodySetStateFilter_clear
+  (JNIEnv *, jclass, jlong filterVa) {
+    BodySetStateFilter * const pFilter
+            = reinterpret_cast<BodySetStateFilter *> (filterVa);
+    pFilter->Clear();
+}
+/*
+ * Class:     com_github_stephengold_joltjni_BodySetStateFilter
+ * Method:    create
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_BodySetStateFilter_create
+  (JNIEnv *, jclass, jlong systemVa) {
+    const PhysicsSystem * const pSystem
+            = reinterpret_cast<PhysicsSystem *> (systemVa);
+    BodySetStateFilter * const pResult = new BodySetStateFilter(*pSystem);
+    TRACE_NEW("BodySetStateFilter", pResult)
+    return reinterpret_cast<jlong> (pResult);
+}
+/*
+ * Class:     com_github_stephengold_joltjni_BodySetStateFilter
+ * Method:    remove
+ * Signature: (JI)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_BodySetStateFilter_remove
+  (JNIEnv *, jclass, jlong filterVa, jint bodyId) {
+    BodySetStateFilter * const pFilter
+            = reinterpret_cast<BodySetStateFilter *> (filterVa);
+    const BodyID id(bodyId);
+    pFilter->Remove(id);
+}
\ No newline at end of file
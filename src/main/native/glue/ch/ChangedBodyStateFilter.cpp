@@ -0,0 +1,68 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+/*
+ * Author: Stephen Gold
+ */
+#include "Jolt/Jolt.h"
+#include "auto/com_github_stephengold_joltjni_ChangedBodyStateFilter.h"
+#include "glue/glue.h"
+#include "custom/StateRecorderFilters.h"
+
+using namespace JPH;
+
+/*
+ * Class:     com_github_stephengold_joltjni_ChangedBodyStateFilter
+ * Method:    commit
+ * Signature: (J)I
+ */
+JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_ChangedBodyStateFilter_commit
+  (JNIEnv *, jclass, jlong filterVa) {
+    ChangedBodyStateFilter * const pFilter
+            = reinterpret_cast<ChangedBodyStateFilter *> (filterVa);
+    const uint result = pFilter->Commit();
+    return result;
+}
+/*
+ * Class:     com_github_stephengold_joltjni_ChangedBodyStateFilter
+ * Method:    create
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_ChangedBodyStateFilter_create
+  (JNIEnv *, jclass, jlong systemVa) {
+    const PhysicsSystem * const pSystem
+            = reinterpret_cast<PhysicsSystem *> (systemVa);
+    ChangedBodyStateFilter * const pResult = new ChangedBodyStateFilter(*pSystem);
+    TRACE_NEW("ChangedBodyStateFilter", pResult)
+    return reinterpret_cast<jlong> (pResult);
+}
+/*
+ * Class:     com_github_stephengold_joltjni_ChangedBodyStateFilter
+ * Method:    reset
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_ChangedBodyStateFilter_reset
+  (JNIEnv *, jclass, jlong filterVa) {
+    ChangedBodyStateFilter * const pFilter
+            = reinterpret_cast<ChangedBodyStateFilter *> (filterVa);
+    pFilter->Reset();
+}
\ No newline at end of file
@@ -0,0 +1,71 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+/*
+ * Author: Stephen Gold
+ */
+#include "Jolt/Jolt.h"
+#include "auto/com_github_stephengold_joltjni_CompositeBodyFilter.h"
+#include "glue/glue.h"
+#include "custom/BodyFilters.h"
+
+using namespace JPH;
+
+/*
+ * Class:     com_github_stephengold_joltjni_CompositeBodyFilter
+ * Method:    add
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_CompositeBodyFilter_add
+  (JNIEnv *, jclass, jlong filterVa, jlong childVa) {
+    CompositeBodyFilter * const pFilter
+            = reinterpret_cast<CompositeBodyFilter *> (filterVa);
+    const BodyFilter * const pChild
+            = reinterpret_cast<BodyFilter *> (childVa);
+    pFilter->Add(pChild);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_CompositeBodyFilter
+ * Method:    clear
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_CompositeBodyFilter_clear
+  (JNIEnv *, jclass, jlong filterVa) {
+    CompositeBodyFilter * const pFilter
+            = reinterpret_cast<CompositeBodyFilter *> (filterVa);
+    pFilter->Clear();
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_CompositeBodyFilter
+ * Method:    create
+ * Signature: (ZZ)J
+ */
+JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_CompositeBodyFilter_create
+  (JNIEnv *, jclass, jboolean requireAll, jboolean invert) {
+    const CompositeBodyFilter::ERule rule = requireAll
+            ? CompositeBodyFilter::ERule::All : CompositeBodyFilter::ERule::Any;
+    CompositeBodyFilter * const pResult = new CompositeBodyFilter(rule, invert);
+    TRACE_NEW("CompositeBodyFilter", pResult)
+    return reinterpret_cast<jlong> (pResult);
+}
\ No newline at end of file
@@ -0,0 +1,60 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+/*
+ * Author: Stephen Gold
+ */
+#include "Jolt/Jolt.h"
+#include "auto/com_github_stephengold_joltjni_CollisionGroupBodyFilter.h"
+#include "glue/glue.h"
+#include "custom/BodyFilters.h"
+
+using namespace JPH;
+
+/*
+ * Class:     com_github_stephengold_joltjni_CollisionGroupBodyFilter
+ * Method:    create
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_CollisionGroupBodyFilter_create
+  (JNIEnv *, jclass, jlong groupVa) {
+    const CollisionGroup * const pGroup
+            = reinterpret_cast<CollisionGroup *> (groupVa);
+    CollisionGroupBodyFilter * const pResult
+            = new CollisionGroupBodyFilter(*pGroup);
+    TRACE_NEW("CollisionGroupBodyFilter", pResult)
+    return reinterpret_cast<jlong> (pResult);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_CollisionGroupBodyFilter
+ * Method:    setGroup
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_CollisionGroupBodyFilter_setGroup
+  (JNIEnv *, jclass, jlong filterVa, jlong groupVa) {
+    CollisionGroupBodyFilter * const pFilter
+            = reinterpret_cast<CollisionGroupBodyFilter *> (filterVa);
+    const CollisionGroup * const pGroup
+            = reinterpret_cast<CollisionGroup *> (groupVa);
+    pFilter->mGroup = *pGroup;
+}
\ No newline at end of file
@@ -65,7 +65,7 @@ public:
         const jlong userData = inBodyUserData;
         pAttachEnv->CallVoidMethod(mJavaObject, mActivatedMethodId, id, userData);
         EXCEPTION_CHECK(pAttachEnv)
-        mpVM->DetachCurrentThread();
+        DETACH_CURRENT_THREAD(mpVM);
     }
 
     void OnBodyDeactivated(const BodyID& inBodyID, uint64 inBodyUserData) override {
@@ -77,7 +77,7 @@ public:
         const jlong userData = inBodyUserData;
         pAttachEnv->CallVoidMethod(mJavaObject, mDeactivatedMethodId, id, userData);
         EXCEPTION_CHECK(pAttachEnv)
-        mpVM->DetachCurrentThread();
+        DETACH_CURRENT_THREAD(mpVM);
     }
 
     ~CustomBodyActivationListener() {
@@ -87,7 +87,7 @@ public:
 
         pAttachEnv->DeleteGlobalRef(mJavaObject);
         EXCEPTION_CHECK(pAttachEnv)
-        mpVM->DetachCurrentThread();
+        DETACH_CURRENT_THREAD(mpVM);
     }
 };
 
@@ -132,8 +132,9 @@ public:
         ioAngularVelocity = Vec3(pFloats[3], pFloats[4], pFloats[5]);
         pAttachEnv->ReleaseFloatArrayElements(velocities, pFloats, JNI_ABORT);
         EXCEPTION_CHECK(pAttachEnv)
+        pAttachEnv->DeleteLocalRef(velocities);
 
-        mpVM->DetachCurrentThread();
+        DETACH_CURRENT_THREAD(mpVM);
     }
 
     void OnCharacterContactAdded(const CharacterVirtual *inCharacter,
@@ -162,7 +163,7 @@ public:
                 contactNormalY, contactNormalZ, settingsVa);
         EXCEPTION_CHECK(pAttachEnv)
 
-        mpVM->DetachCurrentThread();
+        DETACH_CURRENT_THREAD(mpVM);
     }
 
     void OnCharacterContactPersisted(const CharacterVirtual *inCharacter,
@@ -191,7 +192,7 @@ public:
                 contactNormalY, contactNormalZ, settingsVa);
         EXCEPTION_CHECK(pAttachEnv)
 
-        mpVM->DetachCurrentThread();
+        DETACH_CURRENT_THREAD(mpVM);
     }
 
     void OnCharacterContactRemoved(const CharacterVirtual *inCharacter,
@@ -209,7 +210,7 @@ public:
                 otherCharacterId, subShapeId2);
         EXCEPTION_CHECK(pAttachEnv)
 
-        mpVM->DetachCurrentThread();
+        DETACH_CURRENT_THREAD(mpVM);
     }
 
     void OnCharacterContactSolve(const CharacterVirtual *inCharacter,
@@ -264,8 +265,9 @@ public:
         pAttachEnv->ReleaseFloatArrayElements(
                 newCharacterVelocity, pFloats, JNI_ABORT);
         EXCEPTION_CHECK(pAttachEnv)
+        pAttachEnv->DeleteLocalRef(newCharacterVelocity);
 
-        mpVM->DetachCurrentThread();
+        DETACH_CURRENT_THREAD(mpVM);
     }
 
     bool OnCharacterContactValidate(const CharacterVirtual *inCharacter,
@@ -284,7 +286,7 @@ public:
                 subShapeId2);
         EXCEPTION_CHECK(pAttachEnv)
 
-        mpVM->DetachCurrentThread();
+        DETACH_CURRENT_THREAD(mpVM);
         return result;
     }
 
@@ -313,7 +315,7 @@ public:
                 contactNormalZ, settingsVa);
         EXCEPTION_CHECK(pAttachEnv)
 
-        mpVM->DetachCurrentThread();
+        DETACH_CURRENT_THREAD(mpVM);
     }
 
     void OnContactPersisted(const CharacterVirtual *inCharacter,
@@ -341,7 +343,7 @@ public:
                 contactNormalZ, settingsVa);
         EXCEPTION_CHECK(pAttachEnv)
 
-        mpVM->DetachCurrentThread();
+        DETACH_CURRENT_THREAD(mpVM);
     }
 
     void OnContactRemoved(const CharacterVirtual *inCharacter,
@@ -358,7 +360,7 @@ public:
                 bodyId2, subShapeId2);
         EXCEPTION_CHECK(pAttachEnv)
 
-        mpVM->DetachCurrentThread();
+        DETACH_CURRENT_THREAD(mpVM);
     }
 
     void OnContactSolve(const CharacterVirtual *inCharacter,
@@ -410,8 +412,9 @@ public:
         pAttachEnv->ReleaseFloatArrayElements(
                 newCharacterVelocity, pFloats, JNI_ABORT);
         EXCEPTION_CHECK(pAttachEnv)
+        pAttachEnv->DeleteLocalRef(newCharacterVelocity);
 
-        mpVM->DetachCurrentThread();
+        DETACH_CURRENT_THREAD(mpVM);
     }
 
     bool OnContactValidate(const CharacterVirtual *inCharacter,
@@ -427,7 +430,7 @@ public:
                 mValidateMethodId, characterVa, bodyId2, subShapeId2);
         EXCEPTION_CHECK(pAttachEnv)
 
-        mpVM->DetachCurrentThread();
+        DETACH_CURRENT_THREAD(mpVM);
         return result;
     }
 
@@ -438,7 +441,7 @@ public:
 
         pAttachEnv->DeleteGlobalRef(mJavaObject);
         EXCEPTION_CHECK(pAttachEnv)
-        mpVM->DetachCurrentThread();
+        DETACH_CURRENT_THREAD(mpVM);
     }
 };
 
@@ -58,7 +58,7 @@ public:
         const jint resultId = inResult.GetIndexAndSequenceNumber();
         pAttachEnv->CallVoidMethod(mJavaObject, mAddMethodId, resultId);
         EXCEPTION_CHECK(pAttachEnv)
-        mpVM->DetachCurrentThread();
+        DETACH_CURRENT_THREAD(mpVM);
     }
 
     ~CustomCollideShapeBodyCollector() {
@@ -68,7 +68,7 @@ public:
 
         pAttachEnv->DeleteGlobalRef(mJavaObject);
         EXCEPTION_CHECK(pAttachEnv)
-        mpVM->DetachCurrentThread();
+        DETACH_CURRENT_THREAD(mpVM);
     }
 };
 
@@ -74,7 +74,7 @@ public:
         const jlong settingsVa = reinterpret_cast<jlong> (&ioSettings);
         pAttachEnv->CallVoidMethod(mJavaObject, mAddedMethodId, body1Va, body2Va, manifoldVa, settingsVa);
         EXCEPTION_CHECK(pAttachEnv)
-        mpVM->DetachCurrentThread();
+        DETACH_CURRENT_THREAD(mpVM);
     }
 
     void OnContactPersisted(const Body& inBody1, const Body& inBody2,
@@ -90,7 +90,7 @@ public:
         pAttachEnv->CallVoidMethod(mJavaObject, mPersistedMethodId, body1Va,
                 body2Va, manifoldVa, settingsVa);
         EXCEPTION_CHECK(pAttachEnv)
-        mpVM->DetachCurrentThread();
+        DETACH_CURRENT_THREAD(mpVM);
     }
 
     void OnContactRemoved(const SubShapeIDPair& pair) override {
@@ -101,7 +101,7 @@ public:
         const jlong pairVa = reinterpret_cast<jlong> (&pair);
         pAttachEnv->CallVoidMethod(mJavaObject, mRemovedMethodId, pairVa);
         EXCEPTION_CHECK(pAttachEnv)
-        mpVM->DetachCurrentThread();
+        DETACH_CURRENT_THREAD(mpVM);
     }
 
     ValidateResult OnContactValidate(const Body& inBody1, const Body& inBody2,
@@ -119,7 +119,7 @@ public:
         const jint jintResult = pAttachEnv->CallIntMethod(mJavaObject,
                 mValidateMethodId, body1Va, body2Va, offsetX, offsetY, offsetZ, shapeVa);
         EXCEPTION_CHECK(pAttachEnv)
-        mpVM->DetachCurrentThread();
+        DETACH_CURRENT_THREAD(mpVM);
         return (ValidateResult) jintResult;
     }
 
@@ -130,7 +130,7 @@ public:
 
         pAttachEnv->DeleteGlobalRef(mJavaObject);
         EXCEPTION_CHECK(pAttachEnv)
-        mpVM->DetachCurrentThread();
+        DETACH_CURRENT_THREAD(mpVM);
     }
 };
 
@@ -76,7 +76,7 @@ public:
         pAttachEnv->CallVoidMethod(
                 mJavaObject, mDrawLineId, x1, y1, z1, x2, y2, z2, color);
         EXCEPTION_CHECK(pAttachEnv)
-        mpVM->DetachCurrentThread();
+        DETACH_CURRENT_THREAD(mpVM);
     }
 
     void DrawText3D(RVec3Arg inPosition, const string_view &inString,
@@ -101,7 +101,8 @@ public:
         pAttachEnv->CallVoidMethod(
                 mJavaObject, mDrawTextId, xx, yy, zz, message, color, inHeight);
         EXCEPTION_CHECK(pAttachEnv)
-        mpVM->DetachCurrentThread();
+        pAttachEnv->DeleteLocalRef(message);
+        DETACH_CURRENT_THREAD(mpVM);
     }
 
     void DrawTriangle(RVec3Arg inV1, RVec3Arg inV2, RVec3Arg inV3,
@@ -124,7 +125,7 @@ public:
         pAttachEnv->CallVoidMethod(mJavaObject, mDrawTriangleId,
                 x1, y1, z1, x2, y2, z2, x3, y3, z3, color, shadow);
         EXCEPTION_CHECK(pAttachEnv)
-        mpVM->DetachCurrentThread();
+        DETACH_CURRENT_THREAD(mpVM);
     }
 
     ~CustomDebugRendererSimple() {
@@ -134,7 +135,7 @@ public:
 
         pAttachEnv->DeleteGlobalRef(mJavaObject);
         EXCEPTION_CHECK(pAttachEnv)
-        mpVM->DetachCurrentThread();
+        DETACH_CURRENT_THREAD(mpVM);
     }
 };
 #endif
@@ -58,7 +58,7 @@ public:
         const jlong contextVa = reinterpret_cast<jlong> (&inContext);
         pAttachEnv->CallVoidMethod(mJavaObject, mStepMethodId, contextVa);
         EXCEPTION_CHECK(pAttachEnv)
-        mpVM->DetachCurrentThread();
+        DETACH_CURRENT_THREAD(mpVM);
     }
 
     ~CustomPhysicsStepListener() {
@@ -68,7 +68,7 @@ public:
 
         pAttachEnv->DeleteGlobalRef(mJavaObject);
         EXCEPTION_CHECK(pAttachEnv)
-        mpVM->DetachCurrentThread();
+        DETACH_CURRENT_THREAD(mpVM);
     }
 };
 
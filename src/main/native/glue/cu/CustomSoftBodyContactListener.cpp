@@ -64,7 +64,7 @@ public:
         const jlong manifoldVa = reinterpret_cast<jlong> (&inManifold);
         pAttachEnv->CallVoidMethod(mJavaObject, mAddedMethodId, bodyVa, manifoldVa);
         EXCEPTION_CHECK(pAttachEnv)
-        mpVM->DetachCurrentThread();
+        DETACH_CURRENT_THREAD(mpVM);
     }
 
     SoftBodyValidateResult OnSoftBodyContactValidate(const Body& inSoftBody,
@@ -79,7 +79,7 @@ public:
         const jint jintResult = pAttachEnv->CallIntMethod(mJavaObject,
                 mValidateMethodId, softBodyVa, otherBodyVa, settingsVa);
         EXCEPTION_CHECK(pAttachEnv)
-        mpVM->DetachCurrentThread();
+        DETACH_CURRENT_THREAD(mpVM);
         return (SoftBodyValidateResult) jintResult;
     }
 
@@ -90,7 +90,7 @@ public:
 
         pAttachEnv->DeleteGlobalRef(mJavaObject);
         EXCEPTION_CHECK(pAttachEnv)
-        mpVM->DetachCurrentThread();
+        DETACH_CURRENT_THREAD(mpVM);
     }
 };
 
@@ -113,6 +113,8 @@ public:
         pAttachEnv->CallVoidMethod(mJavaObject, mUpdateMethodId,
                 arg1, arg2, arg3, arg4, arg5);
         EXCEPTION_CHECK(pAttachEnv)
+        pAttachEnv->DeleteLocalRef(arg5);
+        pAttachEnv->DeleteLocalRef(arg4);
     }
 
     virtual ~Decomposer() {}
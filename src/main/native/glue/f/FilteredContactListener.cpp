@@ -97,7 +97,7 @@ public:
         pAttachEnv->CallVoidMethod(mJavaObject, mAddedMethodId,
                 body1Va, body2Va, manifoldVa, settingsVa);
         EXCEPTION_CHECK(pAttachEnv)
-        mpVM->DetachCurrentThread();
+        DETACH_CURRENT_THREAD(mpVM);
     }
     void OnContactPersisted(const Body& inBody1, const Body& inBody2,
             const ContactManifold& inManifold,
@@ -118,7 +118,7 @@ public:
         pAttachEnv->CallVoidMethod(mJavaObject, mPersistedMethodId, body1Va,
                 body2Va, manifoldVa, settingsVa);
         EXCEPTION_CHECK(pAttachEnv)
-        mpVM->DetachCurrentThread();
+        DETACH_CURRENT_THREAD(mpVM);
     }
     void OnContactRemoved(const SubShapeIDPair& pair) override {
         if (!mEnableRemoved) {
@@ -157,7 +157,7 @@ public:
         const jlong pairVa = reinterpret_cast<jlong> (&pair);
         pAttachEnv->CallVoidMethod(mJavaObject, mRemovedMethodId, pairVa);
         EXCEPTION_CHECK(pAttachEnv)
-        mpVM->DetachCurrentThread();
+        DETACH_CURRENT_THREAD(mpVM);
     }
     ValidateResult OnContactValidate(const Body& inBody1, const Body& inBody2,
             RVec3Arg inBaseOffset,
@@ -181,7 +181,7 @@ public:
                 mValidateMethodId, body1Va, body2Va,
                 offsetX, offsetY, offsetZ, shapeVa);
         EXCEPTION_CHECK(pAttachEnv)
-        mpVM->DetachCurrentThread();
+        DETACH_CURRENT_THREAD(mpVM);
         return (ValidateResult) jintResult;
     }
     bool SkipBodyPair(const Body& inBody1, const Body& inBody2) {
@@ -251,7 +251,7 @@ public:
         JPH_ASSERT(retCode == JNI_OK);
         pAttachEnv->DeleteGlobalRef(mJavaObject);
         EXCEPTION_CHECK(pAttachEnv)
-        mpVM->DetachCurrentThread();
+        DETACH_CURRENT_THREAD(mpVM);
     }
 };
 
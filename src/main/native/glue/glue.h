@@ -31,6 +31,88 @@ SOFTWARE.
  */
 extern bool gTypesAreRegistered;
 
+/*
+ * per-type accounting of heap allocations by glue code, available in both
+ * Debug and Release native libraries:
+ */
+#include <atomic>
+
+struct TypeAllocationAccount {
+    // name of the allocated type, as passed to TRACE_NEW:
+    const char * const mName;
+    // cumulative number of new/delete operations:
+    std::atomic<JPH::uint64> mNumNews{0};
+    std::atomic<JPH::uint64> mNumDeletes{0};
+    // cumulative number of bytes allocated/freed (shallow sizes):
+    std::atomic<JPH::uint64> mNewBytes{0};
+    std::atomic<JPH::uint64> mDeleteBytes{0};
+
+    explicit TypeAllocationAccount(const char *inName) : mName(inName) {}
+};
+
+// global flag to enable per-type accounting (default=false):
+extern std::atomic<bool> gAccountAllocations;
+
+/*
+ * global flag to remember the account of each allocation by address
+ * (default=false):
+ */
+extern std::atomic<bool> gTrackAllocationAddresses;
+
+// number of address-tracked allocations not yet deleted:
+extern std::atomic<JPH::uint64> gNumRecordedAllocations;
+
+// find or create the account for the named type (thread-safe, never freed):
+extern TypeAllocationAccount *GetAllocationAccount(const char *className);
+
+/*
+ * Charge an allocation to the specified account. If address tracking is
+ * enabled, also remember the account by address, so the delete can be
+ * credited to it even when glue code frees the object through a base class
+ * (for instance BODYOF_FREE(BodyFilter) for every kind of body filter).
+ */
+extern void RecordAllocation(TypeAllocationAccount *pAccount,
+        const void *pointer, JPH::uint64 numBytes);
+// credit a delete to the specified account:
+extern void CreditDeletion(TypeAllocationAccount *pAccount,
+        JPH::uint64 numBytes);
+/*
+ * Credit a delete to the account remembered for the specified address.
+ * Returns false if no account was remembered.
+ */
+extern bool RecordDeletion(const void *pointer);
+
+// shallow size of the pointed-to type (an array counts as one element):
+template <class T>
+inline JPH::uint64 AccountedSize(const T *) {
+    return sizeof(T);
+}
+inline JPH::uint64 AccountedSize(const void *) {
+    return 0;
+}
+
+// Each call site looks up its account only once:
+#define ACCOUNT_NEW(className, pointer) \
+    if (gAccountAllocations.load(std::memory_order_relaxed)) { \
+        static TypeAllocationAccount * const pAccount \
+                = GetAllocationAccount(className); \
+        RecordAllocation(pAccount, pointer, AccountedSize(pointer)); \
+    }
+/*
+ * Remembered addresses are looked up even after accounting is disabled.
+ * Otherwise, a delete is credited to the type named at the delete site,
+ * which may be a base class:
+ */
+#define ACCOUNT_DELETE(className, pointer) \
+    if (gNumRecordedAllocations.load(std::memory_order_relaxed) == 0 \
+            || !RecordDeletion(pointer)) { \
+        if (gAccountAllocations.load(std::memory_order_relaxed)) { \
+            static TypeAllocationAccount * const pDeleteAccount \
+                    = GetAllocationAccount(className); \
+            CreditDeletion(pDeleteAccount, AccountedSize(pointer)); \
+        } \
+    }
+
 /*
  * pre-processor macros for tracing heap allocations by glue code:
  */
@@ -42,13 +124,13 @@ extern bool gTypesAreRegistered;
             JPH_ASSERT(false); \
     }
 
-#include <atomic>
 extern bool gTraceAllocations;
 extern std::atomic<JPH::uint32> gNewCount;
 extern std::atomic<JPH::uint32> gDeleteCount;
 
 #define TRACE_NEW(className, pointer) \
     gNewCount++; \
+    ACCOUNT_NEW(className, pointer) \
     if (gTraceAllocations) { \
         JPH::Trace("%llx +%s", reinterpret_cast<unsigned long long> (pointer), className); \
     }
@@ -58,15 +140,18 @@ extern std::atomic<JPH::uint32> gDeleteCount;
     }
 #define TRACE_DELETE(className, pointer) \
     gDeleteCount++; \
+    ACCOUNT_DELETE(className, pointer) \
     if (gTraceAllocations) { \
         JPH::Trace("%llx -%s", reinterpret_cast<unsigned long long> (pointer), className); \
     }
 
 #else
 #define EXCEPTION_CHECK(pEnv)
-#define TRACE_NEW(className, pointer)
+#define TRACE_NEW(className, pointer) \
+    ACCOUNT_NEW(className, pointer)
 #define TRACE_NEW_TARGET(className, pointer)
-#define TRACE_DELETE(className, pointer)
+#define TRACE_DELETE(className, pointer) \
+    ACCOUNT_DELETE(className, pointer)
 #endif
 /*
  * pre-processor macro to generate code to access a direct DoubleBuffer:
@@ -84,6 +169,32 @@ extern std::atomic<JPH::uint32> gDeleteCount;
   JPH_ASSERT(pFloats != NULL); \
   const jlong capacityFloats = (pEnv)->GetDirectBufferCapacity(floatBuffer); \
   JPH_ASSERT(capacityFloats >= 0)
+/*
+ * pre-processor macro to generate code to access a direct IntBuffer:
+ */
+#define DIRECT_INT_BUFFER(pEnv, intBuffer, pInts, capacityInts) \
+  jint * const pInts = (jint *) (pEnv)->GetDirectBufferAddress(intBuffer); \
+  JPH_ASSERT(pInts != NULL); \
+  const jlong capacityInts = (pEnv)->GetDirectBufferCapacity(intBuffer); \
+  JPH_ASSERT(capacityInts >= 0)
+/*
+ * pre-processor macro to generate code to access a direct ShortBuffer:
+ */
+#define DIRECT_SHORT_BUFFER(pEnv, shortBuffer, pShorts, capacityShorts) \
+  jshort * const pShorts = (jshort *) (pEnv)->GetDirectBufferAddress(shortBuffer); \
+  JPH_ASSERT(pShorts != NULL); \
+  const jlong capacityShorts = (pEnv)->GetDirectBufferCapacity(shortBuffer); \
+  JPH_ASSERT(capacityShorts >= 0)
+/*
+ * pre-processor macro to generate code to access a query filter passed as a
+ * virtual address, substituting a default (accept-all) filter on the stack
+ * when the address is zero:
+ */
+#define FILTER_OR_DEFAULT(className, filterVa, filter) \
+  className filter##Default; \
+  const className &filter = ((filterVa) == 0) \
+          ? filter##Default : *reinterpret_cast<className *> (filterVa)
+
 /*
  * pre-processor macros to generate the body of a static createCopy() method
  * to implement a copy constructor:
@@ -175,15 +286,42 @@ extern std::atomic<JPH::uint32> gDeleteCount;
     return result; \
   }
 
+/*
+ * the JNI environment of the current thread, if it was permanently attached
+ * to the JVM by a JobSystemThreadPool, otherwise NULL:
+ */
+extern thread_local JNIEnv *gpPermanentEnv;
+
+/*
+ * pre-processor macros to attach/detach the current thread to/from the JVM,
+ * reusing the cached environment of a permanently attached thread:
+ */
 #ifdef ANDROID
 // doesn't match the Invocation API spec
 #define ATTACH_CURRENT_THREAD(mpVM, ppAttachEnv) \
-    (mpVM)->AttachCurrentThread(ppAttachEnv, NULL)
+    (gpPermanentEnv != NULL ? (*(ppAttachEnv) = gpPermanentEnv, JNI_OK) \
+    : (mpVM)->AttachCurrentThread(ppAttachEnv, NULL))
+#define ATTACH_CURRENT_THREAD_AS_DAEMON(mpVM, ppAttachEnv, pArgs) \
+    (mpVM)->AttachCurrentThreadAsDaemon(ppAttachEnv, pArgs)
 
 #else
 #define ATTACH_CURRENT_THREAD(mpVM, ppAttachEnv) \
-    (mpVM)->AttachCurrentThread((void **)(ppAttachEnv), NULL)
+    (gpPermanentEnv != NULL ? (*(ppAttachEnv) = gpPermanentEnv, JNI_OK) \
+    : (mpVM)->AttachCurrentThread((void **)(ppAttachEnv), NULL))
+#define ATTACH_CURRENT_THREAD_AS_DAEMON(mpVM, ppAttachEnv, pArgs) \
+    (mpVM)->AttachCurrentThreadAsDaemon((void **)(ppAttachEnv), pArgs)
 
 #endif
 
+/*
+ * A permanently attached thread never detaches, so callbacks must delete any
+ * local references they create:
+ */
+#define DETACH_CURRENT_THREAD(mpVM) \
+    do { \
+        if (gpPermanentEnv == NULL) { \
+            (mpVM)->DetachCurrentThread(); \
+        } \
+    } while (0)
+
 #endif
\ No newline at end of file
@@ -0,0 +1,170 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+/*
+ * Author: Stephen Gold
+ */
+#include "Jolt/Jolt.h"
+#include "auto/com_github_stephengold_joltjni_InterestManager.h"
+#include "glue/glue.h"
+#include "custom/InterestManager.h"
+
+using namespace JPH;
+
+/*
+ * Class:     com_github_stephengold_joltjni_InterestManager
+ * Method:    addObserver
+ * Signature: (JDDDF)I
+ */
+JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_InterestManager_addObserver
+  (JNIEnv *, jclass, jlong managerVa, jdouble xx, jdouble yy,
+  jdouble zz, jfloat radius) {
+    InterestManager * const pManager
+            = reinterpret_cast<InterestManager *> (managerVa);
+    const RVec3 location(xx, yy, zz);
+    const uint result = pManager->AddObserver(location, radius);
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_InterestManager
+ * Method:    copyEvents
+ * Signature: (JLjava/nio/IntBuffer;Ljava/nio/IntBuffer;)I
+ */
+JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_InterestManager_copyEvents
+  (JNIEnv *pEnv, jclass, jlong managerVa, jobject storeIds,
+  jobject storeRanges) {
+    const InterestManager * const pManager
+            = reinterpret_cast<InterestManager *> (managerVa);
+    DIRECT_INT_BUFFER(pEnv, storeIds, pIds, capacityIds);
+    DIRECT_INT_BUFFER(pEnv, storeRanges, pRanges, capacityRanges);
+    JPH_ASSERT(capacityRanges
+            >= InterestManager::cRangeStride * pManager->GetNumSlots());
+    const uint result = pManager->CopyEvents(
+            (uint32 *) pIds, (uint) capacityIds, (int32 *) pRanges);
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_InterestManager
+ * Method:    countSlots
+ * Signature: (J)I
+ */
+JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_InterestManager_countSlots
+  (JNIEnv *, jclass, jlong managerVa) {
+    const InterestManager * const pManager
+            = reinterpret_cast<InterestManager *> (managerVa);
+    const uint result = pManager->GetNumSlots();
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_InterestManager
+ * Method:    countVisible
+ * Signature: (JI)I
+ */
+JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_InterestManager_countVisible
+  (JNIEnv *, jclass, jlong managerVa, jint observerId) {
+    const InterestManager * const pManager
+            = reinterpret_cast<InterestManager *> (managerVa);
+    const uint result = pManager->GetNumVisible(observerId);
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_InterestManager
+ * Method:    create
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_InterestManager_create
+  (JNIEnv *, jclass, jlong systemVa) {
+    const PhysicsSystem * const pSystem
+            = reinterpret_cast<PhysicsSystem *> (systemVa);
+    InterestManager * const pResult = new InterestManager(pSystem);
+    TRACE_NEW("InterestManager", pResult)
+    return reinterpret_cast<jlong> (pResult);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_InterestManager
+ * Method:    free
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_InterestManager_free
+  (JNIEnv *, jclass, jlong managerVa) {
+    InterestManager * const pManager
+            = reinterpret_cast<InterestManager *> (managerVa);
+    TRACE_DELETE("InterestManager", pManager)
+    delete pManager;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_InterestManager
+ * Method:    isObserver
+ * Signature: (JI)Z
+ */
+JNIEXPORT jboolean JNICALL Java_com_github_stephengold_joltjni_InterestManager_isObserver
+  (JNIEnv *, jclass, jlong managerVa, jint observerId) {
+    const InterestManager * const pManager
+            = reinterpret_cast<InterestManager *> (managerVa);
+    const bool result = observerId >= 0 && pManager->IsObserver(observerId);
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_InterestManager
+ * Method:    removeObserver
+ * Signature: (JI)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_InterestManager_removeObserver
+  (JNIEnv *, jclass, jlong managerVa, jint observerId) {
+    InterestManager * const pManager
+            = reinterpret_cast<InterestManager *> (managerVa);
+    pManager->RemoveObserver(observerId);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_InterestManager
+ * Method:    setObserver
+ * Signature: (JIDDDF)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_InterestManager_setObserver
+  (JNIEnv *, jclass, jlong managerVa, jint observerId,
+  jdouble xx, jdouble yy, jdouble zz, jfloat radius) {
+    InterestManager * const pManager
+            = reinterpret_cast<InterestManager *> (managerVa);
+    const RVec3 location(xx, yy, zz);
+    pManager->SetObserver(observerId, location, radius);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_InterestManager
+ * Method:    update
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_InterestManager_update
+  (JNIEnv *, jclass, jlong managerVa, jlong jobSystemVa) {
+    InterestManager * const pManager
+            = reinterpret_cast<InterestManager *> (managerVa);
+    JobSystem * const pJobSystem = reinterpret_cast<JobSystem *> (jobSystemVa);
+    pManager->Update(pJobSystem);
+}
\ No newline at end of file
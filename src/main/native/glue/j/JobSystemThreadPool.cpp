@@ -27,9 +27,52 @@ SOFTWARE.
 #include "Jolt/Core/JobSystemThreadPool.h"
 #include "auto/com_github_stephengold_joltjni_JobSystemThreadPool.h"
 #include "glue/glue.h"
+#include <cstdio>
 
 using namespace JPH;
 
+// the JNI environment of a permanently attached thread, otherwise NULL:
+thread_local JNIEnv *gpPermanentEnv = NULL;
+
+/*
+ * Class:     com_github_stephengold_joltjni_JobSystemThreadPool
+ * Method:    createAttachedJobSystem
+ * Signature: (III)J
+ */
+JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_JobSystemThreadPool_createAttachedJobSystem
+  (JNIEnv *pEnv, jclass, jint maxJobs, jint maxBarriers, jint numThreads) {
+    JavaVM *pVM;
+    pEnv->GetJavaVM(&pVM);
+
+    JobSystemThreadPool * const pPool = new JobSystemThreadPool();
+    TRACE_NEW("JobSystemThreadPool", pPool)
+    /*
+     * Attach each worker thread (as a daemon, so it won't prevent JVM exit)
+     * when the thread starts, and detach it only when the thread stops:
+     */
+    pPool->SetThreadInitFunction([pVM](int inThreadIndex) {
+        char name[32];
+        snprintf(name, sizeof(name), "Jolt Worker %d", inThreadIndex);
+        JavaVMAttachArgs args;
+        args.version = JNI_VERSION_1_6;
+        args.name = name;
+        args.group = NULL;
+        JNIEnv *pAttachEnv;
+        jint retCode = ATTACH_CURRENT_THREAD_AS_DAEMON(pVM, &pAttachEnv, &args);
+        JPH_ASSERT(retCode == JNI_OK);
+        gpPermanentEnv = (retCode == JNI_OK) ? pAttachEnv : NULL;
+    });
+    pPool->SetThreadExitFunction([pVM](int) {
+        if (gpPermanentEnv != NULL) {
+            gpPermanentEnv = NULL;
+            pVM->DetachCurrentThread();
+        }
+    });
+    pPool->Init(maxJobs, maxBarriers, numThreads);
+
+    return reinterpret_cast<jlong> (pPool);
+}
+
 /*
  * Class:     com_github_stephengold_joltjni_JobSystemThreadPool
  * Method:    createJobSystem
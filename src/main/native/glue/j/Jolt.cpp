@@ -45,6 +45,7 @@ SOFTWARE.
 
 #include "auto/com_github_stephengold_joltjni_Jolt.h"
 #include "glue/glue.h"
+#include "custom/PooledAllocator.h"
 #include <iostream>
 
 using namespace JPH;
@@ -346,11 +347,16 @@ static void JavaTrace(const char *inFormat, ...) {
     // Print to the configured PrintStream:
     pAttachEnv->CallVoidMethod(gTraceStream, gPrintMethodId, javaString);
     EXCEPTION_CHECK(pAttachEnv)
+    /*
+     * A permanently attached thread never returns to Java,
+     * so free the string explicitly:
+     */
+    pAttachEnv->DeleteLocalRef(javaString);
     // Flush the PrintStream:
     pAttachEnv->CallVoidMethod(gTraceStream, gFlushMethodId);
     EXCEPTION_CHECK(pAttachEnv)
     // Detach from the JVM:
-    gpVM->DetachCurrentThread();
+    DETACH_CURRENT_THREAD(gpVM);
 }
 
 /*
@@ -498,6 +504,20 @@ JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_Jolt_registerDefaultA
 // track whether RegisterTypes()/UnregisterTypes() have been invoked:
 bool gTypesAreRegistered = false;
 
+/*
+ * Class:     com_github_stephengold_joltjni_Jolt
+ * Method:    registerPooledAllocator
+ * Signature: ()V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_Jolt_registerPooledAllocator
+  (JNIEnv *, jclass) {
+#ifdef JPH_DISABLE_CUSTOM_ALLOCATOR
+    std::cerr << "Can't register a pooled allocator!" << std::endl;
+#else
+    PooledAllocator::sRegister();
+#endif
+}
+
 /*
  * Class:     com_github_stephengold_joltjni_Jolt
  * Method:    registerTypes
@@ -24,11 +24,339 @@ SOFTWARE.
  * Author: Stephen Gold
  */
 #include "Jolt/Jolt.h"
+#include "Jolt/Core/QuickSort.h"
+#include "Jolt/Physics/Body/BodyLock.h"
+#include "Jolt/Physics/Collision/CollideShape.h"
 #include "Jolt/Physics/Collision/NarrowPhaseQuery.h"
+#include "Jolt/Physics/Collision/ShapeCast.h"
+#include "Jolt/Physics/PhysicsSystem.h"
 #include "auto/com_github_stephengold_joltjni_NarrowPhaseQuery.h"
+#include "glue/batch.h"
+#include "glue/glue.h"
+
+#include <type_traits>
 
 using namespace JPH;
 
+/*
+ * the output record for each ray cast by castRays(), 24 bytes per ray
+ * (must match the cRayHit* constants in NarrowPhaseQuery.java):
+ */
+struct BatchedRayHit {
+    float mFraction;
+    uint32 mBodyId;
+    uint32 mSubShapeId;
+    Float3 mNormal;
+};
+static_assert(sizeof(BatchedRayHit) == 24, "unexpected size of BatchedRayHit");
+
+/*
+ * the minimum number of rays handled by each job in castRays():
+ */
+static const uint cMinRaysPerJob = 32;
+
+/*
+ * Cast the rays with indices in [startIndex, stopIndex) and return the number
+ * of hits:
+ */
+template <typename T>
+static uint CastRayRange(const NarrowPhaseQuery& query,
+        const BodyLockInterface& bli, const T *pRays, const jint *pMasks,
+        BatchedRayHit *pHits, uint startIndex, uint stopIndex) {
+    BroadPhaseLayerFilter bplFilter;
+    uint result = 0;
+    for (uint i = startIndex; i < stopIndex; ++i) {
+        const T * const pRay = pRays + 6 * i;
+        const RVec3 start(Real(pRay[0]), Real(pRay[1]), Real(pRay[2]));
+        const Vec3 offset(float(pRay[3]), float(pRay[4]), float(pRay[5]));
+        const RRayCast ray(start, offset);
+
+        RayCastResult hit;
+        bool found;
+        if (pMasks == nullptr) {
+            found = query.CastRay(ray, hit);
+        } else {
+            const MaskObjectLayerFilter olFilter(pMasks[i]);
+            found = query.CastRay(ray, hit, bplFilter, olFilter);
+        }
+
+        BatchedRayHit& out = pHits[i];
+        out.mFraction = hit.mFraction;
+        out.mBodyId = hit.mBodyID.GetIndexAndSequenceNumber();
+        out.mSubShapeId = hit.mSubShapeID2.GetValue();
+        out.mNormal = Float3(0.0f, 0.0f, 0.0f);
+        if (found) {
+            ++result;
+            BodyLockRead lock(bli, hit.mBodyID);
+            if (lock.Succeeded()) {
+                const RVec3 location = ray.GetPointOnRay(hit.mFraction);
+                const Vec3 normal = lock.GetBody().GetWorldSpaceSurfaceNormal(
+                        hit.mSubShapeID2, location);
+                normal.StoreFloat3(&out.mNormal);
+            }
+        }
+    }
+
+    return result;
+}
+
+/*
+ * Cast a batch of rays, dividing them among jobs if a job system is provided,
+ * and return the number of hits:
+ */
+template <typename T>
+static jint CastRays(JNIEnv *pEnv, jlong queryVa, jlong systemVa,
+        jint numRays, jobject raysBuffer, jobject masksBuffer,
+        jobject hitsBuffer, jlong jobSystemVa) {
+    const NarrowPhaseQuery * const pQuery
+            = reinterpret_cast<NarrowPhaseQuery *> (queryVa);
+    const PhysicsSystem * const pSystem
+            = reinterpret_cast<PhysicsSystem *> (systemVa);
+    // Look up hit normals with locking only if the query itself locks:
+    const BodyLockInterface *pBli;
+    if (pQuery == &pSystem->GetNarrowPhaseQueryNoLock()) {
+        pBli = &pSystem->GetBodyLockInterfaceNoLock();
+    } else {
+        pBli = &pSystem->GetBodyLockInterface();
+    }
+    const BodyLockInterface& bli = *pBli;
+
+    const T * const pRays
+            = (const T *) pEnv->GetDirectBufferAddress(raysBuffer);
+    JPH_ASSERT(pRays != NULL);
+    JPH_ASSERT(pEnv->GetDirectBufferCapacity(raysBuffer) >= 6 * numRays);
+    const jint *pMasks = nullptr;
+    if (masksBuffer != nullptr) {
+        pMasks = (const jint *) pEnv->GetDirectBufferAddress(masksBuffer);
+        JPH_ASSERT(pMasks != NULL);
+        JPH_ASSERT(pEnv->GetDirectBufferCapacity(masksBuffer) >= numRays);
+    }
+    BatchedRayHit * const pHits
+            = (BatchedRayHit *) pEnv->GetDirectBufferAddress(hitsBuffer);
+    JPH_ASSERT(pHits != NULL);
+    JPH_ASSERT(pEnv->GetDirectBufferCapacity(hitsBuffer)
+            >= (jlong) sizeof(BatchedRayHit) * numRays);
+
+    JobSystem * const pJobSystem = reinterpret_cast<JobSystem *> (jobSystemVa);
+    const jint result = ForEachRange(pJobSystem, numRays, cMinRaysPerJob,
+            [pQuery, &bli, pRays, pMasks, pHits](uint startIndex,
+            uint stopIndex) {
+        return CastRayRange<T>(
+                *pQuery, bli, pRays, pMasks, pHits, startIndex, stopIndex);
+    }, "JoltJniBatch");
+
+    return result;
+}
+
+/*
+ * the minimum number of queries handled by each job in castShapes() and
+ * collideShapes():
+ */
+static const uint cMinShapeQueriesPerJob = 8;
+
+/*
+ * A collector that keeps (up to) the best N hits, tightening the early-out
+ * fraction once it's full so the query can skip worse hits:
+ */
+template <class CollectorType>
+class BestHitsCollector : public CollectorType {
+public:
+    using ResultType = typename CollectorType::ResultType;
+
+    explicit BestHitsCollector(uint maxHits) : mMaxHits(maxHits) {
+        mHits.reserve(maxHits);
+    }
+
+    virtual void AddHit(const ResultType& inResult) override {
+        const float fraction = inResult.GetEarlyOutFraction();
+        if (mHits.size() < mMaxHits) {
+            mHits.push_back(inResult);
+        } else if (fraction < mHits[mWorstIndex].GetEarlyOutFraction()) {
+            mHits[mWorstIndex] = inResult;
+        } else {
+            return;
+        }
+
+        if (mHits.size() == mMaxHits) {
+            mWorstIndex = 0;
+            for (uint i = 1; i < mMaxHits; ++i) {
+                if (mHits[i].GetEarlyOutFraction()
+                        > mHits[mWorstIndex].GetEarlyOutFraction()) {
+                    mWorstIndex = i;
+                }
+            }
+            this->UpdateEarlyOutFraction(
+                    mHits[mWorstIndex].GetEarlyOutFraction());
+        }
+    }
+
+    virtual void Reset() override {
+        CollectorType::Reset();
+        mHits.clear();
+        mWorstIndex = 0;
+    }
+
+    Array<ResultType> mHits;
+
+private:
+    const uint mMaxHits;
+    uint mWorstIndex = 0;
+};
+
+/*
+ * Pointers to the struct-of-arrays sections of a ShapeQueryHits buffer
+ * (must match ShapeQueryHits.java):
+ */
+struct ShapeQueryHitArrays {
+    jint *mpCounts;
+    jfloat *mpFractions;
+    jint *mpBodyIds;
+    jint *mpSubShapeIds;
+    jfloat *mpPoints;
+    jfloat *mpAxes;
+    jfloat *mpDepths;
+    uint mMaxHitsPerQuery;
+
+    ShapeQueryHitArrays(void *pBuffer, uint maxQueries, uint maxHitsPerQuery) {
+        const uint numSlots = maxQueries * maxHitsPerQuery;
+        mpCounts = (jint *) pBuffer;
+        mpFractions = (jfloat *) (mpCounts + maxQueries);
+        mpBodyIds = (jint *) (mpFractions + numSlots);
+        mpSubShapeIds = mpBodyIds + numSlots;
+        mpPoints = (jfloat *) (mpSubShapeIds + numSlots);
+        mpAxes = mpPoints + 3 * numSlots;
+        mpDepths = mpAxes + 3 * numSlots;
+        mMaxHitsPerQuery = maxHitsPerQuery;
+    }
+
+    // Sort the collected hits (best first) and store them for a query:
+    template <class ResultType>
+    uint Store(uint queryIndex, Array<ResultType>& hits) const {
+        QuickSort(hits.begin(), hits.end(),
+                [](const ResultType& a, const ResultType& b) {
+            return a.GetEarlyOutFraction() < b.GetEarlyOutFraction();
+        });
+
+        const uint numHits = (uint) hits.size();
+        mpCounts[queryIndex] = numHits;
+        for (uint i = 0; i < numHits; ++i) {
+            const ResultType& hit = hits[i];
+            const uint slot = queryIndex * mMaxHitsPerQuery + i;
+            mpFractions[slot] = FractionOf(hit);
+            mpBodyIds[slot] = hit.mBodyID2.GetIndexAndSequenceNumber();
+            mpSubShapeIds[slot] = hit.mSubShapeID2.GetValue();
+            const Vec3 point = hit.mContactPointOn2;
+            point.StoreFloat3((Float3 *) (mpPoints + 3 * slot));
+            const Vec3 axis = hit.mPenetrationAxis.NormalizedOr(Vec3::sZero());
+            axis.StoreFloat3((Float3 *) (mpAxes + 3 * slot));
+            mpDepths[slot] = hit.mPenetrationDepth;
+        }
+
+        return numHits;
+    }
+
+    static float FractionOf(const ShapeCastResult& hit) {
+        return hit.mFraction;
+    }
+
+    static float FractionOf(const CollideShapeResult&) {
+        return 0.0f;
+    }
+};
+
+/*
+ * Read the transform of a shape query from a packed buffer:
+ */
+template <typename T>
+static RMat44 QueryTransform(const T *pQuery) {
+    const RVec3 position(Real(pQuery[0]), Real(pQuery[1]), Real(pQuery[2]));
+    const Quat rotation(float(pQuery[3]), float(pQuery[4]), float(pQuery[5]),
+            float(pQuery[6]));
+    const RMat44 result = RMat44::sRotationTranslation(rotation, position);
+    return result;
+}
+
+/*
+ * Run a batch of shape casts (isCast=true) or collide-shape queries
+ * (isCast=false), dividing them among jobs if a job system is provided, and
+ * return the total number of hits stored:
+ */
+template <typename T, bool isCast>
+static jint ShapeQueries(JNIEnv *pEnv, jlong queryVa, jint numQueries,
+        jlongArray shapeVas, jobject queriesBuffer, jobject masksBuffer,
+        jlong settingsVa, jobject hitsBuffer, jint maxQueries,
+        jint maxHitsPerQuery, jlong jobSystemVa) {
+    using SettingsType = typename std::conditional<isCast,
+            ShapeCastSettings, CollideShapeSettings>::type;
+    using CollectorType = typename std::conditional<isCast,
+            CastShapeCollector, CollideShapeCollector>::type;
+
+    const NarrowPhaseQuery * const pQuery
+            = reinterpret_cast<NarrowPhaseQuery *> (queryVa);
+    const T * const pQueries
+            = (const T *) pEnv->GetDirectBufferAddress(queriesBuffer);
+    JPH_ASSERT(pQueries != NULL);
+    JPH_ASSERT(pEnv->GetDirectBufferCapacity(queriesBuffer) >= 10 * numQueries);
+    const jint *pMasks = nullptr;
+    if (masksBuffer != nullptr) {
+        pMasks = (const jint *) pEnv->GetDirectBufferAddress(masksBuffer);
+        JPH_ASSERT(pMasks != NULL);
+        JPH_ASSERT(pEnv->GetDirectBufferCapacity(masksBuffer) >= numQueries);
+    }
+    void * const pHitsBuffer = pEnv->GetDirectBufferAddress(hitsBuffer);
+    JPH_ASSERT(pHitsBuffer != NULL);
+    const ShapeQueryHitArrays hits(pHitsBuffer, maxQueries, maxHitsPerQuery);
+    const SettingsType defaultSettings;
+    const SettingsType& settings = (settingsVa == 0) ? defaultSettings
+            : *reinterpret_cast<SettingsType *> (settingsVa);
+
+    jlong * const pShapeVas = pEnv->GetLongArrayElements(shapeVas, NULL);
+    JPH_ASSERT(!pEnv->ExceptionCheck());
+
+    JobSystem * const pJobSystem = reinterpret_cast<JobSystem *> (jobSystemVa);
+    const jint result = ForEachRange(pJobSystem, numQueries,
+            cMinShapeQueriesPerJob, [&](uint startIndex, uint stopIndex) {
+        BestHitsCollector<CollectorType> collector(maxHitsPerQuery);
+        BroadPhaseLayerFilter bplFilter;
+        uint numHits = 0;
+        for (uint i = startIndex; i < stopIndex; ++i) {
+            const Shape * const pShape
+                    = reinterpret_cast<const Shape *> (pShapeVas[i]);
+            const T * const pElements = pQueries + 10 * i;
+            const RMat44 transform = QueryTransform(pElements);
+            const RVec3 baseOffset = transform.GetTranslation();
+            const ObjectLayerFilter olFilterDefault;
+            const MaskObjectLayerFilter olFilterMask(
+                    pMasks == nullptr ? 0 : pMasks[i]);
+            const ObjectLayerFilter& olFilter = (pMasks == nullptr)
+                    ? olFilterDefault : olFilterMask;
+
+            collector.Reset();
+            if constexpr (isCast) {
+                const Vec3 direction(float(pElements[7]), float(pElements[8]),
+                        float(pElements[9]));
+                const RShapeCast shapeCast = RShapeCast::sFromWorldTransform(
+                        pShape, Vec3::sOne(), transform, direction);
+                pQuery->CastShape(shapeCast, settings, baseOffset, collector,
+                        bplFilter, olFilter);
+            } else {
+                const RMat44 comTransform
+                        = transform.PreTranslated(pShape->GetCenterOfMass());
+                pQuery->CollideShape(pShape, Vec3::sOne(), comTransform,
+                        settings, baseOffset, collector, bplFilter, olFilter);
+            }
+            numHits += hits.Store(i, collector.mHits);
+        }
+
+        return numHits;
+    }, "JoltJniBatch");
+
+    pEnv->ReleaseLongArrayElements(shapeVas, pShapeVas, JNI_ABORT);
+    JPH_ASSERT(!pEnv->ExceptionCheck());
+
+    return result;
+}
+
 /*
  * Class:     com_github_stephengold_joltjni_NarrowPhaseQuery
  * Method:    castRay
@@ -41,14 +369,11 @@ JNIEXPORT jboolean JNICALL Java_com_github_stephengold_joltjni_NarrowPhaseQuery_
             = reinterpret_cast<NarrowPhaseQuery *> (queryVa);
     const RRayCast * const pRayCast = reinterpret_cast<RRayCast *> (raycastVa);
     RayCastResult * const pHit = reinterpret_cast<RayCastResult *> (hitVa);
-    const BroadPhaseLayerFilter * const pBplFilter
-            = reinterpret_cast<BroadPhaseLayerFilter *> (bplFilterVa);
-    const ObjectLayerFilter * const pOlFilter
-            = reinterpret_cast<ObjectLayerFilter *> (olFilterVa);
-    const BodyFilter * const pBodyFilter
-            = reinterpret_cast<BodyFilter *> (bodyFilterVa);
+    FILTER_OR_DEFAULT(BroadPhaseLayerFilter, bplFilterVa, bplFilter);
+    FILTER_OR_DEFAULT(ObjectLayerFilter, olFilterVa, olFilter);
+    FILTER_OR_DEFAULT(BodyFilter, bodyFilterVa, bodyFilter);
     const bool result = pQuery->CastRay(
-            *pRayCast, *pHit, *pBplFilter, *pOlFilter, *pBodyFilter);
+            *pRayCast, *pHit, bplFilter, olFilter, bodyFilter);
     return result;
 }
 
@@ -68,16 +393,63 @@ JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_NarrowPhaseQuery_cast
             = reinterpret_cast<RayCastSettings *> (settingsVa);
     CastRayCollector * const pCollector
             = reinterpret_cast<CastRayCollector *> (collectorVa);
-    const BroadPhaseLayerFilter * const pBplFilter
-            = reinterpret_cast<BroadPhaseLayerFilter *> (bplFilterVa);
-    const ObjectLayerFilter * const pOlFilter
-            = reinterpret_cast<ObjectLayerFilter *> (olFilterVa);
-    const BodyFilter * const pBodyFilter
-            = reinterpret_cast<BodyFilter *> (bodyFilterVa);
-    const ShapeFilter * const pShapeFilter
-            = reinterpret_cast<ShapeFilter *> (shapeFilterVa);
-    pQuery->CastRay(*pRayCast, *pSettings, *pCollector, *pBplFilter, *pOlFilter,
-            *pBodyFilter, *pShapeFilter);
+    FILTER_OR_DEFAULT(BroadPhaseLayerFilter, bplFilterVa, bplFilter);
+    FILTER_OR_DEFAULT(ObjectLayerFilter, olFilterVa, olFilter);
+    FILTER_OR_DEFAULT(BodyFilter, bodyFilterVa, bodyFilter);
+    FILTER_OR_DEFAULT(ShapeFilter, shapeFilterVa, shapeFilter);
+    pQuery->CastRay(*pRayCast, *pSettings, *pCollector, bplFilter, olFilter,
+            bodyFilter, shapeFilter);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_NarrowPhaseQuery
+ * Method:    castRayPrimitive
+ * Signature: (JDDDFFFJJJJ)Z
+ */
+JNIEXPORT jboolean JNICALL Java_com_github_stephengold_joltjni_NarrowPhaseQuery_castRayPrimitive
+  (JNIEnv *, jclass, jlong queryVa, jdouble startX, jdouble startY,
+  jdouble startZ, jfloat offsetX, jfloat offsetY, jfloat offsetZ, jlong hitVa,
+  jlong bplFilterVa, jlong olFilterVa, jlong bodyFilterVa) {
+    const NarrowPhaseQuery * const pQuery
+            = reinterpret_cast<NarrowPhaseQuery *> (queryVa);
+    const RRayCast ray(RVec3(startX, startY, startZ),
+            Vec3(offsetX, offsetY, offsetZ));
+    RayCastResult * const pHit = reinterpret_cast<RayCastResult *> (hitVa);
+    *pHit = RayCastResult(); // so mFraction doesn't limit the ray's length
+    FILTER_OR_DEFAULT(BroadPhaseLayerFilter, bplFilterVa, bplFilter);
+    FILTER_OR_DEFAULT(ObjectLayerFilter, olFilterVa, olFilter);
+    FILTER_OR_DEFAULT(BodyFilter, bodyFilterVa, bodyFilter);
+    const bool result
+            = pQuery->CastRay(ray, *pHit, bplFilter, olFilter, bodyFilter);
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_NarrowPhaseQuery
+ * Method:    castRaysDp
+ * Signature: (JJILjava/nio/DoubleBuffer;Ljava/nio/IntBuffer;Ljava/nio/ByteBuffer;J)I
+ */
+JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_NarrowPhaseQuery_castRaysDp
+  (JNIEnv *pEnv, jclass, jlong queryVa, jlong systemVa, jint numRays,
+  jobject raysBuffer, jobject masksBuffer, jobject hitsBuffer,
+  jlong jobSystemVa) {
+    const jint result = CastRays<jdouble>(pEnv, queryVa, systemVa, numRays,
+            raysBuffer, masksBuffer, hitsBuffer, jobSystemVa);
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_NarrowPhaseQuery
+ * Method:    castRaysSp
+ * Signature: (JJILjava/nio/FloatBuffer;Ljava/nio/IntBuffer;Ljava/nio/ByteBuffer;J)I
+ */
+JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_NarrowPhaseQuery_castRaysSp
+  (JNIEnv *pEnv, jclass, jlong queryVa, jlong systemVa, jint numRays,
+  jobject raysBuffer, jobject masksBuffer, jobject hitsBuffer,
+  jlong jobSystemVa) {
+    const jint result = CastRays<jfloat>(pEnv, queryVa, systemVa, numRays,
+            raysBuffer, masksBuffer, hitsBuffer, jobSystemVa);
+    return result;
 }
 
 /*
@@ -110,6 +482,38 @@ JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_NarrowPhaseQuery_cast
             *pBplFilter, *pOlFilter, *pBodyFilter, *pShapeFilter);
 }
 
+/*
+ * Class:     com_github_stephengold_joltjni_NarrowPhaseQuery
+ * Method:    castShapesDp
+ * Signature: (JI[JLjava/nio/DoubleBuffer;Ljava/nio/IntBuffer;JLjava/nio/ByteBuffer;IIJ)I
+ */
+JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_NarrowPhaseQuery_castShapesDp
+  (JNIEnv *pEnv, jclass, jlong queryVa, jint numQueries, jlongArray shapeVas,
+  jobject queriesBuffer, jobject masksBuffer, jlong settingsVa,
+  jobject hitsBuffer, jint maxQueries, jint maxHitsPerQuery,
+  jlong jobSystemVa) {
+    const jint result = ShapeQueries<jdouble, true>(pEnv, queryVa, numQueries,
+            shapeVas, queriesBuffer, masksBuffer, settingsVa, hitsBuffer,
+            maxQueries, maxHitsPerQuery, jobSystemVa);
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_NarrowPhaseQuery
+ * Method:    castShapesSp
+ * Signature: (JI[JLjava/nio/FloatBuffer;Ljava/nio/IntBuffer;JLjava/nio/ByteBuffer;IIJ)I
+ */
+JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_NarrowPhaseQuery_castShapesSp
+  (JNIEnv *pEnv, jclass, jlong queryVa, jint numQueries, jlongArray shapeVas,
+  jobject queriesBuffer, jobject masksBuffer, jlong settingsVa,
+  jobject hitsBuffer, jint maxQueries, jint maxHitsPerQuery,
+  jlong jobSystemVa) {
+    const jint result = ShapeQueries<jfloat, true>(pEnv, queryVa, numQueries,
+            shapeVas, queriesBuffer, masksBuffer, settingsVa, hitsBuffer,
+            maxQueries, maxHitsPerQuery, jobSystemVa);
+    return result;
+}
+
 /*
  * Class:     com_github_stephengold_joltjni_NarrowPhaseQuery
  * Method:    collectTransformedShapes
@@ -193,4 +597,36 @@ JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_NarrowPhaseQuery_coll
     pQuery->CollideShape(pShape, shapeScale, *pComTransform, *pSettings,
             baseOffset, *pCollector, *pBplFilter, *pOlFilter, *pBodyFilter,
             *pShapeFilter);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_NarrowPhaseQuery
+ * Method:    collideShapesDp
+ * Signature: (JI[JLjava/nio/DoubleBuffer;Ljava/nio/IntBuffer;JLjava/nio/ByteBuffer;IIJ)I
+ */
+JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_NarrowPhaseQuery_collideShapesDp
+  (JNIEnv *pEnv, jclass, jlong queryVa, jint numQueries, jlongArray shapeVas,
+  jobject queriesBuffer, jobject masksBuffer, jlong settingsVa,
+  jobject hitsBuffer, jint maxQueries, jint maxHitsPerQuery,
+  jlong jobSystemVa) {
+    const jint result = ShapeQueries<jdouble, false>(pEnv, queryVa, numQueries,
+            shapeVas, queriesBuffer, masksBuffer, settingsVa, hitsBuffer,
+            maxQueries, maxHitsPerQuery, jobSystemVa);
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_NarrowPhaseQuery
+ * Method:    collideShapesSp
+ * Signature: (JI[JLjava/nio/FloatBuffer;Ljava/nio/IntBuffer;JLjava/nio/ByteBuffer;IIJ)I
+ */
+JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_NarrowPhaseQuery_collideShapesSp
+  (JNIEnv *pEnv, jclass, jlong queryVa, jint numQueries, jlongArray shapeVas,
+  jobject queriesBuffer, jobject masksBuffer, jlong settingsVa,
+  jobject hitsBuffer, jint maxQueries, jint maxHitsPerQuery,
+  jlong jobSystemVa) {
+    const jint result = ShapeQueries<jfloat, false>(pEnv, queryVa, numQueries,
+            shapeVas, queriesBuffer, masksBuffer, settingsVa, hitsBuffer,
+            maxQueries, maxHitsPerQuery, jobSystemVa);
+    return result;
 }
\ No newline at end of file
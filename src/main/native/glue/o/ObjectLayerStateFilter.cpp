@@ -0,0 +1,57 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+/*
+ * Author: Stephen Gold
+ */
+#include "Jolt/Jolt.h"
+#include "auto/com_github_stephengold_joltjni_ObjectLayerStateFilter.h"
+#include "glue/glue.h"
+#include "custom/StateRecorderFilters.h"
+
+using namespace JPH;
+
+/*
+ * Class:     com_github_stephengold_joltjni_ObjectLayerStateFilter
+ * Method:    create
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_ObjectLayerStateFilter_create
+  (JNIEnv *, jclass, jlong systemVa) {
+    const PhysicsSystem * const pSystem
+            = reinterpret_cast<PhysicsSystem *> (systemVa);
+    ObjectLayerStateFilter * const pResult = new ObjectLayerStateFilter(*pSystem);
+    TRACE_NEW("ObjectLayerStateFilter", pResult)
+    return reinterpret_cast<jlong> (pResult);
+}
+/*
+ * Class:     com_github_stephengold_joltjni_ObjectLayerStateFilter
+ * Method:    setLayer
+ * Signature: (JIZ)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_ObjectLayerStateFilter_setLayer
+  (JNIEnv *, jclass, jlong filterVa, jint objectLayer,
+        jboolean selected) {
+    ObjectLayerStateFilter * const pFilter
+            = reinterpret_cast<ObjectLayerStateFilter *> (filterVa);
+    pFilter->SetLayer(objectLayer, selected);
+}
\ No newline at end of file
@@ -0,0 +1,108 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+/*
+ * Author: Stephen Gold
+ */
+#include "Jolt/Jolt.h"
+#include "auto/com_github_stephengold_joltjni_PooledAllocator.h"
+#include "glue/glue.h"
+#include "custom/PooledAllocator.h"
+
+using namespace JPH;
+
+/*
+ * Class:     com_github_stephengold_joltjni_PooledAllocator
+ * Method:    bytesInUse
+ * Signature: ()J
+ */
+JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_PooledAllocator_bytesInUse
+  (JNIEnv *, jclass) {
+    const uint64 result = PooledAllocator::sGetBytesInUse();
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_PooledAllocator
+ * Method:    countLargeBlocks
+ * Signature: ()J
+ */
+JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_PooledAllocator_countLargeBlocks
+  (JNIEnv *, jclass) {
+    const uint64 result = PooledAllocator::sGetNumLargeBlocks();
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_PooledAllocator
+ * Method:    countLiveBlocksNative
+ * Signature: (I)J
+ */
+JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_PooledAllocator_countLiveBlocksNative
+  (JNIEnv *, jclass, jint sizeClass) {
+    const uint64 result = PooledAllocator::sGetNumLiveBlocks(sizeClass);
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_PooledAllocator
+ * Method:    countSizeClasses
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_PooledAllocator_countSizeClasses
+  (JNIEnv *, jclass) {
+    const uint result = PooledAllocator::cNumSizeClasses;
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_PooledAllocator
+ * Method:    getClassSizeNative
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_PooledAllocator_getClassSizeNative
+  (JNIEnv *, jclass, jint sizeClass) {
+    const uint result = PooledAllocator::sGetClassSize(sizeClass);
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_PooledAllocator
+ * Method:    isRegistered
+ * Signature: ()Z
+ */
+JNIEXPORT jboolean JNICALL Java_com_github_stephengold_joltjni_PooledAllocator_isRegistered
+  (JNIEnv *, jclass) {
+    const bool result = PooledAllocator::sIsRegistered();
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_PooledAllocator
+ * Method:    peakBytes
+ * Signature: ()J
+ */
+JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_PooledAllocator_peakBytes
+  (JNIEnv *, jclass) {
+    const uint64 result = PooledAllocator::sGetPeakBytes();
+    return result;
+}
\ No newline at end of file
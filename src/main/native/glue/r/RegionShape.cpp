@@ -4,6 +4,7 @@
 #include "auto/com_github_stephengold_joltjni_IndexedShapeRef.h"
 #include "auto/com_github_stephengold_joltjni_IndexedShapeCollector.h"
 #include "auto/com_github_stephengold_joltjni_RegionShape.h"
+#include "auto/com_github_stephengold_joltjni_RegionShapeCacheListener.h"
 #include "auto/com_github_stephengold_joltjni_RegionShapeSettings.h"
 #include "auto/com_github_stephengold_joltjni_CustomIndexedShapeCollector.h"
 #include "auto/com_github_stephengold_joltjni_IndexedShapeCollector.h"
@@ -147,60 +148,60 @@ public:
 
     void CollectAt(const AABox* inBox, IndexedShapes* inTo) {
         JNIEnv *pAttachEnv;
-        jint retCode = mpVM->AttachCurrentThread((void **)&pAttachEnv, NULL);
+        jint retCode = ATTACH_CURRENT_THREAD(mpVM, &pAttachEnv);
         JPH_ASSERT(retCode == JNI_OK);
 
         const jlong boxVa = reinterpret_cast<jlong> (inBox);
         const jlong shapeVa = reinterpret_cast<jlong> (inTo);
         pAttachEnv->CallVoidMethod(mJavaObject, mCollectAtMethodId, boxVa, shapeVa);
         JPH_ASSERT(!pAttachEnv->ExceptionCheck());
-        mpVM->DetachCurrentThread();
+        DETACH_CURRENT_THREAD(mpVM);
     }
 
     bool CastRay(const RayCast& inRay, IndexedShape* ioShape) {
         JNIEnv *pAttachEnv;
-        jint retCode = mpVM->AttachCurrentThread((void **)&pAttachEnv, NULL);
+        jint retCode = ATTACH_CURRENT_THREAD(mpVM, &pAttachEnv);
         JPH_ASSERT(retCode == JNI_OK);
 
         const jlong rayVa = reinterpret_cast<jlong> (&inRay);
         const jlong shapeVa = reinterpret_cast<jlong> (ioShape);
         bool result = pAttachEnv->CallBooleanMethod(mJavaObject, mCastRayMethodId, rayVa, shapeVa);
         JPH_ASSERT(!pAttachEnv->ExceptionCheck());
-        mpVM->DetachCurrentThread();
+        DETACH_CURRENT_THREAD(mpVM);
         return result;
     }
 
     void CollectCastRay(const RayCast& inRay, IndexedShapes* ioShapes) {
         JNIEnv *pAttachEnv;
-        jint retCode = mpVM->AttachCurrentThread((void **)&pAttachEnv, NULL);
+        jint retCode = ATTACH_CURRENT_THREAD(mpVM, &pAttachEnv);
         JPH_ASSERT(retCode == JNI_OK);
 
         const jlong rayVa = reinterpret_cast<jlong> (&inRay);
         const jlong shapesVa = reinterpret_cast<jlong> (ioShapes);
         pAttachEnv->CallVoidMethod(mJavaObject, mCollectCastRayMethodId, rayVa, shapesVa);
         JPH_ASSERT(!pAttachEnv->ExceptionCheck());
-        mpVM->DetachCurrentThread();
+        DETACH_CURRENT_THREAD(mpVM);
     }
 
     void GetShapeAt(uint32 inShapeIndex, IndexedShape* ioShape) {
         JNIEnv *pAttachEnv;
-        jint retCode = mpVM->AttachCurrentThread((void **)&pAttachEnv, NULL);
+        jint retCode = ATTACH_CURRENT_THREAD(mpVM, &pAttachEnv);
         JPH_ASSERT(retCode == JNI_OK);
 
         const jlong shapeVa = reinterpret_cast<jlong> (ioShape);
         pAttachEnv->CallVoidMethod(mJavaObject, mGetShapeAtMethodId, inShapeIndex, shapeVa);
         JPH_ASSERT(!pAttachEnv->ExceptionCheck());
-        mpVM->DetachCurrentThread();
+        DETACH_CURRENT_THREAD(mpVM);
     }
 
     ~CustomIndexedShapeCollector() {
         JNIEnv *pAttachEnv;
-        jint retCode = mpVM->AttachCurrentThread((void **)&pAttachEnv, NULL);
+        jint retCode = ATTACH_CURRENT_THREAD(mpVM, &pAttachEnv);
         JPH_ASSERT(retCode == JNI_OK);
 
         pAttachEnv->DeleteGlobalRef(mJavaObject);
         JPH_ASSERT(!pAttachEnv->ExceptionCheck());
-        mpVM->DetachCurrentThread();
+        DETACH_CURRENT_THREAD(mpVM);
     }
 };
 
@@ -243,3 +244,118 @@ JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_RegionShape_registerS
   (JNIEnv *, jclass) {
     RegionShape::sRegister();
 }
+
+/*
+ * Class:     com_github_stephengold_joltjni_RegionShape
+ * Method:    countCacheHits
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_RegionShape_countCacheHits
+  (JNIEnv *, jclass, jlong shapeVa) {
+    const RegionShape * const pShape
+            = reinterpret_cast<RegionShape *> (shapeVa);
+    const uint64 result = pShape->GetCache().GetNumHits();
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_RegionShape
+ * Method:    countCacheMisses
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_RegionShape_countCacheMisses
+  (JNIEnv *, jclass, jlong shapeVa) {
+    const RegionShape * const pShape
+            = reinterpret_cast<RegionShape *> (shapeVa);
+    const uint64 result = pShape->GetCache().GetNumMisses();
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_RegionShape
+ * Method:    invalidateCache
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_RegionShape_invalidateCache
+  (JNIEnv *, jclass, jlong shapeVa) {
+    const RegionShape * const pShape
+            = reinterpret_cast<RegionShape *> (shapeVa);
+    pShape->InvalidateCache();
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_RegionShape
+ * Method:    isCacheEnabled
+ * Signature: (J)Z
+ */
+JNIEXPORT jboolean JNICALL Java_com_github_stephengold_joltjni_RegionShape_isCacheEnabled
+  (JNIEnv *, jclass, jlong shapeVa) {
+    const RegionShape * const pShape
+            = reinterpret_cast<RegionShape *> (shapeVa);
+    const bool result = pShape->IsCacheEnabled();
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_RegionShape
+ * Method:    resetCacheStats
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_RegionShape_resetCacheStats
+  (JNIEnv *, jclass, jlong shapeVa) {
+    RegionShape * const pShape = reinterpret_cast<RegionShape *> (shapeVa);
+    pShape->GetCache().ResetStats();
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_RegionShape
+ * Method:    setCacheEnabled
+ * Signature: (JZ)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_RegionShape_setCacheEnabled
+  (JNIEnv *, jclass, jlong shapeVa, jboolean enable) {
+    RegionShape * const pShape = reinterpret_cast<RegionShape *> (shapeVa);
+    pShape->SetCacheEnabled(enable);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_RegionShapeCacheListener
+ * Method:    create
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_RegionShapeCacheListener_create
+  (JNIEnv *, jclass, jlong shapeVa) {
+    const RegionShape * const pShape
+            = reinterpret_cast<RegionShape *> (shapeVa);
+    RegionShapeCacheInvalidator * const pResult
+            = new RegionShapeCacheInvalidator(pShape);
+    TRACE_NEW("RegionShapeCacheInvalidator", pResult)
+    return reinterpret_cast<jlong> (pResult);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_RegionShapeCacheListener
+ * Method:    free
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_RegionShapeCacheListener_free
+  (JNIEnv *, jclass, jlong listenerVa) {
+    RegionShapeCacheInvalidator * const pListener
+            = reinterpret_cast<RegionShapeCacheInvalidator *> (listenerVa);
+    TRACE_DELETE("RegionShapeCacheInvalidator", pListener)
+    delete pListener;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_RegionShapeCacheListener
+ * Method:    onStep
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_RegionShapeCacheListener_onStep
+  (JNIEnv *, jclass, jlong listenerVa, jlong contextVa) {
+    RegionShapeCacheInvalidator * const pListener
+            = reinterpret_cast<RegionShapeCacheInvalidator *> (listenerVa);
+    const PhysicsStepListenerContext * const pContext
+            = reinterpret_cast<PhysicsStepListenerContext *> (contextVa);
+    pListener->OnStep(*pContext);
+}
@@ -0,0 +1,69 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+/*
+ * Author: Stephen Gold
+ */
+#include "Jolt/Jolt.h"
+#include "auto/com_github_stephengold_joltjni_ShapeTable.h"
+#include "glue/glue.h"
+#include "custom/ShapeTable.h"
+
+using namespace JPH;
+
+/*
+ * Class:     com_github_stephengold_joltjni_ShapeTable
+ * Method:    restore
+ * Signature: (JJJJ)J
+ */
+JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_ShapeTable_restore
+  (JNIEnv *, jclass, jlong streamVa, jlong jobSystemVa, jlong shapeMapVa,
+        jlong materialMapVa) {
+    StreamIn * const pStream = reinterpret_cast<StreamIn *> (streamVa);
+    JobSystem * const pJobSystem = reinterpret_cast<JobSystem *> (jobSystemVa);
+    ShapeTable::IDToShapeMap * const pShapeMap
+            = reinterpret_cast<ShapeTable::IDToShapeMap *> (shapeMapVa);
+    ShapeTable::IDToMaterialMap * const pMaterialMap
+            = reinterpret_cast<ShapeTable::IDToMaterialMap *> (materialMapVa);
+    Result<ShapeList> * const pResult = new Result<ShapeList>();
+    TRACE_NEW("Result<ShapeList>", pResult)
+    *pResult = ShapeTable::sRestore(
+            *pStream, pJobSystem, *pShapeMap, *pMaterialMap);
+    return reinterpret_cast<jlong> (pResult);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_ShapeTable
+ * Method:    save
+ * Signature: (JJJJ)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_ShapeTable_save
+  (JNIEnv *, jclass, jlong streamVa, jlong listVa, jlong shapeMapVa,
+        jlong materialMapVa) {
+    StreamOut * const pStream = reinterpret_cast<StreamOut *> (streamVa);
+    const ShapeList * const pList = reinterpret_cast<ShapeList *> (listVa);
+    ShapeTable::ShapeToIDMap * const pShapeMap
+            = reinterpret_cast<ShapeTable::ShapeToIDMap *> (shapeMapVa);
+    ShapeTable::MaterialToIDMap * const pMaterialMap
+            = reinterpret_cast<ShapeTable::MaterialToIDMap *> (materialMapVa);
+    ShapeTable::sSave(*pStream, *pList, *pShapeMap, *pMaterialMap);
+}
\ No newline at end of file
@@ -0,0 +1,81 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+/*
+ * Author: Stephen Gold
+ */
+#include "Jolt/Jolt.h"
+#include "auto/com_github_stephengold_joltjni_StateDelta.h"
+#include "glue/glue.h"
+#include "custom/StateDelta.h"
+
+using namespace JPH;
+
+/*
+ * Class:     com_github_stephengold_joltjni_StateDelta
+ * Method:    decode
+ * Signature: (Ljava/nio/ByteBuffer;IILjava/nio/ByteBuffer;IILjava/nio/ByteBuffer;II)I
+ */
+JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_StateDelta_decode
+  (JNIEnv *pEnv, jclass, jobject referenceBuffer, jint referenceOffset,
+        jint referenceSize, jobject deltaBuffer, jint deltaOffset,
+        jint deltaSize, jobject storeBuffer, jint storeOffset,
+        jint storeCapacity) {
+    const uint8 * const pReference
+            = (uint8 *) pEnv->GetDirectBufferAddress(referenceBuffer);
+    JPH_ASSERT(pReference != NULL);
+    const uint8 * const pDelta
+            = (uint8 *) pEnv->GetDirectBufferAddress(deltaBuffer);
+    JPH_ASSERT(pDelta != NULL);
+    uint8 * const pStore = (uint8 *) pEnv->GetDirectBufferAddress(storeBuffer);
+    JPH_ASSERT(pStore != NULL);
+    const size_t result = StateDelta::sDecode(
+            pReference + referenceOffset, referenceSize,
+            pDelta + deltaOffset, deltaSize,
+            pStore + storeOffset, storeCapacity);
+    return (jint) result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_StateDelta
+ * Method:    encode
+ * Signature: (Ljava/nio/ByteBuffer;IILjava/nio/ByteBuffer;IILjava/nio/ByteBuffer;II)I
+ */
+JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_StateDelta_encode
+  (JNIEnv *pEnv, jclass, jobject referenceBuffer, jint referenceOffset,
+        jint referenceSize, jobject currentBuffer, jint currentOffset,
+        jint currentSize, jobject storeBuffer, jint storeOffset,
+        jint storeCapacity) {
+    const uint8 * const pReference
+            = (uint8 *) pEnv->GetDirectBufferAddress(referenceBuffer);
+    JPH_ASSERT(pReference != NULL);
+    const uint8 * const pCurrent
+            = (uint8 *) pEnv->GetDirectBufferAddress(currentBuffer);
+    JPH_ASSERT(pCurrent != NULL);
+    uint8 * const pStore = (uint8 *) pEnv->GetDirectBufferAddress(storeBuffer);
+    JPH_ASSERT(pStore != NULL);
+    const size_t result = StateDelta::sEncode(
+            pReference + referenceOffset, referenceSize,
+            pCurrent + currentOffset, currentSize,
+            pStore + storeOffset, storeCapacity);
+    return (jint) result;
+}
\ No newline at end of file
@@ -0,0 +1,82 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+/*
+ * Author: Stephen Gold
+ */
+#include "Jolt/Jolt.h"
+#include "auto/com_github_stephengold_joltjni_UserDataBodyFilter.h"
+#include "glue/glue.h"
+#include "custom/BodyFilters.h"
+
+using namespace JPH;
+
+/*
+ * Class:     com_github_stephengold_joltjni_UserDataBodyFilter
+ * Method:    create
+ * Signature: (JJ)J
+ */
+JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_UserDataBodyFilter_create
+  (JNIEnv *, jclass, jlong mask, jlong value) {
+    UserDataBodyFilter * const pResult = new UserDataBodyFilter(mask, value);
+    TRACE_NEW("UserDataBodyFilter", pResult)
+    return reinterpret_cast<jlong> (pResult);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_UserDataBodyFilter
+ * Method:    getMask
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_UserDataBodyFilter_getMask
+  (JNIEnv *, jclass, jlong filterVa) {
+    const UserDataBodyFilter * const pFilter
+            = reinterpret_cast<UserDataBodyFilter *> (filterVa);
+    const uint64 result = pFilter->mMask;
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_UserDataBodyFilter
+ * Method:    getValue
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_UserDataBodyFilter_getValue
+  (JNIEnv *, jclass, jlong filterVa) {
+    const UserDataBodyFilter * const pFilter
+            = reinterpret_cast<UserDataBodyFilter *> (filterVa);
+    const uint64 result = pFilter->mValue;
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_UserDataBodyFilter
+ * Method:    set
+ * Signature: (JJJ)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_UserDataBodyFilter_set
+  (JNIEnv *, jclass, jlong filterVa, jlong mask, jlong value) {
+    UserDataBodyFilter * const pFilter
+            = reinterpret_cast<UserDataBodyFilter *> (filterVa);
+    pFilter->mMask = mask;
+    pFilter->mValue = value;
+}
\ No newline at end of file
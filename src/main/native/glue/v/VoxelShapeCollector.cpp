@@ -0,0 +1,264 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+/*
+ * Author: Stephen Gold
+ */
+#include "Jolt/Jolt.h"
+#include "Jolt/Physics/Collision/Shape/Shape.h"
+#include "Jolt/Physics/PhysicsStepListener.h"
+#include "auto/com_github_stephengold_joltjni_VoxelActivationListener.h"
+#include "auto/com_github_stephengold_joltjni_VoxelShapeCollector.h"
+#include "glue/glue.h"
+#include "custom/VoxelShapeCollector.h"
+
+using namespace JPH;
+
+/*
+ * Class:     com_github_stephengold_joltjni_VoxelActivationListener
+ * Method:    create
+ * Signature: (JI)J
+ */
+JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_VoxelActivationListener_create
+  (JNIEnv *, jclass, jlong collectorVa, jint regionBodyId) {
+    VoxelShapeCollector * const pCollector
+            = reinterpret_cast<VoxelShapeCollector *> (collectorVa);
+    const BodyID id(regionBodyId);
+    VoxelActivationListener * const pResult
+            = new VoxelActivationListener(pCollector, id);
+    TRACE_NEW("VoxelActivationListener", pResult)
+    return reinterpret_cast<jlong> (pResult);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_VoxelActivationListener
+ * Method:    free
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_VoxelActivationListener_free
+  (JNIEnv *, jclass, jlong listenerVa) {
+    VoxelActivationListener * const pListener
+            = reinterpret_cast<VoxelActivationListener *> (listenerVa);
+    TRACE_DELETE("VoxelActivationListener", pListener)
+    delete pListener;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_VoxelActivationListener
+ * Method:    onStep
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_VoxelActivationListener_onStep
+  (JNIEnv *, jclass, jlong listenerVa, jlong contextVa) {
+    VoxelActivationListener * const pListener
+            = reinterpret_cast<VoxelActivationListener *> (listenerVa);
+    const PhysicsStepListenerContext * const pContext
+            = reinterpret_cast<PhysicsStepListenerContext *> (contextVa);
+    pListener->OnStep(*pContext);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_VoxelShapeCollector
+ * Method:    create
+ * Signature: (III)J
+ */
+JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_VoxelShapeCollector_create
+  (JNIEnv *, jclass, jint sizeX, jint sizeY, jint sizeZ) {
+    VoxelShapeCollector * const pResult
+            = new VoxelShapeCollector(sizeX, sizeY, sizeZ);
+    TRACE_NEW("VoxelShapeCollector", pResult)
+    return reinterpret_cast<jlong> (pResult);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_VoxelShapeCollector
+ * Method:    fill
+ * Signature: (JI)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_VoxelShapeCollector_fill
+  (JNIEnv *, jclass, jlong collectorVa, jint paletteIndex) {
+    VoxelShapeCollector * const pCollector
+            = reinterpret_cast<VoxelShapeCollector *> (collectorVa);
+    pCollector->Fill((uint16) paletteIndex);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_VoxelShapeCollector
+ * Method:    getCell
+ * Signature: (JIII)I
+ */
+JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_VoxelShapeCollector_getCell
+  (JNIEnv *, jclass, jlong collectorVa, jint x, jint y, jint z) {
+    const VoxelShapeCollector * const pCollector
+            = reinterpret_cast<VoxelShapeCollector *> (collectorVa);
+    const uint16 result = pCollector->GetCell(x, y, z);
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_VoxelShapeCollector
+ * Method:    getMergeBoxes
+ * Signature: (J)Z
+ */
+JNIEXPORT jboolean JNICALL Java_com_github_stephengold_joltjni_VoxelShapeCollector_getMergeBoxes
+  (JNIEnv *, jclass, jlong collectorVa) {
+    const VoxelShapeCollector * const pCollector
+            = reinterpret_cast<VoxelShapeCollector *> (collectorVa);
+    const bool result = pCollector->GetMergeBoxes();
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_VoxelShapeCollector
+ * Method:    getPaletteSize
+ * Signature: (J)I
+ */
+JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_VoxelShapeCollector_getPaletteSize
+  (JNIEnv *, jclass, jlong collectorVa) {
+    const VoxelShapeCollector * const pCollector
+            = reinterpret_cast<VoxelShapeCollector *> (collectorVa);
+    const uint result = pCollector->GetPaletteSize();
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_VoxelShapeCollector
+ * Method:    getSizeX
+ * Signature: (J)I
+ */
+JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_VoxelShapeCollector_getSizeX
+  (JNIEnv *, jclass, jlong collectorVa) {
+    const VoxelShapeCollector * const pCollector
+            = reinterpret_cast<VoxelShapeCollector *> (collectorVa);
+    const uint result = pCollector->GetSizeX();
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_VoxelShapeCollector
+ * Method:    getSizeY
+ * Signature: (J)I
+ */
+JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_VoxelShapeCollector_getSizeY
+  (JNIEnv *, jclass, jlong collectorVa) {
+    const VoxelShapeCollector * const pCollector
+            = reinterpret_cast<VoxelShapeCollector *> (collectorVa);
+    const uint result = pCollector->GetSizeY();
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_VoxelShapeCollector
+ * Method:    getSizeZ
+ * Signature: (J)I
+ */
+JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_VoxelShapeCollector_getSizeZ
+  (JNIEnv *, jclass, jlong collectorVa) {
+    const VoxelShapeCollector * const pCollector
+            = reinterpret_cast<VoxelShapeCollector *> (collectorVa);
+    const uint result = pCollector->GetSizeZ();
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_VoxelShapeCollector
+ * Method:    setCell
+ * Signature: (JIIII)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_VoxelShapeCollector_setCell
+  (JNIEnv *, jclass, jlong collectorVa, jint x, jint y, jint z,
+  jint paletteIndex) {
+    VoxelShapeCollector * const pCollector
+            = reinterpret_cast<VoxelShapeCollector *> (collectorVa);
+    pCollector->SetCell(x, y, z, (uint16) paletteIndex);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_VoxelShapeCollector
+ * Method:    setCellsFromInts
+ * Signature: (JILjava/nio/IntBuffer;)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_VoxelShapeCollector_setCellsFromInts
+  (JNIEnv *pEnv, jclass, jlong collectorVa, jint startCell,
+  jobject paletteIndices) {
+    VoxelShapeCollector * const pCollector
+            = reinterpret_cast<VoxelShapeCollector *> (collectorVa);
+    DIRECT_INT_BUFFER(pEnv, paletteIndices, pInts, capacityInts);
+    pCollector->SetCells(startCell, (const int32 *) pInts, (uint) capacityInts);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_VoxelShapeCollector
+ * Method:    setCellsFromShorts
+ * Signature: (JILjava/nio/ShortBuffer;)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_VoxelShapeCollector_setCellsFromShorts
+  (JNIEnv *pEnv, jclass, jlong collectorVa, jint startCell,
+  jobject paletteIndices) {
+    VoxelShapeCollector * const pCollector
+            = reinterpret_cast<VoxelShapeCollector *> (collectorVa);
+    DIRECT_SHORT_BUFFER(pEnv, paletteIndices, pShorts, capacityShorts);
+    pCollector->SetCells(
+            startCell, (const uint16 *) pShorts, (uint) capacityShorts);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_VoxelShapeCollector
+ * Method:    setSection
+ * Signature: (JIIILjava/nio/ShortBuffer;)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_VoxelShapeCollector_setSection
+  (JNIEnv *pEnv, jclass, jlong collectorVa, jint sectionX, jint sectionY,
+  jint sectionZ, jobject paletteIndices) {
+    VoxelShapeCollector * const pCollector
+            = reinterpret_cast<VoxelShapeCollector *> (collectorVa);
+    DIRECT_SHORT_BUFFER(pEnv, paletteIndices, pShorts, capacityShorts);
+    JPH_ASSERT(capacityShorts >= VoxelSection::cNumCells);
+    pCollector->SetSection(
+            sectionX, sectionY, sectionZ, (const uint16 *) pShorts);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_VoxelShapeCollector
+ * Method:    setMergeBoxes
+ * Signature: (JZ)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_VoxelShapeCollector_setMergeBoxes
+  (JNIEnv *, jclass, jlong collectorVa, jboolean setting) {
+    VoxelShapeCollector * const pCollector
+            = reinterpret_cast<VoxelShapeCollector *> (collectorVa);
+    pCollector->SetMergeBoxes(setting);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_VoxelShapeCollector
+ * Method:    setPaletteShape
+ * Signature: (JIJZ)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_VoxelShapeCollector_setPaletteShape
+  (JNIEnv *, jclass, jlong collectorVa, jint paletteIndex, jlong shapeVa,
+  jboolean isFullCube) {
+    VoxelShapeCollector * const pCollector
+            = reinterpret_cast<VoxelShapeCollector *> (collectorVa);
+    const Shape * const pShape = reinterpret_cast<Shape *> (shapeVa);
+    pCollector->SetPaletteShape((uint16) paletteIndex, pShape, isFullCube);
+}
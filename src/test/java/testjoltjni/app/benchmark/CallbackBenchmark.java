@@ -0,0 +1,184 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.app.benchmark;
+
+import com.github.stephengold.joltjni.BodyCreationSettings;
+import com.github.stephengold.joltjni.BodyInterface;
+import com.github.stephengold.joltjni.BoxShape;
+import com.github.stephengold.joltjni.CustomContactListener;
+import com.github.stephengold.joltjni.Jolt;
+import com.github.stephengold.joltjni.JobSystem;
+import com.github.stephengold.joltjni.JobSystemThreadPool;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.Quat;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.TempAllocator;
+import com.github.stephengold.joltjni.TempAllocatorImpl;
+import com.github.stephengold.joltjni.Vec3;
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import com.github.stephengold.joltjni.enumerate.EMotionType;
+import java.util.concurrent.atomic.AtomicLong;
+import testjoltjni.TestUtils;
+
+/**
+ * A console application to measure the per-callback cost of a
+ * {@code CustomContactListener}, with worker threads that attach to the JVM
+ * for each callback versus worker threads that remain attached.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class CallbackBenchmark {
+    // *************************************************************************
+    // constants
+
+    /**
+     * number of boxes along each edge of the pile
+     */
+    final private static int pileSize = 12;
+    /**
+     * number of physics steps to simulate before measuring
+     */
+    final private static int numWarmupSteps = 120;
+    /**
+     * number of physics steps to measure
+     */
+    final private static int numMeasuredSteps = 300;
+    // *************************************************************************
+    // classes
+
+    /**
+     * Contact listener that merely counts its callbacks.
+     */
+    private static class CountingListener extends CustomContactListener {
+        /**
+         * number of callbacks invoked since the last reset
+         */
+        final AtomicLong count = new AtomicLong();
+
+        @Override
+        public void onContactAdded(
+                long body1Va, long body2Va, long manifoldVa, long settingsVa) {
+            count.incrementAndGet();
+        }
+
+        @Override
+        public void onContactPersisted(
+                long body1Va, long body2Va, long manifoldVa, long settingsVa) {
+            count.incrementAndGet();
+        }
+    }
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private CallbackBenchmark() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Main entry point for the CallbackBenchmark application.
+     *
+     * @param arguments array of command-line arguments (not null)
+     */
+    public static void main(String... arguments) {
+        TestUtils.loadNativeLibraryRelease();
+        TestUtils.initializeNativeLibrary();
+
+        int numThreads = TestUtils.numThreads();
+        double detachedNs = measure(false, numThreads);
+        double attachedNs = measure(true, numThreads);
+
+        System.out.printf("%d worker threads%n", numThreads);
+        System.out.printf("attach per callback: %8.1f ns per callback%n",
+                detachedNs);
+        System.out.printf("permanently attached: %7.1f ns per callback%n",
+                attachedNs);
+
+        Jolt.unregisterTypes();
+        Jolt.destroyFactory();
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Simulate a settling pile of boxes and measure the mean wall-clock time
+     * per contact callback.
+     *
+     * @param attachWorkers {@code true} to keep the worker threads attached
+     * @param numThreads the number of worker threads (&ge;0)
+     * @return the mean time per callback (in nanoseconds)
+     */
+    private static double measure(boolean attachWorkers, int numThreads) {
+        int numBoxes = pileSize * pileSize * pileSize;
+        PhysicsSystem physicsSystem = TestUtils.newPhysicsSystem(numBoxes + 1);
+        BodyInterface bi = physicsSystem.getBodyInterface();
+
+        BoxShape floorShape = new BoxShape(new Vec3(100f, 1f, 100f));
+        BodyCreationSettings bcs = new BodyCreationSettings(floorShape,
+                new RVec3(0., -1., 0.), new Quat(), EMotionType.Static,
+                TestUtils.objLayerNonMoving);
+        bi.createAndAddBody(bcs, EActivation.DontActivate);
+
+        BoxShape boxShape = new BoxShape(0.5f);
+        bcs.setShape(boxShape);
+        bcs.setMotionType(EMotionType.Dynamic);
+        bcs.setObjectLayer(TestUtils.objLayerMoving);
+        for (int x = 0; x < pileSize; ++x) {
+            for (int y = 0; y < pileSize; ++y) {
+                for (int z = 0; z < pileSize; ++z) {
+                    bcs.setPosition(x, 0.5 + y, z);
+                    bi.createAndAddBody(bcs, EActivation.Activate);
+                }
+            }
+        }
+        physicsSystem.optimizeBroadPhase();
+
+        CountingListener listener = new CountingListener();
+        physicsSystem.setContactListener(listener);
+
+        TempAllocator tempAllocator = new TempAllocatorImpl(32 << 20);
+        JobSystem jobSystem = new JobSystemThreadPool(Jolt.cMaxPhysicsJobs,
+                Jolt.cMaxPhysicsBarriers, numThreads, attachWorkers);
+        float timeStep = 1f / 60f;
+        for (int i = 0; i < numWarmupSteps; ++i) {
+            physicsSystem.update(timeStep, 1, tempAllocator, jobSystem);
+        }
+
+        listener.count.set(0L);
+        long startNs = System.nanoTime();
+        for (int i = 0; i < numMeasuredSteps; ++i) {
+            physicsSystem.update(timeStep, 1, tempAllocator, jobSystem);
+        }
+        long elapsedNs = System.nanoTime() - startNs;
+        long numCallbacks = Math.max(1L, listener.count.get());
+        double result = elapsedNs / (double) numCallbacks;
+
+        physicsSystem.setContactListener(null);
+        TestUtils.cleanupPhysicsSystem(physicsSystem);
+        TestUtils.testClose(jobSystem, tempAllocator, listener, bcs);
+
+        return result;
+    }
+}
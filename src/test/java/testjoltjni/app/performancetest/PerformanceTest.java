@@ -62,8 +62,11 @@ public static void main(  String[] argv)throws IOException
 	// Install callbacks
 	installDefaultTraceCallback();
 
-	// Register allocation hook
-	registerDefaultAllocator();
+	// Register allocation hook (before parsing, since it must come first)
+	if (Arrays.asList(argv).contains("-pool"))
+		registerPooledAllocator();
+	else
+		registerDefaultAllocator();
 
 	// Parse command line parameters
 	int specified_quality = -1;
@@ -147,6 +150,10 @@ public static void main(  String[] argv)throws IOException
 		{
 			enable_per_frame_recording = true;
 		}
+		else if (strcmp(arg, "-pool") == 0)
+		{
+			// Allocator was already selected
+		}
 		else if (strcmp(arg, "-rs") == 0)
 		{
 			record_state = true;
@@ -177,6 +184,7 @@ public static void main(  String[] argv)throws IOException
 				 + "-r: Record debug renderer output for JoltViewer\n"
 				 + "-f: Record per frame timings\n"
 				 + "-no_sleep: Disable sleeping\n"
+				 + "-pool: Use the pooled allocator\n"
 				 + "-rs: Record state\n"
 				 + "-vs: Validate state\n"
 				 + "-validate_hash=<hash>: Validate hash (return 0 if successful, 1 if failed)\n"
@@ -431,6 +439,14 @@ if (NarrowPhaseStat.isCollecting()) {
 	NarrowPhaseStat.sReportStats();
 } // JPH_TRACK_NARROWPHASE_STATS
 
+	// Report pooled-allocator usage
+	if (PooledAllocator.isRegistered())
+	{
+		Trace("Pooled allocator: %d bytes in use, %d peak bytes", PooledAllocator.bytesInUse(), PooledAllocator.peakBytes());
+		for (int c = 0; c < PooledAllocator.countSizeClasses(); ++c)
+			Trace("  %d-byte blocks: %d live", PooledAllocator.getClassSize(c), PooledAllocator.countLiveBlocks(c));
+	}
+
 	// Unregisters all types with the factory and cleans up the default material
 	unregisterTypes();
 
@@ -0,0 +1,177 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.AllocationTracker;
+import com.github.stephengold.joltjni.BatchedContactListener;
+import com.github.stephengold.joltjni.CompositeBodyFilter;
+import com.github.stephengold.joltjni.JoltArena;
+import com.github.stephengold.joltjni.Mat44;
+import com.github.stephengold.joltjni.TypeAllocations;
+import java.util.List;
+import java.util.Map;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for {@code AllocationTracker}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class AllocationTrackerTest {
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Test per-type accounting, growth reports, and sampling.
+     */
+    @Test
+    public void testAllocationTracker() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        AllocationTracker.setEnabled(true);
+        Assert.assertTrue(AllocationTracker.isEnabled());
+        AllocationTracker.setSamplingInterval(1);
+
+        Map<String, TypeAllocations> before = AllocationTracker.snapshot();
+        Mat44 m1 = new Mat44();
+        Mat44 m2 = new Mat44();
+        Mat44 m3 = new Mat44();
+        Map<String, TypeAllocations> after = AllocationTracker.snapshot();
+
+        TypeAllocations counts = after.get("Mat44");
+        Assert.assertNotNull(counts);
+        long oldLive = before.containsKey("Mat44")
+                ? before.get("Mat44").countLive() : 0L;
+        Assert.assertEquals(oldLive + 3L, counts.countLive());
+        Assert.assertTrue(counts.liveBytes() >= 3L * 64L);
+
+        List<TypeAllocations> top
+                = AllocationTracker.topGrowth(before, after, 1);
+        Assert.assertEquals(1, top.size());
+        Assert.assertEquals("Mat44", top.get(0).getTypeName());
+        String report = AllocationTracker.reportGrowth(before, after, 5);
+        Assert.assertTrue(report, report.startsWith("+3 Mat44"));
+
+        // Each sample lives exactly as long as its native object:
+        Assert.assertEquals(3, AllocationTracker.copyLiveSamples().size());
+        m1.close();
+        m2.close();
+        Assert.assertEquals(1, AllocationTracker.copyLiveSamples().size());
+        m3.close();
+        Assert.assertTrue(AllocationTracker.copyLiveSamples().isEmpty());
+
+        Map<String, TypeAllocations> end = AllocationTracker.snapshot();
+        Assert.assertEquals(oldLive, end.get("Mat44").countLive());
+        Assert.assertTrue(
+                AllocationTracker.topGrowth(before, end, 10).isEmpty());
+
+        AllocationTracker.setSamplingInterval(0);
+        AllocationTracker.setEnabled(false);
+        TestUtils.cleanup();
+    }
+
+    /**
+     * Test that temporaries owned by a {@code JoltArena} are sampled, and that
+     * their samples are discarded when the arena closes.
+     */
+    @Test
+    public void testArenaSampling() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        Mat44 scale = Mat44.sScale(2f);
+        AllocationTracker.setSamplingInterval(1);
+        Assert.assertTrue(AllocationTracker.copyLiveSamples().isEmpty());
+        try (JoltArena arena = JoltArena.open()) {
+            Mat44 inverse = scale.inversed();
+            Assert.assertTrue(inverse.ownsNativeObject());
+            Assert.assertEquals(1, arena.countObjects());
+            Assert.assertEquals(1, AllocationTracker.copyLiveSamples().size());
+        }
+        Assert.assertTrue(AllocationTracker.copyLiveSamples().isEmpty());
+
+        AllocationTracker.setSamplingInterval(0);
+        TestUtils.testClose(scale);
+        TestUtils.cleanup();
+    }
+
+    /**
+     * Test that, with address tracking, objects freed through a base class are
+     * credited to the type they were allocated as.
+     */
+    @Test
+    public void testSubclassDeletes() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        Assert.assertFalse(AllocationTracker.isTrackingAddresses());
+        AllocationTracker.setEnabled(true);
+        AllocationTracker.setTrackingAddresses(true);
+        Assert.assertTrue(AllocationTracker.isTrackingAddresses());
+        Map<String, TypeAllocations> before = AllocationTracker.snapshot();
+
+        // Both are freed by the free() methods of their native base classes:
+        CompositeBodyFilter filter = new CompositeBodyFilter(true, false);
+        BatchedContactListener listener = new BatchedContactListener(10);
+        Map<String, TypeAllocations> during = AllocationTracker.snapshot();
+        Assert.assertEquals(countLive(before, "CompositeBodyFilter") + 1L,
+                countLive(during, "CompositeBodyFilter"));
+        Assert.assertEquals(countLive(before, "BatchedContactListener") + 1L,
+                countLive(during, "BatchedContactListener"));
+
+        filter.close();
+        listener.close();
+        Map<String, TypeAllocations> after = AllocationTracker.snapshot();
+        for (String typeName : new String[]{"CompositeBodyFilter",
+            "BatchedContactListener", "BodyFilter", "ContactListener"}) {
+            Assert.assertEquals(typeName, countLive(before, typeName),
+                    countLive(after, typeName));
+        }
+        Assert.assertTrue(
+                AllocationTracker.topGrowth(before, after, 10).isEmpty());
+
+        AllocationTracker.setTrackingAddresses(false);
+        AllocationTracker.setEnabled(false);
+        TestUtils.cleanup();
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Return the number of live allocations of the named type in the
+     * specified snapshot.
+     *
+     * @param snapshot the snapshot to search (not null, unaffected)
+     * @param typeName the name of the native type (not null)
+     * @return the count, or 0 if the type isn't in the snapshot
+     */
+    private static long countLive(
+            Map<String, TypeAllocations> snapshot, String typeName) {
+        TypeAllocations counts = snapshot.get(typeName);
+        long result = (counts == null) ? 0L : counts.countLive();
+
+        return result;
+    }
+}
@@ -0,0 +1,274 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.BatchedContactListener;
+import com.github.stephengold.joltjni.BodyCreationSettings;
+import com.github.stephengold.joltjni.BodyInterface;
+import com.github.stephengold.joltjni.BoxShape;
+import com.github.stephengold.joltjni.Jolt;
+import com.github.stephengold.joltjni.JobSystemThreadPool;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.Quat;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.TempAllocator;
+import com.github.stephengold.joltjni.TempAllocatorMalloc;
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import com.github.stephengold.joltjni.enumerate.EMotionType;
+import java.nio.ByteBuffer;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for {@code BatchedContactListener}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class BatchedContactListenerTest {
+    // *************************************************************************
+    // constants
+
+    /**
+     * value of an empty sub-shape ID
+     */
+    final private static int emptySubShapeId = 0xffffffff;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Test that records which don't fit in the buffer are counted.
+     */
+    @Test
+    public void testDropped() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        PhysicsSystem physicsSystem = TestUtils.newPhysicsSystem(10);
+        BatchedContactListener listener = new BatchedContactListener(1);
+        physicsSystem.setContactListener(listener);
+
+        // 3 separate boxes, each overlapping the floor:
+        BodyInterface bodyInterface = physicsSystem.getBodyInterface();
+        BodyCreationSettings floor = newFloor();
+        bodyInterface.createAndAddBody(floor, EActivation.DontActivate);
+        BodyCreationSettings box = newBox();
+        for (int i = -1; i <= 1; ++i) {
+            box.setPosition(new RVec3(3. * i, 0.4, 0.));
+            bodyInterface.createAndAddBody(box, EActivation.Activate);
+        }
+
+        TempAllocator tempAllocator = new TempAllocatorMalloc();
+        JobSystemThreadPool jobSystem = new JobSystemThreadPool(
+                Jolt.cMaxPhysicsJobs, Jolt.cMaxPhysicsBarriers, 1);
+        physicsSystem.update(1f / 60f, 1, tempAllocator, jobSystem);
+
+        Assert.assertEquals(1, listener.getMaxRecords());
+        Assert.assertEquals(1, listener.countRecords());
+        Assert.assertEquals(2, listener.countDropped());
+        ByteBuffer records = listener.getRecords();
+        Assert.assertEquals(BatchedContactListener.cRecordBytes,
+                records.capacity());
+        Assert.assertEquals(BatchedContactListener.cEventAdded,
+                records.getInt(BatchedContactListener.cEventTypeOffset));
+
+        // Clearing resets both counts:
+        listener.clear();
+        Assert.assertEquals(0, listener.countRecords());
+        Assert.assertEquals(0, listener.countDropped());
+        Assert.assertEquals(0, listener.getRecords().capacity());
+
+        TestUtils.testClose(jobSystem, tempAllocator, box, floor);
+        TestUtils.cleanupPhysicsSystem(physicsSystem);
+        TestUtils.testClose(listener);
+        TestUtils.cleanup();
+    }
+
+    /**
+     * Test the decoded records of a box resting on a floor, through the
+     * added, persisted, and removed events.
+     */
+    @Test
+    public void testRecords() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        PhysicsSystem physicsSystem = TestUtils.newPhysicsSystem(10);
+        BatchedContactListener listener = new BatchedContactListener(16);
+        physicsSystem.setContactListener(listener);
+
+        // A unit cube that penetrates the floor (top at y=0) by 0.1:
+        BodyInterface bodyInterface = physicsSystem.getBodyInterface();
+        BodyCreationSettings floor = newFloor();
+        int floorId = bodyInterface.createAndAddBody(
+                floor, EActivation.DontActivate);
+        BodyCreationSettings box = newBox();
+        box.setPosition(new RVec3(0., 0.4, 0.));
+        int boxId = bodyInterface.createAndAddBody(box, EActivation.Activate);
+
+        TempAllocator tempAllocator = new TempAllocatorMalloc();
+        JobSystemThreadPool jobSystem = new JobSystemThreadPool(
+                Jolt.cMaxPhysicsJobs, Jolt.cMaxPhysicsBarriers, 1);
+        physicsSystem.update(1f / 60f, 1, tempAllocator, jobSystem);
+
+        Assert.assertEquals(1, listener.countRecords());
+        Assert.assertEquals(0, listener.countDropped());
+        ByteBuffer records = listener.getRecords();
+        Assert.assertEquals(BatchedContactListener.cRecordBytes,
+                records.capacity());
+        assertContact(BatchedContactListener.cEventAdded, floorId, boxId,
+                records, 0);
+
+        // Without clear(), records accumulate across updates:
+        physicsSystem.update(1f / 60f, 1, tempAllocator, jobSystem);
+        Assert.assertEquals(2, listener.countRecords());
+        records = listener.getRecords();
+        assertContact(BatchedContactListener.cEventPersisted, floorId, boxId,
+                records, BatchedContactListener.cRecordBytes);
+
+        // Lift the box clear of the floor:
+        listener.clear();
+        bodyInterface.setPosition(
+                boxId, new RVec3(0., 5., 0.), EActivation.Activate);
+        physicsSystem.update(1f / 60f, 1, tempAllocator, jobSystem);
+
+        Assert.assertEquals(1, listener.countRecords());
+        Assert.assertEquals(0, listener.countDropped());
+        records = listener.getRecords();
+        Assert.assertEquals(BatchedContactListener.cEventRemoved,
+                records.getInt(BatchedContactListener.cEventTypeOffset));
+        assertBodyIds(floorId, boxId, records, 0);
+        Assert.assertEquals(0, records.getInt(
+                BatchedContactListener.cNumPointsOffset));
+
+        TestUtils.testClose(jobSystem, tempAllocator, box, floor);
+        TestUtils.cleanupPhysicsSystem(physicsSystem);
+        TestUtils.testClose(listener);
+        TestUtils.cleanup();
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Verify the body IDs and sub-shape IDs of the specified record, in
+     * either order.
+     *
+     * @param floorId the ID of the floor body
+     * @param boxId the ID of the box body
+     * @param records the recorded events (not null, unaffected)
+     * @param start the byte offset of the record in the buffer
+     * @return true if the box is the first body, false if it's the 2nd
+     */
+    private static boolean assertBodyIds(
+            int floorId, int boxId, ByteBuffer records, int start) {
+        int body1Id = records.getInt(
+                start + BatchedContactListener.cBody1IdOffset);
+        int body2Id = records.getInt(
+                start + BatchedContactListener.cBody2IdOffset);
+        boolean boxFirst = (body1Id == boxId);
+        if (boxFirst) {
+            Assert.assertEquals(floorId, body2Id);
+        } else {
+            Assert.assertEquals(floorId, body1Id);
+            Assert.assertEquals(boxId, body2Id);
+        }
+
+        Assert.assertEquals(emptySubShapeId, records.getInt(
+                start + BatchedContactListener.cSubShape1IdOffset));
+        Assert.assertEquals(emptySubShapeId, records.getInt(
+                start + BatchedContactListener.cSubShape2IdOffset));
+
+        return boxFirst;
+    }
+
+    /**
+     * Verify the specified record of a box resting on the floor.
+     *
+     * @param eventType the expected event type
+     * @param floorId the ID of the floor body
+     * @param boxId the ID of the box body
+     * @param records the recorded events (not null, unaffected)
+     * @param start the byte offset of the record in the buffer
+     */
+    private static void assertContact(int eventType, int floorId, int boxId,
+            ByteBuffer records, int start) {
+        Assert.assertEquals(eventType, records.getInt(
+                start + BatchedContactListener.cEventTypeOffset));
+        boolean boxFirst = assertBodyIds(floorId, boxId, records, start);
+
+        // A face-to-face contact with a 4-point manifold:
+        Assert.assertEquals(4, records.getInt(
+                start + BatchedContactListener.cNumPointsOffset));
+
+        // The normal points from the first body toward the 2nd:
+        int normalStart = start + BatchedContactListener.cNormalOffset;
+        float expectedY = boxFirst ? -1f : 1f;
+        Assert.assertEquals(0f, records.getFloat(normalStart), 1e-3f);
+        Assert.assertEquals(expectedY, records.getFloat(normalStart + 4),
+                1e-3f);
+        Assert.assertEquals(0f, records.getFloat(normalStart + 8), 1e-3f);
+
+        float depth = records.getFloat(
+                start + BatchedContactListener.cPenetrationDepthOffset);
+        Assert.assertEquals(0.1f, depth, 0.02f);
+
+        // Default friction (0.2) and restitution (0) of both bodies:
+        Assert.assertEquals(0.2f, records.getFloat(
+                start + BatchedContactListener.cFrictionOffset), 1e-6f);
+        Assert.assertEquals(0f, records.getFloat(
+                start + BatchedContactListener.cRestitutionOffset), 0f);
+
+        // The mean contact points lie beneath the box, near the floor's top:
+        for (int offset : new int[]{BatchedContactListener.cPoint1Offset,
+            BatchedContactListener.cPoint2Offset}) {
+            int pointStart = start + offset;
+            Assert.assertEquals(0., records.getDouble(pointStart), 1e-3);
+            double y = records.getDouble(pointStart + 8);
+            Assert.assertTrue(String.valueOf(y), y > -0.12 && y < 0.01);
+            Assert.assertEquals(0., records.getDouble(pointStart + 16), 1e-3);
+        }
+    }
+
+    /**
+     * Create settings for a dynamic unit cube at the origin.
+     *
+     * @return new settings (not null)
+     */
+    private static BodyCreationSettings newBox() {
+        BodyCreationSettings result = new BodyCreationSettings(
+                new BoxShape(0.5f), new RVec3(), new Quat(),
+                EMotionType.Dynamic, TestUtils.objLayerMoving);
+        return result;
+    }
+
+    /**
+     * Create settings for a static floor whose top surface is at y=0.
+     *
+     * @return new settings (not null)
+     */
+    private static BodyCreationSettings newFloor() {
+        BodyCreationSettings result = new BodyCreationSettings(
+                new BoxShape(10f, 1f, 10f), new RVec3(0., -1., 0.),
+                new Quat(), EMotionType.Static, TestUtils.objLayerNonMoving);
+        return result;
+    }
+}
@@ -0,0 +1,145 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.AllHitCastRayCollector;
+import com.github.stephengold.joltjni.BodyCreationSettings;
+import com.github.stephengold.joltjni.BodyFilter;
+import com.github.stephengold.joltjni.BodyIdSetFilter;
+import com.github.stephengold.joltjni.BodyInterface;
+import com.github.stephengold.joltjni.BoxShape;
+import com.github.stephengold.joltjni.BroadPhaseLayerFilter;
+import com.github.stephengold.joltjni.CompositeBodyFilter;
+import com.github.stephengold.joltjni.ObjectLayerFilter;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.Quat;
+import com.github.stephengold.joltjni.RRayCast;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.RayCastSettings;
+import com.github.stephengold.joltjni.UserDataBodyFilter;
+import com.github.stephengold.joltjni.Vec3;
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import com.github.stephengold.joltjni.enumerate.EMotionType;
+import com.github.stephengold.joltjni.readonly.ConstNarrowPhaseQuery;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for the natively evaluated body filters.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class BodyFilterTest {
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Test body filters by casting a ray through a row of boxes.
+     */
+    @Test
+    public void testBodyFilters() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        // 3 boxes along the X axis, with user data 1, 2, and 3:
+        PhysicsSystem physicsSystem = TestUtils.newPhysicsSystem(10);
+        BodyInterface bodyInterface = physicsSystem.getBodyInterface();
+        BoxShape shape = new BoxShape(1f);
+        int[] ids = new int[3];
+        for (int i = 0; i < 3; ++i) {
+            BodyCreationSettings bcs = new BodyCreationSettings(shape,
+                    new RVec3(3. * i, 0., 0.), new Quat(), EMotionType.Static,
+                    TestUtils.objLayerNonMoving);
+            bcs.setUserData(i + 1);
+            ids[i] = bodyInterface.createAndAddBody(
+                    bcs, EActivation.DontActivate);
+            TestUtils.testClose(bcs);
+        }
+        ConstNarrowPhaseQuery query = physicsSystem.getNarrowPhaseQuery();
+
+        BodyIdSetFilter exclude1 = new BodyIdSetFilter(true);
+        exclude1.add(ids[1]);
+        Assert.assertTrue(exclude1.contains(ids[1]));
+        Assert.assertFalse(exclude1.shouldCollide(ids[1]));
+        Assert.assertTrue(exclude1.shouldCollide(ids[0]));
+        Assert.assertEquals(2, countHits(query, exclude1));
+
+        BodyIdSetFilter include01 = new BodyIdSetFilter(false);
+        include01.add(ids[0]);
+        include01.add(ids[1]);
+        Assert.assertEquals(2, countHits(query, include01));
+
+        UserDataBodyFilter odd = new UserDataBodyFilter(1L, 1L);
+        Assert.assertEquals(2, countHits(query, odd));
+
+        CompositeBodyFilter and = new CompositeBodyFilter(true, include01, odd);
+        Assert.assertEquals(1, countHits(query, and));
+
+        CompositeBodyFilter or = new CompositeBodyFilter(false, include01, odd);
+        Assert.assertEquals(3, countHits(query, or));
+
+        CompositeBodyFilter notOdd = new CompositeBodyFilter(true, true);
+        notOdd.add(odd);
+        Assert.assertEquals(1, countHits(query, notOdd));
+
+        // Composites nest:
+        CompositeBodyFilter nested
+                = new CompositeBodyFilter(true, exclude1, or);
+        Assert.assertEquals(2, countHits(query, nested));
+
+        // An empty OR rejects everything:
+        or.clear();
+        Assert.assertEquals(0, or.countChildren());
+        Assert.assertEquals(0, countHits(query, or));
+
+        TestUtils.testClose(
+                nested, notOdd, or, and, odd, include01, exclude1);
+        TestUtils.cleanupPhysicsSystem(physicsSystem);
+        TestUtils.cleanup();
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Cast a ray through all 3 boxes and count the hits that pass the
+     * specified filter.
+     *
+     * @param query the query interface to use (not null)
+     * @param filter the body filter to apply (not null)
+     * @return the number of hits (&ge;0)
+     */
+    private static int countHits(
+            ConstNarrowPhaseQuery query, BodyFilter filter) {
+        RRayCast ray = new RRayCast(
+                new RVec3(-5., 0., 0.), new Vec3(20f, 0f, 0f));
+        RayCastSettings settings = new RayCastSettings();
+        AllHitCastRayCollector collector = new AllHitCastRayCollector();
+        BroadPhaseLayerFilter bplFilter = new BroadPhaseLayerFilter();
+        ObjectLayerFilter olFilter = new ObjectLayerFilter();
+        query.castRay(ray, settings, collector, bplFilter, olFilter, filter);
+        int result = collector.countHits();
+        TestUtils.testClose(olFilter, bplFilter, collector, settings, ray);
+
+        return result;
+    }
+}
@@ -0,0 +1,264 @@
+/*
+Copyright (c) 2025 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.BodyCreationSettings;
+import com.github.stephengold.joltjni.BodyIdArray;
+import com.github.stephengold.joltjni.BodyIdVector;
+import com.github.stephengold.joltjni.BodyInterface;
+import com.github.stephengold.joltjni.Jolt;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.Quat;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.SphereShape;
+import com.github.stephengold.joltjni.Vec3;
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import com.github.stephengold.joltjni.enumerate.EBodyType;
+import com.github.stephengold.joltjni.enumerate.EMotionType;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for the bulk body-state methods of
+ * {@code BodyInterface}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class BodyStatesTest {
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Test bulk export of body states.
+     */
+    @Test
+    public void testGetBodyStates() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        PhysicsSystem physicsSystem = TestUtils.newPhysicsSystem(100);
+        BodyInterface bodyInterface = physicsSystem.getBodyInterface();
+
+        final int numBodies = 3;
+        BodyIdArray ids = createBodies(bodyInterface, numBodies);
+        testGetBodyStates(bodyInterface, ids, numBodies);
+
+        BodyIdVector active = new BodyIdVector();
+        physicsSystem.getActiveBodies(EBodyType.RigidBody, active);
+        Assert.assertEquals(numBodies, active.size());
+        int stride = BodyInterface.stateStride(BodyInterface.cStateRotation);
+        Assert.assertEquals(4, stride);
+        FloatBuffer floats = Jolt.newDirectFloatBuffer(numBodies * stride);
+        bodyInterface.getBodyStates(
+                active, BodyInterface.cStateRotation, floats);
+        for (int i = 0; i < numBodies; ++i) {
+            // Each body has the identity rotation:
+            int base = i * stride;
+            Assert.assertEquals(0f, floats.get(base), 0f);
+            Assert.assertEquals(0f, floats.get(base + 1), 0f);
+            Assert.assertEquals(0f, floats.get(base + 2), 0f);
+            Assert.assertEquals(1f, floats.get(base + 3), 0f);
+        }
+
+        TestUtils.testClose(active, ids);
+        TestUtils.cleanupPhysicsSystem(physicsSystem);
+        TestUtils.cleanup();
+    }
+
+    /**
+     * Test bulk import of body states.
+     */
+    @Test
+    public void testSetBodyStates() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        PhysicsSystem physicsSystem = TestUtils.newPhysicsSystem(100);
+        BodyInterface bodyInterface = physicsSystem.getBodyInterface();
+
+        final int numBodies = 2;
+        BodyIdArray ids = createBodies(bodyInterface, numBodies);
+
+        int mask = BodyInterface.cStatePosition
+                | BodyInterface.cStateLinearVelocity;
+        int stride = BodyInterface.stateStride(mask);
+        DoubleBuffer doubles = Jolt.newDirectDoubleBuffer(numBodies * stride);
+        for (int i = 0; i < numBodies; ++i) {
+            doubles.put(5.0 + i).put(1.0).put(-2.0); // position
+            doubles.put(0.0).put(0.0).put(3.0 * i); // linear velocity
+        }
+        bodyInterface.setBodyStates(ids, numBodies, mask, doubles, 0f,
+                EActivation.DontActivate);
+
+        for (int i = 0; i < numBodies; ++i) {
+            int bodyId = ids.get(i);
+            RVec3 pos = bodyInterface.getPosition(bodyId);
+            Assert.assertEquals(5.0 + i, pos.xx(), 1e-6);
+            Assert.assertEquals(1.0, pos.yy(), 1e-6);
+            Assert.assertEquals(-2.0, pos.zz(), 1e-6);
+            Vec3 vel = bodyInterface.getLinearVelocity(bodyId);
+            Assert.assertEquals(3f * i, vel.getZ(), 1e-6f);
+        }
+
+        try {
+            bodyInterface.setBodyStates(ids, numBodies,
+                    BodyInterface.cStatePosition
+                    | BodyInterface.cStateMoveKinematic,
+                    doubles, 1f, EActivation.Activate);
+            Assert.fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException exception) {
+            // expected
+        }
+
+        // Bits outside cStateAllImport are rejected:
+        Assert.assertEquals(0x7f, BodyInterface.cStateAllImport);
+        try {
+            bodyInterface.setBodyStates(ids, numBodies, mask | 0x80, doubles,
+                    0f, EActivation.DontActivate);
+            Assert.fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException exception) {
+            // expected
+        }
+
+        // The buffer is large enough, but the ID array is too short:
+        DoubleBuffer large
+                = Jolt.newDirectDoubleBuffer((numBodies + 1) * stride);
+        try {
+            bodyInterface.setBodyStates(ids, numBodies + 1, mask, large, 0f,
+                    EActivation.DontActivate);
+            Assert.fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException exception) {
+            // expected
+        }
+        try {
+            bodyInterface.setBodyStates(ids, -1, mask, doubles, 0f,
+                    EActivation.DontActivate);
+            Assert.fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException exception) {
+            // expected
+        }
+
+        TestUtils.testClose(ids);
+        TestUtils.cleanupPhysicsSystem(physicsSystem);
+        TestUtils.cleanup();
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Create some dynamic spheres, each with a distinct location and linear
+     * velocity, and add them to the world.
+     *
+     * @param bodyInterface the interface to use (not null)
+     * @param numBodies the number of bodies to create (&ge;0)
+     * @return a new array of body IDs
+     */
+    private static BodyIdArray createBodies(
+            BodyInterface bodyInterface, int numBodies) {
+        BodyIdArray result = new BodyIdArray(numBodies);
+        SphereShape shape = new SphereShape(0.5f);
+        for (int i = 0; i < numBodies; ++i) {
+            RVec3 pos = new RVec3(i * 2f, 10f, 0f);
+            BodyCreationSettings settings = new BodyCreationSettings(
+                    shape, pos, new Quat(), EMotionType.Dynamic,
+                    TestUtils.objLayerMoving);
+            settings.setLinearVelocity(new Vec3(0f, i, 0f));
+            int bodyId = bodyInterface.createAndAddBody(
+                    settings, EActivation.Activate);
+            result.set(i, bodyId);
+            TestUtils.testClose(settings);
+        }
+        TestUtils.testClose(shape);
+
+        return result;
+    }
+
+    /**
+     * Verify the results of {@code getBodyStates()} against the per-body
+     * getters.
+     *
+     * @param bodyInterface the interface to test (not null)
+     * @param ids the IDs of the bodies to query (not null, unaffected)
+     * @param numBodies the number of bodies to query (&ge;0)
+     */
+    private static void testGetBodyStates(
+            BodyInterface bodyInterface, BodyIdArray ids, int numBodies) {
+        int mask = BodyInterface.cStateAll;
+        int stride = BodyInterface.stateStride(mask);
+        Assert.assertEquals(13, stride);
+
+        DoubleBuffer doubles = Jolt.newDirectDoubleBuffer(numBodies * stride);
+        bodyInterface.getBodyStates(ids, numBodies, mask, doubles);
+        for (int i = 0; i < numBodies; ++i) {
+            int bodyId = ids.get(i);
+            RVec3 pos = bodyInterface.getPosition(bodyId);
+            Vec3 vel = bodyInterface.getLinearVelocity(bodyId);
+            int base = i * stride;
+            Assert.assertEquals(pos.xx(), doubles.get(base), 0.0);
+            Assert.assertEquals(pos.yy(), doubles.get(base + 1), 0.0);
+            Assert.assertEquals(pos.zz(), doubles.get(base + 2), 0.0);
+            Assert.assertEquals(1.0, doubles.get(base + 6), 1e-6); // qw
+            Assert.assertEquals(vel.getY(), doubles.get(base + 8), 0.0);
+        }
+
+        mask = BodyInterface.cStateLinearVelocity;
+        stride = BodyInterface.stateStride(mask);
+        Assert.assertEquals(3, stride);
+        FloatBuffer floats = Jolt.newDirectFloatBuffer(numBodies * stride);
+        bodyInterface.getBodyStates(ids, numBodies, mask, floats);
+        for (int i = 0; i < numBodies; ++i) {
+            Assert.assertEquals(i, floats.get(i * stride + 1), 0f);
+        }
+
+        try {
+            bodyInterface.getBodyStates(ids, numBodies,
+                    BodyInterface.cStateAll, floats);
+            Assert.fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException exception) {
+            // expected
+        }
+        // The buffer is large enough, but the ID array is too short:
+        FloatBuffer large = Jolt.newDirectFloatBuffer((numBodies + 1) * stride);
+        try {
+            bodyInterface.getBodyStates(ids, numBodies + 1, mask, large);
+            Assert.fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException exception) {
+            // expected
+        }
+        try {
+            bodyInterface.getBodyStates(ids, -1, mask, floats);
+            Assert.fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException exception) {
+            // expected
+        }
+        try {
+            bodyInterface.getBodyStates(ids, numBodies, mask,
+                    FloatBuffer.allocate(numBodies * stride));
+            Assert.fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException exception) {
+            // expected
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.BodyCreationSettings;
+import com.github.stephengold.joltjni.BodyInterface;
+import com.github.stephengold.joltjni.BoxShape;
+import com.github.stephengold.joltjni.BroadPhaseQuery;
+import com.github.stephengold.joltjni.Jolt;
+import com.github.stephengold.joltjni.JobSystem;
+import com.github.stephengold.joltjni.JobSystemThreadPool;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.Quat;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import com.github.stephengold.joltjni.enumerate.EMotionType;
+import com.github.stephengold.joltjni.readonly.ConstBroadPhaseQuery;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for the batched overlap queries of
+ * {@code BroadPhaseQuery}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class BroadPhaseBatchTest {
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Test batched box and sphere overlaps.
+     */
+    @Test
+    public void testOverlapBatches() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        // 3 unit boxes centered at x=0, 3, and 6:
+        PhysicsSystem physicsSystem = TestUtils.newPhysicsSystem(10);
+        BodyInterface bodyInterface = physicsSystem.getBodyInterface();
+        BoxShape shape = new BoxShape(1f);
+        int[] ids = new int[3];
+        for (int i = 0; i < 3; ++i) {
+            BodyCreationSettings bcs = new BodyCreationSettings(shape,
+                    new RVec3(3. * i, 0., 0.), new Quat(), EMotionType.Static,
+                    TestUtils.objLayerNonMoving);
+            ids[i] = bodyInterface.createAndAddBody(
+                    bcs, EActivation.DontActivate);
+            TestUtils.testClose(bcs);
+        }
+        ConstBroadPhaseQuery query = physicsSystem.getBroadPhaseQuery();
+
+        // Query 0 overlaps all 3 boxes, query 1 only the middle one, and
+        // query 2 none:
+        final int numQueries = 3;
+        FloatBuffer boxes = Jolt.newDirectFloatBuffer(
+                numQueries * BroadPhaseQuery.cAaBoxStride);
+        boxes.put(-2f).put(-2f).put(-2f).put(8f).put(2f).put(2f);
+        boxes.put(2.5f).put(-0.5f).put(-0.5f).put(3.5f).put(0.5f).put(0.5f);
+        boxes.put(0f).put(10f).put(0f).put(1f).put(11f).put(1f);
+        FloatBuffer spheres = Jolt.newDirectFloatBuffer(
+                numQueries * BroadPhaseQuery.cSphereStride);
+        spheres.put(3f).put(0f).put(0f).put(10f);
+        spheres.put(3f).put(0f).put(0f).put(1.5f);
+        spheres.put(0f).put(10f).put(0f).put(1f);
+
+        IntBuffer storeIds = Jolt.newDirectIntBuffer(10);
+        IntBuffer ranges = Jolt.newDirectIntBuffer(
+                numQueries * BroadPhaseQuery.cRangeStride);
+        JobSystem jobSystem = new JobSystemThreadPool(
+                Jolt.cMaxPhysicsJobs, Jolt.cMaxPhysicsBarriers, 2);
+        for (JobSystem js : new JobSystem[]{null, jobSystem}) {
+            int numIds = query.collideAaBoxes(
+                    numQueries, boxes, null, storeIds, ranges, js);
+            assertRanges(ids, numIds, storeIds, ranges);
+
+            numIds = query.collideSpheres(
+                    numQueries, spheres, null, storeIds, ranges, js);
+            assertRanges(ids, numIds, storeIds, ranges);
+        }
+
+        // Layer masks that exclude the boxes' layer suppress every ID:
+        IntBuffer masks = Jolt.newDirectIntBuffer(numQueries);
+        for (int i = 0; i < numQueries; ++i) {
+            masks.put(1 << TestUtils.objLayerMoving);
+        }
+        int numIds = query.collideAaBoxes(
+                numQueries, boxes, masks, storeIds, ranges, null);
+        Assert.assertEquals(0, numIds);
+
+        // Too little storage yields the required capacity:
+        IntBuffer tooSmall = Jolt.newDirectIntBuffer(2);
+        numIds = query.collideAaBoxes(
+                numQueries, boxes, null, tooSmall, ranges, null);
+        Assert.assertEquals(4, numIds);
+        Assert.assertEquals(-1, ranges.get(0));
+        Assert.assertEquals(3, ranges.get(1));
+
+        // A query count whose buffer sizes overflow an int is rejected:
+        try {
+            query.collideAaBoxes(1 << 30, boxes, null, storeIds, ranges, null);
+            Assert.fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException exception) {
+            // expected
+        }
+
+        TestUtils.testClose(jobSystem);
+        TestUtils.cleanupPhysicsSystem(physicsSystem);
+        TestUtils.cleanup();
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Verify the output of a batch whose 1st query overlaps all 3 boxes, 2nd
+     * query overlaps only the middle box, and 3rd query overlaps none.
+     *
+     * @param ids the IDs of the boxes (not null, unaffected)
+     * @param numIds the value returned by the batch
+     * @param storeIds the ID buffer (not null, unaffected)
+     * @param ranges the range buffer (not null, unaffected)
+     */
+    private static void assertRanges(
+            int[] ids, int numIds, IntBuffer storeIds, IntBuffer ranges) {
+        Assert.assertEquals(4, numIds);
+        Assert.assertEquals(3, ranges.get(1));
+        Assert.assertEquals(1, ranges.get(3));
+        Assert.assertEquals(0, ranges.get(5));
+
+        int offset0 = ranges.get(0);
+        boolean[] found = new boolean[3];
+        for (int i = 0; i < 3; ++i) {
+            int id = storeIds.get(offset0 + i);
+            for (int j = 0; j < 3; ++j) {
+                found[j] |= (id == ids[j]);
+            }
+        }
+        Assert.assertTrue(found[0] && found[1] && found[2]);
+        Assert.assertEquals(ids[1], storeIds.get(ranges.get(2)));
+    }
+}
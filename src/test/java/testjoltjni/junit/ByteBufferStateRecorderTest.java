@@ -0,0 +1,139 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.BodyCreationSettings;
+import com.github.stephengold.joltjni.BodyInterface;
+import com.github.stephengold.joltjni.ByteBufferStateRecorder;
+import com.github.stephengold.joltjni.Jolt;
+import com.github.stephengold.joltjni.JobSystemThreadPool;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.Quat;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.SphereShape;
+import com.github.stephengold.joltjni.StateRecorderImpl;
+import com.github.stephengold.joltjni.TempAllocator;
+import com.github.stephengold.joltjni.TempAllocatorMalloc;
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import com.github.stephengold.joltjni.enumerate.EMotionType;
+import java.nio.ByteBuffer;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for {@code ByteBufferStateRecorder}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class ByteBufferStateRecorderTest {
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Test saving to and restoring from a direct buffer.
+     */
+    @Test
+    public void testSaveRestore() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        PhysicsSystem physicsSystem = TestUtils.newPhysicsSystem(10);
+        BodyInterface bodyInterface = physicsSystem.getBodyInterface();
+        BodyCreationSettings bcs = new BodyCreationSettings(
+                new SphereShape(1f), new RVec3(0., 10., 0.), new Quat(),
+                EMotionType.Dynamic, TestUtils.objLayerMoving);
+        int bodyId = bodyInterface.createAndAddBody(bcs, EActivation.Activate);
+
+        // A buffer that's too small reports the size required:
+        ByteBufferStateRecorder recorder
+                = new ByteBufferStateRecorder(Jolt.newDirectByteBuffer(16));
+        physicsSystem.saveState(recorder);
+        Assert.assertTrue(recorder.isFailed());
+        int numBytes = (int) recorder.countBytes();
+        Assert.assertTrue(numBytes > 16);
+
+        // Save into a region in the middle of a larger buffer:
+        ByteBuffer buffer = Jolt.newDirectByteBuffer(numBytes + 100);
+        buffer.position(50);
+        recorder.setBuffer(buffer);
+        physicsSystem.saveState(recorder);
+        Assert.assertFalse(recorder.isFailed());
+        Assert.assertEquals(numBytes, recorder.countBytes());
+        Assert.assertEquals(50, buffer.position());
+
+        // The recorded bytes match those of StateRecorderImpl:
+        StateRecorderImpl impl = new StateRecorderImpl();
+        physicsSystem.saveState(impl);
+        byte[] expected = impl.getData();
+        Assert.assertEquals(expected.length, numBytes);
+        for (int i = 0; i < numBytes; ++i) {
+            Assert.assertEquals(expected[i], buffer.get(50 + i));
+        }
+
+        TempAllocator allocator = new TempAllocatorMalloc();
+        JobSystemThreadPool jobSystem = new JobSystemThreadPool(
+                Jolt.cMaxPhysicsJobs, Jolt.cMaxPhysicsBarriers, 1);
+        RVec3 saved = bodyInterface.getPosition(bodyId);
+        physicsSystem.update(0.1f, 1, allocator, jobSystem);
+        Assert.assertNotEquals(
+                saved.yy(), bodyInterface.getPosition(bodyId).yy(), 0.);
+
+        // Restore from a slice containing exactly the recorded data:
+        ByteBuffer slice = buffer.duplicate();
+        slice.limit(50 + numBytes);
+        recorder.setData(slice.slice());
+        Assert.assertTrue(physicsSystem.restoreState(recorder));
+        Assert.assertEquals(
+                saved.yy(), bodyInterface.getPosition(bodyId).yy(), 0.);
+
+        // A 2nd restore needs only a rewind:
+        physicsSystem.update(0.1f, 1, allocator, jobSystem);
+        recorder.rewind();
+        Assert.assertTrue(physicsSystem.restoreState(recorder));
+        Assert.assertEquals(
+                saved.yy(), bodyInterface.getPosition(bodyId).yy(), 0.);
+
+        try {
+            recorder.setBuffer(ByteBuffer.allocate(10));
+            Assert.fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException exception) {
+            // expected
+        }
+
+        // A read-only buffer can be read from but not recorded into:
+        ByteBuffer readOnly = buffer.asReadOnlyBuffer();
+        try {
+            recorder.setBuffer(readOnly);
+            Assert.fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException exception) {
+            // expected
+        }
+        readOnly.limit(50 + numBytes);
+        recorder.setData(readOnly.slice());
+        Assert.assertTrue(physicsSystem.restoreState(recorder));
+
+        TestUtils.testClose(recorder, impl, jobSystem, allocator, bcs);
+        TestUtils.cleanupPhysicsSystem(physicsSystem);
+        TestUtils.cleanup();
+    }
+}
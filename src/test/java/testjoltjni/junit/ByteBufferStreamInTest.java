@@ -0,0 +1,161 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.BodyCreationSettings;
+import com.github.stephengold.joltjni.BoxShape;
+import com.github.stephengold.joltjni.ByteBufferStreamIn;
+import com.github.stephengold.joltjni.Jolt;
+import com.github.stephengold.joltjni.PhysicsScene;
+import com.github.stephengold.joltjni.PhysicsSceneRef;
+import com.github.stephengold.joltjni.PhysicsSceneResult;
+import com.github.stephengold.joltjni.Quat;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.SphereShape;
+import com.github.stephengold.joltjni.StreamOutWrapper;
+import com.github.stephengold.joltjni.enumerate.EMotionType;
+import com.github.stephengold.joltjni.std.OfStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for {@code ByteBufferStreamIn}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class ByteBufferStreamInTest {
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Test restoring a saved scene from a mapped file and from a direct buffer.
+     *
+     * @throws IOException if the temporary file can't be written or read
+     */
+    @Test
+    public void testRestoreScene() throws IOException {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        PhysicsSceneRef scene = new PhysicsScene().toRef();
+        BodyCreationSettings bcs = new BodyCreationSettings(
+                new BoxShape(2f), new RVec3(0., -2., 0.), new Quat(),
+                EMotionType.Static, TestUtils.objLayerNonMoving);
+        scene.addBody(bcs);
+        bcs.setShape(new SphereShape(0.5f));
+        bcs.setMotionType(EMotionType.Dynamic);
+        bcs.setObjectLayer(TestUtils.objLayerMoving);
+        for (int i = 0; i < 5; ++i) {
+            bcs.setPosition(0., i + 1., 0.);
+            scene.addBody(bcs);
+        }
+
+        Path path = Files.createTempFile("scene", ".bin");
+        String fileName = path.toString();
+        OfStream file = new OfStream(fileName,
+                StreamOutWrapper.out() | StreamOutWrapper.binary()
+                | StreamOutWrapper.trunc());
+        StreamOutWrapper streamOut = new StreamOutWrapper(file);
+        scene.saveBinaryState(streamOut, true, true);
+        file.closeStream();
+
+        // Restore from a memory-mapped file:
+        ByteBufferStreamIn mappedIn = ByteBufferStreamIn.open(fileName);
+        Assert.assertNotNull(mappedIn);
+        int numBytes = mappedIn.getBuffer().remaining();
+        Assert.assertEquals(Files.size(path), numBytes);
+        assertRestores(mappedIn, 6);
+        Assert.assertEquals(numBytes, mappedIn.countBytesRead());
+        Assert.assertFalse(mappedIn.isEof());
+
+        // Restore again after rewinding:
+        mappedIn.rewind();
+        Assert.assertEquals(0L, mappedIn.countBytesRead());
+        assertRestores(mappedIn, 6);
+
+        // Restore from a slice in the middle of a larger direct buffer:
+        byte[] bytes = Files.readAllBytes(path);
+        ByteBuffer buffer = Jolt.newDirectByteBuffer(numBytes + 20);
+        buffer.position(10);
+        buffer.put(bytes);
+        buffer.position(10);
+        buffer.limit(10 + numBytes);
+        ByteBufferStreamIn bufferIn = new ByteBufferStreamIn(buffer);
+        assertRestores(bufferIn, 6);
+        Assert.assertEquals(10, buffer.position());
+
+        // Truncated data fails cleanly:
+        buffer.limit(10 + numBytes / 2);
+        bufferIn.setData(buffer);
+        PhysicsSceneResult result
+                = PhysicsScene.sRestoreFromBinaryState(bufferIn);
+        Assert.assertTrue(result.hasError());
+        Assert.assertTrue(bufferIn.isEof());
+        Assert.assertTrue(bufferIn.isFailed());
+
+        try {
+            bufferIn.setData(ByteBuffer.allocate(10));
+            Assert.fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException exception) {
+            // expected
+        }
+
+        try {
+            ByteBufferStreamIn.open(fileName + ".missing");
+            Assert.fail("Expected an UncheckedIOException");
+        } catch (UncheckedIOException exception) {
+            // expected
+        }
+
+        TestUtils.testClose(
+                result, bufferIn, mappedIn, streamOut, file, bcs, scene);
+        Files.delete(path);
+        TestUtils.cleanup();
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Restore a scene from the specified stream and verify its body count.
+     *
+     * @param stream the stream to read (not null)
+     * @param expectedNumBodies the expected number of bodies
+     */
+    private static void assertRestores(
+            ByteBufferStreamIn stream, int expectedNumBodies) {
+        PhysicsSceneResult result
+                = PhysicsScene.sRestoreFromBinaryState(stream);
+        Assert.assertFalse(result.getError(), result.hasError());
+        Assert.assertFalse(stream.isFailed());
+
+        PhysicsSceneRef restored = result.get();
+        Assert.assertEquals(expectedNumBodies, restored.getBodies().length);
+
+        TestUtils.testClose(restored, result);
+    }
+}
@@ -0,0 +1,157 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.BodyCreationSettings;
+import com.github.stephengold.joltjni.BodyInterface;
+import com.github.stephengold.joltjni.BoxShape;
+import com.github.stephengold.joltjni.InterestManager;
+import com.github.stephengold.joltjni.Jolt;
+import com.github.stephengold.joltjni.JobSystemThreadPool;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.Quat;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.TempAllocator;
+import com.github.stephengold.joltjni.TempAllocatorMalloc;
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import com.github.stephengold.joltjni.enumerate.EMotionType;
+import java.nio.IntBuffer;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for {@code InterestManager}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class InterestManagerTest {
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Test enter, leave, and moved events.
+     */
+    @Test
+    public void testEvents() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        // A static box at the origin and a falling box at x=20:
+        PhysicsSystem physicsSystem = TestUtils.newPhysicsSystem(10);
+        BodyInterface bodyInterface = physicsSystem.getBodyInterface();
+        BoxShape shape = new BoxShape(1f);
+        BodyCreationSettings bcs = new BodyCreationSettings(shape,
+                new RVec3(), new Quat(), EMotionType.Static,
+                TestUtils.objLayerNonMoving);
+        int staticId = bodyInterface.createAndAddBody(
+                bcs, EActivation.DontActivate);
+        bcs.setPosition(20., 0., 0.);
+        bcs.setMotionType(EMotionType.Dynamic);
+        bcs.setObjectLayer(TestUtils.objLayerMoving);
+        int dynamicId = bodyInterface.createAndAddBody(
+                bcs, EActivation.Activate);
+
+        final int none = Jolt.cInvalidBodyId;
+        InterestManager manager = new InterestManager(physicsSystem);
+        int observerA = manager.addObserver(new RVec3(), 5f);
+        int observerB = manager.addObserver(new RVec3(20., 0., 0.), 5f);
+        IntBuffer ids = Jolt.newDirectIntBuffer(10);
+        IntBuffer ranges = Jolt.newDirectIntBuffer(
+                2 * InterestManager.cRangeStride);
+
+        // Initially, each observer sees one body enter:
+        manager.update(null);
+        Assert.assertEquals(2, manager.copyEvents(ids, ranges));
+        assertEvents(ids, ranges, observerA, staticId, none, none);
+        assertEvents(ids, ranges, observerB, dynamicId, none, none);
+        Assert.assertEquals(1, manager.countVisible(observerA));
+
+        // After a physics step, the falling box has moved:
+        TempAllocator allocator = new TempAllocatorMalloc();
+        JobSystemThreadPool jobSystem = new JobSystemThreadPool(
+                Jolt.cMaxPhysicsJobs, Jolt.cMaxPhysicsBarriers, 2);
+        physicsSystem.update(0.01f, 1, allocator, jobSystem);
+        manager.update(jobSystem);
+        Assert.assertEquals(1, manager.copyEvents(ids, ranges));
+        assertEvents(ids, ranges, observerA, none, none, none);
+        assertEvents(ids, ranges, observerB, none, none, dynamicId);
+
+        // Moving observer A makes it lose the static box and see the other:
+        manager.setObserver(observerA, new RVec3(20., 0., 0.), 5f);
+        manager.update(null);
+        Assert.assertEquals(3, manager.copyEvents(ids, ranges));
+        assertEvents(ids, ranges, observerA, dynamicId, staticId, none);
+
+        // Too little storage yields the required capacity:
+        IntBuffer tooSmall = Jolt.newDirectIntBuffer(1);
+        Assert.assertEquals(3, manager.copyEvents(tooSmall, ranges));
+        Assert.assertEquals(-1, ranges.get(0));
+
+        // A removed observer's slot is reused:
+        manager.removeObserver(observerB);
+        Assert.assertEquals(observerB, manager.addObserver(new RVec3(), 1f));
+        Assert.assertEquals(2, manager.countSlots());
+        try {
+            manager.countVisible(5);
+            Assert.fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException exception) {
+            // expected
+        }
+
+        TestUtils.testClose(manager, jobSystem, allocator, bcs);
+        TestUtils.cleanupPhysicsSystem(physicsSystem);
+        TestUtils.cleanup();
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Verify the events of a single observer, each of which is expected to be
+     * either empty or a single body.
+     *
+     * @param ids the ID buffer (not null, unaffected)
+     * @param ranges the range buffer (not null, unaffected)
+     * @param observerId the ID of the observer to verify
+     * @param entered the body expected to enter, or {@code cInvalidBodyId}
+     * for none
+     * @param left the body expected to leave, or {@code cInvalidBodyId} for
+     * none
+     * @param moved the body expected to move, or {@code cInvalidBodyId} for
+     * none
+     */
+    private static void assertEvents(IntBuffer ids, IntBuffer ranges,
+            int observerId, int entered, int left, int moved) {
+        int[] expected = {entered, left, moved};
+        int base = observerId * InterestManager.cRangeStride;
+        for (int i = 0; i < 3; ++i) {
+            int offset = ranges.get(base + 2 * i);
+            int count = ranges.get(base + 2 * i + 1);
+            if (expected[i] == Jolt.cInvalidBodyId) {
+                Assert.assertEquals(0, count);
+            } else {
+                Assert.assertEquals(1, count);
+                Assert.assertEquals(expected[i], ids.get(offset));
+            }
+        }
+    }
+}
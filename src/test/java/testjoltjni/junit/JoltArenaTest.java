@@ -0,0 +1,135 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.BodyCreationSettings;
+import com.github.stephengold.joltjni.BodyInterface;
+import com.github.stephengold.joltjni.BoxShape;
+import com.github.stephengold.joltjni.JoltArena;
+import com.github.stephengold.joltjni.Mat44;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.Quat;
+import com.github.stephengold.joltjni.RMat44;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import com.github.stephengold.joltjni.enumerate.EMotionType;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for {@code JoltArena}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class JoltArenaTest {
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Test that temporaries are owned by the innermost arena and freed when
+     * it closes.
+     */
+    @Test
+    public void testArena() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        PhysicsSystem physicsSystem = TestUtils.newPhysicsSystem(10);
+        BodyInterface bodyInterface = physicsSystem.getBodyInterface();
+        BodyCreationSettings bcs = new BodyCreationSettings(new BoxShape(1f),
+                new RVec3(1., 2., 3.), new Quat(), EMotionType.Static,
+                TestUtils.objLayerNonMoving);
+        int bodyId = bodyInterface.createAndAddBody(
+                bcs, EActivation.DontActivate);
+        Assert.assertNull(JoltArena.current());
+
+        RMat44 inner;
+        RMat44 outer;
+        JoltArena arena = JoltArena.open();
+        try {
+            Assert.assertSame(arena, JoltArena.current());
+            outer = bodyInterface.getCenterOfMassTransform(bodyId);
+            Assert.assertTrue(outer.ownsNativeObject());
+            Assert.assertEquals(2., outer.getTranslation().yy(), 0.);
+
+            try (JoltArena nested = JoltArena.open()) {
+                inner = bodyInterface.getCenterOfMassTransform(bodyId);
+                Assert.assertEquals(1, nested.countObjects());
+                try {
+                    arena.close();
+                    Assert.fail("Expected an IllegalStateException");
+                } catch (IllegalStateException exception) {
+                    // expected
+                }
+            }
+            Assert.assertFalse(inner.hasAssignedNativeObject());
+            Assert.assertTrue(outer.hasAssignedNativeObject());
+            Assert.assertSame(arena, JoltArena.current());
+            Assert.assertEquals(1, arena.countObjects());
+        } finally {
+            arena.close();
+        }
+        Assert.assertFalse(outer.hasAssignedNativeObject());
+        Assert.assertNull(JoltArena.current());
+
+        // Outside any arena, temporaries are owned as before:
+        RMat44 owned = bodyInterface.getCenterOfMassTransform(bodyId);
+        Assert.assertTrue(owned.hasAssignedNativeObject());
+
+        TestUtils.testClose(owned, bcs);
+        TestUtils.cleanupPhysicsSystem(physicsSystem);
+        TestUtils.cleanup();
+    }
+
+    /**
+     * Test that objects created by constructors and static factories aren't
+     * adopted, even inside an arena.
+     */
+    @Test
+    public void testNotAdopted() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        Mat44 constructed;
+        Mat44 identity;
+        Mat44 product;
+        BodyCreationSettings bcs;
+        try (JoltArena arena = JoltArena.open()) {
+            constructed = new Mat44();
+            identity = Mat44.sIdentity();
+            bcs = new BodyCreationSettings();
+            Assert.assertEquals(0, arena.countObjects());
+
+            // The result of an operation is a temporary:
+            product = constructed.multiply(identity);
+            Assert.assertEquals(1, arena.countObjects());
+        }
+        Assert.assertFalse(product.hasAssignedNativeObject());
+        Assert.assertTrue(constructed.ownsNativeObject());
+        Assert.assertTrue(identity.ownsNativeObject());
+        Assert.assertTrue(bcs.ownsNativeObject());
+
+        TestUtils.testClose(bcs, identity, constructed);
+        TestUtils.cleanup();
+    }
+}
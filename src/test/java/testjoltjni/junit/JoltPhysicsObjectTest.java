@@ -0,0 +1,128 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.JoltPhysicsObject;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Automated JUnit4 tests for the freeing actions of {@code JoltPhysicsObject}.
+ * <p>
+ * The objects under test are assigned fake virtual addresses and freeing
+ * actions that merely count their invocations, so no native library is
+ * needed.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class JoltPhysicsObjectTest {
+    // *************************************************************************
+    // constants
+
+    /**
+     * maximum time to wait for the cleaner (in milliseconds)
+     */
+    final private static long cleanerTimeoutMillis = 10_000L;
+    /**
+     * fake virtual address for test objects
+     */
+    final private static long fakeVa = 0x1000L;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Test that {@code close()} runs the freeing action exactly once, even
+     * when invoked repeatedly.
+     */
+    @Test
+    public void testCloseIdempotent() {
+        AtomicInteger count = new AtomicInteger();
+        CountedObject object = new CountedObject(count);
+        Assert.assertTrue(object.hasAssignedNativeObject());
+        Assert.assertTrue(object.ownsNativeObject());
+
+        object.close();
+        Assert.assertEquals(1, count.get());
+        Assert.assertFalse(object.hasAssignedNativeObject());
+        Assert.assertFalse(object.ownsNativeObject());
+
+        object.close();
+        object.close();
+        Assert.assertEquals(1, count.get());
+    }
+
+    /**
+     * Test that the cleaner frees an object exactly once, whether or not it
+     * was closed before becoming unreachable.
+     */
+    @Test
+    public void testCloseThenCollect() throws InterruptedException {
+        if (!JoltPhysicsObject.isCleanerStarted()) {
+            JoltPhysicsObject.startCleaner();
+        }
+
+        // An object closed explicitly mustn't be freed again by the cleaner:
+        AtomicInteger closedCount = new AtomicInteger();
+        CountedObject closed = new CountedObject(closedCount);
+        closed.close();
+        Assert.assertEquals(1, closedCount.get());
+        closed = null;
+
+        // An object that's never closed gets freed by the cleaner:
+        AtomicInteger leakedCount = new AtomicInteger();
+        new CountedObject(leakedCount);
+
+        long deadline = System.currentTimeMillis() + cleanerTimeoutMillis;
+        while (leakedCount.get() == 0
+                && System.currentTimeMillis() < deadline) {
+            System.gc();
+            Thread.sleep(10L);
+        }
+        Assert.assertEquals(1, leakedCount.get());
+
+        // Give the cleaner more chances to misbehave:
+        for (int i = 0; i < 5; ++i) {
+            System.gc();
+            Thread.sleep(10L);
+        }
+        Assert.assertEquals(1, closedCount.get());
+        Assert.assertEquals(1, leakedCount.get());
+    }
+    // *************************************************************************
+    // private classes
+
+    /**
+     * A physics object whose freeing action counts its invocations.
+     */
+    private static class CountedObject extends JoltPhysicsObject {
+        /**
+         * Instantiate an owning object with a fake native object.
+         *
+         * @param count the counter to increment when freed (not null)
+         */
+        CountedObject(AtomicInteger count) {
+            // The action mustn't reference this object:
+            setVirtualAddress(fakeVa, count::incrementAndGet);
+        }
+    }
+}
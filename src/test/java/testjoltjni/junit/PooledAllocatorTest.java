@@ -0,0 +1,195 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.BodyCreationSettings;
+import com.github.stephengold.joltjni.BodyInterface;
+import com.github.stephengold.joltjni.BoxShape;
+import com.github.stephengold.joltjni.Jolt;
+import com.github.stephengold.joltjni.JobSystemThreadPool;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.PooledAllocator;
+import com.github.stephengold.joltjni.Quat;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.TempAllocator;
+import com.github.stephengold.joltjni.TempAllocatorMalloc;
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import com.github.stephengold.joltjni.enumerate.EMotionType;
+import java.io.File;
+import java.io.IOException;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for {@code PooledAllocator}.
+ * <p>
+ * The pooled allocator can only be installed before any other Jolt function
+ * is called, so {@code testPooledSteps()} runs its checks in a forked JVM.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class PooledAllocatorTest {
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Simulate a few steps with the pooled allocator registered, in a forked
+     * JVM, and verify its statistics there.
+     *
+     * @throws IOException if the JVM couldn't be started
+     * @throws InterruptedException if interrupted while waiting for the JVM
+     */
+    @Test
+    public void testPooledSteps() throws IOException, InterruptedException {
+        String javaHome = System.getProperty("java.home");
+        String java = javaHome + File.separator + "bin" + File.separator
+                + "java";
+        String classPath = System.getProperty("java.class.path");
+        ProcessBuilder builder = new ProcessBuilder(java, "-ea", "-cp",
+                classPath, PooledSteps.class.getName());
+        builder.inheritIO();
+
+        Process process = builder.start();
+        int exitCode = process.waitFor();
+        Assert.assertEquals("exit code of the forked JVM", 0, exitCode);
+    }
+
+    /**
+     * Test the size classes and argument checking.
+     */
+    @Test
+    public void testSizeClasses() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        Assert.assertFalse(PooledAllocator.isRegistered());
+        int numClasses = PooledAllocator.countSizeClasses();
+        Assert.assertTrue(numClasses > 0);
+
+        int previousSize = 0;
+        for (int sizeClass = 0; sizeClass < numClasses; ++sizeClass) {
+            int size = PooledAllocator.getClassSize(sizeClass);
+            Assert.assertTrue(size > previousSize);
+            Assert.assertEquals(0, size % 16);
+            Assert.assertEquals(0L, PooledAllocator.countLiveBlocks(sizeClass));
+            previousSize = size;
+        }
+        Assert.assertEquals(0L, PooledAllocator.bytesInUse());
+
+        try {
+            PooledAllocator.getClassSize(numClasses);
+            Assert.fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException exception) {
+            // expected
+        }
+
+        TestUtils.cleanup();
+    }
+    // *************************************************************************
+    // private classes
+
+    /**
+     * Console application that registers the pooled allocator, simulates a
+     * few steps, and verifies the allocator's statistics. It exits with a
+     * non-zero status if a check fails.
+     */
+    public static class PooledSteps {
+        /**
+         * Main entry point for the forked JVM.
+         *
+         * @param arguments array of command-line arguments (not null)
+         */
+        public static void main(String... arguments) {
+            TestUtils.loadNativeLibrary();
+            Jolt.registerPooledAllocator();
+            Jolt.installDefaultAssertCallback();
+            Jolt.installJavaTraceCallback(System.err);
+            boolean success = Jolt.newFactory();
+            Assert.assertTrue(success);
+            Jolt.registerTypes();
+            Assert.assertTrue(PooledAllocator.isRegistered());
+
+            // Note the baseline before any physics objects exist:
+            int numClasses = PooledAllocator.countSizeClasses();
+            long[] baseline = new long[numClasses];
+            for (int sizeClass = 0; sizeClass < numClasses; ++sizeClass) {
+                baseline[sizeClass]
+                        = PooledAllocator.countLiveBlocks(sizeClass);
+            }
+            long baselineBytes = PooledAllocator.bytesInUse();
+            long baselineLarge = PooledAllocator.countLargeBlocks();
+
+            PhysicsSystem physicsSystem = TestUtils.newPhysicsSystem(100);
+            BodyInterface bodyInterface = physicsSystem.getBodyInterface();
+            BodyCreationSettings floor = new BodyCreationSettings(
+                    new BoxShape(10f, 1f, 10f), new RVec3(0., -1., 0.),
+                    new Quat(), EMotionType.Static,
+                    TestUtils.objLayerNonMoving);
+            bodyInterface.createAndAddBody(floor, EActivation.DontActivate);
+            BodyCreationSettings box = new BodyCreationSettings(
+                    new BoxShape(0.5f), new RVec3(), new Quat(),
+                    EMotionType.Dynamic, TestUtils.objLayerMoving);
+            for (int i = 0; i < 10; ++i) {
+                box.setPosition(new RVec3(0., 0.5 + 1.1 * i, 0.));
+                bodyInterface.createAndAddBody(box, EActivation.Activate);
+            }
+
+            TempAllocator tempAllocator = new TempAllocatorMalloc();
+            JobSystemThreadPool jobSystem = new JobSystemThreadPool(
+                    Jolt.cMaxPhysicsJobs, Jolt.cMaxPhysicsBarriers,
+                    TestUtils.numThreads());
+            for (int step = 0; step < 10; ++step) {
+                physicsSystem.update(1f / 60f, 1, tempAllocator, jobSystem);
+            }
+
+            // Small blocks were pooled and large ones passed through:
+            long pooledBytes = 0L;
+            for (int sizeClass = 0; sizeClass < numClasses; ++sizeClass) {
+                long numLive = PooledAllocator.countLiveBlocks(sizeClass);
+                int blockSize = PooledAllocator.getClassSize(sizeClass);
+                pooledBytes += numLive * blockSize;
+            }
+            Assert.assertTrue(pooledBytes > 0L);
+            Assert.assertTrue(PooledAllocator.countLargeBlocks()
+                    > baselineLarge);
+            long bytesInUse = PooledAllocator.bytesInUse();
+            Assert.assertTrue(bytesInUse > pooledBytes);
+            Assert.assertTrue(PooledAllocator.peakBytes() >= bytesInUse);
+
+            // Once the physics objects are freed, the counts return:
+            TestUtils.testClose(jobSystem, tempAllocator, box, floor);
+            TestUtils.cleanupPhysicsSystem(physicsSystem);
+            for (int sizeClass = 0; sizeClass < numClasses; ++sizeClass) {
+                Assert.assertEquals("live blocks in class " + sizeClass,
+                        baseline[sizeClass],
+                        PooledAllocator.countLiveBlocks(sizeClass));
+            }
+            Assert.assertEquals(
+                    baselineLarge, PooledAllocator.countLargeBlocks());
+            Assert.assertEquals(baselineBytes, PooledAllocator.bytesInUse());
+
+            Jolt.unregisterTypes();
+            Jolt.destroyFactory();
+        }
+    }
+}
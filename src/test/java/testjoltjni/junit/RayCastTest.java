@@ -0,0 +1,258 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.AllHitCastRayCollector;
+import com.github.stephengold.joltjni.AllHitCollidePointCollector;
+import com.github.stephengold.joltjni.BodyCreationSettings;
+import com.github.stephengold.joltjni.BodyInterface;
+import com.github.stephengold.joltjni.BoxShape;
+import com.github.stephengold.joltjni.CollidePointHitCursor;
+import com.github.stephengold.joltjni.Jolt;
+import com.github.stephengold.joltjni.JobSystem;
+import com.github.stephengold.joltjni.JobSystemThreadPool;
+import com.github.stephengold.joltjni.NarrowPhaseQuery;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.Quat;
+import com.github.stephengold.joltjni.RRayCast;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.RayCastHitCursor;
+import com.github.stephengold.joltjni.RayCastResult;
+import com.github.stephengold.joltjni.RayCastSettings;
+import com.github.stephengold.joltjni.Vec3;
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import com.github.stephengold.joltjni.enumerate.EMotionType;
+import com.github.stephengold.joltjni.readonly.ConstNarrowPhaseQuery;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for the allocation-free raycast methods of
+ * {@code NarrowPhaseQuery} and for hit cursors.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class RayCastTest {
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Test batched raycasts.
+     */
+    @Test
+    public void testCastRays() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        PhysicsSystem physicsSystem = TestUtils.newPhysicsSystem(10);
+        int boxId = createBox(physicsSystem.getBodyInterface());
+        ConstNarrowPhaseQuery query = physicsSystem.getNarrowPhaseQuery();
+
+        // Even-numbered rays point down onto the box, odd ones miss it:
+        final int numRays = 200;
+        DoubleBuffer rays = Jolt.newDirectDoubleBuffer(
+                numRays * NarrowPhaseQuery.cRayStride);
+        for (int i = 0; i < numRays; ++i) {
+            double x = (i % 2 == 0) ? 0. : 5.;
+            rays.put(x).put(5.).put(0.).put(0.).put(-10.).put(0.);
+        }
+        ByteBuffer hits = Jolt.newDirectByteBuffer(
+                numRays * NarrowPhaseQuery.cRayHitStride);
+
+        JobSystem jobSystem = new JobSystemThreadPool(
+                Jolt.cMaxPhysicsJobs, Jolt.cMaxPhysicsBarriers, 2);
+        for (JobSystem js : new JobSystem[]{null, jobSystem}) {
+            int numHits = query.castRays(numRays, rays, null, hits, js);
+            Assert.assertEquals(numRays / 2, numHits);
+
+            for (int i = 0; i < numRays; ++i) {
+                int base = i * NarrowPhaseQuery.cRayHitStride;
+                float fraction = hits.getFloat(
+                        base + NarrowPhaseQuery.cRayHitFractionOffset);
+                int bodyId = hits.getInt(
+                        base + NarrowPhaseQuery.cRayHitBodyIdOffset);
+                float ny = hits.getFloat(
+                        base + NarrowPhaseQuery.cRayHitNormalOffset + 4);
+                if (i % 2 == 0) {
+                    Assert.assertEquals(boxId, bodyId);
+                    Assert.assertEquals(0.4f, fraction, 1e-5f);
+                    Assert.assertEquals(1f, ny, 1e-5f);
+                } else {
+                    Assert.assertEquals(Jolt.cInvalidBodyId, bodyId);
+                    Assert.assertTrue(fraction > 1f);
+                    Assert.assertEquals(0f, ny, 0f);
+                }
+            }
+        }
+
+        // Layer masks that exclude the box's layer suppress every hit:
+        IntBuffer masks = Jolt.newDirectIntBuffer(numRays);
+        for (int i = 0; i < numRays; ++i) {
+            masks.put(1 << TestUtils.objLayerMoving);
+        }
+        int numHits = query.castRays(numRays, rays, masks, hits, jobSystem);
+        Assert.assertEquals(0, numHits);
+
+        // A ray count whose buffer sizes overflow an int is rejected:
+        try {
+            query.castRays(1 << 29, rays, null, hits, null);
+            Assert.fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException exception) {
+            // expected
+        }
+
+        TestUtils.testClose(jobSystem);
+        TestUtils.cleanupPhysicsSystem(physicsSystem);
+        TestUtils.cleanup();
+    }
+
+    /**
+     * Test raycasts specified by primitives.
+     */
+    @Test
+    public void testCastRayPrimitive() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        PhysicsSystem physicsSystem = TestUtils.newPhysicsSystem(10);
+        int boxId = createBox(physicsSystem.getBodyInterface());
+        ConstNarrowPhaseQuery query = physicsSystem.getNarrowPhaseQuery();
+
+        // Cast downward onto the top of the box:
+        RayCastResult hit = new RayCastResult();
+        boolean found = query.castRay(0., 5., 0., 0f, -10f, 0f, hit);
+        Assert.assertTrue(found);
+        Assert.assertEquals(boxId, hit.getBodyId());
+        Assert.assertEquals(0.4f, hit.getFraction(), 1e-5f);
+
+        // Compare with the RRayCast path:
+        RRayCast ray = new RRayCast(
+                new RVec3(0., 5., 0.), new Vec3(0f, -10f, 0f));
+        RayCastResult hit2 = new RayCastResult();
+        Assert.assertTrue(query.castRay(ray, hit2));
+        Assert.assertEquals(hit2.getBodyId(), hit.getBodyId());
+        Assert.assertEquals(hit2.getFraction(), hit.getFraction(), 0f);
+        Assert.assertEquals(hit2.getSubShapeId2(), hit.getSubShapeId2());
+
+        // Reusing the result for a longer ray must not be limited by the
+        // previous fraction:
+        found = query.castRay(
+                0., 50., 0., 0f, -100f, 0f, hit, null, null, null);
+        Assert.assertTrue(found);
+        Assert.assertEquals(0.49f, hit.getFraction(), 1e-5f);
+
+        // A miss resets the result:
+        found = query.castRay(5., 5., 5., 0f, -10f, 0f, hit);
+        Assert.assertFalse(found);
+        Assert.assertEquals(Jolt.cInvalidBodyId, hit.getBodyId());
+
+        TestUtils.testClose(hit2, ray, hit);
+        TestUtils.cleanupPhysicsSystem(physicsSystem);
+        TestUtils.cleanup();
+    }
+    /**
+     * Test copying the hits of all-hit collectors into cursors.
+     */
+    @Test
+    public void testCopyHits() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        // A row of 20 boxes along the X axis, more than a new cursor holds:
+        final int numBoxes = 20;
+        PhysicsSystem physicsSystem = TestUtils.newPhysicsSystem(numBoxes);
+        BodyInterface bodyInterface = physicsSystem.getBodyInterface();
+        BoxShape shape = new BoxShape(1f);
+        for (int i = 0; i < numBoxes; ++i) {
+            BodyCreationSettings bcs = new BodyCreationSettings(shape,
+                    new RVec3(3. * i, 0., 0.), new Quat(), EMotionType.Static,
+                    TestUtils.objLayerNonMoving);
+            bodyInterface.createAndAddBody(bcs, EActivation.DontActivate);
+            TestUtils.testClose(bcs);
+        }
+        ConstNarrowPhaseQuery query = physicsSystem.getNarrowPhaseQuery();
+
+        RRayCast ray = new RRayCast(
+                new RVec3(-5., 0., 0.), new Vec3(100f, 0f, 0f));
+        RayCastSettings settings = new RayCastSettings();
+        AllHitCastRayCollector rayCollector = new AllHitCastRayCollector();
+        query.castRay(ray, settings, rayCollector);
+        rayCollector.sort();
+
+        RayCastHitCursor rayCursor = new RayCastHitCursor();
+        Assert.assertEquals(numBoxes, rayCollector.copyHits(rayCursor));
+        Assert.assertEquals(numBoxes, rayCursor.countHits());
+        List<RayCastResult> list = rayCollector.getHits();
+        for (RayCastResult expected : list) {
+            Assert.assertTrue(rayCursor.next());
+            Assert.assertEquals(expected.getBodyId(), rayCursor.getBodyId());
+            Assert.assertEquals(
+                    expected.getFraction(), rayCursor.getFraction(), 0f);
+            Assert.assertEquals(
+                    expected.getSubShapeId2(), rayCursor.getSubShapeId2());
+        }
+        Assert.assertFalse(rayCursor.next());
+
+        // A point inside the first box:
+        AllHitCollidePointCollector pointCollector
+                = new AllHitCollidePointCollector();
+        query.collidePoint(new RVec3(0.5, 0., 0.), pointCollector);
+        CollidePointHitCursor pointCursor = new CollidePointHitCursor();
+        Assert.assertEquals(1, pointCollector.copyHits(pointCursor));
+        Assert.assertTrue(pointCursor.next());
+        Assert.assertEquals(
+                pointCollector.get(0).getBodyId(), pointCursor.getBodyId());
+
+        // Reusing the cursor replaces its contents:
+        rayCollector.reset();
+        Assert.assertEquals(0, rayCollector.copyHits(rayCursor));
+        Assert.assertFalse(rayCursor.next());
+
+        TestUtils.testClose(pointCollector, rayCollector, settings, ray);
+        TestUtils.cleanupPhysicsSystem(physicsSystem);
+        TestUtils.cleanup();
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Create a static 2x2x2 box centered at the origin and add it to the world.
+     *
+     * @param bodyInterface the interface to use (not null)
+     * @return the ID of the new body
+     */
+    private static int createBox(BodyInterface bodyInterface) {
+        BoxShape shape = new BoxShape(1f);
+        BodyCreationSettings bcs = new BodyCreationSettings(shape, new RVec3(),
+                new Quat(), EMotionType.Static, TestUtils.objLayerNonMoving);
+        int result = bodyInterface.createAndAddBody(
+                bcs, EActivation.DontActivate);
+        TestUtils.testClose(bcs);
+
+        return result;
+    }
+}
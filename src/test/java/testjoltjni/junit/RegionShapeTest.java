@@ -0,0 +1,247 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.AllHitCollideShapeCollector;
+import com.github.stephengold.joltjni.BodyCreationSettings;
+import com.github.stephengold.joltjni.BoxShape;
+import com.github.stephengold.joltjni.CollideShapeSettings;
+import com.github.stephengold.joltjni.Color;
+import com.github.stephengold.joltjni.Jolt;
+import com.github.stephengold.joltjni.JobSystemThreadPool;
+import com.github.stephengold.joltjni.PhysicsMaterialSimple;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.Quat;
+import com.github.stephengold.joltjni.RMat44;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.RegionShape;
+import com.github.stephengold.joltjni.RegionShapeCacheListener;
+import com.github.stephengold.joltjni.RegionShapeSettings;
+import com.github.stephengold.joltjni.ShapeRefC;
+import com.github.stephengold.joltjni.TempAllocator;
+import com.github.stephengold.joltjni.TempAllocatorMalloc;
+import com.github.stephengold.joltjni.Vec3;
+import com.github.stephengold.joltjni.VoxelShapeCollector;
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import com.github.stephengold.joltjni.enumerate.EMotionType;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for the sub-shape cache of {@code RegionShape}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class RegionShapeTest {
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Test that the cache stays bounded when it's never invalidated.
+     */
+    @Test
+    public void testCacheBound() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+        RegionShape.sRegister();
+
+        // More solid cells than the cache can hold:
+        final int size = 32;
+        VoxelShapeCollector collector
+                = new VoxelShapeCollector(size, size, size);
+        collector.setPaletteShape(1, newCube("stone"));
+        collector.fill(1);
+        ShapeRefC region = new RegionShapeSettings(collector).create().get();
+        RegionShape regionShape = (RegionShape) region.getPtr();
+        regionShape.setCacheEnabled(true);
+
+        // Look up every cell twice; the 2nd pass can't hit every time:
+        for (int pass = 0; pass < 2; ++pass) {
+            regionShape.resetCacheStats();
+            for (int z = 0; z < size; ++z) {
+                for (int y = 0; y < size; ++y) {
+                    for (int x = 0; x < size; ++x) {
+                        regionShape.getMaterial(shapeIndex(x, y, z));
+                    }
+                }
+            }
+        }
+        Assert.assertTrue(regionShape.countCacheMisses() > 0L);
+        Assert.assertEquals(size * size * size, regionShape.countCacheHits()
+                + regionShape.countCacheMisses());
+
+        TestUtils.testClose(region, collector);
+        TestUtils.cleanup();
+    }
+
+    /**
+     * Test cache hits and misses across steps, and invalidation after the
+     * collector's cells or palette change.
+     */
+    @Test
+    public void testCacheHits() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+        RegionShape.sRegister();
+
+        // A single solid cell, centered at (-0.5, -1.5, 0.5):
+        VoxelShapeCollector collector = new VoxelShapeCollector(4, 4, 4);
+        collector.setPaletteShape(1, newCube("stone"));
+        collector.setPaletteShape(2, newCube("wood"));
+        collector.setCell(1, 0, 2, 1);
+        int cellId = shapeIndex(1, 0, 2);
+
+        PhysicsSystem physicsSystem = TestUtils.newPhysicsSystem(10);
+        ShapeRefC region = new RegionShapeSettings(collector).create().get();
+        BodyCreationSettings bcs = new BodyCreationSettings(region,
+                new RVec3(), new Quat(), EMotionType.Static,
+                TestUtils.objLayerNonMoving);
+        physicsSystem.getBodyInterface().createAndAddBody(
+                bcs, EActivation.DontActivate);
+        RegionShape regionShape = (RegionShape) region.getPtr();
+
+        // While disabled, lookups bypass the cache:
+        Assert.assertFalse(regionShape.isCacheEnabled());
+        Assert.assertEquals("stone", materialName(regionShape, cellId));
+        assertStats(0L, 0L, regionShape);
+
+        regionShape.setCacheEnabled(true);
+        Assert.assertTrue(regionShape.isCacheEnabled());
+        regionShape.resetCacheStats();
+        Assert.assertEquals("stone", materialName(regionShape, cellId));
+        assertStats(0L, 1L, regionShape);
+        Assert.assertEquals("stone", materialName(regionShape, cellId));
+        assertStats(1L, 1L, regionShape);
+
+        // Without a cache listener, cached shapes survive a step:
+        TempAllocator tempAllocator = new TempAllocatorMalloc();
+        JobSystemThreadPool jobSystem = new JobSystemThreadPool(
+                Jolt.cMaxPhysicsJobs, Jolt.cMaxPhysicsBarriers, 1);
+        physicsSystem.update(1f / 60f, 1, tempAllocator, jobSystem);
+        regionShape.resetCacheStats();
+        Assert.assertEquals("stone", materialName(regionShape, cellId));
+        assertStats(1L, 0L, regionShape);
+
+        // With a cache listener, each step starts with an empty cache:
+        RegionShapeCacheListener listener
+                = new RegionShapeCacheListener(regionShape);
+        physicsSystem.addStepListener(listener);
+        physicsSystem.update(1f / 60f, 1, tempAllocator, jobSystem);
+        regionShape.resetCacheStats();
+        Assert.assertEquals("stone", materialName(regionShape, cellId));
+        assertStats(0L, 1L, regionShape);
+
+        // Shapes collected by a query are cached for later lookups:
+        regionShape.invalidateCache();
+        BoxShape probe = new BoxShape(0.25f);
+        RMat44 transform = RMat44.sTranslation(new RVec3(-0.5, -1.5, 0.5));
+        CollideShapeSettings settings = new CollideShapeSettings();
+        AllHitCollideShapeCollector hits = new AllHitCollideShapeCollector();
+        physicsSystem.getNarrowPhaseQuery().collideShape(probe, Vec3.sOne(),
+                transform, settings, new RVec3(), hits);
+        Assert.assertEquals(1, hits.countHits());
+        regionShape.resetCacheStats();
+        Assert.assertEquals("stone", materialName(regionShape, cellId));
+        assertStats(1L, 0L, regionShape);
+
+        // After a cell changes, invalidation exposes the new palette entry:
+        collector.setCell(1, 0, 2, 2);
+        regionShape.invalidateCache();
+        regionShape.resetCacheStats();
+        Assert.assertEquals("wood", materialName(regionShape, cellId));
+        assertStats(0L, 1L, regionShape);
+
+        // Likewise after the palette changes:
+        collector.setPaletteShape(2, newCube("iron"));
+        regionShape.invalidateCache();
+        Assert.assertEquals("iron", materialName(regionShape, cellId));
+
+        // Disabling the cache discards its contents:
+        regionShape.setCacheEnabled(false);
+        regionShape.resetCacheStats();
+        Assert.assertEquals("iron", materialName(regionShape, cellId));
+        assertStats(0L, 0L, regionShape);
+
+        TestUtils.testClose(hits, settings, transform, jobSystem,
+                tempAllocator, bcs, region);
+        TestUtils.cleanupPhysicsSystem(physicsSystem);
+        TestUtils.testClose(listener, collector);
+        TestUtils.cleanup();
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Verify the cache statistics of the specified shape.
+     *
+     * @param expectedHits the expected number of hits
+     * @param expectedMisses the expected number of misses
+     * @param shape the shape to test (not null, unaffected)
+     */
+    private static void assertStats(
+            long expectedHits, long expectedMisses, RegionShape shape) {
+        Assert.assertEquals("cache hits", expectedHits, shape.countCacheHits());
+        Assert.assertEquals(
+                "cache misses", expectedMisses, shape.countCacheMisses());
+    }
+
+    /**
+     * Return the name of the material of the specified sub-shape.
+     *
+     * @param shape the shape to query (not null)
+     * @param subShapeId the ID of the sub-shape
+     * @return the debug name of the material
+     */
+    private static String materialName(RegionShape shape, int subShapeId) {
+        String result = shape.getMaterial(subShapeId).getDebugName();
+        return result;
+    }
+
+    /**
+     * Create a unit cube with a material of the specified name.
+     *
+     * @param materialName the name of the material (not null)
+     * @return a new shape
+     */
+    private static BoxShape newCube(String materialName) {
+        PhysicsMaterialSimple material
+                = new PhysicsMaterialSimple(materialName, Color.sGrey);
+        BoxShape result = new BoxShape(new Vec3(0.5f, 0.5f, 0.5f),
+                Jolt.cDefaultConvexRadius, material);
+
+        return result;
+    }
+
+    /**
+     * Return the sub-shape index of the specified cell.
+     *
+     * @param x the X coordinate of the cell
+     * @param y the Y coordinate of the cell
+     * @param z the Z coordinate of the cell
+     * @return the encoded index
+     */
+    private static int shapeIndex(int x, int y, int z) {
+        int result = (x + 1) | ((y + 1) << 9) | ((z + 1) << 18);
+        return result;
+    }
+}
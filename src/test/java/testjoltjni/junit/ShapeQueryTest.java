@@ -0,0 +1,140 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.BodyCreationSettings;
+import com.github.stephengold.joltjni.BoxShape;
+import com.github.stephengold.joltjni.Jolt;
+import com.github.stephengold.joltjni.JobSystem;
+import com.github.stephengold.joltjni.JobSystemThreadPool;
+import com.github.stephengold.joltjni.NarrowPhaseQuery;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.Quat;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.ShapeQueryHits;
+import com.github.stephengold.joltjni.SphereShape;
+import com.github.stephengold.joltjni.Vec3;
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import com.github.stephengold.joltjni.enumerate.EMotionType;
+import com.github.stephengold.joltjni.readonly.ConstNarrowPhaseQuery;
+import com.github.stephengold.joltjni.readonly.ConstShape;
+import java.nio.FloatBuffer;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for the batched shape queries of
+ * {@code NarrowPhaseQuery}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class ShapeQueryTest {
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Test batched shape casts and collide-shape queries.
+     */
+    @Test
+    public void testShapeQueries() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        PhysicsSystem physicsSystem = TestUtils.newPhysicsSystem(10);
+        BoxShape boxShape = new BoxShape(1f);
+        BodyCreationSettings bcs = new BodyCreationSettings(boxShape,
+                new RVec3(), new Quat(), EMotionType.Static,
+                TestUtils.objLayerNonMoving);
+        int boxId = physicsSystem.getBodyInterface()
+                .createAndAddBody(bcs, EActivation.DontActivate);
+        ConstNarrowPhaseQuery query = physicsSystem.getNarrowPhaseQuery();
+
+        // Query 0 starts above the box, query 1 overlaps its top face, and
+        // query 2 is far from it:
+        SphereShape sphere = new SphereShape(0.5f);
+        ConstShape[] shapes = {sphere, sphere, sphere};
+        FloatBuffer queries = Jolt.newDirectFloatBuffer(
+                3 * NarrowPhaseQuery.cShapeQueryStride);
+        queries.put(0f).put(5f).put(0f).put(0f).put(0f).put(0f).put(1f)
+                .put(0f).put(-10f).put(0f);
+        queries.put(0f).put(1.2f).put(0f).put(0f).put(0f).put(0f).put(1f)
+                .put(0f).put(-10f).put(0f);
+        queries.put(5f).put(5f).put(5f).put(0f).put(0f).put(0f).put(1f)
+                .put(0f).put(-10f).put(0f);
+        ShapeQueryHits hits = new ShapeQueryHits(3, 2);
+        Vec3 tmp = new Vec3();
+
+        JobSystem jobSystem = new JobSystemThreadPool(
+                Jolt.cMaxPhysicsJobs, Jolt.cMaxPhysicsBarriers, 2);
+        for (JobSystem js : new JobSystem[]{null, jobSystem}) {
+            int numHits = query.castShapes(
+                    3, shapes, queries, null, null, hits, js);
+            Assert.assertEquals(2, numHits);
+            Assert.assertEquals(1, hits.countHits(0));
+            Assert.assertEquals(boxId, hits.getBodyId(0, 0));
+            Assert.assertEquals(0.35f, hits.getFraction(0, 0), 1e-4f);
+            hits.getContactPoint(0, 0, tmp);
+            Assert.assertEquals(-4f, tmp.getY(), 1e-4f);
+            Assert.assertEquals(1, hits.countHits(1)); // initial overlap
+            Assert.assertEquals(0, hits.countHits(2));
+
+            numHits = query.collideShapes(
+                    3, shapes, queries, null, null, hits, js);
+            Assert.assertEquals(1, numHits);
+            Assert.assertEquals(0, hits.countHits(0));
+            Assert.assertEquals(1, hits.countHits(1));
+            Assert.assertEquals(boxId, hits.getBodyId(1, 0));
+            Assert.assertEquals(0f, hits.getFraction(1, 0), 0f);
+            Assert.assertEquals(
+                    0.3f, hits.getPenetrationDepth(1, 0), 1e-4f);
+            hits.getPenetrationAxis(1, 0, tmp);
+            Assert.assertEquals(1f, Math.abs(tmp.getY()), 1e-4f);
+            Assert.assertEquals(0, hits.countHits(2));
+        }
+
+        try {
+            query.castShapes(4, shapes, queries, null, null, hits, null);
+            Assert.fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException exception) {
+            // expected
+        }
+
+        // Capacities whose storage would overflow an int are rejected:
+        try {
+            new ShapeQueryHits(1 << 16, 1 << 16);
+            Assert.fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException exception) {
+            // expected
+        }
+        try {
+            new ShapeQueryHits(1 << 28, 1);
+            Assert.fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException exception) {
+            // expected
+        }
+
+        TestUtils.testClose(jobSystem, bcs);
+        TestUtils.cleanupPhysicsSystem(physicsSystem);
+        TestUtils.cleanup();
+    }
+}
@@ -0,0 +1,163 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.BcsResult;
+import com.github.stephengold.joltjni.BodyCreationSettings;
+import com.github.stephengold.joltjni.BoxShape;
+import com.github.stephengold.joltjni.Color;
+import com.github.stephengold.joltjni.Jolt;
+import com.github.stephengold.joltjni.JobSystem;
+import com.github.stephengold.joltjni.JobSystemThreadPool;
+import com.github.stephengold.joltjni.MeshShapeSettings;
+import com.github.stephengold.joltjni.PhysicsMaterialSimple;
+import com.github.stephengold.joltjni.Quat;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.ShapeList;
+import com.github.stephengold.joltjni.ShapeListResult;
+import com.github.stephengold.joltjni.ShapeRefC;
+import com.github.stephengold.joltjni.ShapeTable;
+import com.github.stephengold.joltjni.SphereShape;
+import com.github.stephengold.joltjni.StreamInWrapper;
+import com.github.stephengold.joltjni.StreamOutWrapper;
+import com.github.stephengold.joltjni.Vec3;
+import com.github.stephengold.joltjni.enumerate.EMotionType;
+import com.github.stephengold.joltjni.enumerate.EShapeSubType;
+import com.github.stephengold.joltjni.readonly.ConstBodyCreationSettings;
+import com.github.stephengold.joltjni.readonly.ConstPhysicsMaterial;
+import com.github.stephengold.joltjni.std.StringStream;
+import com.github.stephengold.joltjni.streamutils.GroupFilterToIdMap;
+import com.github.stephengold.joltjni.streamutils.IdToGroupFilterMap;
+import com.github.stephengold.joltjni.streamutils.IdToMaterialMap;
+import com.github.stephengold.joltjni.streamutils.IdToShapeMap;
+import com.github.stephengold.joltjni.streamutils.MaterialToIdMap;
+import com.github.stephengold.joltjni.streamutils.ShapeToIdMap;
+import java.nio.FloatBuffer;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for {@code ShapeTable}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class ShapeTableTest {
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Test saving a shape table followed by body settings that use its shapes,
+     * then restoring both, with and without a job system.
+     */
+    @Test
+    public void testSaveRestore() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        PhysicsMaterialSimple stone
+                = new PhysicsMaterialSimple("stone", Color.sGrey);
+        ShapeRefC box1 = new BoxShape(new Vec3(1f, 2f, 3f), 0.05f, stone)
+                .toRefC();
+        ShapeRefC box2 = new BoxShape(new Vec3(3f, 2f, 1f), 0.05f, stone)
+                .toRefC();
+        ShapeRefC sphere = new SphereShape(0.5f).toRefC();
+        FloatBuffer positions = Jolt.newDirectFloatBuffer(9);
+        positions.put(0f).put(0f).put(0f);
+        positions.put(0f).put(0f).put(1f);
+        positions.put(1f).put(0f).put(0f);
+        positions.flip();
+        ShapeRefC mesh = new MeshShapeSettings(positions).create().get();
+
+        // The repeated box is left out of the table:
+        ShapeList shapes = new ShapeList();
+        shapes.pushBack(box1);
+        shapes.pushBack(box2);
+        shapes.pushBack(sphere);
+        shapes.pushBack(box1);
+        shapes.pushBack(mesh);
+
+        StringStream data = new StringStream();
+        StreamOutWrapper streamOut = new StreamOutWrapper(data);
+        ShapeToIdMap shapeMap = new ShapeToIdMap();
+        MaterialToIdMap materialMap = new MaterialToIdMap();
+        GroupFilterToIdMap filterMap = new GroupFilterToIdMap();
+        ShapeTable.save(streamOut, shapes, shapeMap, materialMap);
+        BodyCreationSettings bcs = new BodyCreationSettings(sphere,
+                new RVec3(), new Quat(), EMotionType.Dynamic,
+                TestUtils.objLayerMoving);
+        bcs.saveWithChildren(streamOut, shapeMap, materialMap, filterMap);
+        String serialData = data.str();
+
+        JobSystem jobSystem = new JobSystemThreadPool(
+                Jolt.cMaxPhysicsJobs, Jolt.cMaxPhysicsBarriers, 3);
+        assertRestores(serialData, jobSystem);
+        assertRestores(serialData, null);
+
+        TestUtils.testClose(jobSystem, bcs, filterMap, materialMap, shapeMap,
+                streamOut, data, shapes, mesh, sphere, box2, box1, stone);
+        TestUtils.cleanup();
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Restore the data written by {@code testSaveRestore()} and verify it.
+     *
+     * @param serialData the serialized data (not null)
+     * @param jobSystem the job system to use, or {@code null} for none
+     */
+    private static void assertRestores(String serialData, JobSystem jobSystem) {
+        StringStream data = new StringStream(serialData);
+        StreamInWrapper streamIn = new StreamInWrapper(data);
+        IdToShapeMap shapeMap = new IdToShapeMap();
+        IdToMaterialMap materialMap = new IdToMaterialMap();
+        IdToGroupFilterMap filterMap = new IdToGroupFilterMap();
+
+        ShapeListResult result = ShapeTable.restore(
+                streamIn, jobSystem, shapeMap, materialMap);
+        Assert.assertFalse(result.getError(), result.hasError());
+        ShapeList shapes = result.get();
+        Assert.assertEquals(4, shapes.size());
+        Assert.assertEquals(EShapeSubType.Box, shapes.get(0).getSubType());
+        Assert.assertEquals(EShapeSubType.Box, shapes.get(1).getSubType());
+        Assert.assertEquals(EShapeSubType.Sphere, shapes.get(2).getSubType());
+        Assert.assertEquals(EShapeSubType.Mesh, shapes.get(3).getSubType());
+
+        // The boxes share a single restored material:
+        ConstPhysicsMaterial material0 = shapes.get(0).getMaterial(0);
+        ConstPhysicsMaterial material1 = shapes.get(1).getMaterial(0);
+        Assert.assertEquals("stone", material0.getDebugName());
+        Assert.assertEquals(material0.targetVa(), material1.targetVa());
+
+        // The body settings refer to the restored sphere by ID:
+        BcsResult bcsResult = BodyCreationSettings.sRestoreWithChildren(
+                streamIn, shapeMap, materialMap, filterMap);
+        Assert.assertFalse(bcsResult.getError(), bcsResult.hasError());
+        ConstBodyCreationSettings bcs = bcsResult.get();
+        Assert.assertEquals(
+                shapes.get(2).targetVa(), bcs.getShape().targetVa());
+
+        TestUtils.testClose(bcs, bcsResult, shapes, result, filterMap,
+                materialMap, shapeMap, streamIn, data);
+    }
+}
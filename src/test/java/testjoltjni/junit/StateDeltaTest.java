@@ -0,0 +1,142 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.BodyCreationSettings;
+import com.github.stephengold.joltjni.BodyInterface;
+import com.github.stephengold.joltjni.BoxShape;
+import com.github.stephengold.joltjni.ByteBufferStateRecorder;
+import com.github.stephengold.joltjni.Jolt;
+import com.github.stephengold.joltjni.JobSystemThreadPool;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.Quat;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.StateDelta;
+import com.github.stephengold.joltjni.TempAllocator;
+import com.github.stephengold.joltjni.TempAllocatorMalloc;
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import com.github.stephengold.joltjni.enumerate.EMotionType;
+import java.nio.ByteBuffer;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for {@code StateDelta}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class StateDeltaTest {
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Test deltas between consecutive snapshots of a mostly static world.
+     */
+    @Test
+    public void testDelta() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        // 20 static boxes and a single falling box:
+        PhysicsSystem physicsSystem = TestUtils.newPhysicsSystem(30);
+        BodyInterface bodyInterface = physicsSystem.getBodyInterface();
+        BodyCreationSettings bcs = new BodyCreationSettings(new BoxShape(1f),
+                new RVec3(), new Quat(), EMotionType.Static,
+                TestUtils.objLayerNonMoving);
+        for (int i = 0; i < 20; ++i) {
+            bcs.setPosition(5. * i, 0., 0.);
+            bodyInterface.createAndAddBody(bcs, EActivation.DontActivate);
+        }
+        bcs.setPosition(0., 10., 0.);
+        bcs.setMotionType(EMotionType.Dynamic);
+        bcs.setObjectLayer(TestUtils.objLayerMoving);
+        int dynamicId = bodyInterface.createAndAddBody(
+                bcs, EActivation.Activate);
+
+        ByteBuffer reference = saveState(physicsSystem);
+        TempAllocator allocator = new TempAllocatorMalloc();
+        JobSystemThreadPool jobSystem = new JobSystemThreadPool(
+                Jolt.cMaxPhysicsJobs, Jolt.cMaxPhysicsBarriers, 1);
+        physicsSystem.update(0.02f, 1, allocator, jobSystem);
+        double y = bodyInterface.getPosition(dynamicId).yy();
+        ByteBuffer current = saveState(physicsSystem);
+
+        // Too little storage yields the required size:
+        int deltaSize = StateDelta.encode(
+                reference, current, Jolt.newDirectByteBuffer(1));
+        Assert.assertTrue(deltaSize > 1);
+        Assert.assertTrue(deltaSize < current.remaining() / 4);
+
+        ByteBuffer delta = Jolt.newDirectByteBuffer(deltaSize);
+        Assert.assertEquals(
+                deltaSize, StateDelta.encode(reference, current, delta));
+
+        // Decoding reproduces the current snapshot exactly:
+        ByteBuffer decoded = Jolt.newDirectByteBuffer(current.remaining());
+        Assert.assertEquals(current.remaining(),
+                StateDelta.decode(reference, delta, decoded));
+        Assert.assertEquals(current, decoded);
+
+        // Identical snapshots need only the size:
+        ByteBuffer empty = Jolt.newDirectByteBuffer(8);
+        Assert.assertTrue(StateDelta.encode(current, current, empty) <= 3);
+
+        // Restore from the decoded snapshot:
+        physicsSystem.update(0.02f, 1, allocator, jobSystem);
+        ByteBufferStateRecorder recorder
+                = new ByteBufferStateRecorder(Jolt.newDirectByteBuffer(1));
+        recorder.setData(decoded);
+        Assert.assertTrue(physicsSystem.restoreState(recorder));
+        Assert.assertEquals(
+                y, bodyInterface.getPosition(dynamicId).yy(), 0.);
+
+        TestUtils.testClose(recorder, jobSystem, allocator, bcs);
+        TestUtils.cleanupPhysicsSystem(physicsSystem);
+        TestUtils.cleanup();
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Save the state of the specified system to a new buffer of exactly the
+     * required size.
+     *
+     * @param system the system to save (not null, unaffected)
+     * @return a new direct buffer
+     */
+    private static ByteBuffer saveState(PhysicsSystem system) {
+        ByteBuffer tiny = Jolt.newDirectByteBuffer(1);
+        ByteBufferStateRecorder sizer = new ByteBufferStateRecorder(tiny);
+        system.saveState(sizer);
+        int numBytes = (int) sizer.countBytes();
+        TestUtils.testClose(sizer);
+
+        ByteBuffer result = Jolt.newDirectByteBuffer(numBytes);
+        ByteBufferStateRecorder recorder = new ByteBufferStateRecorder(result);
+        system.saveState(recorder);
+        Assert.assertFalse(recorder.isFailed());
+        TestUtils.testClose(recorder);
+
+        return result;
+    }
+}
@@ -0,0 +1,155 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.ActiveBodyStateFilter;
+import com.github.stephengold.joltjni.BodyCreationSettings;
+import com.github.stephengold.joltjni.BodyInterface;
+import com.github.stephengold.joltjni.BodySetStateFilter;
+import com.github.stephengold.joltjni.BoxShape;
+import com.github.stephengold.joltjni.ByteBufferStateRecorder;
+import com.github.stephengold.joltjni.ChangedBodyStateFilter;
+import com.github.stephengold.joltjni.Jolt;
+import com.github.stephengold.joltjni.JobSystemThreadPool;
+import com.github.stephengold.joltjni.ObjectLayerStateFilter;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.Quat;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.StateRecorderFilter;
+import com.github.stephengold.joltjni.TempAllocator;
+import com.github.stephengold.joltjni.TempAllocatorMalloc;
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import com.github.stephengold.joltjni.enumerate.EMotionType;
+import com.github.stephengold.joltjni.enumerate.EStateRecorderState;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for the native {@code StateRecorderFilter} variants.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class StateRecorderFilterTest {
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Test which bodies each filter selects.
+     */
+    @Test
+    public void testFilters() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        // 10 static boxes and a single falling box:
+        PhysicsSystem physicsSystem = TestUtils.newPhysicsSystem(20);
+        BodyInterface bodyInterface = physicsSystem.getBodyInterface();
+        BodyCreationSettings bcs = new BodyCreationSettings(new BoxShape(1f),
+                new RVec3(), new Quat(), EMotionType.Static,
+                TestUtils.objLayerNonMoving);
+        for (int i = 0; i < 10; ++i) {
+            bcs.setPosition(5. * i, 0., 0.);
+            bodyInterface.createAndAddBody(bcs, EActivation.DontActivate);
+        }
+        bcs.setPosition(0., 10., 0.);
+        bcs.setMotionType(EMotionType.Dynamic);
+        bcs.setObjectLayer(TestUtils.objLayerMoving);
+        int dynamicId = bodyInterface.createAndAddBody(
+                bcs, EActivation.Activate);
+
+        ByteBufferStateRecorder recorder
+                = new ByteBufferStateRecorder(Jolt.newDirectByteBuffer(10_000));
+        long allSize = saveSize(physicsSystem, recorder, null);
+
+        BodySetStateFilter set = new BodySetStateFilter(physicsSystem);
+        long zeroSize = saveSize(physicsSystem, recorder, set);
+        set.add(dynamicId);
+        long oneSize = saveSize(physicsSystem, recorder, set);
+        Assert.assertTrue(zeroSize < oneSize);
+        Assert.assertTrue(oneSize < allSize);
+
+        ActiveBodyStateFilter active
+                = new ActiveBodyStateFilter(physicsSystem);
+        Assert.assertEquals(oneSize, saveSize(physicsSystem, recorder, active));
+
+        ObjectLayerStateFilter layers
+                = new ObjectLayerStateFilter(physicsSystem);
+        layers.setLayer(TestUtils.objLayerMoving, true);
+        Assert.assertEquals(
+                oneSize, saveSize(physicsSystem, recorder, layers));
+        try {
+            layers.setLayer(-1, true);
+            Assert.fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException exception) {
+            // expected
+        }
+
+        // Only the falling box changes between steps:
+        ChangedBodyStateFilter changed
+                = new ChangedBodyStateFilter(physicsSystem);
+        Assert.assertEquals(
+                allSize, saveSize(physicsSystem, recorder, changed));
+        Assert.assertEquals(11, changed.commit());
+        Assert.assertEquals(
+                zeroSize, saveSize(physicsSystem, recorder, changed));
+        Assert.assertEquals(0, changed.commit());
+
+        TempAllocator allocator = new TempAllocatorMalloc();
+        JobSystemThreadPool jobSystem = new JobSystemThreadPool(
+                Jolt.cMaxPhysicsJobs, Jolt.cMaxPhysicsBarriers, 1);
+        physicsSystem.update(0.02f, 1, allocator, jobSystem);
+        Assert.assertEquals(
+                oneSize, saveSize(physicsSystem, recorder, changed));
+        Assert.assertEquals(1, changed.commit());
+
+        changed.reset();
+        Assert.assertEquals(
+                allSize, saveSize(physicsSystem, recorder, changed));
+
+        TestUtils.testClose(changed, layers, set, active, recorder, jobSystem,
+                allocator, bcs);
+        TestUtils.cleanupPhysicsSystem(physicsSystem);
+        TestUtils.cleanup();
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Save the bodies of the specified system and return the size of the
+     * recorded state.
+     *
+     * @param system the system to save (not null, unaffected)
+     * @param recorder the recorder to use (not null)
+     * @param filter the filter to use, or {@code null} for none
+     * @return the number of bytes
+     */
+    private static long saveSize(PhysicsSystem system,
+            ByteBufferStateRecorder recorder, StateRecorderFilter filter) {
+        recorder.clear();
+        system.saveState(recorder, EStateRecorderState.Bodies, filter);
+        Assert.assertFalse(recorder.isFailed());
+        long result = recorder.countBytes();
+
+        return result;
+    }
+}
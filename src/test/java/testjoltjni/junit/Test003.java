@@ -574,6 +574,11 @@ public class Test003 {
         Assert.assertEquals(4, jobSystem.getMaxConcurrency());
 
         TestUtils.testClose(jobSystem);
+
+        JobSystemThreadPool attached = new JobSystemThreadPool(
+                Jolt.cMaxPhysicsJobs, Jolt.cMaxPhysicsBarriers, 2, true);
+        Assert.assertEquals(3, attached.getMaxConcurrency());
+        TestUtils.testClose(attached);
         System.gc();
     }
 
@@ -0,0 +1,522 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.AllHitCollideShapeCollector;
+import com.github.stephengold.joltjni.BodyCreationSettings;
+import com.github.stephengold.joltjni.BodyInterface;
+import com.github.stephengold.joltjni.BoxShape;
+import com.github.stephengold.joltjni.CollideShapeResult;
+import com.github.stephengold.joltjni.CollideShapeSettings;
+import com.github.stephengold.joltjni.Color;
+import com.github.stephengold.joltjni.Jolt;
+import com.github.stephengold.joltjni.JobSystemThreadPool;
+import com.github.stephengold.joltjni.PhysicsMaterialSimple;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.Quat;
+import com.github.stephengold.joltjni.RMat44;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.RayCastResult;
+import com.github.stephengold.joltjni.RegionShape;
+import com.github.stephengold.joltjni.RegionShapeSettings;
+import com.github.stephengold.joltjni.ShapeRefC;
+import com.github.stephengold.joltjni.TempAllocator;
+import com.github.stephengold.joltjni.TempAllocatorMalloc;
+import com.github.stephengold.joltjni.Vec3;
+import com.github.stephengold.joltjni.VoxelActivationListener;
+import com.github.stephengold.joltjni.VoxelShapeCollector;
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import com.github.stephengold.joltjni.enumerate.EMotionType;
+import com.github.stephengold.joltjni.readonly.ConstNarrowPhaseQuery;
+import com.github.stephengold.joltjni.readonly.ConstShape;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+import java.util.Arrays;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for {@code VoxelShapeCollector} and the
+ * {@code RegionShape} queries it answers.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class VoxelShapeCollectorTest {
+    // *************************************************************************
+    // constants
+
+    /**
+     * sub-shape index bit that marks a merged box
+     */
+    final private static int mergedBoxFlag = 0x80000000;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Test that edits wake only the sleeping bodies near the edited section.
+     */
+    @Test
+    public void testActivation() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+        RegionShape.sRegister();
+
+        // A solid slab of 2x1x2 sections, with its top face at Y=1:
+        VoxelShapeCollector collector = new VoxelShapeCollector(32, 2, 32);
+        collector.setPaletteShape(1, new BoxShape(0.5f));
+        collector.fill(1);
+
+        PhysicsSystem physicsSystem = TestUtils.newPhysicsSystem(10);
+        ShapeRefC region = new RegionShapeSettings(collector).create().get();
+        int regionId = addRegion(physicsSystem, region);
+        VoxelActivationListener listener
+                = new VoxelActivationListener(collector, regionId);
+        physicsSystem.addStepListener(listener);
+
+        // A box resting on section (0,0,0) and another on section (1,0,1):
+        BodyInterface bodyInterface = physicsSystem.getBodyInterface();
+        BodyCreationSettings bcs = new BodyCreationSettings(new BoxShape(0.5f),
+                new RVec3(-8., 1.5, -8.), new Quat(), EMotionType.Dynamic,
+                TestUtils.objLayerMoving);
+        int box1 = bodyInterface.createAndAddBody(bcs, EActivation.Activate);
+        bcs.setPosition(new RVec3(8., 1.5, 8.));
+        int box2 = bodyInterface.createAndAddBody(bcs, EActivation.Activate);
+
+        // The 1st step consumes the sections dirtied by fill():
+        TempAllocator tempAllocator = new TempAllocatorMalloc();
+        JobSystemThreadPool jobSystem = new JobSystemThreadPool(
+                Jolt.cMaxPhysicsJobs, Jolt.cMaxPhysicsBarriers, 1);
+        physicsSystem.update(1f / 60f, 1, tempAllocator, jobSystem);
+        bodyInterface.deactivateBody(box1);
+        bodyInterface.deactivateBody(box2);
+
+        // Without edits, both boxes stay asleep:
+        physicsSystem.update(1f / 60f, 1, tempAllocator, jobSystem);
+        Assert.assertFalse(bodyInterface.isActive(box1));
+        Assert.assertFalse(bodyInterface.isActive(box2));
+
+        // Remove the cell beneath the 2nd box:
+        collector.setCell(24, 1, 24, 0);
+        physicsSystem.update(1f / 60f, 1, tempAllocator, jobSystem);
+        Assert.assertFalse(bodyInterface.isActive(box1));
+        Assert.assertTrue(bodyInterface.isActive(box2));
+
+        TestUtils.testClose(jobSystem, tempAllocator, bcs, region);
+        TestUtils.cleanupPhysicsSystem(physicsSystem);
+        TestUtils.testClose(listener, collector);
+        TestUtils.cleanup();
+    }
+
+    /**
+     * Test single-cell and bulk access to the grid.
+     */
+    @Test
+    public void testCells() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        VoxelShapeCollector collector = new VoxelShapeCollector(20, 3, 5);
+        Assert.assertEquals(20, collector.getSizeX());
+        Assert.assertEquals(3, collector.getSizeY());
+        Assert.assertEquals(5, collector.getSizeZ());
+        Assert.assertEquals(300, collector.countCells());
+        Assert.assertEquals(1, collector.getPaletteSize());
+        TestUtils.assertEquals(10f, 1.5f, 2.5f, collector.getHalfExtents(), 0f);
+        Assert.assertEquals(0, collector.getCell(19, 2, 4));
+
+        // Cells may only refer to existing palette entries:
+        collector.setPaletteShape(7, new BoxShape(0.5f));
+        Assert.assertEquals(8, collector.getPaletteSize());
+        collector.setCell(19, 2, 4, 7);
+        Assert.assertEquals(7, collector.getCell(19, 2, 4));
+        Assert.assertEquals(0, collector.getCell(18, 2, 4));
+
+        // Bulk writes address cells linearly, with X varying fastest:
+        IntBuffer ints = Jolt.newDirectIntBuffer(25);
+        for (int i = 0; i < 25; ++i) {
+            ints.put(i, i + 1);
+        }
+        collector.setCells(20 * 3 * 2 + 20 + 5, ints);
+        for (int i = 0; i < 25; ++i) {
+            int cellIndex = 20 * 3 * 2 + 20 + 5 + i;
+            int x = cellIndex % 20;
+            int y = (cellIndex / 20) % 3;
+            int z = cellIndex / 60;
+            Assert.assertEquals(i + 1, collector.getCell(x, y, z));
+        }
+        Assert.assertEquals(0, collector.getCell(4, 1, 2));
+        Assert.assertEquals(0, collector.getCell(10, 2, 2));
+
+        // Short elements are unsigned:
+        ShortBuffer shorts = Jolt.newDirectShortBuffer(2);
+        shorts.put(0, (short) 0xffff).put(1, (short) 2);
+        collector.setCells(298, shorts);
+        Assert.assertEquals(0xffff, collector.getCell(18, 2, 4));
+        Assert.assertEquals(2, collector.getCell(19, 2, 4));
+
+        collector.fill(3);
+        Assert.assertEquals(3, collector.getCell(0, 0, 0));
+        Assert.assertEquals(3, collector.getCell(19, 2, 4));
+        collector.fill(0);
+        Assert.assertEquals(0, collector.getCell(19, 2, 4));
+
+        try {
+            new VoxelShapeCollector(0, 1, 1);
+            Assert.fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException exception) {
+            // expected
+        }
+        try {
+            new VoxelShapeCollector(1, VoxelShapeCollector.cMaxSize + 1, 1);
+            Assert.fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException exception) {
+            // expected
+        }
+        try {
+            collector.setCell(20, 0, 0, 1);
+            Assert.fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException exception) {
+            // expected
+        }
+        try {
+            collector.getCell(0, -1, 0);
+            Assert.fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException exception) {
+            // expected
+        }
+        try {
+            collector.setCell(0, 0, 0, 8);
+            Assert.fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException exception) {
+            // expected
+        }
+        try {
+            collector.fill(-1);
+            Assert.fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException exception) {
+            // expected
+        }
+        try {
+            collector.setCells(299, shorts);
+            Assert.fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException exception) {
+            // expected
+        }
+        try {
+            collector.setPaletteShape(0, new BoxShape(0.5f));
+            Assert.fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException exception) {
+            // expected
+        }
+
+        TestUtils.testClose(collector);
+        TestUtils.cleanup();
+    }
+
+    /**
+     * Test that {@code CollectAt()} returns exactly the solid cells that
+     * overlap a query.
+     */
+    @Test
+    public void testCollectAt() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+        RegionShape.sRegister();
+
+        // 2 adjacent solid cells, centered at (-0.5, -1.5, 0.5) and
+        // (0.5, -1.5, 0.5):
+        VoxelShapeCollector collector = new VoxelShapeCollector(4, 4, 4);
+        collector.setPaletteShape(1, new BoxShape(0.5f));
+        collector.setCell(1, 0, 2, 1);
+        collector.setCell(2, 0, 2, 1);
+
+        PhysicsSystem physicsSystem = TestUtils.newPhysicsSystem(10);
+        ShapeRefC region = new RegionShapeSettings(collector).create().get();
+        int regionId = addRegion(physicsSystem, region);
+        ConstNarrowPhaseQuery query = physicsSystem.getNarrowPhaseQuery();
+
+        // A small box straddling both cells:
+        AllHitCollideShapeCollector hits
+                = collideBox(query, new RVec3(0., -1.5, 0.5), 0.25f);
+        Assert.assertEquals(2, hits.countHits());
+        int[] subShapeIds = new int[2];
+        for (int i = 0; i < 2; ++i) {
+            CollideShapeResult hit = hits.get(i);
+            Assert.assertEquals(regionId, hit.getBodyId2());
+            subShapeIds[i] = hit.getSubShapeId2();
+        }
+        Arrays.sort(subShapeIds);
+        Assert.assertEquals(shapeIndex(1, 0, 2), subShapeIds[0]);
+        Assert.assertEquals(shapeIndex(2, 0, 2), subShapeIds[1]);
+
+        // A box overlapping only empty cells:
+        AllHitCollideShapeCollector misses
+                = collideBox(query, new RVec3(0., 1., 0.), 0.25f);
+        Assert.assertEquals(0, misses.countHits());
+
+        TestUtils.testClose(misses, hits, region);
+        TestUtils.cleanupPhysicsSystem(physicsSystem);
+        TestUtils.testClose(collector);
+        TestUtils.cleanup();
+    }
+
+    /**
+     * Test merging full-cube cells into boxes, and resolving the sub-shape
+     * index of a merged box.
+     */
+    @Test
+    public void testMergeBoxes() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+        RegionShape.sRegister();
+
+        // A 2x2x2 block of full cubes, centered at (0, -1, 0):
+        VoxelShapeCollector collector = new VoxelShapeCollector(4, 4, 4);
+        PhysicsMaterialSimple stone
+                = new PhysicsMaterialSimple("stone", Color.sGrey);
+        BoxShape cube = new BoxShape(
+                new Vec3(0.5f, 0.5f, 0.5f), Jolt.cDefaultConvexRadius, stone);
+        collector.setPaletteShape(1, cube, true);
+        for (int z = 1; z <= 2; ++z) {
+            for (int y = 0; y <= 1; ++y) {
+                for (int x = 1; x <= 2; ++x) {
+                    collector.setCell(x, y, z, 1);
+                }
+            }
+        }
+
+        PhysicsSystem physicsSystem = TestUtils.newPhysicsSystem(10);
+        ShapeRefC region = new RegionShapeSettings(collector).create().get();
+        addRegion(physicsSystem, region);
+        ConstShape regionShape = region.getPtr();
+        ConstNarrowPhaseQuery query = physicsSystem.getNarrowPhaseQuery();
+        RVec3 blockCenter = new RVec3(0., -1., 0.);
+
+        // Without merging, a box at the center of the block hits every cell:
+        Assert.assertFalse(collector.getMergeBoxes());
+        AllHitCollideShapeCollector unmerged
+                = collideBox(query, blockCenter, 0.25f);
+        Assert.assertEquals(8, unmerged.countHits());
+        int cellId = unmerged.get(0).getSubShapeId2();
+        Assert.assertEquals(0, cellId & mergedBoxFlag);
+        Assert.assertEquals("stone",
+                regionShape.getMaterial(cellId).getDebugName());
+
+        // With merging, it hits a single box keyed by its minimum cell:
+        collector.setMergeBoxes(true);
+        Assert.assertTrue(collector.getMergeBoxes());
+        AllHitCollideShapeCollector merged
+                = collideBox(query, blockCenter, 0.25f);
+        Assert.assertEquals(1, merged.countHits());
+        int boxId = merged.get(0).getSubShapeId2();
+        Assert.assertEquals(mergedBoxFlag | shapeIndex(1, 0, 1), boxId);
+
+        // The merged index resolves to a box with the cell's material:
+        Assert.assertEquals(
+                "stone", regionShape.getMaterial(boxId).getDebugName());
+
+        // A merged index whose box doesn't exist falls back to the cell:
+        int staleId = mergedBoxFlag | shapeIndex(3, 3, 3);
+        Assert.assertNotEquals(
+                "stone", regionShape.getMaterial(staleId).getDebugName());
+
+        TestUtils.testClose(merged, unmerged, region);
+        TestUtils.cleanupPhysicsSystem(physicsSystem);
+        TestUtils.testClose(collector);
+        TestUtils.cleanup();
+    }
+
+    /**
+     * Test raycasts that walk the grid through a {@code RegionShape} body.
+     */
+    @Test
+    public void testRayCast() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+        RegionShape.sRegister();
+
+        // A single solid cell, centered at (-0.5, -1.5, 0.5):
+        VoxelShapeCollector collector = new VoxelShapeCollector(4, 4, 4);
+        collector.setPaletteShape(1, new BoxShape(0.5f));
+        collector.setCell(1, 0, 2, 1);
+
+        PhysicsSystem physicsSystem = TestUtils.newPhysicsSystem(10);
+        ShapeRefC region = new RegionShapeSettings(collector).create().get();
+        int regionId = addRegion(physicsSystem, region);
+        ConstNarrowPhaseQuery query = physicsSystem.getNarrowPhaseQuery();
+
+        // Cast downward onto the top of the cell:
+        RayCastResult hit = new RayCastResult();
+        boolean found = query.castRay(-0.5, 5., 0.5, 0f, -10f, 0f, hit);
+        Assert.assertTrue(found);
+        Assert.assertEquals(regionId, hit.getBodyId());
+        Assert.assertEquals(0.6f, hit.getFraction(), 1e-5f);
+        Assert.assertEquals(shapeIndex(1, 0, 2), hit.getSubShapeId2());
+
+        // Cast along +X, through an empty cell and into the solid one:
+        found = query.castRay(-5., -1.5, 0.5, 10f, 0f, 0f, hit);
+        Assert.assertTrue(found);
+        Assert.assertEquals(0.4f, hit.getFraction(), 1e-5f);
+        Assert.assertEquals(shapeIndex(1, 0, 2), hit.getSubShapeId2());
+
+        // Cast through the region where every cell is empty:
+        found = query.castRay(1.5, 5., 1.5, 0f, -10f, 0f, hit);
+        Assert.assertFalse(found);
+
+        TestUtils.testClose(hit, region);
+        TestUtils.cleanupPhysicsSystem(physicsSystem);
+        TestUtils.testClose(collector);
+        TestUtils.cleanup();
+    }
+
+    /**
+     * Test replacing whole sections.
+     */
+    @Test
+    public void testSetSection() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+        RegionShape.sRegister();
+
+        // 2 sections along X, the 2nd one partial:
+        VoxelShapeCollector collector = new VoxelShapeCollector(20, 4, 4);
+        collector.setPaletteShape(1, new BoxShape(0.5f));
+        collector.setCell(0, 0, 0, 1);
+        collector.setCell(17, 3, 3, 1);
+
+        // Replace section (1,0,0) with a pattern, in section-local order:
+        final int size = VoxelShapeCollector.cSectionSize;
+        ShortBuffer pattern = Jolt.newDirectShortBuffer(size * size * size);
+        for (int z = 0; z < size; ++z) {
+            for (int y = 0; y < size; ++y) {
+                for (int x = 0; x < size; ++x) {
+                    int paletteIndex = (y == 0 && x < 4) ? 1 + x : 0;
+                    pattern.put(x + size * (y + size * z),
+                            (short) paletteIndex);
+                }
+            }
+        }
+        collector.setSection(1, 0, 0, pattern);
+        for (int x = 16; x < 20; ++x) {
+            Assert.assertEquals(x - 15, collector.getCell(x, 0, 2));
+        }
+        Assert.assertEquals(0, collector.getCell(17, 3, 3));
+        Assert.assertEquals(1, collector.getCell(0, 0, 0)); // unaffected
+
+        // Queries see the new cells:
+        PhysicsSystem physicsSystem = TestUtils.newPhysicsSystem(10);
+        ShapeRefC region = new RegionShapeSettings(collector).create().get();
+        addRegion(physicsSystem, region);
+        ConstNarrowPhaseQuery query = physicsSystem.getNarrowPhaseQuery();
+        RayCastResult hit = new RayCastResult();
+        Assert.assertTrue(query.castRay(6.5, 5., 0.5, 0f, -10f, 0f, hit));
+        Assert.assertEquals(shapeIndex(16, 0, 2), hit.getSubShapeId2());
+
+        // Replacing a section with empty cells clears it:
+        ShortBuffer empty = Jolt.newDirectShortBuffer(size * size * size);
+        collector.setSection(1, 0, 0, empty);
+        Assert.assertEquals(0, collector.getCell(16, 0, 2));
+        Assert.assertFalse(query.castRay(6.5, 5., 0.5, 0f, -10f, 0f, hit));
+
+        try {
+            collector.setSection(2, 0, 0, empty);
+            Assert.fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException exception) {
+            // expected
+        }
+        try {
+            collector.setSection(0, 0, 0, Jolt.newDirectShortBuffer(100));
+            Assert.fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException exception) {
+            // expected
+        }
+        try {
+            collector.setSection(0, 0, 0, ShortBuffer.allocate(4096));
+            Assert.fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException exception) {
+            // expected
+        }
+
+        TestUtils.testClose(hit, region);
+        TestUtils.cleanupPhysicsSystem(physicsSystem);
+        TestUtils.testClose(collector);
+        TestUtils.cleanup();
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Add a static body with the specified region shape, centered at the
+     * origin.
+     *
+     * @param physicsSystem the system to add to (not null)
+     * @param region the shape to use (not null)
+     * @return the ID of the new body
+     */
+    private static int addRegion(PhysicsSystem physicsSystem,
+            ShapeRefC region) {
+        BodyInterface bodyInterface = physicsSystem.getBodyInterface();
+        BodyCreationSettings bcs = new BodyCreationSettings(region,
+                new RVec3(), new Quat(), EMotionType.Static,
+                TestUtils.objLayerNonMoving);
+        int result = bodyInterface.createAndAddBody(
+                bcs, EActivation.DontActivate);
+        TestUtils.testClose(bcs);
+
+        return result;
+    }
+
+    /**
+     * Collect collisions with a cube at the specified location.
+     *
+     * @param query the query interface to use (not null)
+     * @param center the location of the cube's center (not null, unaffected)
+     * @param halfExtent the half extent of the cube (&gt;0)
+     * @return a new collector with the hits
+     */
+    private static AllHitCollideShapeCollector collideBox(
+            ConstNarrowPhaseQuery query, RVec3 center, float halfExtent) {
+        BoxShape box = new BoxShape(halfExtent);
+        RMat44 transform = RMat44.sTranslation(center);
+        CollideShapeSettings settings = new CollideShapeSettings();
+        AllHitCollideShapeCollector result = new AllHitCollideShapeCollector();
+        query.collideShape(box, Vec3.sOne(), transform, settings, new RVec3(),
+                result);
+        TestUtils.testClose(settings, transform);
+
+        return result;
+    }
+
+    /**
+     * Return the sub-shape index of the specified cell.
+     *
+     * @param x the X coordinate of the cell
+     * @param y the Y coordinate of the cell
+     * @param z the Z coordinate of the cell
+     * @return the encoded index
+     */
+    private static int shapeIndex(int x, int y, int z) {
+        int result = (x + 1) | ((y + 1) << 9) | ((z + 1) << 18);
+        return result;
+    }
+}